@@ -0,0 +1,126 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.cart.repository.InMemoryCartItemRepository;
+import com.hhplus.ecommerce.domain.cart.repository.InMemoryCartRepository;
+import com.hhplus.ecommerce.domain.cart.service.CartService;
+import com.hhplus.ecommerce.domain.coupon.repository.InMemoryCouponRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.InMemoryUserCouponRepository;
+import com.hhplus.ecommerce.domain.coupon.service.CouponService;
+import com.hhplus.ecommerce.domain.order.expiry.OrderExpiryScheduler;
+import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderItem;
+import com.hhplus.ecommerce.domain.order.repository.InMemoryOrderItemRepository;
+import com.hhplus.ecommerce.domain.order.repository.InMemoryOrderRepository;
+import com.hhplus.ecommerce.domain.order.service.OrderService;
+import com.hhplus.ecommerce.domain.payment.repository.InMemoryPaymentRepository;
+import com.hhplus.ecommerce.domain.payment.service.PaymentStatusQueryService;
+import com.hhplus.ecommerce.domain.product.counter.ProductCounterStore;
+import com.hhplus.ecommerce.domain.product.model.Inventory;
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
+import com.hhplus.ecommerce.domain.product.popularity.ProductPopularityTracker;
+import com.hhplus.ecommerce.domain.product.repository.InMemoryInventoryRepository;
+import com.hhplus.ecommerce.domain.product.repository.InMemoryProductRepository;
+import com.hhplus.ecommerce.domain.product.service.ProductService;
+import com.hhplus.ecommerce.global.event.DeadLetterStore;
+import com.hhplus.ecommerce.global.event.DomainEventBus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 공용 픽스처
+ * Spring 컨텍스트 없이 In-Memory 저장소와 서비스를 직접 조립하고, 지정한 규모의 데이터를 적재
+ * (InMemoryDataStore는 정적 저장소이므로 각 벤치마크 @Setup에서 clear 후 적재)
+ */
+final class BenchmarkFixtures {
+
+    static final int LARGE_STOCK = 1_000_000_000;
+
+    final InMemoryProductRepository productRepository = new InMemoryProductRepository();
+    final InMemoryInventoryRepository inventoryRepository = new InMemoryInventoryRepository();
+    final InMemoryCartRepository cartRepository = new InMemoryCartRepository();
+    final InMemoryCartItemRepository cartItemRepository = new InMemoryCartItemRepository();
+    final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+    final InMemoryOrderItemRepository orderItemRepository = new InMemoryOrderItemRepository();
+    final InMemoryCouponRepository couponRepository = new InMemoryCouponRepository();
+    final InMemoryUserCouponRepository userCouponRepository = new InMemoryUserCouponRepository();
+    final InMemoryPaymentRepository paymentRepository = new InMemoryPaymentRepository();
+
+    final ProductPopularityTracker popularityTracker =
+            new ProductPopularityTracker(productRepository, 100, Duration.ofHours(24), Duration.ofHours(1));
+    final ProductCounterStore counterStore =
+            new ProductCounterStore(productRepository, popularityTracker, Duration.ofSeconds(1));
+    final ProductService productService =
+            new ProductService(productRepository, inventoryRepository, popularityTracker, counterStore);
+    final CartService cartService = new CartService(cartRepository, cartItemRepository, productService);
+    final CouponService couponService = new CouponService(couponRepository, userCouponRepository, event -> { });
+    // 만료 이벤트 버스는 시작하지 않음 (벤치마크 중에는 주문이 만료되지 않음)
+    final DomainEventBus eventBus = new DomainEventBus(event -> { }, new DeadLetterStore(1), 1, 1024, 1,
+            Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1));
+    final OrderService orderService = new OrderService(
+            orderRepository, orderItemRepository, cartService, productService, couponService,
+            new OrderExpiryScheduler(orderRepository, eventBus, Duration.ofSeconds(1), 64, Duration.ofSeconds(5)),
+            new PaymentStatusQueryService(paymentRepository), event -> { });
+
+    /**
+     * 상품 + 재고 적재 (ID 1..productCount)
+     * 가격/조회수/판매량은 고정 시드 난수로 분포시켜 정렬 비용이 실제와 비슷하도록 함
+     */
+    void loadProducts(int productCount) {
+        SplittableRandom random = new SplittableRandom(42);
+        ProductCategory[] categories = ProductCategory.values();
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+
+        for (long id = 1; id <= productCount; id++) {
+            LocalDateTime createdAt = base.plusSeconds(random.nextInt(365 * 24 * 3600));
+            productRepository.save(Product.builder()
+                    .id(id)
+                    .name("상품-" + id)
+                    .description("벤치마크 상품")
+                    .price(1_000L + random.nextInt(1_000_000))
+                    .category(categories[(int) (id % categories.length)])
+                    .brand("브랜드-" + (id % 500))
+                    .imageUrl("https://cdn.example.com/products/" + id + ".jpg")
+                    .status(random.nextInt(10) == 0 ? ProductStatus.OUT_OF_STOCK : ProductStatus.AVAILABLE)
+                    .viewCount(random.nextInt(100_000))
+                    .salesCount(random.nextInt(10_000))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+
+            inventoryRepository.save(Inventory.builder()
+                    .id(id)
+                    .productId(id)
+                    .stock(LARGE_STOCK)
+                    .reservedStock(0)
+                    .lowStockThreshold(10)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        popularityTracker.reload();
+    }
+
+    /**
+     * 과거 주문 적재 (주문당 아이템 1개, 사용자 10만 명에 분산)
+     */
+    void loadOrders(int orderCount, int productCount) {
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < orderCount; i++) {
+            long productId = 1L + random.nextInt(productCount);
+            long userId = 1L + random.nextInt(100_000);
+            OrderItem item = OrderItem.create(orderItemRepository.generateNextId(), productId, "상품-" + productId, 1, 10_000L);
+
+            Long orderId = orderRepository.generateNextId();
+            Order order = Order.create(orderId, userId, orderRepository.generateOrderNumber(orderId), List.of(item),
+                    10_000L, 0L, null, "서울", null);
+            orderRepository.save(order);
+            orderItemRepository.save(item.withOrderId(orderId));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.cart.dto.CartResponse;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 장바구니 조회 (상품/재고 조인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Threads(8)
+public class CartBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+
+    @Param({"10000", "1000000"})
+    int productCount;
+
+    @Param({"5", "50"})
+    int itemsPerCart;
+
+    private BenchmarkFixtures fixtures;
+
+    @Setup
+    public void setUp() {
+        InMemoryDataStore.clear();
+        fixtures = new BenchmarkFixtures();
+        fixtures.loadProducts(productCount);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            for (int i = 0; i < itemsPerCart; i++) {
+                fixtures.cartService.addItem(userId, 1L + random.nextInt(productCount), 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public CartResponse getCart() {
+        long userId = 1L + ThreadLocalRandom.current().nextInt(USER_COUNT);
+        return fixtures.cartService.getCart(userId);
+    }
+}
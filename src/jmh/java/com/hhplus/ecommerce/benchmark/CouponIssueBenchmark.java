@@ -0,0 +1,54 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.coupon.dto.UserCouponResponse;
+import com.hhplus.ecommerce.domain.coupon.model.Coupon;
+import com.hhplus.ecommerce.domain.coupon.model.DiscountType;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 선착순 쿠폰 발급 (같은 쿠폰에 대한 경합)
+ * 매 요청 새 사용자로 발급하며, 반복(iteration)마다 저장소를 초기화해 발급 이력이 무한히 쌓이지 않게 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class CouponIssueBenchmark {
+
+    private BenchmarkFixtures fixtures;
+    private Long couponId;
+    private final AtomicLong userIdSequence = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryDataStore.clear();
+        fixtures = new BenchmarkFixtures();
+        userIdSequence.set(0);
+
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = Coupon.create(fixtures.couponRepository.generateNextId(), "BENCH", "벤치마크 쿠폰", "설명",
+                DiscountType.FIXED_AMOUNT, 1_000, 0L, null, Integer.MAX_VALUE, now.minusDays(1), now.plusDays(1));
+        couponId = fixtures.couponRepository.save(coupon).getId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserCouponResponse issueCoupon_singleThread() {
+        return fixtures.couponService.issueCoupon(userIdSequence.incrementAndGet(), couponId);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UserCouponResponse issueCoupon_contended() {
+        return fixtures.couponService.issueCoupon(userIdSequence.incrementAndGet(), couponId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.product.model.Inventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 재고 예약/해제 CAS 경합 (단일 인기 상품)
+ * 재고가 고갈되지 않도록 예약 직후 해제까지 한 번의 연산으로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class InventoryReserveBenchmark {
+
+    private Inventory inventory;
+
+    @Setup
+    public void setUp() {
+        inventory = Inventory.builder()
+                .id(1L)
+                .productId(1L)
+                .stock(BenchmarkFixtures.LARGE_STOCK)
+                .reservedStock(0)
+                .lowStockThreshold(10)
+                .build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int reserveAndRelease_singleThread() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int reserveAndRelease_4Threads() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int reserveAndRelease_16Threads() {
+        return reserveAndRelease();
+    }
+
+    private int reserveAndRelease() {
+        inventory.reserve(1);
+        inventory.releaseReservation(1);
+        return inventory.getReservedStock();
+    }
+}
@@ -0,0 +1,64 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.cart.dto.CartItemAddResponse;
+import com.hhplus.ecommerce.domain.order.dto.OrderResponse;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 생성 (장바구니 담기 + 재고 일괄 예약 + 주문 저장)
+ * 주문 생성 시 장바구니 항목이 삭제되므로 매 호출마다 항목 하나를 담은 뒤 주문함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Threads(8)
+public class OrderCreateBenchmark {
+
+    private static final int PRODUCT_COUNT = 100_000;
+
+    @Param({"10000", "1000000", "10000000"})
+    int orderCount;
+
+    private BenchmarkFixtures fixtures;
+
+    /**
+     * 스레드별 구매자 (장바구니 경합 없이 측정)
+     */
+    @State(Scope.Thread)
+    public static class Buyer {
+        private static final AtomicLong USER_ID_SEQUENCE = new AtomicLong(1_000_000L);
+
+        private long userId;
+
+        @Setup
+        public void setUp() {
+            userId = USER_ID_SEQUENCE.incrementAndGet();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        InMemoryDataStore.clear();
+        fixtures = new BenchmarkFixtures();
+        fixtures.loadProducts(PRODUCT_COUNT);
+        fixtures.loadOrders(orderCount, PRODUCT_COUNT);
+    }
+
+    @Benchmark
+    public OrderResponse createOrder(Buyer buyer) {
+        long productId = 1L + ThreadLocalRandom.current().nextInt(PRODUCT_COUNT);
+        CartItemAddResponse cartItem = fixtures.cartService.addItem(buyer.userId, productId, 1);
+        return fixtures.orderService.createOrder(buyer.userId, List.of(cartItem.cartItemId()), null, "서울", null);
+    }
+}
@@ -0,0 +1,186 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.cart.dto.CartItemAddResponse;
+import com.hhplus.ecommerce.domain.payment.gateway.PaymentGatewayClient;
+import com.hhplus.ecommerce.domain.payment.model.PaymentMethod;
+import com.hhplus.ecommerce.domain.payment.service.PaymentService;
+import com.hhplus.ecommerce.global.config.AppConfig;
+import com.hhplus.ecommerce.global.exception.DomainExceptionMapper;
+import com.hhplus.ecommerce.global.outbox.InMemoryOutboxRepository;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PG 응답이 1~5초 걸릴 때 동시 결제 처리량 (플랫폼 스레드 풀 vs 가상 스레드)
+ * 로컬 HTTP 서버로 지연을 흉내 낸 PG에 결제 요청 checkouts건을 동시에 보내고, 모두 끝날 때까지의 시간을 측정
+ * (처리량 = checkouts / 측정 시간)
+ *
+ * <ul>
+ *   <li>platform: Tomcat 기본 최대 스레드 수(200)와 같은 고정 풀에서 요청 처리</li>
+ *   <li>virtual: 요청마다 가상 스레드, RestClient도 가상 스레드 모드로 생성 (JDK 21 필요: ./gradlew jmh -PjavaVersion=21)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class PaymentGatewayLatencyBenchmark {
+
+    private static final int PRODUCT_COUNT = 100;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int MIN_PG_LATENCY_MILLIS = 1_000;
+    private static final int MAX_PG_LATENCY_MILLIS = 5_000;
+
+    @Param({"platform", "virtual"})
+    String threading;
+
+    @Param({"1000", "5000"})
+    int checkouts;
+
+    private HttpServer pgServer;
+    private ExecutorService pgExecutor;
+    private BenchmarkFixtures fixtures;
+    private PaymentService paymentService;
+    private Executor requestExecutor;
+    private final List<long[]> orders = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual 모드는 JDK 21 이상이 필요합니다 (-PjavaVersion=21)");
+        }
+
+        pgExecutor = Executors.newCachedThreadPool();
+        pgServer = startPgServer(pgExecutor);
+
+        InMemoryDataStore.clear();
+        fixtures = new BenchmarkFixtures();
+        fixtures.loadProducts(PRODUCT_COUNT);
+
+        RestClient restClient = AppConfig.createRestClient(virtual, Duration.ofSeconds(2), Duration.ofSeconds(10));
+        // 스레드 모델 차이만 측정하도록 벌크헤드/서킷 브레이커가 호출을 거절하지 않게 설정
+        PaymentGatewayClient gatewayClient = new PaymentGatewayClient(restClient,
+                "http://localhost:" + pgServer.getAddress().getPort() + "/process",
+                checkouts, Duration.ZERO, 50, 50, 100, Duration.ofSeconds(1), 1);
+        paymentService = new PaymentService(fixtures.paymentRepository, fixtures.orderService,
+                fixtures.couponService, gatewayClient, new InMemoryOutboxRepository(), new DomainExceptionMapper());
+
+        if (virtual) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("checkout-");
+            executor.setVirtualThreads(true);
+            requestExecutor = executor;
+        } else {
+            requestExecutor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        }
+    }
+
+    /**
+     * 반복마다 결제 대기 주문을 새로 생성 (결제 완료된 주문은 다시 결제할 수 없음)
+     */
+    @Setup(Level.Iteration)
+    public void createOrders() {
+        orders.clear();
+        for (int i = 0; i < checkouts; i++) {
+            long userId = 1_000_000L + i;
+            long productId = 1L + ThreadLocalRandom.current().nextInt(PRODUCT_COUNT);
+            CartItemAddResponse cartItem = fixtures.cartService.addItem(userId, productId, 1);
+            Long orderId = fixtures.orderService
+                    .createOrder(userId, List.of(cartItem.cartItemId()), null, "서울", null)
+                    .orderId();
+            orders.add(new long[]{userId, orderId});
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pgServer.stop(0);
+        pgExecutor.shutdownNow();
+        if (requestExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public int processPayments() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(orders.size());
+        AtomicInteger completed = new AtomicInteger();
+        for (long[] order : orders) {
+            requestExecutor.execute(() -> {
+                try {
+                    paymentService.processPayment(order[0], order[1], PaymentMethod.CARD, null);
+                    completed.incrementAndGet();
+                } catch (RuntimeException ignored) {
+                    // PG 타임아웃 등은 처리량에서 제외
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return completed.get();
+    }
+
+    /**
+     * 요청마다 1~5초 지연 후 성공 응답을 주는 PG (지연 중에도 다른 요청을 받도록 요청마다 스레드 사용)
+     */
+    private static HttpServer startPgServer(ExecutorService executor) throws IOException {
+        AtomicLong transactionSequence = new AtomicLong();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 10_000);
+        server.createContext("/process", exchange -> {
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(MIN_PG_LATENCY_MILLIS, MAX_PG_LATENCY_MILLIS + 1));
+                respond(exchange, "{\"success\":true,\"transactionId\":\"TXN-" + transactionSequence.incrementAndGet()
+                        + "\",\"message\":\"결제가 성공적으로 처리되었습니다\"}");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.close();
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
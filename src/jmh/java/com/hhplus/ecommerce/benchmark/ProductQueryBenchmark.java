@@ -0,0 +1,63 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.product.dto.ProductResponse;
+import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchCondition;
+import com.hhplus.ecommerce.global.dto.PagedResult;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 상품 목록/인기 상품 조회 (정렬 + 페이징)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Threads(4)
+public class ProductQueryBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    int productCount;
+
+    private BenchmarkFixtures fixtures;
+
+    @Setup
+    public void setUp() {
+        InMemoryDataStore.clear();
+        fixtures = new BenchmarkFixtures();
+        fixtures.loadProducts(productCount);
+    }
+
+    @Benchmark
+    public PagedResult<ProductResponse> getProducts_firstPageByPrice() {
+        return fixtures.productService.getProducts(null, null, "price,asc", 0, 20);
+    }
+
+    @Benchmark
+    public PagedResult<ProductResponse> getProducts_categoryDeepPageByCreated() {
+        return fixtures.productService.getProducts(ProductCategory.ELECTRONICS, null, "created,desc", 100, 20);
+    }
+
+    @Benchmark
+    public PagedResult<ProductResponse> searchProducts_keyword() {
+        return fixtures.productService.searchProducts(
+                new ProductSearchCondition("상품-12345", null, null, null, null), null, 0, 20);
+    }
+
+    @Benchmark
+    public PagedResult<ProductResponse> searchProducts_priceRange() {
+        return fixtures.productService.searchProducts(
+                new ProductSearchCondition(null, ProductCategory.ELECTRONICS, null, 100_000L, 110_000L), "price,asc", 0, 20);
+    }
+
+    @Benchmark
+    public PagedResult<ProductResponse> getPopularProducts() {
+        return fixtures.productService.getPopularProducts(0, 20, "popular");
+    }
+}
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.domain.cart.repository;
 
 import com.hhplus.ecommerce.domain.cart.model.CartItem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,5 +14,10 @@ public interface CartItemRepository {
     List<CartItem> findAll();
     void deleteById(Long id);
     void deleteByCartId(Long cartId);
+
+    /**
+     * 한 장바구니에서 여러 항목을 한 번에 삭제 (다른 장바구니의 항목 ID는 무시)
+     */
+    void deleteByCartIdAndIdIn(Long cartId, Collection<Long> ids);
     Long generateNextId();
 }
@@ -2,41 +2,72 @@ package com.hhplus.ecommerce.domain.cart.repository;
 
 import com.hhplus.ecommerce.domain.cart.model.CartItem;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 장바구니 항목 저장소
+ * 장바구니별 항목 맵(항목 ID → 항목)과 항목 ID → 장바구니 ID 인덱스로 항목 단위 조회/수정/삭제를 O(1)로 처리
+ * (장바구니 전체 목록 복사나 전체 장바구니 스캔 없음)
+ */
 @Repository
 public class InMemoryCartItemRepository implements CartItemRepository {
 
+    private static final Comparator<CartItem> ADDED_ORDER = Comparator.comparing(CartItem::getId);
+
     @Override
     public CartItem save(CartItem cartItem) {
-        List<CartItem> items = InMemoryDataStore.CART_ITEMS
-                .computeIfAbsent(cartItem.getCartId(), k -> new java.util.concurrent.CopyOnWriteArrayList<>());
+        Long cartId = cartItem.getCartId();
+        InMemoryDataStore.CART_ITEMS_BY_CART_ID.findKey(cartItem.getId())
+                .filter(previousCartId -> !previousCartId.equals(cartId))
+                .ifPresent(previousCartId -> removeFromCart(previousCartId, cartItem.getId()));
 
-        items.removeIf(item -> item.getId().equals(cartItem.getId()));
-        items.add(cartItem);
+        // 장바구니 단위 갱신은 CART_ITEMS 버킷 락으로 직렬화 (마지막 항목 삭제로 맵이 제거되는 것과 경합하지 않음)
+        InMemoryDataStore.CART_ITEMS.compute(cartId, (id, items) -> {
+            Map<Long, CartItem> target = items != null ? items : new ConcurrentHashMap<>();
+            target.put(cartItem.getId(), cartItem);
+            return target;
+        });
+        InMemoryDataStore.CART_ITEMS_BY_CART_ID.index(cartItem);
+        InMemoryDataStore.recordSave(StoreTable.CART_ITEMS, cartItem);
 
         return cartItem;
     }
 
     @Override
     public Optional<CartItem> findById(Long id) {
-        return InMemoryDataStore.CART_ITEMS.values().stream()
-                .flatMap(List::stream)
-                .filter(item -> item.getId().equals(id))
-                .findFirst();
+        return InMemoryDataStore.CART_ITEMS_BY_CART_ID.findKey(id)
+                .map(InMemoryDataStore.CART_ITEMS::get)
+                .map(items -> items.get(id));
     }
 
     @Override
     public List<CartItem> findByCartId(Long cartId) {
-        return InMemoryDataStore.CART_ITEMS.getOrDefault(cartId, List.of());
+        Map<Long, CartItem> items = InMemoryDataStore.CART_ITEMS.get(cartId);
+        if (items == null) {
+            return List.of();
+        }
+        // 항목 ID는 담은 순서로 증가하므로 ID 순 = 담은 순
+        return items.values().stream()
+                .sorted(ADDED_ORDER)
+                .toList();
     }
 
     @Override
     public Optional<CartItem> findByCartIdAndProductId(Long cartId, Long productId) {
-        return InMemoryDataStore.CART_ITEMS.getOrDefault(cartId, List.of()).stream()
+        Map<Long, CartItem> items = InMemoryDataStore.CART_ITEMS.get(cartId);
+        if (items == null) {
+            return Optional.empty();
+        }
+        return items.values().stream()
                 .filter(item -> item.getProductId().equals(productId))
                 .findFirst();
     }
@@ -44,24 +75,55 @@ public class InMemoryCartItemRepository implements CartItemRepository {
     @Override
     public List<CartItem> findAll() {
         return InMemoryDataStore.CART_ITEMS.values().stream()
-                .flatMap(List::stream)
+                .flatMap(items -> items.values().stream())
                 .toList();
     }
 
     @Override
     public void deleteById(Long id) {
-        InMemoryDataStore.CART_ITEMS.values().forEach(list ->
-                list.removeIf(item -> item.getId().equals(id))
-        );
+        InMemoryDataStore.CART_ITEMS_BY_CART_ID.findKey(id)
+                .ifPresent(cartId -> removeFromCart(cartId, id));
+        InMemoryDataStore.CART_ITEMS_BY_CART_ID.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.CART_ITEMS, id);
     }
 
     @Override
     public void deleteByCartId(Long cartId) {
-        InMemoryDataStore.CART_ITEMS.remove(cartId);
+        Map<Long, CartItem> removed = InMemoryDataStore.CART_ITEMS.remove(cartId);
+        if (removed != null) {
+            removed.keySet().forEach(itemId -> {
+                InMemoryDataStore.CART_ITEMS_BY_CART_ID.remove(itemId);
+                InMemoryDataStore.recordDelete(StoreTable.CART_ITEMS, itemId);
+            });
+        }
+    }
+
+    @Override
+    public void deleteByCartIdAndIdIn(Long cartId, Collection<Long> ids) {
+        List<Long> removed = new ArrayList<>(ids.size());
+        InMemoryDataStore.CART_ITEMS.computeIfPresent(cartId, (id, items) -> {
+            ids.forEach(itemId -> {
+                if (items.remove(itemId) != null) {
+                    removed.add(itemId);
+                }
+            });
+            return items.isEmpty() ? null : items;
+        });
+        removed.forEach(itemId -> {
+            InMemoryDataStore.CART_ITEMS_BY_CART_ID.remove(itemId);
+            InMemoryDataStore.recordDelete(StoreTable.CART_ITEMS, itemId);
+        });
     }
 
     @Override
     public Long generateNextId() {
         return InMemoryDataStore.cartItemIdSequence.incrementAndGet();
     }
+
+    private void removeFromCart(Long cartId, Long itemId) {
+        InMemoryDataStore.CART_ITEMS.computeIfPresent(cartId, (id, items) -> {
+            items.remove(itemId);
+            return items.isEmpty() ? null : items;
+        });
+    }
 }
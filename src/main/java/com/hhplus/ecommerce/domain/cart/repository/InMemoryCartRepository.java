@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.domain.cart.repository;
 
 import com.hhplus.ecommerce.domain.cart.model.Cart;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +14,8 @@ public class InMemoryCartRepository implements CartRepository {
     @Override
     public Cart save(Cart cart) {
         InMemoryDataStore.CARTS.put(cart.getId(), cart);
+        InMemoryDataStore.CARTS_BY_USER_ID.index(cart);
+        InMemoryDataStore.recordSave(StoreTable.CARTS, cart);
         return cart;
     }
 
@@ -23,9 +26,9 @@ public class InMemoryCartRepository implements CartRepository {
 
     @Override
     public Optional<Cart> findByUserId(Long userId) {
-        return InMemoryDataStore.CARTS.values().stream()
-                .filter(cart -> cart.getUserId().equals(userId))
-                .findFirst();
+        return InMemoryDataStore.CARTS_BY_USER_ID.findId(userId)
+                .map(InMemoryDataStore.CARTS::get)
+                .filter(cart -> cart.getUserId().equals(userId));
     }
 
     @Override
@@ -36,6 +39,8 @@ public class InMemoryCartRepository implements CartRepository {
     @Override
     public void deleteById(Long id) {
         InMemoryDataStore.CARTS.remove(id);
+        InMemoryDataStore.CARTS_BY_USER_ID.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.CARTS, id);
     }
 
     @Override
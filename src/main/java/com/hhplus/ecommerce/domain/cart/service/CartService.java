@@ -15,8 +15,11 @@ import com.hhplus.ecommerce.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -82,9 +85,10 @@ public class CartService {
         return cartRepository.findByUserId(userId)
                 .map(cart -> {
                     List<CartItem> allItems = cartItemRepository.findByCartId(cart.getId());
+                    Set<Long> selectedIds = new HashSet<>(cartItemIds);
                     // 선택한 항목만 필터링
                     return allItems.stream()
-                            .filter(item -> cartItemIds.contains(item.getId()))
+                            .filter(item -> selectedIds.contains(item.getId()))
                             .toList();
                 })
                 .orElse(List.of());
@@ -92,11 +96,13 @@ public class CartService {
 
     /**
      * 선택한 장바구니 항목들 삭제 (주문 완료 후)
+     * 주문 시 검증한 장바구니에서 한 번에 삭제
      */
-    public void removeCartItems(List<Long> cartItemIds) {
-        for (Long cartItemId : cartItemIds) {
-            cartItemRepository.deleteById(cartItemId);
+    public void removeCartItems(Long cartId, Collection<Long> cartItemIds) {
+        if (cartItemIds.isEmpty()) {
+            return;
         }
+        cartItemRepository.deleteByCartIdAndIdIn(cartId, cartItemIds);
     }
 
     public CartResponse getCart(Long userId) {
@@ -3,6 +3,7 @@ package com.hhplus.ecommerce.domain.coupon.controller;
 import com.hhplus.ecommerce.domain.coupon.dto.CouponResponse;
 import com.hhplus.ecommerce.domain.coupon.dto.IssueCouponRequest;
 import com.hhplus.ecommerce.domain.coupon.dto.UserCouponResponse;
+import com.hhplus.ecommerce.domain.coupon.service.CouponIssueAdmission;
 import com.hhplus.ecommerce.domain.coupon.service.CouponService;
 import com.hhplus.ecommerce.global.dto.CommonResponse;
 import com.hhplus.ecommerce.global.constants.HttpHeaders;
@@ -30,6 +31,7 @@ import java.util.stream.Collectors;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponIssueAdmission couponIssueAdmission;
 
     @Operation(
             summary = "발급 가능한 쿠폰 목록 조회",
@@ -48,20 +50,21 @@ public class CouponController {
 
     @Operation(
             summary = "쿠폰 발급",
-            description = "선착순으로 쿠폰을 발급받습니다. 1인 1매 제한이 적용됩니다."
+            description = "선착순으로 쿠폰을 발급받습니다. 1인 1매 제한이 적용되며, 수량이 마감되면 즉시 409를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "발급 성공"),
             @ApiResponse(responseCode = "400", description = "발급 불가능한 쿠폰 (만료 또는 비활성)"),
-            @ApiResponse(responseCode = "409", description = "중복 발급 또는 수량 소진"),
-            @ApiResponse(responseCode = "404", description = "쿠폰을 찾을 수 없음")
+            @ApiResponse(responseCode = "409", description = "선착순 마감"),
+            @ApiResponse(responseCode = "404", description = "쿠폰을 찾을 수 없음"),
+            @ApiResponse(responseCode = "503", description = "발급 대기 시간 초과")
     })
     @PostMapping("/users/me/coupons")
     public ResponseEntity<CommonResponse<UserCouponResponse>> issueCoupon(
             @Parameter(hidden = true) @RequestHeader(HttpHeaders.X_USER_ID) Long userId,
             @Valid @RequestBody IssueCouponRequest request
     ) {
-        UserCouponResponse response = couponService.issueCoupon(userId, request.couponId());
+        UserCouponResponse response = couponIssueAdmission.issue(userId, request.couponId());
         return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(response));
     }
 
@@ -0,0 +1,20 @@
+package com.hhplus.ecommerce.domain.coupon.event;
+
+import lombok.Getter;
+
+/**
+ * 쿠폰 발급 취소 이벤트
+ * 사용 취소로 쿠폰 잔여 수량이 한 장 늘어났을 때 발행되는 도메인 이벤트 (선착순 입장 제어가 자리를 되돌림)
+ */
+@Getter
+public class CouponIssueCancelledEvent {
+    private final Long couponId;
+
+    public CouponIssueCancelledEvent(Long couponId) {
+        this.couponId = couponId;
+    }
+
+    public static CouponIssueCancelledEvent of(Long couponId) {
+        return new CouponIssueCancelledEvent(couponId);
+    }
+}
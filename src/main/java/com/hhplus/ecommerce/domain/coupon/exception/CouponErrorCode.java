@@ -21,7 +21,9 @@ public enum CouponErrorCode implements ErrorCode {
     COUPON_NOT_USABLE(HttpStatus.BAD_REQUEST, "COUPON_NOT_USABLE", "사용 불가능한 쿠폰입니다"),
     COUPON_NOT_USED(HttpStatus.BAD_REQUEST, "COUPON_NOT_USED", "사용되지 않은 쿠폰입니다"),
     COUPON_ALREADY_RESERVED(HttpStatus.BAD_REQUEST, "COUPON_ALREADY_RESERVED", "이미 다른 주문에 예약된 쿠폰입니다"),
-    COUPON_NOT_RESERVED(HttpStatus.BAD_REQUEST, "COUPON_NOT_RESERVED", "예약되지 않은 쿠폰입니다");
+    COUPON_NOT_RESERVED(HttpStatus.BAD_REQUEST, "COUPON_NOT_RESERVED", "예약되지 않은 쿠폰입니다"),
+    COUPON_SOLD_OUT(HttpStatus.CONFLICT, "COUPON_SOLD_OUT", "선착순 발급이 마감되었습니다"),
+    COUPON_ISSUE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "COUPON_ISSUE_UNAVAILABLE", "쿠폰 발급 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
 
     private final HttpStatus status;
     private final String code;
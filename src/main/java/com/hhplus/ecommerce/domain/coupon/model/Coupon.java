@@ -2,33 +2,68 @@ package com.hhplus.ecommerce.domain.coupon.model;
 
 import com.hhplus.ecommerce.domain.coupon.exception.CouponErrorCode;
 import com.hhplus.ecommerce.global.exception.BusinessException;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 쿠폰
+ * 잔여 수량은 AtomicInteger로 CAS 갱신 → 락 없이 선착순 발급 시 초과 발급 방지
+ */
 @Getter
-@Builder
 public class Coupon {
-    private Long id;
-    private String code;
-    private String name;
-    private String description;
-    private DiscountType discountType;
-    private Integer discountValue;
-    private Long minOrderAmount;
-    private Long maxDiscountAmount;
-    private Integer totalQuantity;
-    private Integer remainingQuantity;
-    private LocalDateTime startsAt;
-    private LocalDateTime endsAt;
-    private CouponStatus status;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    private final Long id;
+    private final String code;
+    private final String name;
+    private final String description;
+    private final DiscountType discountType;
+    private final Integer discountValue;
+    private final Long minOrderAmount;
+    private final Long maxDiscountAmount;
+    private final Integer totalQuantity;
+    private final LocalDateTime startsAt;
+    private final LocalDateTime endsAt;
+    private final CouponStatus status;
+    private final LocalDateTime createdAt;
+    private volatile LocalDateTime updatedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger remainingCell;
+
+    @Builder
+    private Coupon(Long id, String code, String name, String description,
+                   DiscountType discountType, Integer discountValue,
+                   Long minOrderAmount, Long maxDiscountAmount,
+                   Integer totalQuantity, Integer remainingQuantity,
+                   LocalDateTime startsAt, LocalDateTime endsAt, CouponStatus status,
+                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.description = description;
+        this.discountType = discountType;
+        this.discountValue = discountValue;
+        this.minOrderAmount = minOrderAmount;
+        this.maxDiscountAmount = maxDiscountAmount;
+        this.totalQuantity = totalQuantity;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.remainingCell = new AtomicInteger(remainingQuantity != null ? remainingQuantity : 0);
+    }
+
+    public Integer getRemainingQuantity() {
+        return remainingCell.get();
+    }
 
     public boolean isIssuable() {
         return status == CouponStatus.ACTIVE
-                && remainingQuantity > 0
+                && remainingCell.get() > 0
                 && LocalDateTime.now().isBefore(endsAt);
     }
 
@@ -40,7 +75,7 @@ public class Coupon {
     }
 
     public void issue() {
-        if (remainingQuantity <= 0) {
+        if (remainingCell.get() <= 0) {
             throw new BusinessException(CouponErrorCode.COUPON_OUT_OF_STOCK);
         }
         if (status != CouponStatus.ACTIVE) {
@@ -49,15 +84,28 @@ public class Coupon {
         if (!LocalDateTime.now().isBefore(endsAt)) {
             throw new BusinessException(CouponErrorCode.COUPON_EXPIRED);
         }
-        this.remainingQuantity--;
+        while (true) {
+            int remaining = remainingCell.get();
+            if (remaining <= 0) {
+                throw new BusinessException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+            }
+            if (remainingCell.compareAndSet(remaining, remaining - 1)) {
+                break;
+            }
+        }
         this.updatedAt = LocalDateTime.now();
     }
 
     public void cancelIssue() {
-        if (this.remainingQuantity >= this.totalQuantity) {
-            throw new BusinessException(CouponErrorCode.COUPON_CANNOT_CANCEL_ISSUE);
+        while (true) {
+            int remaining = remainingCell.get();
+            if (remaining >= totalQuantity) {
+                throw new BusinessException(CouponErrorCode.COUPON_CANNOT_CANCEL_ISSUE);
+            }
+            if (remainingCell.compareAndSet(remaining, remaining + 1)) {
+                break;
+            }
         }
-        this.remainingQuantity++;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -105,4 +153,4 @@ public class Coupon {
                 .updatedAt(now)
                 .build();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
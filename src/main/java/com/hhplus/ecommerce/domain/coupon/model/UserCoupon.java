@@ -65,6 +65,18 @@ public class UserCoupon {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 사용 확정 되돌리기 (주문 예약은 유지, 결제 완료 처리가 중간에 실패했을 때 보상)
+     */
+    public void revertConfirmation() {
+        if (!this.isUsed) {
+            throw new BusinessException(CouponErrorCode.COUPON_NOT_USED);
+        }
+        this.isUsed = false;
+        this.usedAt = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void cancelUse() {
         if (!this.isUsed) {
             throw new BusinessException(CouponErrorCode.COUPON_NOT_USED);
@@ -3,9 +3,11 @@ package com.hhplus.ecommerce.domain.coupon.repository;
 import com.hhplus.ecommerce.domain.coupon.model.Coupon;
 import com.hhplus.ecommerce.domain.coupon.model.CouponStatus;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 @Repository
 public class InMemoryCouponRepository implements CouponRepository {
@@ -13,6 +15,9 @@ public class InMemoryCouponRepository implements CouponRepository {
     @Override
     public Coupon save(Coupon coupon) {
         InMemoryDataStore.COUPONS.put(coupon.getId(), coupon);
+        InMemoryDataStore.COUPONS_BY_CODE.index(coupon);
+        InMemoryDataStore.COUPONS_BY_STATUS.index(coupon);
+        InMemoryDataStore.recordSave(StoreTable.COUPONS, coupon);
         return coupon;
     }
 
@@ -23,21 +28,23 @@ public class InMemoryCouponRepository implements CouponRepository {
 
     @Override
     public Optional<Coupon> findByCode(String code) {
-        return InMemoryDataStore.COUPONS.values().stream()
-                .filter(coupon -> coupon.getCode().equals(code))
-                .findFirst();
+        return InMemoryDataStore.COUPONS_BY_CODE.findId(code)
+                .map(InMemoryDataStore.COUPONS::get)
+                .filter(coupon -> coupon.getCode().equals(code));
     }
 
     @Override
     public List<Coupon> findByStatus(CouponStatus status) {
-        return InMemoryDataStore.COUPONS.values().stream()
+        return InMemoryDataStore.COUPONS_BY_STATUS.findIds(status).stream()
+                .map(InMemoryDataStore.COUPONS::get)
+                .filter(Objects::nonNull)
                 .filter(coupon -> coupon.getStatus() == status)
                 .toList();
     }
 
     @Override
     public List<Coupon> findIssuableCoupons() {
-        return InMemoryDataStore.COUPONS.values().stream()
+        return findByStatus(CouponStatus.ACTIVE).stream()
                 .filter(Coupon::isIssuable)
                 .toList();
     }
@@ -50,6 +57,9 @@ public class InMemoryCouponRepository implements CouponRepository {
     @Override
     public void deleteById(Long id) {
         InMemoryDataStore.COUPONS.remove(id);
+        InMemoryDataStore.COUPONS_BY_CODE.remove(id);
+        InMemoryDataStore.COUPONS_BY_STATUS.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.COUPONS, id);
     }
 
     @Override
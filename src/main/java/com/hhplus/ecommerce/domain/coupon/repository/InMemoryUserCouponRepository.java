@@ -2,9 +2,12 @@ package com.hhplus.ecommerce.domain.coupon.repository;
 
 import com.hhplus.ecommerce.domain.coupon.model.UserCoupon;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+import com.hhplus.ecommerce.global.storage.index.CompositeKey;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +16,10 @@ public class InMemoryUserCouponRepository implements UserCouponRepository {
     @Override
     public UserCoupon save(UserCoupon userCoupon) {
         InMemoryDataStore.USER_COUPONS.put(userCoupon.getId(), userCoupon);
+        InMemoryDataStore.USER_COUPONS_BY_COUPON_AND_USER.index(userCoupon);
+        InMemoryDataStore.USER_COUPONS_BY_USER_ID.index(userCoupon);
+        InMemoryDataStore.USER_COUPONS_BY_ORDER_ID.index(userCoupon);
+        InMemoryDataStore.recordSave(StoreTable.USER_COUPONS, userCoupon);
         return userCoupon;
     }
 
@@ -23,22 +30,24 @@ public class InMemoryUserCouponRepository implements UserCouponRepository {
 
     @Override
     public Optional<UserCoupon> findByCouponIdAndUserId(Long couponId, Long userId) {
-        return InMemoryDataStore.USER_COUPONS.values().stream()
-                .filter(uc -> uc.getCouponId().equals(couponId) && uc.getUserId().equals(userId))
-                .findFirst();
+        return InMemoryDataStore.USER_COUPONS_BY_COUPON_AND_USER.findId(CompositeKey.of(couponId, userId))
+                .map(InMemoryDataStore.USER_COUPONS::get)
+                .filter(uc -> uc.getCouponId().equals(couponId) && uc.getUserId().equals(userId));
     }
 
     @Override
     public List<UserCoupon> findByUserId(Long userId) {
-        return InMemoryDataStore.USER_COUPONS.values().stream()
+        return InMemoryDataStore.USER_COUPONS_BY_USER_ID.findIds(userId).stream()
+                .map(InMemoryDataStore.USER_COUPONS::get)
+                .filter(Objects::nonNull)
                 .filter(uc -> uc.getUserId().equals(userId))
                 .toList();
     }
 
     @Override
     public List<UserCoupon> findByUserIdAndIsUsed(Long userId, Boolean isUsed) {
-        return InMemoryDataStore.USER_COUPONS.values().stream()
-                .filter(uc -> uc.getUserId().equals(userId) && uc.getIsUsed().equals(isUsed))
+        return findByUserId(userId).stream()
+                .filter(uc -> uc.getIsUsed().equals(isUsed))
                 .toList();
     }
 
@@ -47,9 +56,9 @@ public class InMemoryUserCouponRepository implements UserCouponRepository {
         if (orderId == null) {
             return Optional.empty();
         }
-        return InMemoryDataStore.USER_COUPONS.values().stream()
-                .filter(uc -> orderId.equals(uc.getOrderId()))
-                .findFirst();
+        return InMemoryDataStore.USER_COUPONS_BY_ORDER_ID.findId(orderId)
+                .map(InMemoryDataStore.USER_COUPONS::get)
+                .filter(uc -> orderId.equals(uc.getOrderId()));
     }
 
     @Override
@@ -60,6 +69,10 @@ public class InMemoryUserCouponRepository implements UserCouponRepository {
     @Override
     public void deleteById(Long id) {
         InMemoryDataStore.USER_COUPONS.remove(id);
+        InMemoryDataStore.USER_COUPONS_BY_COUPON_AND_USER.remove(id);
+        InMemoryDataStore.USER_COUPONS_BY_USER_ID.remove(id);
+        InMemoryDataStore.USER_COUPONS_BY_ORDER_ID.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.USER_COUPONS, id);
     }
 
     @Override
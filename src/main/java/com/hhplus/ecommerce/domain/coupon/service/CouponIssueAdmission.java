@@ -0,0 +1,218 @@
+package com.hhplus.ecommerce.domain.coupon.service;
+
+import com.hhplus.ecommerce.domain.coupon.dto.UserCouponResponse;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueCancelledEvent;
+import com.hhplus.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 선착순 쿠폰 발급 입장 제어
+ * 1. 쿠폰별로 도착 순서대로 남은 자리(번호표)를 CAS로 차감
+ * 2. 자리가 없으면 저장소 접근 없이 즉시 거절 (O(1), 409)
+ * 3. 당첨 요청만 큐에 넣고 단일 발급 워커가 배치로 CouponService.issueCoupon 처리
+ * 당첨 요청의 발급이 실패하면 (중복 발급, 대기 시간 초과 등) 자리를 반환해 다음 도착 요청이 받을 수 있게 하고,
+ * 사용 취소로 쿠폰 잔여 수량이 늘어나면(CouponIssueCancelledEvent) 자리도 한 장 되돌림
+ * 대기 시간 초과는 워커가 요청을 꺼내기 전에만 취소되며, 이미 발급을 시작했으면 실제 결과를 기다려 응답
+ */
+@Component
+public class CouponIssueAdmission {
+
+    private final CouponService couponService;
+    private final int batchSize;
+    private final Duration waitTimeout;
+
+    private final Map<Long, Gate> gates = new ConcurrentHashMap<>();
+    private final BlockingQueue<IssueRequest> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public CouponIssueAdmission(
+            CouponService couponService,
+            @Value("${coupon.admission.batch-size:256}") int batchSize,
+            @Value("${coupon.admission.wait-timeout:PT5S}") Duration waitTimeout) {
+        this.couponService = couponService;
+        this.batchSize = batchSize;
+        this.waitTimeout = waitTimeout;
+        this.worker = new Thread(this::drainLoop, "coupon-issue-worker");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 번호표를 받아 당첨이면 발급 워커의 처리 결과를 기다리고, 낙첨이면 즉시 실패
+     */
+    public UserCouponResponse issue(Long userId, Long couponId) {
+        Gate gate = gates.computeIfAbsent(couponId,
+                id -> new Gate(couponService.findCouponById(id).getRemainingQuantity()));
+
+        if (!gate.tryAcquire()) {
+            throw new BusinessException(CouponErrorCode.COUPON_SOLD_OUT);
+        }
+
+        IssueRequest request = new IssueRequest(userId, couponId, gate);
+        queue.add(request);
+        return await(request);
+    }
+
+    /**
+     * 사용 취소로 늘어난 잔여 수량만큼 자리를 되돌림 (아직 게이트가 없으면 생성 시 잔여 수량을 그대로 읽음)
+     */
+    @EventListener
+    public void handleIssueCancelled(CouponIssueCancelledEvent event) {
+        Gate gate = gates.get(event.getCouponId());
+        if (gate != null) {
+            gate.release();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        worker.interrupt();
+        List<IssueRequest> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for (IssueRequest request : pending) {
+            if (request.cancel()) {
+                request.gate.release();
+                request.result.completeExceptionally(new BusinessException(CouponErrorCode.COUPON_ISSUE_UNAVAILABLE));
+            }
+        }
+    }
+
+    private UserCouponResponse await(IssueRequest request) {
+        try {
+            return request.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            return cancelOrJoin(request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cancelOrJoin(request);
+        }
+    }
+
+    /**
+     * 워커가 아직 꺼내지 않은 요청이면 취소하고 자리를 반환,
+     * 이미 발급을 시작했으면 취소하지 않고 결과를 기다림 (발급된 쿠폰을 실패로 응답하면 재시도가 중복 발급으로 거절됨)
+     */
+    private UserCouponResponse cancelOrJoin(IssueRequest request) {
+        if (request.cancel()) {
+            request.gate.release();
+            throw new BusinessException(CouponErrorCode.COUPON_ISSUE_UNAVAILABLE);
+        }
+        try {
+            return request.result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void drainLoop() {
+        List<IssueRequest> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::process);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(IssueRequest request) {
+        // 대기 시간 초과로 이미 취소된 요청은 건너뜀 (자리는 취소한 쪽에서 반환)
+        if (!request.start()) {
+            return;
+        }
+        try {
+            request.result.complete(couponService.issueCoupon(request.userId, request.couponId));
+        } catch (RuntimeException e) {
+            request.gate.release();
+            request.result.completeExceptionally(e);
+        }
+    }
+
+    private static final class Gate {
+        private final AtomicLong remaining;
+
+        private Gate(long quantity) {
+            this.remaining = new AtomicLong(quantity);
+        }
+
+        private boolean tryAcquire() {
+            while (true) {
+                long current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            remaining.incrementAndGet();
+        }
+    }
+
+    private enum State {
+        QUEUED, PROCESSING, CANCELLED
+    }
+
+    /**
+     * 당첨 요청 (QUEUED에서 워커가 PROCESSING으로, 대기자가 CANCELLED로 CAS 선점하며 둘 중 하나만 성공)
+     */
+    private static final class IssueRequest {
+        private final Long userId;
+        private final Long couponId;
+        private final Gate gate;
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+        private final CompletableFuture<UserCouponResponse> result = new CompletableFuture<>();
+
+        private IssueRequest(Long userId, Long couponId, Gate gate) {
+            this.userId = userId;
+            this.couponId = couponId;
+            this.gate = gate;
+        }
+
+        private boolean start() {
+            return state.compareAndSet(State.QUEUED, State.PROCESSING);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(State.QUEUED, State.CANCELLED);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.domain.coupon.service;
 
 import com.hhplus.ecommerce.domain.coupon.dto.CouponResponse;
 import com.hhplus.ecommerce.domain.coupon.dto.UserCouponResponse;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueCancelledEvent;
 import com.hhplus.ecommerce.domain.coupon.exception.CouponErrorCode;
 import com.hhplus.ecommerce.domain.coupon.model.Coupon;
 import com.hhplus.ecommerce.domain.coupon.model.UserCoupon;
@@ -9,12 +10,13 @@ import com.hhplus.ecommerce.domain.coupon.repository.CouponRepository;
 import com.hhplus.ecommerce.domain.coupon.repository.UserCouponRepository;
 import com.hhplus.ecommerce.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -22,9 +24,10 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final Map<Long, ReentrantLock> couponLocks = new ConcurrentHashMap<>();
-    private final Map<Long, Integer> issuedCount = new ConcurrentHashMap<>();
+    // 쿠폰별 발급 사용자 집합 (중복 발급 선점용, 락 없이 add 성공한 요청만 발급 진행)
+    private final Map<Long, Set<Long>> issuedUsers = new ConcurrentHashMap<>();
 
     public List<CouponResponse> getAvailableCoupons() {
         List<Coupon> coupons = couponRepository.findIssuableCoupons();
@@ -47,35 +50,40 @@ public class CouponService {
                 .toList();
     }
 
+    /**
+     * 선착순 쿠폰 발급 (락 없음)
+     * 1. 잔여 수량이 없으면 즉시 실패
+     * 2. 발급 사용자 집합에 add 성공한 요청만 진행 (같은 사용자의 동시 요청은 하나만 통과)
+     * 3. 잔여 수량 CAS 차감 실패 시 선점한 사용자를 되돌림
+     */
     public UserCouponResponse issueCoupon(Long userId, Long couponId) {
-        ReentrantLock lock = couponLocks.computeIfAbsent(couponId, id -> new ReentrantLock(true));
-
-        lock.lock();
-        try {
-            Coupon coupon = findCouponById(couponId);
-
-            int currentIssued = issuedCount.getOrDefault(couponId, 0);
-            if (currentIssued >= coupon.getTotalQuantity()) {
-                throw new BusinessException(CouponErrorCode.COUPON_OUT_OF_STOCK);
-            }
-
-            if (userCouponRepository.findByCouponIdAndUserId(couponId, userId).isPresent()) {
-                throw new BusinessException(CouponErrorCode.COUPON_ALREADY_ISSUED);
-            }
+        Coupon coupon = findCouponById(couponId);
+        if (coupon.getRemainingQuantity() <= 0) {
+            throw new BusinessException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+        }
 
-            issuedCount.put(couponId, currentIssued + 1);
+        Set<Long> users = issuedUsers.computeIfAbsent(couponId, id -> ConcurrentHashMap.newKeySet());
+        if (!users.add(userId)) {
+            throw new BusinessException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+        }
+        // 복구(WAL/스냅샷)된 발급 이력은 집합에 없으므로 저장소 인덱스로 한 번 더 확인
+        if (userCouponRepository.findByCouponIdAndUserId(couponId, userId).isPresent()) {
+            throw new BusinessException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+        }
 
+        try {
             coupon.issue();
-            couponRepository.save(coupon);
+        } catch (BusinessException e) {
+            users.remove(userId);
+            throw e;
+        }
+        couponRepository.save(coupon);
 
-            Long userCouponId = userCouponRepository.generateNextId();
-            UserCoupon userCoupon = UserCoupon.issue(userCouponId, couponId, userId, coupon.getEndsAt());
-            UserCoupon savedCoupon = userCouponRepository.save(userCoupon);
+        Long userCouponId = userCouponRepository.generateNextId();
+        UserCoupon userCoupon = UserCoupon.issue(userCouponId, couponId, userId, coupon.getEndsAt());
+        UserCoupon savedCoupon = userCouponRepository.save(userCoupon);
 
-            return toUserCouponResponse(savedCoupon);
-        } finally {
-            lock.unlock();
-        }
+        return toUserCouponResponse(savedCoupon);
     }
 
     public void reserveCoupon(Long userCouponId, Long orderId) {
@@ -90,6 +98,15 @@ public class CouponService {
         userCouponRepository.save(userCoupon);
     }
 
+    /**
+     * 쿠폰 사용 확정 되돌리기 (결제 완료 처리 실패 시 보상, 주문 예약은 유지)
+     */
+    public void revertCouponConfirmation(Long userCouponId) {
+        UserCoupon userCoupon = findUserCouponById(userCouponId);
+        userCoupon.revertConfirmation();
+        userCouponRepository.save(userCoupon);
+    }
+
     public void releaseCouponReservation(Long userCouponId) {
         UserCoupon userCoupon = findUserCouponById(userCouponId);
         userCoupon.releaseReservation();
@@ -103,27 +120,16 @@ public class CouponService {
 
     public void cancelCouponUse(Long userCouponId) {
         UserCoupon userCoupon = findUserCouponById(userCouponId);
-        Long couponId = userCoupon.getCouponId();
-
-        ReentrantLock lock = couponLocks.computeIfAbsent(couponId, id -> new ReentrantLock(true));
 
-        lock.lock();
-        try {
-            userCoupon.cancelUse();
-            userCouponRepository.save(userCoupon);
-
-            int currentIssued = issuedCount.getOrDefault(couponId, 0);
-            if (currentIssued > 0) {
-                issuedCount.put(couponId, currentIssued - 1);
-            }
+        userCoupon.cancelUse();
+        userCouponRepository.save(userCoupon);
 
-            Coupon coupon = findCouponById(couponId);
-            coupon.cancelIssue();
-            couponRepository.save(coupon);
+        Coupon coupon = findCouponById(userCoupon.getCouponId());
+        coupon.cancelIssue();
+        couponRepository.save(coupon);
 
-        } finally {
-            lock.unlock();
-        }
+        // 선착순 입장 제어의 남은 자리도 한 장 되돌림
+        eventPublisher.publishEvent(CouponIssueCancelledEvent.of(coupon.getId()));
     }
 
     public CouponResponse getCoupon(Long couponId) {
@@ -3,6 +3,7 @@ package com.hhplus.ecommerce.domain.order.controller;
 import com.hhplus.ecommerce.domain.order.dto.*;
 import com.hhplus.ecommerce.domain.order.service.OrderService;
 import com.hhplus.ecommerce.global.dto.CommonResponse;
+import com.hhplus.ecommerce.global.dto.CursorResult;
 import com.hhplus.ecommerce.global.dto.PagedResult;
 import com.hhplus.ecommerce.global.constants.HttpHeaders;
 import com.hhplus.ecommerce.global.constants.SecurityConstants;
@@ -65,16 +66,23 @@ public class OrderController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
-    @Operation(summary = "주문 목록 조회", description = "사용자의 주문 목록을 조회합니다")
+    @Operation(summary = "주문 목록 조회", description = "사용자의 주문 목록을 최신순으로 조회합니다 (cursor 지정 시 커서 기반 조회)")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
     })
     @GetMapping
     public ResponseEntity<CommonResponse<List<OrderSummaryResponse>>> getOrders(
             @Parameter(hidden = true) @RequestHeader(HttpHeaders.X_USER_ID) Long userId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "페이지 커서 (지정하면 page 대신 응답의 nextCursor로 다음 페이지 조회, 빈 값이면 첫 페이지)")
+            @RequestParam(required = false) String cursor
     ) {
+        if (cursor != null) {
+            CursorResult<OrderSummaryResponse> result = orderService.getUserOrdersByCursor(userId, cursor, size);
+            return ResponseEntity.ok(CommonResponse.success(result.content(), result.meta()));
+        }
         PagedResult<OrderSummaryResponse> result = orderService.getUserOrders(userId, page, size);
         return ResponseEntity.ok(CommonResponse.success(result.content(), result.meta()));
     }
@@ -0,0 +1,20 @@
+package com.hhplus.ecommerce.domain.order.event;
+
+import lombok.Getter;
+
+/**
+ * 주문 만료 이벤트
+ * 결제 대기 주문이 결제 기한(expiresAt)을 넘겼을 때 발행되는 도메인 이벤트
+ */
+@Getter
+public class OrderExpiredEvent {
+    private final Long orderId;
+
+    public OrderExpiredEvent(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public static OrderExpiredEvent of(Long orderId) {
+        return new OrderExpiredEvent(orderId);
+    }
+}
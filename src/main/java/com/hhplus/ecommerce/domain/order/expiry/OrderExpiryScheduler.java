@@ -0,0 +1,132 @@
+package com.hhplus.ecommerce.domain.order.expiry;
+
+import com.hhplus.ecommerce.domain.order.event.OrderExpiredEvent;
+import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderStatus;
+import com.hhplus.ecommerce.domain.order.repository.OrderRepository;
+import com.hhplus.ecommerce.global.event.DomainEventBus;
+import com.hhplus.ecommerce.global.timer.HierarchicalTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 대기 주문 만료 스케줄러
+ * 주문 생성 시 expiresAt으로 타이머를 등록하고 결제/취소 시 해제하며,
+ * 만료된 주문은 OrderExpiredEvent를 주문 ID 키로 DomainEventBus에 발행해 OrderService가 취소(재고/쿠폰 예약 해제)하도록 함
+ * (같은 주문의 결제 완료/실패 이벤트와 같은 파티션에서 순서대로 처리되어 만료와 결제 완료가 동시에 실행되지 않음)
+ * 만료 대상을 찾기 위해 전체 주문을 스캔하지 않음 (등록/해제/틱 모두 O(1))
+ */
+@Slf4j
+@Component
+public class OrderExpiryScheduler {
+
+    private final OrderRepository orderRepository;
+    private final DomainEventBus eventBus;
+    private final Duration tick;
+    private final Duration paymentGrace;
+    private final HierarchicalTimingWheel<Long> timingWheel;
+    private final ScheduledExecutorService ticker;
+
+    public OrderExpiryScheduler(
+            OrderRepository orderRepository,
+            DomainEventBus eventBus,
+            @Value("${order.expiry.tick:PT1S}") Duration tick,
+            @Value("${order.expiry.wheel-size:64}") int wheelSize,
+            @Value("${order.expiry.payment-grace:PT5S}") Duration paymentGrace) {
+        this.orderRepository = orderRepository;
+        this.eventBus = eventBus;
+        this.tick = tick;
+        this.paymentGrace = paymentGrace;
+        this.timingWheel = new HierarchicalTimingWheel<>(tick.toMillis(), wheelSize, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기동 시 (WAL/스냅샷 복구 이후) 남아 있는 결제 대기 주문을 등록하고 틱 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Order> pendingOrders = orderRepository.findByStatus(OrderStatus.PENDING);
+        pendingOrders.forEach(this::register);
+
+        long millis = tick.toMillis();
+        ticker.scheduleAtFixedRate(this::expireDueOrders, millis, millis, TimeUnit.MILLISECONDS);
+        log.info("[OrderExpiry] 만료 스케줄러 시작 - tick: {}, pending: {}", tick, pendingOrders.size());
+    }
+
+    /**
+     * 주문 만료 타이머 등록 (이미 만료 시각이 지났으면 즉시 만료 처리)
+     */
+    public void register(Order order) {
+        if (order.getExpiresAt() == null) {
+            return;
+        }
+        if (!timingWheel.schedule(order.getId(), toEpochMillis(order.getExpiresAt()))) {
+            publishExpired(order.getId());
+        }
+    }
+
+    /**
+     * 결제가 진행 중이라 만료를 보류한 주문을 payment-grace 후에 다시 확인하도록 등록
+     */
+    public void postpone(Long orderId) {
+        if (!timingWheel.schedule(orderId, System.currentTimeMillis() + paymentGrace.toMillis())) {
+            publishExpired(orderId);
+        }
+    }
+
+    /**
+     * 주문 만료 타이머 해제 (결제 완료/취소 시)
+     */
+    public void cancel(Long orderId) {
+        timingWheel.cancel(orderId);
+    }
+
+    public int pendingCount() {
+        return timingWheel.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void expireDueOrders() {
+        try {
+            timingWheel.advanceTo(System.currentTimeMillis()).forEach(this::publishExpired);
+        } catch (RuntimeException e) {
+            log.error("[OrderExpiry] 만료 처리 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void publishExpired(Long orderId) {
+        try {
+            eventBus.publish(orderId, OrderExpiredEvent.of(orderId));
+        } catch (RuntimeException e) {
+            log.error("[OrderExpiry] 만료 이벤트 발행 실패 - orderId: {}, error: {}", orderId, e.getMessage(), e);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        // 밀리초 미만은 올림 (만료 시각 이전에 이벤트가 발행되지 않도록)
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.toEpochMilli() + (instant.getNano() % 1_000_000 == 0 ? 0 : 1);
+    }
+}
@@ -13,7 +13,8 @@ public class Order {
     private Long id;
     private Long userId;
     private String orderNumber;
-    private OrderStatus status;
+    // 상태 전환은 synchronized 메서드로만 하고, 조회는 락 없이 최신 값을 읽음
+    private volatile OrderStatus status;
     private Long itemsTotal;
     private Long discountAmount;
     private Long finalAmount;
@@ -39,15 +40,39 @@ public class Order {
     }
 
     public void markAsPaid() {
-        if (this.status != OrderStatus.PENDING) {
+        if (!markAsPaidIfPending()) {
             throw new IllegalStateException("결제 대기 중인 주문만 결제 처리할 수 있습니다: " + status);
         }
+    }
+
+    /**
+     * PENDING → PAID (상태 확인과 변경을 한 번에 수행하여 만료/취소와 동시에 일어나도 한쪽만 성공)
+     *
+     * @return 전환했으면 true
+     */
+    public synchronized boolean markAsPaidIfPending() {
+        if (this.status != OrderStatus.PENDING) {
+            return false;
+        }
         this.status = OrderStatus.PAID;
         this.paidAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        return true;
     }
 
-    public void confirm() {
+    /**
+     * PAID → PENDING (결제 완료 후속 처리가 실패해 재전달 시 처음부터 다시 처리하도록 되돌림)
+     */
+    public synchronized void revertPaid() {
+        if (this.status != OrderStatus.PAID) {
+            throw new IllegalStateException("결제 완료된 주문만 결제 대기로 되돌릴 수 있습니다: " + status);
+        }
+        this.status = OrderStatus.PENDING;
+        this.paidAt = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public synchronized void confirm() {
         if (this.status != OrderStatus.PAID) {
             throw new IllegalStateException("결제 완료된 주문만 확정할 수 있습니다.");
         }
@@ -56,9 +81,39 @@ public class Order {
     }
 
     public void cancel(String reason) {
-        if (!isCancellable()) {
+        if (cancelIfCancellable(reason) == null) {
             throw new IllegalStateException("취소 불가능한 주문 상태입니다: " + status);
         }
+    }
+
+    /**
+     * PENDING/PAID → CANCELLED (상태 확인과 변경을 한 번에 수행)
+     *
+     * @return 취소 직전 상태 (취소할 수 없는 상태면 null)
+     */
+    public synchronized OrderStatus cancelIfCancellable(String reason) {
+        if (!isCancellable()) {
+            return null;
+        }
+        OrderStatus previous = this.status;
+        applyCancel(reason);
+        return previous;
+    }
+
+    /**
+     * PENDING → CANCELLED (만료 취소용, 그 사이 결제 완료된 주문은 취소하지 않음)
+     *
+     * @return 전환했으면 true
+     */
+    public synchronized boolean cancelIfPending(String reason) {
+        if (this.status != OrderStatus.PENDING) {
+            return false;
+        }
+        applyCancel(reason);
+        return true;
+    }
+
+    private void applyCancel(String reason) {
         this.status = OrderStatus.CANCELLED;
         this.cancelReason = reason;
         this.cancelledAt = LocalDateTime.now();
@@ -0,0 +1,83 @@
+package com.hhplus.ecommerce.domain.order.model;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * 주문 번호 인코더 (ORD-yyyyMMdd-주문ID, 주문 ID는 최소 5자리로 0 채움)
+ * 주문 ID가 유일하므로 주문 번호도 날짜와 무관하게 유일하며, 별도 시퀀스 조회 없이 주문 ID만으로 만듦
+ * 날짜 접두사는 하루 단위로 캐시하고 문자 배열에 직접 써서 포매터/String.format 없이 문자열 하나만 생성
+ */
+public final class OrderNumberEncoder {
+
+    private static final int MIN_ID_DIGITS = 5;
+    private static final char[] PREFIX = {'O', 'R', 'D', '-'};
+    // "ORD-" + yyyyMMdd + "-"
+    private static final int DATE_PREFIX_LENGTH = PREFIX.length + 8 + 1;
+
+    private final Clock clock;
+    private volatile DatePrefix datePrefix;
+
+    public OrderNumberEncoder(Clock clock) {
+        this.clock = clock;
+    }
+
+    public static OrderNumberEncoder systemDefault() {
+        return new OrderNumberEncoder(Clock.systemDefaultZone());
+    }
+
+    public String encode(long orderId) {
+        if (orderId < 0) {
+            throw new IllegalArgumentException("주문 ID는 음수일 수 없습니다: " + orderId);
+        }
+        char[] prefix = prefixOf(LocalDate.now(clock));
+
+        int digits = Math.max(MIN_ID_DIGITS, digitCount(orderId));
+        char[] chars = new char[DATE_PREFIX_LENGTH + digits];
+        System.arraycopy(prefix, 0, chars, 0, DATE_PREFIX_LENGTH);
+        long remaining = orderId;
+        for (int i = chars.length - 1; i >= DATE_PREFIX_LENGTH; i--) {
+            chars[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return new String(chars);
+    }
+
+    private char[] prefixOf(LocalDate today) {
+        DatePrefix cached = datePrefix;
+        if (cached == null || !cached.date().equals(today)) {
+            cached = new DatePrefix(today, buildPrefix(today));
+            datePrefix = cached;
+        }
+        return cached.chars();
+    }
+
+    private static char[] buildPrefix(LocalDate date) {
+        char[] chars = new char[DATE_PREFIX_LENGTH];
+        System.arraycopy(PREFIX, 0, chars, 0, PREFIX.length);
+        writeDigits(chars, PREFIX.length, 4, date.getYear());
+        writeDigits(chars, PREFIX.length + 4, 2, date.getMonthValue());
+        writeDigits(chars, PREFIX.length + 6, 2, date.getDayOfMonth());
+        chars[DATE_PREFIX_LENGTH - 1] = '-';
+        return chars;
+    }
+
+    private static void writeDigits(char[] chars, int offset, int width, int value) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    private record DatePrefix(LocalDate date, char[] chars) {
+    }
+}
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.domain.order.repository;
 
 import com.hhplus.ecommerce.domain.order.model.OrderItem;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,16 +22,17 @@ public class InMemoryOrderItemRepository implements OrderItemRepository {
         // 기존 아이템 제거 후 업데이트된 아이템 추가 (update 지원)
         items.removeIf(item -> item.getId().equals(orderItem.getId()));
         items.add(orderItem);
+        InMemoryDataStore.ORDER_ITEMS_BY_ORDER_ID.index(orderItem);
+        InMemoryDataStore.ORDER_ITEMS_BY_PRODUCT_ID.index(orderItem);
 
+        InMemoryDataStore.recordSave(StoreTable.ORDER_ITEMS, orderItem);
         return orderItem;
     }
 
     @Override
     public Optional<OrderItem> findById(Long id) {
-        return InMemoryDataStore.ORDER_ITEMS.values().stream()
-                .flatMap(List::stream)
-                .filter(item -> item.getId().equals(id))
-                .findFirst();
+        return InMemoryDataStore.ORDER_ITEMS_BY_ORDER_ID.findKey(id)
+                .flatMap(orderId -> findInOrder(orderId, id));
     }
 
     @Override
@@ -40,8 +42,9 @@ public class InMemoryOrderItemRepository implements OrderItemRepository {
 
     @Override
     public List<OrderItem> findByProductId(Long productId) {
-        return InMemoryDataStore.ORDER_ITEMS.values().stream()
-                .flatMap(List::stream)
+        return InMemoryDataStore.ORDER_ITEMS_BY_PRODUCT_ID.findIds(productId).stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
                 .filter(item -> item.getProductId().equals(productId))
                 .toList();
     }
@@ -55,13 +58,25 @@ public class InMemoryOrderItemRepository implements OrderItemRepository {
 
     @Override
     public void deleteById(Long id) {
-        InMemoryDataStore.ORDER_ITEMS.values().forEach(list ->
-                list.removeIf(item -> item.getId().equals(id))
-        );
+        InMemoryDataStore.ORDER_ITEMS_BY_ORDER_ID.findKey(id).ifPresent(orderId -> {
+            List<OrderItem> items = InMemoryDataStore.ORDER_ITEMS.get(orderId);
+            if (items != null) {
+                items.removeIf(item -> item.getId().equals(id));
+            }
+        });
+        InMemoryDataStore.ORDER_ITEMS_BY_ORDER_ID.remove(id);
+        InMemoryDataStore.ORDER_ITEMS_BY_PRODUCT_ID.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.ORDER_ITEMS, id);
     }
 
     @Override
     public Long generateNextId() {
-        return InMemoryDataStore.orderItemIdSequence.incrementAndGet();
+        return InMemoryDataStore.ORDER_ITEM_IDS.nextId();
+    }
+
+    private Optional<OrderItem> findInOrder(Long orderId, Long itemId) {
+        return InMemoryDataStore.ORDER_ITEMS.getOrDefault(orderId, List.of()).stream()
+                .filter(item -> item.getId().equals(itemId))
+                .findFirst();
     }
 }
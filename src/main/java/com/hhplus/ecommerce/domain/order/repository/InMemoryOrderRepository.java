@@ -1,12 +1,15 @@
 package com.hhplus.ecommerce.domain.order.repository;
 
 import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderNumberEncoder;
 import com.hhplus.ecommerce.domain.order.model.OrderStatus;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -15,9 +18,16 @@ import java.util.Optional;
 @Repository
 public class InMemoryOrderRepository implements OrderRepository {
 
+    private final OrderNumberEncoder orderNumberEncoder = OrderNumberEncoder.systemDefault();
+
     @Override
     public Order save(Order order) {
         InMemoryDataStore.ORDERS.put(order.getId(), order);
+        InMemoryDataStore.ORDERS_BY_ORDER_NUMBER.index(order);
+        InMemoryDataStore.ORDERS_BY_USER_ID.index(order);
+        InMemoryDataStore.ORDERS_BY_STATUS.index(order);
+        InMemoryDataStore.ORDERS_SORTED_BY_USER_AND_CREATED_AT.index(order);
+        InMemoryDataStore.recordSave(StoreTable.ORDERS, order);
         return order;
     }
 
@@ -28,29 +38,48 @@ public class InMemoryOrderRepository implements OrderRepository {
 
     @Override
     public Optional<Order> findByOrderNumber(String orderNumber) {
-        return InMemoryDataStore.ORDERS.values().stream()
-                .filter(order -> order.getOrderNumber().equals(orderNumber))
-                .findFirst();
+        return InMemoryDataStore.ORDERS_BY_ORDER_NUMBER.findId(orderNumber)
+                .map(InMemoryDataStore.ORDERS::get)
+                .filter(order -> order.getOrderNumber().equals(orderNumber));
     }
 
     @Override
     public List<Order> findByUserId(Long userId) {
-        return InMemoryDataStore.ORDERS.values().stream()
+        return InMemoryDataStore.ORDERS_BY_USER_ID.findIds(userId).stream()
+                .map(InMemoryDataStore.ORDERS::get)
+                .filter(Objects::nonNull)
                 .filter(order -> order.getUserId().equals(userId))
                 .toList();
     }
 
+    @Override
+    public List<Order> findPageByUserId(Long userId, int offset, int limit) {
+        return toOrders(InMemoryDataStore.ORDERS_SORTED_BY_USER_AND_CREATED_AT.findIds(userId, true, offset, limit));
+    }
+
+    @Override
+    public List<Order> findPageByUserIdAfter(Long userId, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        return toOrders(InMemoryDataStore.ORDERS_SORTED_BY_USER_AND_CREATED_AT
+                .findIdsAfter(userId, true, afterCreatedAt, afterId, limit));
+    }
+
+    @Override
+    public int countByUserId(Long userId) {
+        return InMemoryDataStore.ORDERS_SORTED_BY_USER_AND_CREATED_AT.count(userId);
+    }
+
     @Override
     public List<Order> findByStatus(OrderStatus status) {
-        return InMemoryDataStore.ORDERS.values().stream()
+        return InMemoryDataStore.ORDERS_BY_STATUS.findIds(status).stream()
+                .map(InMemoryDataStore.ORDERS::get)
+                .filter(Objects::nonNull)
                 .filter(order -> order.getStatus() == status)
                 .toList();
     }
 
     @Override
     public List<Order> findExpiredOrders(LocalDateTime now) {
-        return InMemoryDataStore.ORDERS.values().stream()
-                .filter(order -> order.getStatus() == OrderStatus.PENDING)
+        return findByStatus(OrderStatus.PENDING).stream()
                 .filter(order -> order.getExpiresAt() != null && order.getExpiresAt().isBefore(now))
                 .toList();
     }
@@ -63,15 +92,27 @@ public class InMemoryOrderRepository implements OrderRepository {
     @Override
     public void deleteById(Long id) {
         InMemoryDataStore.ORDERS.remove(id);
+        InMemoryDataStore.ORDERS_BY_ORDER_NUMBER.remove(id);
+        InMemoryDataStore.ORDERS_BY_USER_ID.remove(id);
+        InMemoryDataStore.ORDERS_BY_STATUS.remove(id);
+        InMemoryDataStore.ORDERS_SORTED_BY_USER_AND_CREATED_AT.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.ORDERS, id);
     }
 
     @Override
     public Long generateNextId() {
-        return InMemoryDataStore.orderIdSequence.incrementAndGet();
+        return InMemoryDataStore.ORDER_IDS.nextId();
     }
 
     @Override
-    public String generateOrderNumber() {
-        return InMemoryDataStore.generateOrderNumber();
+    public String generateOrderNumber(Long orderId) {
+        return orderNumberEncoder.encode(orderId);
+    }
+
+    private List<Order> toOrders(List<Long> ids) {
+        return ids.stream()
+                .map(InMemoryDataStore.ORDERS::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
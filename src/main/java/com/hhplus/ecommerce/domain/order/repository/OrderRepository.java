@@ -32,6 +32,21 @@ public interface OrderRepository {
      */
     List<Order> findByUserId(Long userId);
 
+    /**
+     * 사용자 주문 목록 최신순 구간 조회
+     */
+    List<Order> findPageByUserId(Long userId, int offset, int limit);
+
+    /**
+     * 사용자 주문 목록 최신순으로 (afterCreatedAt, afterId) 다음 주문부터 조회 (키셋 페이지네이션)
+     */
+    List<Order> findPageByUserIdAfter(Long userId, LocalDateTime afterCreatedAt, Long afterId, int limit);
+
+    /**
+     * 사용자 주문 수
+     */
+    int countByUserId(Long userId);
+
     /**
      * 상태별 주문 조회
      */
@@ -58,7 +73,7 @@ public interface OrderRepository {
     Long generateNextId();
 
     /**
-     * 주문 번호 생성
+     * 주문 ID로 주문 번호 생성 (주문 ID가 유일하므로 주문 번호도 유일)
      */
-    String generateOrderNumber();
+    String generateOrderNumber(Long orderId);
 }
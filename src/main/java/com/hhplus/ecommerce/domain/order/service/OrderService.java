@@ -6,36 +6,60 @@ import com.hhplus.ecommerce.domain.coupon.model.Coupon;
 import com.hhplus.ecommerce.domain.coupon.model.UserCoupon;
 import com.hhplus.ecommerce.domain.coupon.service.CouponService;
 import com.hhplus.ecommerce.domain.order.dto.*;
+import com.hhplus.ecommerce.domain.order.event.OrderExpiredEvent;
 import com.hhplus.ecommerce.domain.order.exception.OrderErrorCode;
+import com.hhplus.ecommerce.domain.order.expiry.OrderExpiryScheduler;
 import com.hhplus.ecommerce.domain.order.model.Order;
 import com.hhplus.ecommerce.domain.order.model.OrderItem;
+import com.hhplus.ecommerce.domain.order.model.OrderStatus;
 import com.hhplus.ecommerce.domain.order.repository.OrderItemRepository;
 import com.hhplus.ecommerce.domain.order.repository.OrderRepository;
 import com.hhplus.ecommerce.domain.payment.event.PaymentCompletedEvent;
 import com.hhplus.ecommerce.domain.payment.event.PaymentFailedEvent;
+import com.hhplus.ecommerce.domain.payment.event.PaymentRefundRequestedEvent;
+import com.hhplus.ecommerce.domain.payment.service.PaymentStatusQuery;
 import com.hhplus.ecommerce.domain.product.model.product.Product;
 import com.hhplus.ecommerce.domain.product.service.ProductService;
+import com.hhplus.ecommerce.global.dto.CursorResult;
+import com.hhplus.ecommerce.global.dto.KeysetCursor;
+import com.hhplus.ecommerce.global.dto.PageMeta;
 import com.hhplus.ecommerce.global.dto.PagedResult;
 import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.exception.CommonErrorCode;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final String ORDER_EXPIRED_REASON = "결제 기한 만료";
+    private static final String ORDER_CREATION_FAILED_REASON = "주문 생성 실패";
+    private static final String ORDER_CURSOR_SCOPE = "ORDERS_CREATED_DESC";
+    private static final String PAID_AFTER_CANCEL_REASON = "취소된 주문의 결제 완료";
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final CartService cartService;
     private final ProductService productService;
     private final CouponService couponService;
+    private final OrderExpiryScheduler orderExpiryScheduler;
+    private final PaymentStatusQuery paymentStatusQuery;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Order findOrderById(Long orderId) {
         return orderRepository.findById(orderId)
@@ -56,7 +80,7 @@ public class OrderService {
                                      String deliveryAddress, String deliveryMemo) {
         List<CartItem> cartItems = getValidCartItems(userId, cartItemIds);
         Map<Long, Product> productMap = getProductsForOrder(cartItems);
-        List<OrderItem> orderItems = createOrderItemsWithStockReservation(cartItems, productMap);
+        List<OrderItem> orderItems = createOrderItems(cartItems, productMap);
 
         long itemsTotal = calculateItemsTotal(orderItems);
         long discountAmount = 0L;
@@ -69,17 +93,24 @@ public class OrderService {
         }
 
         Order order = buildOrder(userId, orderItems, itemsTotal, discountAmount, userCouponId, deliveryAddress, deliveryMemo);
-        Order savedOrder = orderRepository.save(order);
 
-        saveOrderItems(savedOrder.getId(), orderItems);
+        // 검증이 끝난 뒤 재고를 한 번에 예약 (부분 예약 없음)
+        Map<Long, Integer> stockQuantities = toStockQuantities(orderItems);
+        reserveAndSaveOrder(order, orderItems, stockQuantities);
 
-        if (userCouponId != null) {
-            couponService.reserveCoupon(userCouponId, savedOrder.getId());
+        try {
+            orderExpiryScheduler.register(order);
+            // 검증된 항목은 모두 사용자의 한 장바구니에 속함
+            cartService.removeCartItems(cartItems.get(0).getCartId(), cartItems.stream().map(CartItem::getId).toList());
+        } catch (RuntimeException e) {
+            // 주문은 이미 기록됐으므로 취소 처리로 재고/쿠폰 예약을 되돌림
+            if (order.cancelIfPending(ORDER_CREATION_FAILED_REASON)) {
+                releaseCancelledOrder(order, false);
+            }
+            throw e;
         }
 
-        cartService.removeCartItems(cartItemIds);
-
-        return toOrderResponse(savedOrder, coupon, discountAmount);
+        return toOrderResponse(order, coupon, discountAmount);
     }
 
     public OrderResponse getOrder(Long userId, Long orderId) {
@@ -98,11 +129,32 @@ public class OrderService {
     }
 
     public PagedResult<OrderSummaryResponse> getUserOrders(Long userId, int page, int size) {
-        List<Order> allOrders = orderRepository.findByUserId(userId);
-        List<OrderSummaryResponse> responses = allOrders.stream()
+        int totalElements = orderRepository.countByUserId(userId);
+        List<OrderSummaryResponse> responses = orderRepository.findPageByUserId(userId, page * size, size).stream()
+                .map(this::toOrderSummaryResponse)
+                .toList();
+        return PagedResult.of(responses, PageMeta.of(page, size, totalElements));
+    }
+
+    /**
+     * 커서 기반 사용자 주문 목록 조회 (최신순, cursor가 비어 있으면 첫 페이지)
+     */
+    public CursorResult<OrderSummaryResponse> getUserOrdersByCursor(Long userId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, ORDER_CURSOR_SCOPE);
+        List<Order> orders = after == null
+                ? orderRepository.findPageByUserId(userId, 0, size + 1)
+                : orderRepository.findPageByUserIdAfter(userId, parseCreatedAt(after.sortKey()), after.id(), size + 1);
+
+        String nextCursor = null;
+        if (orders.size() > size) {
+            orders = orders.subList(0, size);
+            Order last = orders.get(size - 1);
+            nextCursor = KeysetCursor.of(ORDER_CURSOR_SCOPE, last.getCreatedAt(), last.getId()).encode();
+        }
+        List<OrderSummaryResponse> responses = orders.stream()
                 .map(this::toOrderSummaryResponse)
                 .toList();
-        return PagedResult.of(responses, page, size);
+        return CursorResult.of(responses, size, nextCursor);
     }
 
     public CancelOrderResponse cancelOrder(Long userId, Long orderId, String reason) {
@@ -117,24 +169,11 @@ public class OrderService {
     private CancelOrderResponse cancelOrderInternal(Long orderId, String reason) {
         Order order = findOrderById(orderId);
 
-        if (!order.isCancellable()) {
+        OrderStatus previousStatus = order.cancelIfCancellable(reason);
+        if (previousStatus == null) {
             throw new BusinessException(OrderErrorCode.ORDER_ALREADY_CONFIRMED);
         }
-
-        boolean wasPaid = order.getPaidAt() != null;
-
-        order.cancel(reason);
-        orderRepository.save(order);
-
-        releaseStockReservations(orderId);
-
-        if (order.getUserCouponId() != null) {
-            if (wasPaid) {
-                restoreCoupon(order.getUserCouponId());
-            } else {
-                releaseCouponReservation(order.getUserCouponId());
-            }
-        }
+        releaseCancelledOrder(order, previousStatus == OrderStatus.PAID);
 
         return CancelOrderResponse.of(
                 order.getId(),
@@ -145,18 +184,60 @@ public class OrderService {
         );
     }
 
-    public void completePayment(Long orderId) {
+    /**
+     * 결제 완료 처리 (아웃박스 재전달로 같은 이벤트가 다시 와도 이미 결제 완료된 주문은 건너뜀)
+     * 재고/쿠폰 확정이 실패하면 주문을 결제 대기로 되돌리므로 재전달된 이벤트가 처음부터 다시 처리
+     *
+     * @return 이미 취소된 주문이라 결제 완료로 전환하지 못했으면 false (호출자가 환불 처리)
+     */
+    public boolean completePayment(Long orderId) {
         Order order = findOrderById(orderId);
+        if (!order.markAsPaidIfPending()) {
+            if (order.getStatus() == OrderStatus.CANCELLED) {
+                log.warn("[Order] 취소된 주문의 결제 완료 - orderId: {}", orderId);
+                return false;
+            }
+            log.info("[Order] 이미 결제 완료된 주문 - orderId: {}", orderId);
+            return true;
+        }
 
-        order.markAsPaid();
-        orderRepository.save(order);
-
-        confirmStockReservations(orderId);
+        try {
+            settlePaidOrder(order);
+        } catch (RuntimeException e) {
+            order.revertPaid();
+            throw e;
+        }
+        orderExpiryScheduler.cancel(orderId);
         incrementSalesCount(orderId);
+        return true;
+    }
 
-        if (order.getUserCouponId() != null) {
-            couponService.confirmCouponReservation(order.getUserCouponId());
+    /**
+     * 결제 기한이 지난 결제 대기 주문 취소 (재고/쿠폰 예약 해제)
+     * 만료 직전에 결제가 완료된 주문은 건너뛰고, 아직 기한 전이면 타이머를 다시 등록
+     * PG 호출 중이거나 결제 완료 이벤트 전달을 기다리는 주문은 만료를 보류하고 잠시 후 다시 확인
+     *
+     * @return 취소했으면 true
+     */
+    public boolean expireOrder(Long orderId) {
+        Order order = findOrderById(orderId);
+        if (order.getStatus() != OrderStatus.PENDING) {
+            return false;
+        }
+        if (!order.isExpired()) {
+            orderExpiryScheduler.register(order);
+            return false;
+        }
+        if (paymentStatusQuery.isPaymentInProgress(orderId)) {
+            log.info("[Order] 결제 진행 중인 주문 만료 보류 - orderId: {}", orderId);
+            orderExpiryScheduler.postpone(orderId);
+            return false;
         }
+        if (!order.cancelIfPending(ORDER_EXPIRED_REASON)) {
+            return false;
+        }
+        releaseCancelledOrder(order, false);
+        return true;
     }
 
     private OrderResponse toOrderResponse(Order order, Coupon coupon, Long discountAmount) {
@@ -217,6 +298,17 @@ public class OrderService {
 
     // ========== Private Helper Methods ==========
 
+    private LocalDateTime parseCreatedAt(String sortKey) {
+        if (sortKey == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+
     private UserCoupon validateAndGetUserCoupon(Long userId, Long userCouponId) {
         UserCoupon userCoupon = couponService.findUserCouponById(userCouponId);
 
@@ -264,7 +356,7 @@ public class OrderService {
         return productService.getProductsAsMap(productIds);
     }
 
-    private List<OrderItem> createOrderItemsWithStockReservation(List<CartItem> cartItems, Map<Long, Product> productMap) {
+    private List<OrderItem> createOrderItems(List<CartItem> cartItems, Map<Long, Product> productMap) {
         List<OrderItem> orderItems = new ArrayList<>();
 
         for (CartItem cartItem : cartItems) {
@@ -273,8 +365,6 @@ public class OrderService {
                 throw new BusinessException(OrderErrorCode.INVALID_ORDER_REQUEST);
             }
 
-            productService.reserveStock(product.getId(), cartItem.getQuantity());
-
             Long itemId = orderItemRepository.generateNextId();
             OrderItem orderItem = OrderItem.create(
                     itemId,
@@ -289,6 +379,41 @@ public class OrderService {
         return orderItems;
     }
 
+    private Map<Long, Integer> toStockQuantities(List<OrderItem> orderItems) {
+        return orderItems.stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+    }
+
+    /**
+     * 재고/쿠폰 예약과 주문/주문 항목 저장을 WAL 한 레코드로 기록 (중간에 멈춰도 주문 없는 예약이나 항목 없는 주문이 남지 않음)
+     * 재고 예약 이후 어느 단계에서든 예외가 나면 메모리에 반영한 단계를 역순으로 되돌리고 그대로 던짐
+     */
+    private void reserveAndSaveOrder(Order order, List<OrderItem> orderItems, Map<Long, Integer> stockQuantities) {
+        InMemoryDataStore.atomically(() -> {
+            productService.reserveStocks(stockQuantities);
+
+            Deque<Runnable> undo = new ArrayDeque<>();
+            undo.push(() -> productService.releaseStockReservations(stockQuantities));
+            try {
+                if (order.getUserCouponId() != null) {
+                    couponService.reserveCoupon(order.getUserCouponId(), order.getId());
+                    undo.push(() -> releaseCouponReservation(order.getUserCouponId()));
+                }
+
+                orderRepository.save(order);
+                undo.push(() -> orderRepository.deleteById(order.getId()));
+
+                for (OrderItem item : orderItems) {
+                    orderItemRepository.save(item.withOrderId(order.getId()));
+                    undo.push(() -> orderItemRepository.deleteById(item.getId()));
+                }
+            } catch (RuntimeException e) {
+                undo.forEach(Runnable::run);
+                throw e;
+            }
+        });
+    }
+
     private long calculateItemsTotal(List<OrderItem> orderItems) {
         return orderItems.stream()
                 .mapToLong(OrderItem::getSubtotal)
@@ -298,23 +423,34 @@ public class OrderService {
     private Order buildOrder(Long userId, List<OrderItem> orderItems, long itemsTotal, long discountAmount,
                              Long userCouponId, String deliveryAddress, String deliveryMemo) {
         Long orderId = orderRepository.generateNextId();
-        String orderNumber = orderRepository.generateOrderNumber();
+        String orderNumber = orderRepository.generateOrderNumber(orderId);
 
         return Order.create(orderId, userId, orderNumber, orderItems,
                 itemsTotal, discountAmount, userCouponId, deliveryAddress, deliveryMemo);
     }
 
-    private void saveOrderItems(Long orderId, List<OrderItem> orderItems) {
-        for (OrderItem item : orderItems) {
-            OrderItem itemWithOrderId = item.withOrderId(orderId);
-            orderItemRepository.save(itemWithOrderId);
-        }
-    }
-
     private Order enrichOrderWithItems(Order order, List<OrderItem> items) {
         return order.withItems(items);
     }
 
+    /**
+     * 취소된 주문의 재고 예약과 쿠폰(결제 완료 주문이면 사용 취소, 아니면 예약 해제)을 되돌림
+     */
+    private void releaseCancelledOrder(Order order, boolean wasPaid) {
+        orderRepository.save(order);
+        orderExpiryScheduler.cancel(order.getId());
+
+        releaseStockReservations(order.getId());
+
+        if (order.getUserCouponId() != null) {
+            if (wasPaid) {
+                restoreCoupon(order.getUserCouponId());
+            } else {
+                releaseCouponReservation(order.getUserCouponId());
+            }
+        }
+    }
+
     private void releaseStockReservations(Long orderId) {
         List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
         for (OrderItem item : items) {
@@ -327,17 +463,39 @@ public class OrderService {
         }
     }
 
-    private void confirmStockReservations(Long orderId) {
-        List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
-        for (OrderItem item : items) {
-            productService.confirmStockReservation(item.getProductId(), item.getQuantity());
-        }
+    /**
+     * 재고 확정, 쿠폰 사용 확정, 결제 완료 상태 저장을 WAL 한 레코드로 기록 (상태는 마지막에 저장)
+     * 중간에 예외가 나면 메모리에 반영한 확정을 역순으로 되돌리고 그대로 던짐
+     */
+    private void settlePaidOrder(Order order) {
+        InMemoryDataStore.atomically(() -> {
+            Deque<Runnable> undo = new ArrayDeque<>();
+            try {
+                for (OrderItem item : orderItemRepository.findByOrderId(order.getId())) {
+                    productService.confirmStockReservation(item.getProductId(), item.getQuantity());
+                    undo.push(() -> productService.revertStockConfirmation(item.getProductId(), item.getQuantity()));
+                }
+                if (order.getUserCouponId() != null) {
+                    couponService.confirmCouponReservation(order.getUserCouponId());
+                    undo.push(() -> couponService.revertCouponConfirmation(order.getUserCouponId()));
+                }
+                orderRepository.save(order);
+            } catch (RuntimeException e) {
+                undo.forEach(Runnable::run);
+                throw e;
+            }
+        });
     }
 
     private void incrementSalesCount(Long orderId) {
         List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
         for (OrderItem item : items) {
-            productService.incrementSalesCount(item.getProductId(), item.getQuantity());
+            try {
+                productService.incrementSalesCount(item.getProductId(), item.getQuantity());
+            } catch (Exception e) {
+                // 판매량 집계 실패는 로깅만 하고 결제 완료 처리는 유지 (이미 기록된 결제 완료를 되돌리지 않음)
+                log.warn("[Order] 판매량 집계 실패 - orderId: {}, productId: {}", orderId, item.getProductId(), e);
+            }
         }
     }
 
@@ -345,30 +503,46 @@ public class OrderService {
 
     /**
      * 결제 완료 이벤트 리스너
-     * PaymentService에서 결제가 성공하면 주문 상태를 PAID로 변경
+     * PaymentService에서 결제가 성공하면 주문 상태를 PAID로 변경하고, 그 사이 취소된 주문이면 결제 환불을 요청
+     * DomainEventBus 전달 스레드에서 호출되며, 예외는 버스가 재시도/데드레터 처리하도록 그대로 던짐
      */
     @EventListener
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
-        try {
-            completePayment(event.getOrderId());
-            log.info("[Order] 결제 완료 처리 - orderId: {}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("[Order] 결제 완료 처리 실패 - orderId: {}, error: {}",
-                    event.getOrderId(), e.getMessage(), e);
+        if (!completePayment(event.getOrderId())) {
+            eventPublisher.publishEvent(PaymentRefundRequestedEvent.of(
+                    event.getOrderId(), event.getPaymentId(), PAID_AFTER_CANCEL_REASON));
+            return;
         }
+        log.info("[Order] 결제 완료 처리 - orderId: {}", event.getOrderId());
     }
 
     /**
      * 결제 실패 이벤트 리스너
      * PaymentService에서 결제가 실패하면 주문을 취소
+     * DomainEventBus 전달 스레드에서 호출되며, 예외는 버스가 재시도/데드레터 처리하도록 그대로 던짐
      */
     @EventListener
     public void handlePaymentFailed(PaymentFailedEvent event) {
+        if (findOrderById(event.getOrderId()).getStatus() == OrderStatus.CANCELLED) {
+            log.info("[Order] 이미 취소된 주문 - orderId: {}", event.getOrderId());
+            return;
+        }
+        cancelOrder(event.getOrderId(), event.getFailReason());
+        log.info("[Order] 주문 취소 처리 - orderId: {}", event.getOrderId());
+    }
+
+    /**
+     * 주문 만료 이벤트 리스너
+     * OrderExpiryScheduler에서 결제 기한이 지난 주문을 취소
+     */
+    @EventListener
+    public void handleOrderExpired(OrderExpiredEvent event) {
         try {
-            cancelOrder(event.getOrderId(), event.getFailReason());
-            log.info("[Order] 주문 취소 처리 - orderId: {}", event.getOrderId());
+            if (expireOrder(event.getOrderId())) {
+                log.info("[Order] 만료 주문 취소 처리 - orderId: {}", event.getOrderId());
+            }
         } catch (Exception e) {
-            log.error("[Order] 주문 취소 처리 실패 - orderId: {}, error: {}",
+            log.error("[Order] 만료 주문 취소 처리 실패 - orderId: {}, error: {}",
                     event.getOrderId(), e.getMessage(), e);
         }
     }
@@ -0,0 +1,24 @@
+package com.hhplus.ecommerce.domain.payment.event;
+
+import lombok.Getter;
+
+/**
+ * 결제 환불 요청 이벤트
+ * 결제는 성공했지만 주문이 이미 취소(만료 등)되어 결제를 되돌려야 할 때 발행되는 도메인 이벤트
+ */
+@Getter
+public class PaymentRefundRequestedEvent {
+    private final Long orderId;
+    private final Long paymentId;
+    private final String reason;
+
+    public PaymentRefundRequestedEvent(Long orderId, Long paymentId, String reason) {
+        this.orderId = orderId;
+        this.paymentId = paymentId;
+        this.reason = reason;
+    }
+
+    public static PaymentRefundRequestedEvent of(Long orderId, Long paymentId, String reason) {
+        return new PaymentRefundRequestedEvent(orderId, paymentId, reason);
+    }
+}
@@ -12,7 +12,9 @@ public enum PaymentErrorCode implements ErrorCode {
     INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "INVALID_ORDER_STATUS", "결제 대기 상태의 주문만 결제할 수 있습니다"),
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "PAYMENT_FAILED", "결제 처리 중 오류가 발생했습니다"),
     PAYMENT_NOT_ALLOWED(HttpStatus.FORBIDDEN, "PAYMENT_NOT_ALLOWED", "해당 결제에 접근할 권한이 없습니다."),
-    PG_COMMUNICATION_FAILED(HttpStatus.FORBIDDEN, "PG_COMMUNICATION_FAILED", "결제 서버와의 통신에 실패했습니다." );
+    PG_COMMUNICATION_FAILED(HttpStatus.FORBIDDEN, "PG_COMMUNICATION_FAILED", "결제 서버와의 통신에 실패했습니다." ),
+    PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "PAYMENT_IN_PROGRESS", "동일한 요청의 결제가 처리 중입니다."),
+    PG_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PG_UNAVAILABLE", "결제 서버가 일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String code;
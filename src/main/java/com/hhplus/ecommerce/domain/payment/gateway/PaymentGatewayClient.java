@@ -0,0 +1,122 @@
+package com.hhplus.ecommerce.domain.payment.gateway;
+
+import com.hhplus.ecommerce.domain.payment.exception.PaymentErrorCode;
+import com.hhplus.ecommerce.domain.payment.model.PaymentMethod;
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.resilience.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 결제 요청 클라이언트
+ * 호출마다 다음 순서로 보호하며, 거절된 호출은 PG_UNAVAILABLE로 즉시 실패 (스레드를 붙잡지 않음)
+ *
+ * <ul>
+ *   <li>서킷 브레이커: 최근 호출의 실패율이 높으면 일정 시간 PG를 호출하지 않음</li>
+ *   <li>벌크헤드: 동시에 진행 중인 PG 호출 수를 max-concurrent-calls로 제한 (bulkhead-wait 동안만 대기)</li>
+ *   <li>호출 기한: RestClient의 read-timeout (AppConfig)</li>
+ * </ul>
+ * 4xx 응답은 요청 자체의 문제이므로 서킷 브레이커 실패로 집계하지 않음
+ */
+@Slf4j
+@Component
+public class PaymentGatewayClient {
+
+    private final RestClient restClient;
+    private final String url;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final CircuitBreaker circuitBreaker;
+
+    public PaymentGatewayClient(
+            RestClient restClient,
+            @Value("${mock.payment.url}") String url,
+            @Value("${pg.client.max-concurrent-calls:200}") int maxConcurrentCalls,
+            @Value("${pg.client.bulkhead-wait:PT0S}") Duration bulkheadWait,
+            @Value("${pg.client.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${pg.client.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${pg.client.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${pg.client.circuit-breaker.open-duration:PT10S}") Duration openDuration,
+            @Value("${pg.client.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("pg.client.max-concurrent-calls는 1 이상이어야 합니다.");
+        }
+        this.restClient = restClient;
+        this.url = url;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWait = bulkheadWait;
+        this.circuitBreaker = new CircuitBreaker("payment-gateway", windowSize, minimumCalls, failureRateThreshold,
+                openDuration, halfOpenCalls);
+    }
+
+    /**
+     * PG 결제 요청
+     *
+     * @throws BusinessException PG_UNAVAILABLE - 서킷이 열려 있거나 동시 호출 한도를 넘은 경우
+     * @throws org.springframework.web.client.RestClientException PG 통신 실패/호출 기한 초과
+     */
+    public Map<String, Object> requestPayment(Long orderId, Long amount, PaymentMethod method) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            log.warn("[PG] 서킷 열림으로 호출 거절 - orderId: {}", orderId);
+            throw new BusinessException(PaymentErrorCode.PG_UNAVAILABLE);
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.releasePermission();
+            log.warn("[PG] 동시 호출 한도 초과로 호출 거절 - orderId: {}", orderId);
+            throw new BusinessException(PaymentErrorCode.PG_UNAVAILABLE);
+        }
+
+        try {
+            Map<String, Object> response = post(orderId, amount, method);
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (HttpClientErrorException e) {
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> post(Long orderId, Long amount, PaymentMethod method) {
+        Map<String, Object> request = Map.of(
+                "orderId", orderId,
+                "amount", amount,
+                "paymentMethod", method.name()
+        );
+
+        return restClient.post()
+                .uri(url)
+                .body(request)
+                .retrieve()
+                .body(Map.class);
+    }
+
+    private boolean acquireBulkhead() {
+        if (bulkheadWait.isZero()) {
+            return bulkhead.tryAcquire();
+        }
+        try {
+            return bulkhead.tryAcquire(bulkheadWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
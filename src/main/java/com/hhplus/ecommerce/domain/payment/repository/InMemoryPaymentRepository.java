@@ -2,31 +2,75 @@ package com.hhplus.ecommerce.domain.payment.repository;
 
 import com.hhplus.ecommerce.domain.payment.model.Payment;
 import com.hhplus.ecommerce.domain.payment.model.PaymentStatus;
+import com.hhplus.ecommerce.global.outbox.InMemoryOutboxRepository;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
 public class InMemoryPaymentRepository implements PaymentRepository {
 
+    private final InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+
     @Override
     public Payment save(Payment payment) {
         InMemoryDataStore.PAYMENTS.put(payment.getId(), payment);
+        InMemoryDataStore.PAYMENTS_BY_ORDER_ID.index(payment);
+        InMemoryDataStore.PAYMENTS_BY_CLIENT_REQUEST_ID.index(payment);
+        InMemoryDataStore.PAYMENTS_BY_TRANSACTION_ID.index(payment);
+        InMemoryDataStore.PAYMENTS_BY_STATUS.index(payment);
+        InMemoryDataStore.recordSave(StoreTable.PAYMENTS, payment);
+        return payment;
+    }
+
+    @Override
+    public Payment saveWithOutbox(Payment payment, OutboxMessage message) {
+        InMemoryDataStore.atomically(() -> {
+            save(payment);
+            outboxRepository.save(message);
+        });
         return payment;
     }
 
+    /**
+     * 유니크 인덱스의 putIfAbsent로 clientRequestId를 먼저 선점하므로 중복 판정이 O(1)이고 경합이 없음
+     */
+    @Override
+    public Optional<Long> saveIfClientRequestIdAbsent(Payment payment) {
+        String clientRequestId = payment.getClientRequestId();
+        if (clientRequestId != null) {
+            Optional<Long> claimedBy = InMemoryDataStore.PAYMENTS_BY_CLIENT_REQUEST_ID
+                    .putIfAbsent(clientRequestId, payment.getId())
+                    .filter(id -> !id.equals(payment.getId()));
+            if (claimedBy.isPresent()) {
+                return claimedBy;
+            }
+        }
+        save(payment);
+        return Optional.empty();
+    }
+
     @Override
     public Optional<Payment> findById(Long id) {
         return Optional.ofNullable(InMemoryDataStore.PAYMENTS.get(id));
     }
 
+    /**
+     * 주문에 결제가 여러 건 있으면 가장 최근(ID가 큰) 결제를 반환
+     */
     @Override
     public Optional<Payment> findByOrderId(Long orderId) {
-        return InMemoryDataStore.PAYMENTS.values().stream()
+        return InMemoryDataStore.PAYMENTS_BY_ORDER_ID.findIds(orderId).stream()
+                .map(InMemoryDataStore.PAYMENTS::get)
+                .filter(Objects::nonNull)
                 .filter(payment -> payment.getOrderId().equals(orderId))
-                .findFirst();
+                .max(Comparator.comparing(Payment::getId));
     }
 
     @Override
@@ -34,9 +78,9 @@ public class InMemoryPaymentRepository implements PaymentRepository {
         if (clientRequestId == null) {
             return Optional.empty();
         }
-        return InMemoryDataStore.PAYMENTS.values().stream()
-                .filter(payment -> clientRequestId.equals(payment.getClientRequestId()))
-                .findFirst();
+        return InMemoryDataStore.PAYMENTS_BY_CLIENT_REQUEST_ID.findId(clientRequestId)
+                .map(InMemoryDataStore.PAYMENTS::get)
+                .filter(payment -> clientRequestId.equals(payment.getClientRequestId()));
     }
 
     @Override
@@ -44,14 +88,16 @@ public class InMemoryPaymentRepository implements PaymentRepository {
         if (transactionId == null) {
             return Optional.empty();
         }
-        return InMemoryDataStore.PAYMENTS.values().stream()
-                .filter(payment -> transactionId.equals(payment.getTransactionId()))
-                .findFirst();
+        return InMemoryDataStore.PAYMENTS_BY_TRANSACTION_ID.findId(transactionId)
+                .map(InMemoryDataStore.PAYMENTS::get)
+                .filter(payment -> transactionId.equals(payment.getTransactionId()));
     }
 
     @Override
     public List<Payment> findByStatus(PaymentStatus status) {
-        return InMemoryDataStore.PAYMENTS.values().stream()
+        return InMemoryDataStore.PAYMENTS_BY_STATUS.findIds(status).stream()
+                .map(InMemoryDataStore.PAYMENTS::get)
+                .filter(Objects::nonNull)
                 .filter(payment -> payment.getStatus() == status)
                 .toList();
     }
@@ -64,6 +110,11 @@ public class InMemoryPaymentRepository implements PaymentRepository {
     @Override
     public void deleteById(Long id) {
         InMemoryDataStore.PAYMENTS.remove(id);
+        InMemoryDataStore.PAYMENTS_BY_ORDER_ID.remove(id);
+        InMemoryDataStore.PAYMENTS_BY_CLIENT_REQUEST_ID.remove(id);
+        InMemoryDataStore.PAYMENTS_BY_TRANSACTION_ID.remove(id);
+        InMemoryDataStore.PAYMENTS_BY_STATUS.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.PAYMENTS, id);
     }
 
     @Override
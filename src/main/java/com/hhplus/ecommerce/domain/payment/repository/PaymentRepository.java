@@ -2,12 +2,23 @@ package com.hhplus.ecommerce.domain.payment.repository;
 
 import com.hhplus.ecommerce.domain.payment.model.Payment;
 import com.hhplus.ecommerce.domain.payment.model.PaymentStatus;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository {
     Payment save(Payment payment);
+    /**
+     * 결제 저장과 아웃박스 메시지 기록을 하나의 변경으로 원자적으로 저장 (둘 중 하나만 복구되는 일이 없음)
+     */
+    Payment saveWithOutbox(Payment payment, OutboxMessage message);
+    /**
+     * clientRequestId를 선점한 뒤 결제 저장 (동시에 같은 clientRequestId로 요청해도 한 건만 저장됨)
+     *
+     * @return 이미 같은 clientRequestId를 선점한 결제 ID (선점에 성공해 저장했으면 empty)
+     */
+    Optional<Long> saveIfClientRequestIdAbsent(Payment payment);
     Optional<Payment> findById(Long id);
     Optional<Payment> findByOrderId(Long orderId);
     Optional<Payment> findByClientRequestId(String clientRequestId);
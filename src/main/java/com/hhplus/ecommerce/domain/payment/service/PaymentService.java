@@ -9,21 +9,24 @@ import com.hhplus.ecommerce.domain.order.service.OrderService;
 import com.hhplus.ecommerce.domain.payment.dto.PaymentResponse;
 import com.hhplus.ecommerce.domain.payment.event.PaymentCompletedEvent;
 import com.hhplus.ecommerce.domain.payment.event.PaymentFailedEvent;
+import com.hhplus.ecommerce.domain.payment.event.PaymentRefundRequestedEvent;
 import com.hhplus.ecommerce.domain.payment.exception.PaymentErrorCode;
+import com.hhplus.ecommerce.domain.payment.gateway.PaymentGatewayClient;
 import com.hhplus.ecommerce.domain.payment.model.Payment;
 import com.hhplus.ecommerce.domain.payment.model.PaymentMethod;
 import com.hhplus.ecommerce.domain.payment.repository.PaymentRepository;
 import com.hhplus.ecommerce.global.exception.BusinessException;
 import com.hhplus.ecommerce.global.exception.DomainExceptionMapper;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
+import com.hhplus.ecommerce.global.outbox.OutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -32,13 +35,10 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final OrderService orderService;
     private final CouponService couponService;
-    private final RestClient restClient;
-    private final ApplicationEventPublisher eventPublisher;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final OutboxRepository outboxRepository;
     private final DomainExceptionMapper exceptionMapper;
 
-    @Value("${mock.payment.url}")
-    private String mockPaymentUrl;
-
     public Payment findPaymentById(Long paymentId){
         return  paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new BusinessException(PaymentErrorCode.PAYMENT_NOT_FOUND));
@@ -63,7 +63,19 @@ public class PaymentService {
         }
 
         Payment payment = createPendingPayment(orderId, order.getFinalAmount(), paymentMethod, clientRequestId);
-        paymentRepository.save(payment);
+        // 같은 clientRequestId의 동시 요청 중 선점한 한 건만 PG를 호출
+        Optional<Long> claimedBy = paymentRepository.saveIfClientRequestIdAbsent(payment);
+        if (claimedBy.isPresent()) {
+            log.info("[Payment] 동시 중복 요청 감지 - clientRequestId: {}, 선점 paymentId: {}", clientRequestId, claimedBy.get());
+            return toPaymentResponse(findClaimedPayment(claimedBy.get()));
+        }
+        // 결제 대기 저장 전에 주문이 만료되었으면 PG를 호출하지 않음 (저장 이후의 만료는 결제 대기 결제를 보고 보류됨)
+        if (order.getStatus() != OrderStatus.PENDING) {
+            log.warn("[Payment] 결제 시작 중 주문 상태 변경 - orderId: {}, status: {}", orderId, order.getStatus());
+            payment.markAsFailed("결제 대기 중인 주문이 아닙니다: " + order.getStatus());
+            paymentRepository.save(payment);
+            throw new BusinessException(PaymentErrorCode.INVALID_ORDER_STATUS);
+        }
 
         executePayment(order, payment, paymentMethod);
 
@@ -71,6 +83,31 @@ public class PaymentService {
         return toPaymentResponse(payment);
     }
 
+    /**
+     * 성공한 결제를 취소 상태로 되돌림 (취소된 주문에 결제 완료가 도착한 경우의 보상)
+     * 이미 취소된 결제는 건너뛰어 이벤트가 다시 전달되어도 한 번만 처리
+     */
+    public void refundPayment(Long paymentId, String reason) {
+        Payment payment = findPaymentById(paymentId);
+        if (!payment.isSuccess()) {
+            log.info("[Payment] 환불 대상 아님 - paymentId: {}, status: {}", paymentId, payment.getStatus());
+            return;
+        }
+        payment.cancel();
+        paymentRepository.save(payment);
+        log.warn("[Payment] 결제 환불 처리 - paymentId: {}, orderId: {}, transactionId: {}, reason: {}",
+                paymentId, payment.getOrderId(), payment.getTransactionId(), reason);
+    }
+
+    /**
+     * 결제 환불 요청 이벤트 리스너
+     * OrderService가 취소된 주문에 결제 완료 이벤트를 받으면 발행 (결제 완료 이벤트 전달 중에 동기로 호출됨)
+     */
+    @EventListener
+    public void handleRefundRequested(PaymentRefundRequestedEvent event) {
+        refundPayment(event.getPaymentId(), event.getReason());
+    }
+
     public PaymentResponse getPayment(Long userId, Long paymentId) {
         Payment payment = findPaymentById(paymentId);
         validateOrderOwnership(userId, payment.getOrderId(), "결제 조회");
@@ -93,6 +130,14 @@ public class PaymentService {
         return paymentRepository.findByClientRequestId(clientRequestId).orElse(null);
     }
 
+    /**
+     * 선점한 요청이 아직 결제를 저장하기 전이면 처리 중으로 응답
+     */
+    private Payment findClaimedPayment(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new BusinessException(PaymentErrorCode.PAYMENT_IN_PROGRESS));
+    }
+
     private void validateOrderOwnership(Long userId, Long orderId, String context) {
         try {
             orderService.requireOrderOwnedByUser(userId, orderId);
@@ -141,7 +186,7 @@ public class PaymentService {
                 order.getId(), order.getFinalAmount(), method);
 
         try {
-            Map<String, Object> pgResponse = callPaymentGateway(order.getId(), order.getFinalAmount(), method);
+            Map<String, Object> pgResponse = paymentGatewayClient.requestPayment(order.getId(), order.getFinalAmount(), method);
             boolean success = (boolean) pgResponse.get("success");
 
             if (success) {
@@ -153,6 +198,11 @@ public class PaymentService {
             log.error("[Payment] PG 통신 오류 - orderId: {}, error: {}", order.getId(), e.getMessage());
             handlePaymentException(order, payment, e);
             throw new BusinessException(PaymentErrorCode.PG_COMMUNICATION_FAILED);
+        } catch (BusinessException e) {
+            // PG 호출 거절(서킷 열림/동시 호출 한도 초과)도 결제 실패로 기록하고 원래 오류 코드로 응답
+            log.warn("[Payment] PG 호출 거절 - orderId: {}, error: {}", order.getId(), e.getMessage());
+            handlePaymentException(order, payment, e);
+            throw e;
         } catch (Exception e) {
             log.error("[Payment] 결제 처리 중 예외 발생 - orderId: {}, error: {}", order.getId(), e.getMessage(), e);
             handlePaymentException(order, payment, e);
@@ -173,9 +223,9 @@ public class PaymentService {
         }
 
         payment.markAsSuccess(transactionId);
-        paymentRepository.save(payment);
-
-        eventPublisher.publishEvent(PaymentCompletedEvent.of(order.getId(), payment.getId(), transactionId));
+        // 결제 상태와 이벤트를 하나의 기록으로 저장 (OutboxRelay가 이후 리스너에 전달)
+        paymentRepository.saveWithOutbox(payment, OutboxMessage.of(outboxRepository.generateNextId(),
+                PaymentCompletedEvent.of(order.getId(), payment.getId(), transactionId)));
 
         log.info("[Payment] 결제 성공 처리 완료 - paymentId: {}, orderId: {}, transactionId: {}",
                 payment.getId(), order.getId(), transactionId);
@@ -186,9 +236,8 @@ public class PaymentService {
         log.warn("[Payment] PG 실패 응답 처리 - orderId: {}, reason: {}", order.getId(), failReason);
 
         payment.markAsFailed(failReason);
-        paymentRepository.save(payment);
-
-        eventPublisher.publishEvent(PaymentFailedEvent.of(order.getId(), payment.getId(), "결제 실패: " + failReason));
+        paymentRepository.saveWithOutbox(payment, OutboxMessage.of(outboxRepository.generateNextId(),
+                PaymentFailedEvent.of(order.getId(), payment.getId(), "결제 실패: " + failReason)));
 
         log.info("[Payment] 결제 실패 처리 완료 - paymentId: {}, orderId: {}", payment.getId(), order.getId());
     }
@@ -199,27 +248,12 @@ public class PaymentService {
                 order.getId(), payment.getId(), e.getMessage());
 
         payment.markAsFailed(errorMessage);
-        paymentRepository.save(payment);
-
-        eventPublisher.publishEvent(PaymentFailedEvent.of(order.getId(), payment.getId(), "결제 처리 중 오류 발생"));
+        paymentRepository.saveWithOutbox(payment, OutboxMessage.of(outboxRepository.generateNextId(),
+                PaymentFailedEvent.of(order.getId(), payment.getId(), "결제 처리 중 오류 발생")));
 
         log.info("[Payment] 결제 예외 처리 완료 - paymentId: {}, status: FAILED", payment.getId());
     }
 
-    private Map<String, Object> callPaymentGateway(Long orderId, Long amount, PaymentMethod method) {
-        Map<String, Object> request = Map.of(
-                "orderId", orderId,
-                "amount", amount,
-                "paymentMethod", method.name()
-        );
-
-        return restClient.post()
-                .uri(mockPaymentUrl)
-                .body(request)
-                .retrieve()
-                .body(Map.class);
-    }
-
     private PaymentResponse toPaymentResponse(Payment payment) {
         PaymentResponse.PaymentCouponInfo couponInfo = null;
 
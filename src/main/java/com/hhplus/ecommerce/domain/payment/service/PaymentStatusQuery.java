@@ -0,0 +1,13 @@
+package com.hhplus.ecommerce.domain.payment.service;
+
+/**
+ * 결제 상태 조회 포트
+ * 주문 도메인이 결제 Repository나 결제 모델을 직접 읽지 않고 필요한 판단만 조회하도록 노출
+ */
+public interface PaymentStatusQuery {
+
+    /**
+     * 주문의 최근 결제가 PG 호출 중(PENDING)이거나 성공 후 결제 완료 이벤트 전달을 기다리는 중인지
+     */
+    boolean isPaymentInProgress(Long orderId);
+}
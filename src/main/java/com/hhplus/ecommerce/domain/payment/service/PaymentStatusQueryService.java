@@ -0,0 +1,27 @@
+package com.hhplus.ecommerce.domain.payment.service;
+
+import com.hhplus.ecommerce.domain.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentStatusQueryService implements PaymentStatusQuery {
+
+    // PG 호출(읽기 타임아웃 + 지연)보다 충분히 긴 시간이 지나도 PENDING인 결제는 중단된 것으로 봄
+    private static final Duration STALE_PAYMENT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final PaymentRepository paymentRepository;
+
+    @Override
+    public boolean isPaymentInProgress(Long orderId) {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(STALE_PAYMENT_TIMEOUT);
+        return paymentRepository.findByOrderId(orderId)
+                .filter(payment -> payment.isSuccess()
+                        || (payment.isPending() && payment.getCreatedAt().isAfter(staleBefore)))
+                .isPresent();
+    }
+}
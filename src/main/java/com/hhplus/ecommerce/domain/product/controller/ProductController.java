@@ -1,10 +1,13 @@
 package com.hhplus.ecommerce.domain.product.controller;
 
+import com.hhplus.ecommerce.domain.product.dto.ProductFacetResponse;
 import com.hhplus.ecommerce.domain.product.dto.ProductResponse;
 import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchCondition;
 import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
 import com.hhplus.ecommerce.domain.product.service.ProductService;
 import com.hhplus.ecommerce.global.dto.CommonResponse;
+import com.hhplus.ecommerce.global.dto.CursorResult;
 import com.hhplus.ecommerce.global.dto.ErrorResponse;
 import com.hhplus.ecommerce.global.dto.PagedResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,9 +31,18 @@ public class ProductController {
 
     private final ProductService productService;
 
-    @Operation(summary = "상품 목록 조회", description = "카테고리, 상태, 정렬로 필터링하여 상품 목록을 조회합니다")
+    @Operation(
+            summary = "상품 목록 조회",
+            description = "카테고리, 상태, 정렬로 필터링하여 상품 목록을 조회합니다 (cursor 지정 시 커서 기반 조회). "
+                    + "keyword 지정 시 상품명/설명/브랜드 검색 결과를 관련도 순으로, 가격 범위만 지정 시 가격 순으로 조회합니다"
+    )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서 또는 가격 범위",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
     })
     @GetMapping
     public ResponseEntity<CommonResponse<List<ProductResponse>>> getProducts(
@@ -38,18 +50,54 @@ public class ProductController {
             @RequestParam(required = false) ProductCategory category,
             @Parameter(description = "상품 상태", example = "AVAILABLE")
             @RequestParam(required = false) ProductStatus status,
-            @Parameter(description = "정렬 기준", example = "price,asc")
+            @Parameter(description = "검색 키워드 (상품명, 설명, 브랜드)", example = "노트북")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "최소 가격", example = "10000")
+            @RequestParam(required = false) Long minPrice,
+            @Parameter(description = "최대 가격", example = "1000000")
+            @RequestParam(required = false) Long maxPrice,
+            @Parameter(description = "정렬 기준 (키워드 검색은 관련도 순, 가격 범위 조회는 price,desc 외에는 가격 오름차순)", example = "price,asc")
             @RequestParam(required = false, defaultValue = "created,desc") String sort,
             @Parameter(description = "페이지 번호", example = "0")
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
-            @RequestParam(required = false, defaultValue = "20") int size
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @Parameter(description = "페이지 커서 (지정하면 page 대신 응답의 nextCursor로 다음 페이지 조회, 빈 값이면 첫 페이지)")
+            @RequestParam(required = false) String cursor
     ) {
+        ProductSearchCondition condition = new ProductSearchCondition(keyword, category, status, minPrice, maxPrice);
+        if (condition.hasKeyword() || condition.hasPriceRange()) {
+            PagedResult<ProductResponse> result = productService.searchProducts(condition, sort, page, size);
+            return ResponseEntity.ok(CommonResponse.success(result.content(), result.meta()));
+        }
+
+        if (cursor != null) {
+            CursorResult<ProductResponse> result = productService.getProductsByCursor(category, status, sort, cursor, size);
+            return ResponseEntity.ok(CommonResponse.success(result.content(), result.meta()));
+        }
 
         PagedResult<ProductResponse> result = productService.getProducts(category, status, sort, page, size);
         return ResponseEntity.ok(CommonResponse.success(result.content(), result.meta()));
     }
 
+    @Operation(
+            summary = "상품 패싯 조회",
+            description = "카테고리, 상태, 브랜드, 가격대별 상품 수를 조회합니다 (각 패싯은 자기 조건을 제외한 나머지 필터를 적용해 집계)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<CommonResponse<ProductFacetResponse>> getProductFacets(
+            @Parameter(description = "카테고리 필터", example = "ELECTRONICS")
+            @RequestParam(required = false) ProductCategory category,
+            @Parameter(description = "상품 상태", example = "AVAILABLE")
+            @RequestParam(required = false) ProductStatus status
+    ) {
+        ProductFacetResponse response = productService.getProductFacets(category, status);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
     @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다 (조회수 증가)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -69,21 +117,35 @@ public class ProductController {
 
     @Operation(
             summary = "인기 상품 조회",
-            description = "조회수, 판매량 또는 종합 점수 기준으로 인기 상품 목록을 조회합니다"
+            description = "조회수, 판매량, 종합 점수 또는 최근 24시간 점수 기준으로 인기 상품 목록을 조회합니다 (cursor 지정 시 커서 기반 조회)"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
     })
     @GetMapping("/popular")
     public ResponseEntity<CommonResponse<List<ProductResponse>>> getPopularProducts(
-            @Parameter(description = "정렬 기준 (views: 조회수, sales: 판매량, popular: 종합)", example = "popular")
+            @Parameter(description = "카테고리 필터", example = "ELECTRONICS")
+            @RequestParam(required = false) ProductCategory category,
+            @Parameter(description = "정렬 기준 (views: 조회수, sales: 판매량, popular: 종합, trending: 최근 24시간 종합, 상위 K개만 제공)", example = "popular")
             @RequestParam(required = false, defaultValue = "popular") String sortBy,
             @Parameter(description = "페이지 번호", example = "0")
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "10")
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "페이지 커서 (지정하면 page 대신 응답의 nextCursor로 다음 페이지 조회, 빈 값이면 첫 페이지)")
+            @RequestParam(required = false) String cursor
     ) {
-        PagedResult<ProductResponse> result = productService.getPopularProducts(page, size, sortBy);
+        if (cursor != null) {
+            CursorResult<ProductResponse> result = productService.getPopularProductsByCursor(category, sortBy, cursor, size);
+            return ResponseEntity.ok(CommonResponse.success(result.content(), result.meta()));
+        }
+
+        PagedResult<ProductResponse> result = productService.getPopularProducts(category, page, size, sortBy);
         return ResponseEntity.ok(CommonResponse.success(result.content(), result.meta()));
     }
 }
@@ -0,0 +1,138 @@
+package com.hhplus.ecommerce.domain.product.counter;
+
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import com.hhplus.ecommerce.domain.product.popularity.ProductPopularityTracker;
+import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수/판매량 카운터
+ * 요청 경로에서는 상품별 LongAdder에 증가분만 더하고 (셀 분산으로 경합 없음, 저장 없음)
+ * flush-interval마다 모인 증가분을 상품에 한 번에 반영해 저장한 뒤 인기 순위 추적기에 전달
+ */
+@Slf4j
+@Component
+public class ProductCounterStore {
+
+    private final ProductRepository productRepository;
+    private final ProductPopularityTracker popularityTracker;
+    private final Duration flushInterval;
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public ProductCounterStore(
+            ProductRepository productRepository,
+            ProductPopularityTracker popularityTracker,
+            @Value("${product.counter.flush-interval:PT1S}") Duration flushInterval) {
+        if (flushInterval.isZero() || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("flush-interval은 0보다 커야 합니다.");
+        }
+        this.productRepository = productRepository;
+        this.popularityTracker = popularityTracker;
+        this.flushInterval = flushInterval;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-counter-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long millis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, millis, millis, TimeUnit.MILLISECONDS);
+        log.info("[ProductCounter] 조회수/판매량 반영 시작 - flush-interval: {}", flushInterval);
+    }
+
+    public void incrementView(Long productId) {
+        countersOf(productId).views.increment();
+    }
+
+    public void incrementSales(Long productId, int quantity) {
+        countersOf(productId).sales.add(quantity);
+    }
+
+    /**
+     * 모인 증가분을 상품에 반영
+     * sumThenReset은 합산과 초기화 사이의 증가분을 잃을 수 있으므로 읽은 만큼만 빼서 다음 반영으로 넘김
+     */
+    public synchronized void flush() {
+        counters.forEach((productId, counter) -> {
+            long views = drain(counter.views);
+            long sales = drain(counter.sales);
+            if (views == 0 && sales == 0) {
+                return;
+            }
+
+            Product product = productRepository.findById(productId).orElse(null);
+            if (product == null) {
+                counters.remove(productId, counter);
+                popularityTracker.remove(productId);
+                return;
+            }
+            if (views > 0) {
+                product.incrementViewCount(Math.toIntExact(views));
+            }
+            if (sales > 0) {
+                product.incrementSalesCount(Math.toIntExact(sales));
+            }
+            productRepository.save(product);
+
+            if (views > 0) {
+                popularityTracker.recordViews(product, views);
+            }
+            if (sales > 0) {
+                popularityTracker.recordSales(product, sales);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void close() {
+        flusher.shutdownNow();
+        flushSafely();
+    }
+
+    private Counters countersOf(Long productId) {
+        Counters counter = counters.get(productId);
+        return counter != null ? counter : counters.computeIfAbsent(productId, id -> new Counters());
+    }
+
+    private static long drain(LongAdder adder) {
+        long sum = adder.sum();
+        if (sum != 0) {
+            adder.add(-sum);
+        }
+        return sum;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("[ProductCounter] 조회수/판매량 반영 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder sales = new LongAdder();
+    }
+}
@@ -0,0 +1,46 @@
+package com.hhplus.ecommerce.domain.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 패싯 집계 응답")
+public record ProductFacetResponse(
+        @Schema(description = "카테고리별 상품 수")
+        List<FacetCount> categories,
+
+        @Schema(description = "상품 상태별 상품 수")
+        List<FacetCount> statuses,
+
+        @Schema(description = "브랜드별 상품 수 (상품 수 내림차순)")
+        List<FacetCount> brands,
+
+        @Schema(description = "가격대별 상품 수")
+        List<PriceRangeCount> priceRanges
+) {
+    @Schema(description = "패싯 값별 상품 수")
+    public record FacetCount(
+            @Schema(description = "패싯 값", example = "ELECTRONICS")
+            String value,
+
+            @Schema(description = "상품 수", example = "120")
+            int count
+    ) {
+    }
+
+    @Schema(description = "가격대별 상품 수")
+    public record PriceRangeCount(
+            @Schema(description = "가격대", example = "FROM_10K_TO_50K")
+            String range,
+
+            @Schema(description = "최소 가격 (포함, 없으면 제한 없음)", example = "10000")
+            Long minPrice,
+
+            @Schema(description = "최대 가격 (포함, 없으면 제한 없음)", example = "49999")
+            Long maxPrice,
+
+            @Schema(description = "상품 수", example = "35")
+            int count
+    ) {
+    }
+}
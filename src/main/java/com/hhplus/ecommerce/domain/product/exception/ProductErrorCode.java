@@ -11,7 +11,8 @@ public enum ProductErrorCode implements ErrorCode {
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT_NOT_FOUND", "상품을 찾을 수 없습니다"),
     PRODUCT_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "PRODUCT_OUT_OF_STOCK", "품절된 상품입니다"),
     INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "INSUFFICIENT_STOCK", "재고가 부족합니다"),
-    INSUFFICIENT_RESERVED_STOCK(HttpStatus.BAD_REQUEST, "INSUFFICIENT_RESERVED_STOCK", "예약 재고가 부족합니다");
+    INSUFFICIENT_RESERVED_STOCK(HttpStatus.BAD_REQUEST, "INSUFFICIENT_RESERVED_STOCK", "예약 재고가 부족합니다"),
+    INVALID_PRICE_RANGE(HttpStatus.BAD_REQUEST, "INVALID_PRICE_RANGE", "최소 가격은 최대 가격보다 클 수 없습니다");
 
     private final HttpStatus status;
     private final String code;
@@ -2,21 +2,43 @@ package com.hhplus.ecommerce.domain.product.model;
 
 import com.hhplus.ecommerce.domain.product.exception.ProductErrorCode;
 import com.hhplus.ecommerce.global.exception.BusinessException;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 상품 재고
+ * stock(상위 32비트)과 reservedStock(하위 32비트)을 하나의 long에 담아 CAS로 갱신
+ * → 락 없이 두 값을 원자적으로 검증/변경 (동시 예약 시 초과 판매 방지)
+ */
 @Getter
-@Builder
 public class Inventory {
-    private Long id;
-    private Long productId;
-    private Integer stock;
-    private Integer reservedStock;
-    private Integer lowStockThreshold;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    private static final long RESERVED_MASK = 0xFFFFFFFFL;
+
+    private final Long id;
+    private final Long productId;
+    private final Integer lowStockThreshold;
+    private final LocalDateTime createdAt;
+    private volatile LocalDateTime updatedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong stockCell;
+
+    @Builder
+    private Inventory(Long id, Long productId, Integer stock, Integer reservedStock, Integer lowStockThreshold,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.productId = productId;
+        this.lowStockThreshold = lowStockThreshold;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.stockCell = new AtomicLong(pack(
+                stock != null ? stock : 0,
+                reservedStock != null ? reservedStock : 0));
+    }
 
     public static Inventory empty() {
         return Inventory.builder()
@@ -26,8 +48,25 @@ public class Inventory {
                 .build();
     }
 
+    public Integer getStock() {
+        return stockOf(stockCell.get());
+    }
+
+    public Integer getReservedStock() {
+        return reservedOf(stockCell.get());
+    }
+
+    /**
+     * stock과 reservedStock을 한 번의 읽기로 반환 (두 getter를 따로 호출하면 그 사이 CAS로 짝이 어긋날 수 있음)
+     */
+    public StockLevel getStockLevel() {
+        long cell = stockCell.get();
+        return new StockLevel(stockOf(cell), reservedOf(cell));
+    }
+
     public int getAvailableStock() {
-        return stock - reservedStock;
+        long cell = stockCell.get();
+        return stockOf(cell) - reservedOf(cell);
     }
 
     public boolean isLowStock() {
@@ -35,35 +74,91 @@ public class Inventory {
     }
 
     public void reserve(int quantity) {
-        if (getAvailableStock() < quantity) {
-            throw new BusinessException(ProductErrorCode.INSUFFICIENT_STOCK);
+        while (true) {
+            long current = stockCell.get();
+            int stock = stockOf(current);
+            int reserved = reservedOf(current);
+            if (stock - reserved < quantity) {
+                throw new BusinessException(ProductErrorCode.INSUFFICIENT_STOCK);
+            }
+            if (stockCell.compareAndSet(current, pack(stock, reserved + quantity))) {
+                break;
+            }
         }
-        this.reservedStock += quantity;
         this.updatedAt = LocalDateTime.now();
     }
 
     public void releaseReservation(int quantity) {
-        if (this.reservedStock < quantity) {
-            throw new BusinessException(ProductErrorCode.INSUFFICIENT_RESERVED_STOCK);
+        while (true) {
+            long current = stockCell.get();
+            int stock = stockOf(current);
+            int reserved = reservedOf(current);
+            if (reserved < quantity) {
+                throw new BusinessException(ProductErrorCode.INSUFFICIENT_RESERVED_STOCK);
+            }
+            if (stockCell.compareAndSet(current, pack(stock, reserved - quantity))) {
+                break;
+            }
         }
-        this.reservedStock -= quantity;
         this.updatedAt = LocalDateTime.now();
     }
 
     public void confirmReservation(int quantity) {
-        if (this.reservedStock < quantity) {
-            throw new BusinessException(ProductErrorCode.INSUFFICIENT_RESERVED_STOCK);
+        while (true) {
+            long current = stockCell.get();
+            int stock = stockOf(current);
+            int reserved = reservedOf(current);
+            if (reserved < quantity) {
+                throw new BusinessException(ProductErrorCode.INSUFFICIENT_RESERVED_STOCK);
+            }
+            if (stock < quantity) {
+                throw new BusinessException(ProductErrorCode.INSUFFICIENT_STOCK);
+            }
+            if (stockCell.compareAndSet(current, pack(stock - quantity, reserved - quantity))) {
+                break;
+            }
         }
-        if (this.stock < quantity) {
-            throw new BusinessException(ProductErrorCode.INSUFFICIENT_STOCK);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 예약 확정 되돌리기 (확정한 수량을 다시 재고와 예약에 더함, 결제 완료 처리가 중간에 실패했을 때 보상)
+     */
+    public void revertConfirmation(int quantity) {
+        while (true) {
+            long current = stockCell.get();
+            int stock = Math.addExact(stockOf(current), quantity);
+            int reserved = Math.addExact(reservedOf(current), quantity);
+            if (stockCell.compareAndSet(current, pack(stock, reserved))) {
+                break;
+            }
         }
-        this.stock -= quantity;
-        this.reservedStock -= quantity;
         this.updatedAt = LocalDateTime.now();
     }
 
     public void addStock(int quantity) {
-        this.stock += quantity;
+        while (true) {
+            long current = stockCell.get();
+            int stock = Math.addExact(stockOf(current), quantity);
+            if (stockCell.compareAndSet(current, pack(stock, reservedOf(current)))) {
+                break;
+            }
+        }
         this.updatedAt = LocalDateTime.now();
     }
+
+    private static long pack(int stock, int reserved) {
+        return ((long) stock << 32) | (reserved & RESERVED_MASK);
+    }
+
+    private static int stockOf(long cell) {
+        return (int) (cell >> 32);
+    }
+
+    private static int reservedOf(long cell) {
+        return (int) (cell & RESERVED_MASK);
+    }
+
+    public record StockLevel(int stock, int reservedStock) {
+    }
 }
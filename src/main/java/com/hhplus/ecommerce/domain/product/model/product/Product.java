@@ -26,7 +26,11 @@ public class Product {
     }
 
     public void incrementViewCount() {
-        this.viewCount = (this.viewCount == null ? 0 : this.viewCount) + 1;
+        incrementViewCount(1);
+    }
+
+    public void incrementViewCount(int count) {
+        this.viewCount = (this.viewCount == null ? 0 : this.viewCount) + count;
     }
 
     public void incrementSalesCount(int quantity) {
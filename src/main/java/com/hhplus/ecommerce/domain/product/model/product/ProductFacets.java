@@ -0,0 +1,14 @@
+package com.hhplus.ecommerce.domain.product.model.product;
+
+import java.util.Map;
+
+/**
+ * 상품 패싯 집계 (값 → 상품 수, 0건인 값은 없음)
+ */
+public record ProductFacets(
+        Map<ProductCategory, Integer> categories,
+        Map<ProductStatus, Integer> statuses,
+        Map<String, Integer> brands,
+        Map<ProductPriceBucket, Integer> priceBuckets
+) {
+}
@@ -0,0 +1,45 @@
+package com.hhplus.ecommerce.domain.product.model.product;
+
+/**
+ * 가격대 패싯 구간 (경계 포함, null은 열린 구간)
+ * 구간의 minPrice/maxPrice는 상품 검색의 가격 범위 조건으로 그대로 사용 가능
+ */
+public enum ProductPriceBucket {
+    UNDER_10K(null, 9_999L),
+    FROM_10K_TO_50K(10_000L, 49_999L),
+    FROM_50K_TO_100K(50_000L, 99_999L),
+    FROM_100K_TO_500K(100_000L, 499_999L),
+    FROM_500K_TO_1M(500_000L, 999_999L),
+    OVER_1M(1_000_000L, null);
+
+    private final Long minPrice;
+    private final Long maxPrice;
+
+    ProductPriceBucket(Long minPrice, Long maxPrice) {
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    public Long getMinPrice() {
+        return minPrice;
+    }
+
+    public Long getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * 가격이 속하는 구간 (가격이 없으면 null)
+     */
+    public static ProductPriceBucket of(Long price) {
+        if (price == null) {
+            return null;
+        }
+        for (ProductPriceBucket bucket : values()) {
+            if (bucket.maxPrice == null || price <= bucket.maxPrice) {
+                return bucket;
+            }
+        }
+        return OVER_1M;
+    }
+}
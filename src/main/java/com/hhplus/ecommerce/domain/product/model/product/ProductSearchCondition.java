@@ -0,0 +1,33 @@
+package com.hhplus.ecommerce.domain.product.model.product;
+
+/**
+ * 상품 검색 조건 (null이면 조건 없음)
+ * keyword는 상품명/설명/브랜드 전문 검색, 가격은 [minPrice, maxPrice] 구간
+ */
+public record ProductSearchCondition(
+        String keyword,
+        ProductCategory category,
+        ProductStatus status,
+        Long minPrice,
+        Long maxPrice
+) {
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    /**
+     * 키워드 외 조건(카테고리/상태/가격) 일치 여부
+     */
+    public boolean matches(Product product) {
+        if (category != null && product.getCategory() != category) return false;
+        if (status != null && product.getStatus() != status) return false;
+
+        Long price = product.getPrice();
+        if (minPrice != null && (price == null || price < minPrice)) return false;
+        return maxPrice == null || (price != null && price <= maxPrice);
+    }
+}
@@ -0,0 +1,9 @@
+package com.hhplus.ecommerce.domain.product.model.product;
+
+import java.util.List;
+
+/**
+ * 상품 검색 결과 (요청 구간의 상품 + 전체 일치 건수)
+ */
+public record ProductSearchResult(List<Product> products, int totalElements) {
+}
@@ -0,0 +1,88 @@
+package com.hhplus.ecommerce.domain.product.model.product;
+
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.exception.CommonErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 상품 목록 정렬 기준 (저장소의 정렬 인덱스와 1:1 대응)
+ * 정렬 키 추출/해석은 커서 페이지네이션에서 마지막 항목의 위치를 문자열로 주고받는 데 사용
+ */
+public enum ProductSort {
+    ID_ASC(false, Product::getId, Long::valueOf),
+    PRICE_ASC(false, Product::getPrice, Long::valueOf),
+    PRICE_DESC(true, Product::getPrice, Long::valueOf),
+    NAME_ASC(false, Product::getName, sortKey -> sortKey),
+    CREATED_DESC(true, Product::getCreatedAt, LocalDateTime::parse),
+    VIEWS_DESC(true, p -> p.getViewCount() == null ? 0 : p.getViewCount(), Integer::valueOf),
+    SALES_DESC(true, p -> p.getSalesCount() == null ? 0 : p.getSalesCount(), Integer::valueOf),
+    POPULAR_DESC(true, Product::getPopularityScore, Integer::valueOf);
+
+    private final boolean descending;
+    private final Function<Product, Object> sortKeyExtractor;
+    private final Function<String, Object> sortKeyParser;
+
+    ProductSort(boolean descending, Function<Product, Object> sortKeyExtractor, Function<String, Object> sortKeyParser) {
+        this.descending = descending;
+        this.sortKeyExtractor = sortKeyExtractor;
+        this.sortKeyParser = sortKeyParser;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * 정렬 인덱스에 색인되는 것과 같은 정렬 키
+     */
+    public Object sortKeyOf(Product product) {
+        return sortKeyExtractor.apply(product);
+    }
+
+    /**
+     * 커서에 담긴 정렬 키 문자열 해석 (null이면 null 키)
+     */
+    public Object parseSortKey(String sortKey) {
+        if (sortKey == null) {
+            return null;
+        }
+        try {
+            return sortKeyParser.apply(sortKey);
+        } catch (RuntimeException e) {
+            throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 상품 목록 조회 sort 파라미터 변환 (지정하지 않거나 알 수 없는 값이면 ID 순)
+     */
+    public static ProductSort fromSortParam(String sort) {
+        if (sort == null || sort.isBlank()) return ID_ASC;
+
+        return switch (sort) {
+            case "price,asc" -> PRICE_ASC;
+            case "price,desc" -> PRICE_DESC;
+            case "name,asc" -> NAME_ASC;
+            case "created,desc" -> CREATED_DESC;
+            case "popular" -> POPULAR_DESC;
+            case "views,desc" -> VIEWS_DESC;
+            case "sales,desc" -> SALES_DESC;
+            default -> ID_ASC;
+        };
+    }
+
+    /**
+     * 인기 상품 조회 sortBy 파라미터 변환 (기본값: 인기 점수)
+     */
+    public static ProductSort fromPopularSortBy(String sortBy) {
+        if (sortBy == null) return POPULAR_DESC;
+
+        return switch (sortBy) {
+            case "views" -> VIEWS_DESC;
+            case "sales" -> SALES_DESC;
+            default -> POPULAR_DESC;
+        };
+    }
+}
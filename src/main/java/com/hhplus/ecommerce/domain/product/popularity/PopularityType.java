@@ -0,0 +1,16 @@
+package com.hhplus.ecommerce.domain.product.popularity;
+
+/**
+ * 인기 점수 종류 (점수 = 조회수 + 판매량 * 10)
+ */
+public enum PopularityType {
+    /**
+     * 누적 점수
+     */
+    ALL_TIME,
+
+    /**
+     * 최근 구간(기본 24시간) 동안의 점수
+     */
+    TRENDING
+}
@@ -0,0 +1,270 @@
+package com.hhplus.ecommerce.domain.product.popularity;
+
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 상품 인기 순위 추적기
+ * 조회/판매 증가분을 받아 전체 및 카테고리별 상위 K개 순위를 실시간으로 유지 (조회 시 정렬 없음, O(K))
+ * 증가분은 ProductCounterStore가 주기적으로 모아서 전달 (요청마다 호출되지 않음)
+ * - 누적 점수: 기동 시 상품의 조회수/판매량으로 초기화 후 증가분 반영
+ * - 최근 점수: 구간(bucket) 단위 링 버퍼로 최근 window 동안의 증가분만 합산,
+ *   구간이 바뀔 때 가장 오래된 구간을 빼고 순위를 다시 계산
+ * - 카테고리가 바뀐 상품은 이전/새 카테고리 순위를 다시 계산하고, 삭제된 상품은 점수와 순위에서 제거
+ */
+@Slf4j
+@Component
+public class ProductPopularityTracker {
+
+    private static final long SALES_WEIGHT = 10;
+
+    private final ProductRepository productRepository;
+    private final int capacity;
+    private final Duration bucket;
+
+    private final Map<Long, ProductScore> scores = new ConcurrentHashMap<>();
+    private final Map<PopularityType, Rankings> rankings = new EnumMap<>(PopularityType.class);
+    private final AtomicReferenceArray<Map<Long, AtomicLong>> buckets;
+    private volatile int currentBucket;
+    private final ScheduledExecutorService ticker;
+
+    public ProductPopularityTracker(
+            ProductRepository productRepository,
+            @Value("${product.popularity.top-k:100}") int capacity,
+            @Value("${product.popularity.window:PT24H}") Duration window,
+            @Value("${product.popularity.bucket:PT1H}") Duration bucket) {
+        if (capacity <= 0 || bucket.isZero() || bucket.isNegative() || window.compareTo(bucket) < 0) {
+            throw new IllegalArgumentException("top-k > 0, 0 < bucket <= window 이어야 합니다.");
+        }
+        this.productRepository = productRepository;
+        this.capacity = capacity;
+        this.bucket = bucket;
+        for (PopularityType type : PopularityType.values()) {
+            rankings.put(type, new Rankings(capacity));
+        }
+
+        // window / bucket 개 구간을 합산 (회전 시 가장 오래된 구간이 빠지므로 실제 집계 범위는 window - bucket ~ window)
+        int bucketCount = (int) Math.max(2, window.toMillis() / bucket.toMillis());
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.set(i, new ConcurrentHashMap<>());
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-popularity");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기동 시 (WAL/스냅샷 복구 이후) 누적 점수를 적재하고 구간 회전 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        long millis = bucket.toMillis();
+        ticker.scheduleAtFixedRate(this::rotateSafely, millis, millis, TimeUnit.MILLISECONDS);
+        log.info("[Popularity] 인기 순위 추적 시작 - top-k: {}, bucket: {}, products: {}", capacity, bucket, scores.size());
+    }
+
+    /**
+     * 저장소의 조회수/판매량으로 누적 점수와 순위를 다시 계산 (저장소에 없는 상품은 제거)
+     */
+    public void reload() {
+        Set<Long> productIds = new HashSet<>();
+        for (Product product : productRepository.findAll()) {
+            productIds.add(product.getId());
+            ProductScore score = scoreOf(product);
+            score.allTime.set(product.getPopularityScore());
+        }
+        boolean removed = scores.keySet().retainAll(productIds);
+        rebuild(PopularityType.ALL_TIME);
+        if (removed) {
+            rebuildTrending();
+        }
+    }
+
+    public void recordViews(Product product, long count) {
+        record(product, count);
+    }
+
+    public void recordSales(Product product, long quantity) {
+        record(product, SALES_WEIGHT * quantity);
+    }
+
+    /**
+     * 순위 구간 조회 (category가 null이면 전체)
+     */
+    public List<Long> findTopIds(ProductCategory category, PopularityType type, int offset, int limit) {
+        return rankings.get(type).of(category).findIds(offset, limit);
+    }
+
+    /**
+     * 순위에 올라 있는 상품 수 (최대 top-k, 점수가 0인 상품은 제외)
+     */
+    public int rankedCount(ProductCategory category, PopularityType type) {
+        return rankings.get(type).of(category).size();
+    }
+
+    /**
+     * 최근 점수 구간을 한 칸 진행 (가장 오래된 구간의 증가분을 빼고 최근 순위를 다시 계산)
+     */
+    public synchronized void rotate() {
+        int next = (currentBucket + 1) % buckets.length();
+        Map<Long, AtomicLong> expired = buckets.getAndSet(next, new ConcurrentHashMap<>());
+        currentBucket = next;
+
+        expired.forEach((productId, delta) -> {
+            ProductScore score = scores.get(productId);
+            if (score != null) {
+                score.trending.addAndGet(-delta.get());
+            }
+        });
+        rebuild(PopularityType.TRENDING);
+    }
+
+    /**
+     * 삭제된 상품을 점수와 모든 순위에서 제거 (빈 자리는 다음 순위 상품으로 채우도록 다시 계산)
+     */
+    public void remove(Long productId) {
+        if (scores.remove(productId) == null) {
+            return;
+        }
+        rebuild(PopularityType.ALL_TIME);
+        rebuildTrending();
+    }
+
+    @PreDestroy
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void record(Product product, long delta) {
+        ProductScore score = scoreOf(product);
+        long allTime = score.allTime.addAndGet(delta);
+        buckets.get(currentBucket).computeIfAbsent(product.getId(), id -> new AtomicLong()).addAndGet(delta);
+        long trending = score.trending.addAndGet(delta);
+
+        rankings.get(PopularityType.ALL_TIME).update(score, allTime);
+        rankings.get(PopularityType.TRENDING).update(score, trending);
+    }
+
+    private ProductScore scoreOf(Product product) {
+        ProductScore score = scores.computeIfAbsent(product.getId(), ProductScore::new);
+        ProductCategory previous = score.category;
+        if (previous != product.getCategory()) {
+            score.category = product.getCategory();
+            // 이전 카테고리 순위에 남은 항목을 빼고, 새 카테고리 순위에는 현재 점수로 올림
+            if (previous != null) {
+                rebuildCategory(previous);
+                rebuildCategory(score.category);
+            }
+        }
+        return score;
+    }
+
+    private void rebuild(PopularityType type) {
+        Map<Long, Long> all = new HashMap<>();
+        Map<ProductCategory, Map<Long, Long>> byCategory = new EnumMap<>(ProductCategory.class);
+        scores.values().forEach(score -> {
+            long value = valueOf(score, type);
+            all.put(score.productId, value);
+            if (score.category != null) {
+                byCategory.computeIfAbsent(score.category, c -> new HashMap<>()).put(score.productId, value);
+            }
+        });
+
+        Rankings target = rankings.get(type);
+        target.all.rebuild(all);
+        target.byCategory.forEach((category, ranking) -> ranking.rebuild(byCategory.getOrDefault(category, Map.of())));
+    }
+
+    /**
+     * 구간 회전과 겹치지 않도록 같은 모니터에서 최근 순위를 다시 계산
+     */
+    private synchronized void rebuildTrending() {
+        rebuild(PopularityType.TRENDING);
+    }
+
+    private void rebuildCategory(ProductCategory category) {
+        if (category == null) {
+            return;
+        }
+        for (PopularityType type : PopularityType.values()) {
+            Map<Long, Long> values = new HashMap<>();
+            scores.values().forEach(score -> {
+                if (score.category == category) {
+                    values.put(score.productId, valueOf(score, type));
+                }
+            });
+            rankings.get(type).byCategory.get(category).rebuild(values);
+        }
+    }
+
+    private static long valueOf(ProductScore score, PopularityType type) {
+        return type == PopularityType.ALL_TIME ? score.allTime.get() : score.trending.get();
+    }
+
+    private void rotateSafely() {
+        try {
+            rotate();
+        } catch (RuntimeException e) {
+            log.error("[Popularity] 구간 회전 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private static final class ProductScore {
+        private final Long productId;
+        private volatile ProductCategory category;
+        private final AtomicLong allTime = new AtomicLong();
+        private final AtomicLong trending = new AtomicLong();
+
+        private ProductScore(Long productId) {
+            this.productId = productId;
+        }
+    }
+
+    private static final class Rankings {
+        private final TopKRanking all;
+        private final Map<ProductCategory, TopKRanking> byCategory = new EnumMap<>(ProductCategory.class);
+
+        private Rankings(int capacity) {
+            this.all = new TopKRanking(capacity);
+            for (ProductCategory category : ProductCategory.values()) {
+                byCategory.put(category, new TopKRanking(capacity));
+            }
+        }
+
+        private TopKRanking of(ProductCategory category) {
+            return category == null ? all : byCategory.get(category);
+        }
+
+        private void update(ProductScore score, long value) {
+            all.update(score.productId, value);
+            if (score.category != null) {
+                byCategory.get(score.category).update(score.productId, value);
+            }
+        }
+    }
+}
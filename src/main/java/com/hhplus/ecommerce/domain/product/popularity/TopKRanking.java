@@ -0,0 +1,98 @@
+package com.hhplus.ecommerce.domain.product.popularity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상위 K개 상품 순위 (점수 내림차순, 동점이면 ID 내림차순 - 상품 정렬 인덱스의 인기순과 같은 순서)
+ * 점수는 증가만 한다고 가정하고 갱신하며, 감소가 있으면 rebuild로 다시 계산
+ * 순위 밖 상품이 커트라인보다 낮은 점수로 갱신되면 락 없이 바로 반환
+ */
+final class TopKRanking {
+
+    private static final Comparator<Ranked> ORDER = Comparator.comparingLong(Ranked::score).reversed()
+            .thenComparing(Ranked::productId, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final NavigableSet<Ranked> ranked = new TreeSet<>(ORDER);
+    private final Map<Long, Ranked> rankedById = new HashMap<>();
+    private final Set<Long> memberIds = ConcurrentHashMap.newKeySet();
+    private volatile long threshold = Long.MIN_VALUE;
+
+    TopKRanking(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void update(Long productId, long score) {
+        if (score <= 0 || (score < threshold && !memberIds.contains(productId))) {
+            return;
+        }
+        synchronized (this) {
+            place(new Ranked(productId, score));
+        }
+    }
+
+    synchronized void rebuild(Map<Long, Long> scores) {
+        ranked.clear();
+        rankedById.clear();
+        memberIds.clear();
+        threshold = Long.MIN_VALUE;
+        scores.forEach((productId, score) -> {
+            if (score > 0) {
+                place(new Ranked(productId, score));
+            }
+        });
+    }
+
+    synchronized List<Long> findIds(int offset, int limit) {
+        List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, ranked.size() - offset)));
+        Iterator<Ranked> iterator = ranked.iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (ids.size() < limit && iterator.hasNext()) {
+            ids.add(iterator.next().productId());
+        }
+        return ids;
+    }
+
+    synchronized int size() {
+        return ranked.size();
+    }
+
+    private void place(Ranked next) {
+        Ranked previous = rankedById.remove(next.productId());
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+
+        if (ranked.size() < capacity) {
+            add(next);
+        } else if (ORDER.compare(next, ranked.last()) < 0) {
+            Ranked evicted = ranked.pollLast();
+            rankedById.remove(evicted.productId());
+            memberIds.remove(evicted.productId());
+            add(next);
+        } else {
+            memberIds.remove(next.productId());
+        }
+        threshold = ranked.size() < capacity ? Long.MIN_VALUE : ranked.last().score();
+    }
+
+    private void add(Ranked entry) {
+        ranked.add(entry);
+        rankedById.put(entry.productId(), entry);
+        memberIds.add(entry.productId());
+    }
+
+    private record Ranked(Long productId, long score) {
+    }
+}
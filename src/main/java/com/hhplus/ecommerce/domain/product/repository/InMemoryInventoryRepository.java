@@ -2,8 +2,10 @@ package com.hhplus.ecommerce.domain.product.repository;
 
 import com.hhplus.ecommerce.domain.product.model.Inventory;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ public class InMemoryInventoryRepository implements InventoryRepository {
     @Override
     public Inventory save(Inventory inventory) {
         InMemoryDataStore.INVENTORY.put(inventory.getId(), inventory);
+        InMemoryDataStore.INVENTORY_BY_PRODUCT_ID.index(inventory);
+        InMemoryDataStore.recordSave(StoreTable.INVENTORY, inventory);
         return inventory;
     }
 
@@ -26,9 +30,18 @@ public class InMemoryInventoryRepository implements InventoryRepository {
 
     @Override
     public Optional<Inventory> findByProductId(Long productId) {
-        return InMemoryDataStore.INVENTORY.values().stream()
-                .filter(inv -> inv.getProductId().equals(productId))
-                .findFirst();
+        return InMemoryDataStore.INVENTORY_BY_PRODUCT_ID.findId(productId)
+                .map(InMemoryDataStore.INVENTORY::get)
+                .filter(inv -> inv.getProductId().equals(productId));
+    }
+
+    @Override
+    public List<Inventory> findAllByProductIds(Collection<Long> productIds) {
+        return productIds.stream()
+                .distinct()
+                .map(this::findByProductId)
+                .flatMap(Optional::stream)
+                .toList();
     }
 
     @Override
@@ -46,6 +59,8 @@ public class InMemoryInventoryRepository implements InventoryRepository {
     @Override
     public void deleteById(Long id) {
         InMemoryDataStore.INVENTORY.remove(id);
+        InMemoryDataStore.INVENTORY_BY_PRODUCT_ID.remove(id);
+        InMemoryDataStore.recordDelete(StoreTable.INVENTORY, id);
     }
 
     @Override
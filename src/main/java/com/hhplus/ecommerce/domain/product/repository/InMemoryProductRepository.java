@@ -2,11 +2,20 @@ package com.hhplus.ecommerce.domain.product.repository;
 
 import com.hhplus.ecommerce.domain.product.model.product.Product;
 import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductFacets;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchCondition;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchResult;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSort;
 import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
 import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+import com.hhplus.ecommerce.global.storage.index.CompositeKey;
+import com.hhplus.ecommerce.global.storage.index.SortedIndex;
+import com.hhplus.ecommerce.global.storage.index.TextIndex;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +24,13 @@ public class InMemoryProductRepository implements ProductRepository {
     @Override
     public Product save(Product product) {
         InMemoryDataStore.PRODUCTS.put(product.getId(), product);
+        InMemoryDataStore.PRODUCTS_BY_CATEGORY.index(product);
+        InMemoryDataStore.PRODUCTS_BY_STATUS.index(product);
+        InMemoryDataStore.PRODUCTS_BY_CATEGORY_AND_STATUS.index(product);
+        InMemoryDataStore.PRODUCT_SORTED_INDEXES.forEach(index -> index.index(product));
+        InMemoryDataStore.PRODUCTS_BY_TEXT.index(product);
+        InMemoryDataStore.PRODUCT_FACET_INDEXES.forEach(index -> index.index(product));
+        InMemoryDataStore.recordSave(StoreTable.PRODUCTS, product);
         return product;
     }
 
@@ -30,32 +46,123 @@ public class InMemoryProductRepository implements ProductRepository {
 
     @Override
     public List<Product> findByCategory(ProductCategory category) {
-        return InMemoryDataStore.PRODUCTS.values().stream()
+        return InMemoryDataStore.PRODUCTS_BY_CATEGORY.findIds(category).stream()
+                .map(InMemoryDataStore.PRODUCTS::get)
+                .filter(Objects::nonNull)
                 .filter(p -> p.getCategory() == category)
                 .toList();
     }
 
     @Override
     public List<Product> findByStatus(ProductStatus status) {
-        return InMemoryDataStore.PRODUCTS.values().stream()
+        return InMemoryDataStore.PRODUCTS_BY_STATUS.findIds(status).stream()
+                .map(InMemoryDataStore.PRODUCTS::get)
+                .filter(Objects::nonNull)
                 .filter(p -> p.getStatus() == status)
                 .toList();
     }
 
     @Override
     public List<Product> findByCategoryAndStatus(ProductCategory category, ProductStatus status) {
-        return InMemoryDataStore.PRODUCTS.values().stream()
+        return InMemoryDataStore.PRODUCTS_BY_CATEGORY_AND_STATUS.findIds(CompositeKey.of(category, status)).stream()
+                .map(InMemoryDataStore.PRODUCTS::get)
+                .filter(Objects::nonNull)
                 .filter(p -> p.getCategory() == category && p.getStatus() == status)
                 .toList();
     }
 
+    @Override
+    public List<Product> findPage(ProductCategory category, ProductStatus status, ProductSort sort, int offset, int limit) {
+        return sortedIndex(sort).findIds(CompositeKey.of(category, status), sort.isDescending(), offset, limit).stream()
+                .map(InMemoryDataStore.PRODUCTS::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Product> findPageAfter(ProductCategory category, ProductStatus status, ProductSort sort,
+                                       Object afterSortKey, Long afterId, int limit) {
+        return findIdsAfter(sortedIndex(sort), CompositeKey.of(category, status), sort.isDescending(), afterSortKey, afterId, limit)
+                .stream()
+                .map(InMemoryDataStore.PRODUCTS::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public int count(ProductCategory category, ProductStatus status) {
+        return InMemoryDataStore.PRODUCTS_SORTED_BY_ID.count(CompositeKey.of(category, status));
+    }
+
+    @Override
+    public ProductSearchResult search(ProductSearchCondition condition, ProductSort sort, int offset, int limit) {
+        if (condition.hasKeyword()) {
+            TextIndex.Hits hits = InMemoryDataStore.PRODUCTS_BY_TEXT.search(condition.keyword(), id -> {
+                Product product = InMemoryDataStore.PRODUCTS.get(id);
+                return product != null && condition.matches(product);
+            }, offset, limit);
+            return new ProductSearchResult(toProducts(hits.ids()), hits.totalHits());
+        }
+
+        Object partition = CompositeKey.of(condition.category(), condition.status());
+        List<Long> ids = InMemoryDataStore.PRODUCTS_SORTED_BY_PRICE.findIdsBetween(
+                partition, sort == ProductSort.PRICE_DESC, condition.minPrice(), condition.maxPrice(), offset, limit);
+        int totalElements = InMemoryDataStore.PRODUCTS_SORTED_BY_PRICE.countBetween(
+                partition, condition.minPrice(), condition.maxPrice());
+        return new ProductSearchResult(toProducts(ids), totalElements);
+    }
+
+    @Override
+    public ProductFacets countFacets(ProductCategory category, ProductStatus status) {
+        // 각 패싯은 자기 조건을 뺀 나머지 조건의 범위에서 집계 (선택한 카테고리 외 다른 카테고리의 건수도 표시)
+        return new ProductFacets(
+                InMemoryDataStore.PRODUCT_FACETS_BY_CATEGORY.counts(CompositeKey.of(null, status)),
+                InMemoryDataStore.PRODUCT_FACETS_BY_STATUS.counts(CompositeKey.of(category, null)),
+                InMemoryDataStore.PRODUCT_FACETS_BY_BRAND.counts(CompositeKey.of(category, status)),
+                InMemoryDataStore.PRODUCT_FACETS_BY_PRICE_BUCKET.counts(CompositeKey.of(category, status))
+        );
+    }
+
     @Override
     public void deleteById(Long id) {
         InMemoryDataStore.PRODUCTS.remove(id);
+        InMemoryDataStore.PRODUCTS_BY_CATEGORY.remove(id);
+        InMemoryDataStore.PRODUCTS_BY_STATUS.remove(id);
+        InMemoryDataStore.PRODUCTS_BY_CATEGORY_AND_STATUS.remove(id);
+        InMemoryDataStore.PRODUCT_SORTED_INDEXES.forEach(index -> index.remove(id));
+        InMemoryDataStore.PRODUCTS_BY_TEXT.remove(id);
+        InMemoryDataStore.PRODUCT_FACET_INDEXES.forEach(index -> index.remove(id));
+        InMemoryDataStore.recordDelete(StoreTable.PRODUCTS, id);
     }
 
     @Override
     public Long generateNextId() {
         return InMemoryDataStore.productIdSequence.incrementAndGet();
     }
+
+    private List<Product> toProducts(List<Long> ids) {
+        return ids.stream()
+                .map(InMemoryDataStore.PRODUCTS::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K extends Comparable<? super K>> List<Long> findIdsAfter(
+            SortedIndex<K, Product> index, Object partition, boolean descending, Object afterSortKey, Long afterId, int limit) {
+        // 정렬 키 타입은 ProductSort.parseSortKey가 인덱스의 키 타입과 같게 해석함
+        return index.findIdsAfter(partition, descending, (K) afterSortKey, afterId, limit);
+    }
+
+    private SortedIndex<?, Product> sortedIndex(ProductSort sort) {
+        return switch (sort) {
+            case ID_ASC -> InMemoryDataStore.PRODUCTS_SORTED_BY_ID;
+            case PRICE_ASC, PRICE_DESC -> InMemoryDataStore.PRODUCTS_SORTED_BY_PRICE;
+            case NAME_ASC -> InMemoryDataStore.PRODUCTS_SORTED_BY_NAME;
+            case CREATED_DESC -> InMemoryDataStore.PRODUCTS_SORTED_BY_CREATED_AT;
+            case VIEWS_DESC -> InMemoryDataStore.PRODUCTS_SORTED_BY_VIEWS;
+            case SALES_DESC -> InMemoryDataStore.PRODUCTS_SORTED_BY_SALES;
+            case POPULAR_DESC -> InMemoryDataStore.PRODUCTS_SORTED_BY_POPULARITY;
+        };
+    }
 }
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.domain.product.repository;
 
 import com.hhplus.ecommerce.domain.product.model.Inventory;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ public interface InventoryRepository {
     Inventory save(Inventory inventory);
     Optional<Inventory> findById(Long id);
     Optional<Inventory> findByProductId(Long productId);
+    List<Inventory> findAllByProductIds(Collection<Long> productIds);
     List<Inventory> findAll();
     List<Inventory> findLowStockProducts();
     void deleteById(Long id);
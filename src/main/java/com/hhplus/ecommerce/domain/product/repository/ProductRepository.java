@@ -2,6 +2,10 @@ package com.hhplus.ecommerce.domain.product.repository;
 
 import com.hhplus.ecommerce.domain.product.model.product.Product;
 import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductFacets;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchCondition;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchResult;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSort;
 import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
 
 import java.util.List;
@@ -14,6 +18,31 @@ public interface ProductRepository {
     List<Product> findByCategory(ProductCategory category);
     List<Product> findByStatus(ProductStatus status);
     List<Product> findByCategoryAndStatus(ProductCategory category, ProductStatus status);
+
+    /**
+     * 정렬 인덱스로 목록의 한 구간만 조회 (category/status가 null이면 조건 없음)
+     */
+    List<Product> findPage(ProductCategory category, ProductStatus status, ProductSort sort, int offset, int limit);
+
+    /**
+     * 정렬 인덱스에서 (afterSortKey, afterId) 다음 항목부터 limit개 조회 (키셋 페이지네이션)
+     */
+    List<Product> findPageAfter(ProductCategory category, ProductStatus status, ProductSort sort,
+                                Object afterSortKey, Long afterId, int limit);
+
+    int count(ProductCategory category, ProductStatus status);
+
+    /**
+     * 상품 검색
+     * 키워드가 있으면 검색 인덱스에서 관련도 순, 없으면 가격 정렬 인덱스의 가격 구간을 가격 순(PRICE_DESC면 역순)으로 조회
+     */
+    ProductSearchResult search(ProductSearchCondition condition, ProductSort sort, int offset, int limit);
+
+    /**
+     * 카테고리/상태/브랜드/가격대별 상품 수 (category/status가 null이면 조건 없음)
+     */
+    ProductFacets countFacets(ProductCategory category, ProductStatus status);
+
     void deleteById(Long id);
     Long generateNextId();
 }
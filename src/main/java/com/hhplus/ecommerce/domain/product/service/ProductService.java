@@ -1,41 +1,63 @@
 package com.hhplus.ecommerce.domain.product.service;
 
+import com.hhplus.ecommerce.domain.product.counter.ProductCounterStore;
+import com.hhplus.ecommerce.domain.product.dto.ProductFacetResponse;
 import com.hhplus.ecommerce.domain.product.dto.ProductResponse;
 import com.hhplus.ecommerce.domain.product.exception.ProductErrorCode;
 import com.hhplus.ecommerce.domain.product.model.Inventory;
 import com.hhplus.ecommerce.domain.product.model.product.Product;
 import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductFacets;
+import com.hhplus.ecommerce.domain.product.model.product.ProductPriceBucket;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchCondition;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchResult;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSort;
 import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
+import com.hhplus.ecommerce.domain.product.popularity.PopularityType;
+import com.hhplus.ecommerce.domain.product.popularity.ProductPopularityTracker;
 import com.hhplus.ecommerce.domain.product.repository.InventoryRepository;
 import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import com.hhplus.ecommerce.global.dto.CursorResult;
+import com.hhplus.ecommerce.global.dto.KeysetCursor;
+import com.hhplus.ecommerce.global.dto.PageMeta;
 import com.hhplus.ecommerce.global.dto.PagedResult;
 import com.hhplus.ecommerce.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final String TRENDING_SORT = "trending";
+
     private final ProductRepository productRepository;
     private final InventoryRepository inventoryRepository;
+    private final ProductPopularityTracker popularityTracker;
+    private final ProductCounterStore counterStore;
 
     public Product findProductById(Long id) {
         return productRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    /**
+     * 상품 상세 조회 (조회수는 카운터에만 더하고 상품 저장은 주기적 반영에 맡김)
+     */
     public ProductResponse getProductDetail(Long id) {
         Product product = findProductById(id);
         Inventory inventory = getInventory(id);
 
-        product.incrementViewCount();
-        productRepository.save(product);
+        counterStore.incrementView(id);
 
         return ProductResponse.of(
                 product.getId(),
@@ -54,45 +76,53 @@ public class ProductService {
     }
 
     public PagedResult<ProductResponse> getProducts(ProductCategory category, ProductStatus status, String sort, int page, int size)  {
-        List<Product> products = productRepository.findAll();
-
-        Map<Long, Inventory> inventories = loadAllInventoriesAsMap();
+        return getSortedPage(category, status, ProductSort.fromSortParam(sort), page, size);
+    }
 
-        var stream = products.stream();
+    /**
+     * 커서 기반 상품 목록 조회 (cursor가 비어 있으면 첫 페이지)
+     */
+    public CursorResult<ProductResponse> getProductsByCursor(ProductCategory category, ProductStatus status, String sort, String cursor, int size) {
+        return getSortedSlice(category, status, ProductSort.fromSortParam(sort), cursor, size);
+    }
 
-        if (category != null) {
-            stream = stream.filter(p -> p.getCategory() == category);
-        }
-        if (status != null) {
-            stream = stream.filter(p -> p.getStatus() == status);
+    /**
+     * 상품 검색 (키워드가 있으면 관련도 순, 가격 범위만 있으면 가격 순)
+     * 카테고리/상태/가격 조건은 검색 후보에 바로 적용하고 요청한 페이지의 상품 재고만 조회
+     */
+    public PagedResult<ProductResponse> searchProducts(ProductSearchCondition condition, String sort, int page, int size) {
+        if (condition.minPrice() != null && condition.maxPrice() != null && condition.minPrice() > condition.maxPrice()) {
+            throw new BusinessException(ProductErrorCode.INVALID_PRICE_RANGE);
         }
 
-        Comparator<Product> comparator = getComparatorForSort(sort);
-        if (comparator != null) {
-            stream = stream.sorted(comparator);
-        }
+        ProductSearchResult result = productRepository.search(condition, ProductSort.fromSortParam(sort), page * size, size);
+        return PagedResult.of(toProductResponses(result.products()), PageMeta.of(page, size, result.totalElements()));
+    }
 
-        List<ProductResponse> responses = stream
-                .map(p -> {
-                    Inventory inv = inventories.getOrDefault(p.getId(), Inventory.empty());
-                    return ProductResponse.of(
-                            p.getId(),
-                            p.getName(),
-                            p.getDescription(),
-                            p.getPrice(),
-                            p.getCategory().name(),
-                            p.getBrand(),
-                            p.getImageUrl(),
-                            p.getStatus().name(),
-                            inv.getStock(),
-                            inv.getReservedStock(),
-                            inv.getAvailableStock(),
-                            p.getCreatedAt()
-                    );
-                })
+    /**
+     * 상품 패싯 집계 조회 (저장 시점에 갱신된 건수만 읽음, 상품 스캔 없음)
+     * 카테고리/상태/가격대는 0건도 포함하고, 브랜드는 상품이 있는 것만 상품 수 내림차순으로 반환
+     */
+    public ProductFacetResponse getProductFacets(ProductCategory category, ProductStatus status) {
+        ProductFacets facets = productRepository.countFacets(category, status);
+
+        List<ProductFacetResponse.FacetCount> categories = Arrays.stream(ProductCategory.values())
+                .map(c -> new ProductFacetResponse.FacetCount(c.name(), facets.categories().getOrDefault(c, 0)))
+                .toList();
+        List<ProductFacetResponse.FacetCount> statuses = Arrays.stream(ProductStatus.values())
+                .map(s -> new ProductFacetResponse.FacetCount(s.name(), facets.statuses().getOrDefault(s, 0)))
+                .toList();
+        List<ProductFacetResponse.FacetCount> brands = facets.brands().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> new ProductFacetResponse.FacetCount(entry.getKey(), entry.getValue()))
+                .toList();
+        List<ProductFacetResponse.PriceRangeCount> priceRanges = Arrays.stream(ProductPriceBucket.values())
+                .map(b -> new ProductFacetResponse.PriceRangeCount(
+                        b.name(), b.getMinPrice(), b.getMaxPrice(), facets.priceBuckets().getOrDefault(b, 0)))
                 .toList();
 
-        return PagedResult.of(responses, page, size);
+        return new ProductFacetResponse(categories, statuses, brands, priceRanges);
     }
 
     public Inventory getInventory(Long productId) {
@@ -105,34 +135,81 @@ public class ProductService {
     }
 
     public Map<Long, Inventory> getInventoriesAsMap(List<Long> productIds) {
-        return inventoryRepository.findAll().stream()
-                .filter(inv -> productIds.contains(inv.getProductId()))
+        return productIds.stream()
+                .distinct()
+                .map(inventoryRepository::findByProductId)
+                .flatMap(Optional::stream)
                 .collect(Collectors.toMap(Inventory::getProductId, inv -> inv));
     }
 
     public Map<Long, Product> getProductsAsMap(List<Long> productIds) {
-        return productRepository.findAll().stream()
-                .filter(p -> productIds.contains(p.getId()))
+        return productIds.stream()
+                .distinct()
+                .map(productRepository::findById)
+                .flatMap(Optional::stream)
                 .collect(Collectors.toMap(Product::getId, p -> p));
     }
 
-    private Map<Long, Inventory> loadAllInventoriesAsMap() {
-        return inventoryRepository.findAll().stream()
-                .collect(Collectors.toMap(Inventory::getProductId, inv -> inv));
-    }
-
     public void reserveStock(Long productId, int quantity) {
         Inventory inventory = getInventory(productId);
         inventory.reserve(quantity);
         inventoryRepository.save(inventory);
     }
 
+    /**
+     * 여러 상품 재고 일괄 예약 (all-or-nothing)
+     * 상품 ID 오름차순으로 예약하고, 중간에 어떤 예외로 실패하든 앞서 예약한 수량을 역순으로 해제한 뒤 예외를 던짐
+     *
+     * @param quantities 상품 ID → 예약 수량
+     */
+    public void reserveStocks(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+        Map<Long, Inventory> inventories = inventoryRepository.findAllByProductIds(sortedQuantities.keySet()).stream()
+                .collect(Collectors.toMap(Inventory::getProductId, inv -> inv));
+
+        List<Inventory> reserved = new ArrayList<>(sortedQuantities.size());
+        try {
+            for (Map.Entry<Long, Integer> entry : sortedQuantities.entrySet()) {
+                Inventory inventory = inventories.get(entry.getKey());
+                if (inventory == null) {
+                    throw new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND);
+                }
+                inventory.reserve(entry.getValue());
+                reserved.add(inventory);
+            }
+        } catch (RuntimeException e) {
+            for (int i = reserved.size() - 1; i >= 0; i--) {
+                Inventory inventory = reserved.get(i);
+                inventory.releaseReservation(sortedQuantities.get(inventory.getProductId()));
+            }
+            throw e;
+        }
+
+        reserved.forEach(inventoryRepository::save);
+    }
+
+    /**
+     * 여러 상품 재고 예약 일괄 해제 (주문 생성 실패 시 보상)
+     */
+    public void releaseStockReservations(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::releaseStockReservation);
+    }
+
     public void confirmStockReservation(Long productId, int quantity) {
         Inventory inventory = getInventory(productId);
         inventory.confirmReservation(quantity);
         inventoryRepository.save(inventory);
     }
 
+    /**
+     * 재고 예약 확정 되돌리기 (결제 완료 처리 실패 시 보상)
+     */
+    public void revertStockConfirmation(Long productId, int quantity) {
+        Inventory inventory = getInventory(productId);
+        inventory.revertConfirmation(quantity);
+        inventoryRepository.save(inventory);
+    }
+
     public void releaseStockReservation(Long productId, int quantity) {
         Inventory inventory = getInventory(productId);
         inventory.releaseReservation(quantity);
@@ -140,26 +217,82 @@ public class ProductService {
     }
 
     public void incrementSalesCount(Long productId, int quantity) {
-        Product product = findProductById(productId);
-        product.incrementSalesCount(quantity);
-        productRepository.save(product);
+        findProductById(productId);
+        counterStore.incrementSales(productId, quantity);
     }
 
     public PagedResult<ProductResponse> getPopularProducts(int page, int size, String sortBy) {
-        List<Product> products = productRepository.findAll();
-        Map<Long, Inventory> inventories = loadAllInventoriesAsMap();
-
-        Comparator<Product> comparator = switch (sortBy) {
-            case "views" -> Comparator.comparing(p -> p.getViewCount() == null ? 0 : p.getViewCount(), Comparator.reverseOrder());
-            case "sales" -> Comparator.comparing(p -> p.getSalesCount() == null ? 0 : p.getSalesCount(), Comparator.reverseOrder());
-            case "popular" -> Comparator.comparing(Product::getPopularityScore, Comparator.reverseOrder());
-            default -> Comparator.comparing(Product::getPopularityScore, Comparator.reverseOrder());
-        };
-
-        List<ProductResponse> responses = products.stream()
-                .sorted(comparator)
+        return getPopularProducts(null, page, size, sortBy);
+    }
+
+    /**
+     * 인기 상품 조회 (category가 null이면 전체)
+     * trending은 최근 구간 점수 상위 K개, popular는 상위 K개 이내 페이지면 인기 순위 추적기에서 바로 읽고
+     * 그 밖의 페이지와 조회수/판매량 정렬은 정렬 인덱스에서 조회
+     */
+    public PagedResult<ProductResponse> getPopularProducts(ProductCategory category, int page, int size, String sortBy) {
+        if (TRENDING_SORT.equals(sortBy)) {
+            int totalElements = popularityTracker.rankedCount(category, PopularityType.TRENDING);
+            List<Long> ids = popularityTracker.findTopIds(category, PopularityType.TRENDING, page * size, size);
+            return PagedResult.of(toProductResponses(findProductsInOrder(ids)), PageMeta.of(page, size, totalElements));
+        }
+
+        ProductSort sort = ProductSort.fromPopularSortBy(sortBy);
+        if (sort == ProductSort.POPULAR_DESC
+                && (page + 1) * size <= popularityTracker.rankedCount(category, PopularityType.ALL_TIME)) {
+            int totalElements = productRepository.count(category, null);
+            List<Long> ids = popularityTracker.findTopIds(category, PopularityType.ALL_TIME, page * size, size);
+            return PagedResult.of(toProductResponses(findProductsInOrder(ids)), PageMeta.of(page, size, totalElements));
+        }
+        return getSortedPage(category, null, sort, page, size);
+    }
+
+    /**
+     * 커서 기반 인기 상품 조회 (cursor가 비어 있으면 첫 페이지)
+     */
+    public CursorResult<ProductResponse> getPopularProductsByCursor(ProductCategory category, String sortBy, String cursor, int size) {
+        return getSortedSlice(category, null, ProductSort.fromPopularSortBy(sortBy), cursor, size);
+    }
+
+    /**
+     * 정렬 인덱스에서 요청한 페이지 구간(page * size부터 size개)만 읽고, 해당 상품의 재고만 조회
+     */
+    private PagedResult<ProductResponse> getSortedPage(ProductCategory category, ProductStatus status, ProductSort sort, int page, int size) {
+        int totalElements = productRepository.count(category, status);
+        List<Product> products = productRepository.findPage(category, status, sort, page * size, size);
+        return PagedResult.of(toProductResponses(products), PageMeta.of(page, size, totalElements));
+    }
+
+    /**
+     * 커서(마지막 항목의 정렬 키 + ID) 다음부터 size개만 정렬 인덱스에서 읽음
+     * 다음 페이지 존재 여부는 size + 1개를 읽어 판단
+     */
+    private CursorResult<ProductResponse> getSortedSlice(ProductCategory category, ProductStatus status, ProductSort sort, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, sort.name());
+        List<Product> products = after == null
+                ? productRepository.findPage(category, status, sort, 0, size + 1)
+                : productRepository.findPageAfter(category, status, sort, sort.parseSortKey(after.sortKey()), after.id(), size + 1);
+
+        String nextCursor = null;
+        if (products.size() > size) {
+            products = products.subList(0, size);
+            Product last = products.get(size - 1);
+            nextCursor = KeysetCursor.of(sort.name(), sort.sortKeyOf(last), last.getId()).encode();
+        }
+        return CursorResult.of(toProductResponses(products), size, nextCursor);
+    }
+
+    private List<Product> findProductsInOrder(List<Long> ids) {
+        return ids.stream()
+                .map(productRepository::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private List<ProductResponse> toProductResponses(List<Product> products) {
+        return products.stream()
                 .map(p -> {
-                    Inventory inv = inventories.getOrDefault(p.getId(), Inventory.empty());
+                    Inventory inv = inventoryRepository.findByProductId(p.getId()).orElseGet(Inventory::empty);
                     return ProductResponse.of(
                             p.getId(),
                             p.getName(),
@@ -176,23 +309,6 @@ public class ProductService {
                     );
                 })
                 .toList();
-
-        return PagedResult.of(responses, page, size);
-    }
-
-    private Comparator<Product> getComparatorForSort(String sort) {
-        if (sort == null || sort.isBlank()) return null;
-
-        return switch (sort) {
-            case "price,asc" -> Comparator.comparing(Product::getPrice);
-            case "price,desc" -> Comparator.comparing(Product::getPrice).reversed();
-            case "name,asc" -> Comparator.comparing(Product::getName);
-            case "created,desc" -> Comparator.comparing(Product::getCreatedAt).reversed();
-            case "popular" -> Comparator.comparing(Product::getPopularityScore).reversed();
-            case "views,desc" -> Comparator.comparing(p -> p.getViewCount() == null ? 0 : p.getViewCount(), Comparator.reverseOrder());
-            case "sales,desc" -> Comparator.comparing(p -> p.getSalesCount() == null ? 0 : p.getSalesCount(), Comparator.reverseOrder());
-            default -> null;
-        };
     }
 
 }
@@ -1,74 +1,125 @@
 package com.hhplus.ecommerce.external.pg;
 
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.Random;
+import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 모의 PG
+ * 응답 지연/장애/승인 여부는 PaymentGatewaySimulator 프로파일을 따르고, 처리한 결과는 PgIdempotencyStore에 보관
+ */
 @Slf4j
 @Hidden
 @RestController
 @RequestMapping("/mock/api/v1/payments")
+@RequiredArgsConstructor
 public class PaymentGatewayController {
 
-    private final Random random = new Random();
-    private final Map<String, Map<String, Object>> processedPayments = new ConcurrentHashMap<>();
+    private static final String[] FAIL_REASONS = {
+        "카드 한도 초과",
+        "잔액 부족",
+        "카드 정보 불일치",
+        "은행 시스템 오류",
+        "승인 거부",
+        "카드 사용 정지"
+    };
+
+    private final PaymentGatewaySimulator simulator;
+    private final PgIdempotencyStore idempotencyStore;
 
     @PostMapping("/process")
-    public Map<String, Object> processPayment(@RequestBody Map<String, Object> request) {
-        Long orderId = ((Number) request.get("orderId")).longValue();
-        Long amount = ((Number) request.get("amount")).longValue();
+    public ResponseEntity<Map<String, Object>> processPayment(@RequestBody Map<String, Object> request,
+                                                              HttpServletResponse servletResponse) throws IOException {
+        long orderId = ((Number) request.get("orderId")).longValue();
+        long amount = ((Number) request.get("amount")).longValue();
         String paymentMethod = (String) request.get("paymentMethod");
 
         log.info("[Mock PG] 결제 요청 수신 - orderId: {}, amount: {}, method: {}",
             orderId, amount, paymentMethod);
 
-        String cacheKey = orderId + "_" + amount;
-        if (processedPayments.containsKey(cacheKey)) {
-            log.info("[Mock PG] 멱등성 - 기존 응답 반환: {}", cacheKey);
-            return processedPayments.get(cacheKey);
+        Optional<PgPaymentResult> processed = idempotencyStore.find(orderId, amount);
+        if (processed.isPresent()) {
+            log.info("[Mock PG] 멱등성 - 기존 응답 반환 - orderId: {}, amount: {}", orderId, amount);
+            return ResponseEntity.ok(processed.get().toResponse());
+        }
+
+        PaymentGatewaySimulator.Decision decision = simulator.decide(orderId, amount);
+        if (!sleep(decision.latencyMillis())) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
 
-        boolean isSuccess = random.nextInt(100) < 80;
+        switch (decision.fault()) {
+            case TIMEOUT -> {
+                log.warn("[Mock PG] 타임아웃 주입 - orderId: {}, delay: {}ms", orderId, decision.latencyMillis());
+                return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+            }
+            case CONNECTION_RESET -> {
+                log.warn("[Mock PG] 연결 끊김 주입 - orderId: {}", orderId);
+                dropConnection(servletResponse);
+                return null;
+            }
+            case SERVER_ERROR -> {
+                log.warn("[Mock PG] 서버 오류 주입 - orderId: {}, brownout: {}", orderId, simulator.inBrownout());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(Map.of("success", false, "message", "PG 시스템 점검 중"));
+            }
+            default -> {
+                // 승인/거절은 처리된 결과이므로 보관 (장애 응답은 재요청 시 다시 판정)
+                PgPaymentResult result = idempotencyStore.putIfAbsent(process(orderId, amount, paymentMethod, decision));
+                return ResponseEntity.ok(result.toResponse());
+            }
+        }
+    }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("orderId", orderId);
-        response.put("amount", amount);
-        response.put("paymentMethod", paymentMethod);
-        response.put("success", isSuccess);
+    private PgPaymentResult process(long orderId, long amount, String paymentMethod,
+                                    PaymentGatewaySimulator.Decision decision) {
+        SplittableRandom random = decision.random();
+        long now = System.currentTimeMillis();
 
-        if (isSuccess) {
-            String transactionId = "TXN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-            response.put("transactionId", transactionId);
-            response.put("paidAt", LocalDateTime.now().toString());
-            response.put("message", "결제가 성공적으로 처리되었습니다");
+        if (decision.approved()) {
+            String transactionId = "TXN-" + new UUID(random.nextLong(), random.nextLong()).toString().substring(0, 8).toUpperCase();
             log.info("[Mock PG] 결제 성공 - orderId: {}, transactionId: {}", orderId, transactionId);
-        } else {
-            String failReason = getRandomFailReason();
-            response.put("message", failReason);
-            response.put("failedAt", LocalDateTime.now().toString());
-            log.warn("[Mock PG] 결제 실패 - orderId: {}, reason: {}", orderId, failReason);
+            return PgPaymentResult.approved(orderId, amount, paymentMethod, transactionId, now);
         }
+        String failReason = FAIL_REASONS[random.nextInt(FAIL_REASONS.length)];
+        log.warn("[Mock PG] 결제 실패 - orderId: {}, reason: {}", orderId, failReason);
+        return PgPaymentResult.declined(orderId, amount, paymentMethod, failReason, now);
+    }
 
-        processedPayments.put(cacheKey, response);
-        return response;
+    /**
+     * 본문 길이를 실제보다 길게 알리고 일부만 보낸 뒤 연결을 닫음 (클라이언트는 응답을 읽다가 연결이 끊김)
+     */
+    private void dropConnection(HttpServletResponse response) throws IOException {
+        byte[] partial = "{\"orderId\":".getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.OK.value());
+        response.setHeader("Connection", "close");
+        response.setContentType("application/json");
+        response.setContentLength(1024);
+        response.getOutputStream().write(partial);
+        response.flushBuffer();
     }
 
-    private String getRandomFailReason() {
-        String[] failReasons = {
-            "카드 한도 초과",
-            "잔액 부족",
-            "카드 정보 불일치",
-            "은행 시스템 오류",
-            "승인 거부",
-            "카드 사용 정지"
-        };
-        return failReasons[random.nextInt(failReasons.length)];
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
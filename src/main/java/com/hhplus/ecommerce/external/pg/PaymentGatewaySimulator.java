@@ -0,0 +1,145 @@
+package com.hhplus.ecommerce.external.pg;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 모의 PG 동작 프로파일
+ * 요청마다 응답 지연, 장애(타임아웃/연결 끊김/5xx), 승인 여부를 정함 (설정: mock.pg.*, 예시 프로파일: pg-realistic, pg-brownout)
+ *
+ * <ul>
+ *   <li>seed를 지정하면 같은 (주문 ID, 금액) 요청은 실행 순서/동시성과 무관하게 항상 같은 결과</li>
+ *   <li>브라운아웃: epoch 기준 period마다 처음 duration 동안 지연에 latency-multiplier를 곱하고 5xx 비율을 error-rate로 올림</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PaymentGatewaySimulator {
+
+    public enum Fault {
+        NONE, TIMEOUT, CONNECTION_RESET, SERVER_ERROR
+    }
+
+    /**
+     * 요청 한 건의 결과
+     *
+     * @param latencyMillis 응답 전 지연 (TIMEOUT이면 응답 없이 기다릴 시간)
+     * @param approved      Fault.NONE일 때 승인 여부
+     * @param random        결과에 종속된 난수 (거래 ID/실패 사유 선택용)
+     */
+    public record Decision(Fault fault, long latencyMillis, boolean approved, SplittableRandom random) {
+    }
+
+    private final Long seed;
+    private final double successRate;
+    private final PgLatencyDistribution distribution;
+    private final long baseLatencyMillis;
+    private final double sigma;
+    private final double tailRate;
+    private final long tailLatencyMillis;
+    private final double timeoutRate;
+    private final long timeoutMillis;
+    private final double resetRate;
+    private final double errorRate;
+    private final long brownoutPeriodMillis;
+    private final long brownoutDurationMillis;
+    private final double brownoutLatencyMultiplier;
+    private final double brownoutErrorRate;
+    private final LongSupplier currentTimeMillis;
+
+    public PaymentGatewaySimulator(
+            @Value("${mock.pg.seed:#{null}}") Long seed,
+            @Value("${mock.pg.success-rate:0.8}") double successRate,
+            @Value("${mock.pg.latency.distribution:NONE}") PgLatencyDistribution distribution,
+            @Value("${mock.pg.latency.base:PT0S}") Duration baseLatency,
+            @Value("${mock.pg.latency.sigma:0.5}") double sigma,
+            @Value("${mock.pg.latency.tail-rate:0.01}") double tailRate,
+            @Value("${mock.pg.latency.tail:PT5S}") Duration tailLatency,
+            @Value("${mock.pg.fault.timeout-rate:0}") double timeoutRate,
+            @Value("${mock.pg.fault.timeout:PT30S}") Duration timeout,
+            @Value("${mock.pg.fault.reset-rate:0}") double resetRate,
+            @Value("${mock.pg.fault.error-rate:0}") double errorRate,
+            @Value("${mock.pg.brownout.period:PT0S}") Duration brownoutPeriod,
+            @Value("${mock.pg.brownout.duration:PT0S}") Duration brownoutDuration,
+            @Value("${mock.pg.brownout.latency-multiplier:5}") double brownoutLatencyMultiplier,
+            @Value("${mock.pg.brownout.error-rate:0.5}") double brownoutErrorRate) {
+        this(seed, successRate, distribution, baseLatency, sigma, tailRate, tailLatency, timeoutRate, timeout,
+                resetRate, errorRate, brownoutPeriod, brownoutDuration, brownoutLatencyMultiplier, brownoutErrorRate,
+                System::currentTimeMillis);
+    }
+
+    PaymentGatewaySimulator(Long seed, double successRate, PgLatencyDistribution distribution, Duration baseLatency,
+                            double sigma, double tailRate, Duration tailLatency, double timeoutRate, Duration timeout,
+                            double resetRate, double errorRate, Duration brownoutPeriod, Duration brownoutDuration,
+                            double brownoutLatencyMultiplier, double brownoutErrorRate, LongSupplier currentTimeMillis) {
+        if (timeoutRate + resetRate + Math.max(errorRate, brownoutErrorRate) > 1.0) {
+            throw new IllegalArgumentException("mock.pg 장애 비율의 합은 1 이하여야 합니다.");
+        }
+        this.seed = seed;
+        this.successRate = successRate;
+        this.distribution = distribution;
+        this.baseLatencyMillis = baseLatency.toMillis();
+        this.sigma = sigma;
+        this.tailRate = tailRate;
+        this.tailLatencyMillis = tailLatency.toMillis();
+        this.timeoutRate = timeoutRate;
+        this.timeoutMillis = timeout.toMillis();
+        this.resetRate = resetRate;
+        this.errorRate = errorRate;
+        this.brownoutPeriodMillis = brownoutPeriod.toMillis();
+        this.brownoutDurationMillis = brownoutDuration.toMillis();
+        this.brownoutLatencyMultiplier = brownoutLatencyMultiplier;
+        this.brownoutErrorRate = brownoutErrorRate;
+        this.currentTimeMillis = currentTimeMillis;
+
+        log.info("[Mock PG] 프로파일 - seed: {}, successRate: {}, latency: {}({}ms), timeout/reset/error: {}/{}/{}, brownout: {}/{}",
+                seed, successRate, distribution, baseLatencyMillis, timeoutRate, resetRate, errorRate,
+                brownoutDuration, brownoutPeriod);
+    }
+
+    public Decision decide(long orderId, long amount) {
+        SplittableRandom random = randomFor(orderId, amount);
+        boolean brownout = inBrownout();
+
+        long latencyMillis = distribution.sampleMillis(random, baseLatencyMillis, sigma, tailRate, tailLatencyMillis);
+        if (brownout) {
+            latencyMillis = Math.round(latencyMillis * brownoutLatencyMultiplier);
+        }
+
+        double faultRoll = random.nextDouble();
+        boolean approved = random.nextDouble() < successRate;
+        double currentErrorRate = brownout ? brownoutErrorRate : errorRate;
+
+        if (faultRoll < timeoutRate) {
+            return new Decision(Fault.TIMEOUT, timeoutMillis, false, random);
+        }
+        if (faultRoll < timeoutRate + resetRate) {
+            return new Decision(Fault.CONNECTION_RESET, latencyMillis, false, random);
+        }
+        if (faultRoll < timeoutRate + resetRate + currentErrorRate) {
+            return new Decision(Fault.SERVER_ERROR, latencyMillis, false, random);
+        }
+        return new Decision(Fault.NONE, latencyMillis, approved, random);
+    }
+
+    public boolean inBrownout() {
+        if (brownoutPeriodMillis <= 0 || brownoutDurationMillis <= 0) {
+            return false;
+        }
+        return Math.floorMod(currentTimeMillis.getAsLong(), brownoutPeriodMillis) < brownoutDurationMillis;
+    }
+
+    private SplittableRandom randomFor(long orderId, long amount) {
+        if (seed == null) {
+            return new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        }
+        // 요청 값만으로 시드를 정해 동시 요청 순서에 영향받지 않음
+        return new SplittableRandom(new SplittableRandom(seed ^ (orderId * 0x9E3779B97F4A7C15L)).nextLong() ^ amount);
+    }
+}
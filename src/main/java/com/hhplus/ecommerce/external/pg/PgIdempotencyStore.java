@@ -0,0 +1,119 @@
+package com.hhplus.ecommerce.external.pg;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 모의 PG 멱등성 저장소 (주문 ID + 금액 → 처리 결과)
+ * 최대 capacity건, 저장 후 ttl까지만 보관하여 장시간 부하 테스트에서도 메모리가 일정하게 유지됨
+ *
+ * <ul>
+ *   <li>TTL이 모두 같으므로 저장 순서 = 만료 순서, 저장 순서 큐의 앞에서부터 만료/초과분을 제거 (정렬/전체 스캔 없음)</li>
+ *   <li>조회는 락 없이 처리하고, 저장 순서 큐 갱신만 짧게 직렬화</li>
+ *   <li>같은 요청이 동시에 처리되면 먼저 저장된 결과를 모두에게 돌려줌</li>
+ * </ul>
+ */
+@Component
+public class PgIdempotencyStore {
+
+    private record Key(long orderId, long amount) {
+    }
+
+    private record Entry(Key key, PgPaymentResult result, long expiresAt) {
+    }
+
+    private final int capacity;
+    private final long ttlMillis;
+    private final LongSupplier currentTimeMillis;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    // 저장 순서 (교체/제거된 항목이 남아 있을 수 있으며 앞에서 꺼낼 때 무시), insertionOrder 락으로 보호
+    private final ArrayDeque<Entry> insertionOrder = new ArrayDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public PgIdempotencyStore(
+            @Value("${mock.pg.idempotency.capacity:100000}") int capacity,
+            @Value("${mock.pg.idempotency.ttl:PT10M}") Duration ttl) {
+        this(capacity, ttl, System::currentTimeMillis);
+    }
+
+    PgIdempotencyStore(int capacity, Duration ttl, LongSupplier currentTimeMillis) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("mock.pg.idempotency.capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.ttlMillis = ttl.toMillis();
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    public Optional<PgPaymentResult> find(long orderId, long amount) {
+        Entry entry = entries.get(new Key(orderId, amount));
+        if (entry == null || isExpired(entry, currentTimeMillis.getAsLong())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.result());
+    }
+
+    /**
+     * 결과 저장 (같은 요청의 유효한 결과가 이미 있으면 저장하지 않고 기존 결과 반환)
+     *
+     * @return 이 요청에 대해 응답할 결과
+     */
+    public PgPaymentResult putIfAbsent(PgPaymentResult result) {
+        long now = currentTimeMillis.getAsLong();
+        Key key = new Key(result.orderId(), result.amount());
+        Entry entry = new Entry(key, result, now + ttlMillis);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                break;
+            }
+            if (!isExpired(existing, now)) {
+                return existing.result();
+            }
+            if (entries.replace(key, existing, entry)) {
+                size.decrementAndGet();
+                break;
+            }
+        }
+        size.incrementAndGet();
+
+        synchronized (insertionOrder) {
+            insertionOrder.addLast(entry);
+            evict(now);
+        }
+        return result;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 저장 순서 큐 앞에서부터 만료된 항목과 capacity 초과분 제거 (insertionOrder 락 안에서 호출)
+     */
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = insertionOrder.peekFirst()) != null
+                && (isExpired(oldest, now) || size.get() > capacity || entries.get(oldest.key()) != oldest)) {
+            insertionOrder.pollFirst();
+            remove(oldest);
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entries.remove(entry.key(), entry)) {
+            size.decrementAndGet();
+        }
+    }
+
+    private static boolean isExpired(Entry entry, long now) {
+        return now - entry.expiresAt() >= 0;
+    }
+}
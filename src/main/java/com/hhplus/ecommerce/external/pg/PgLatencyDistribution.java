@@ -0,0 +1,48 @@
+package com.hhplus.ecommerce.external.pg;
+
+import java.util.SplittableRandom;
+
+/**
+ * 모의 PG 응답 지연 분포
+ *
+ * <ul>
+ *   <li>NONE: 지연 없음</li>
+ *   <li>FIXED: 항상 base</li>
+ *   <li>LOGNORMAL: 중앙값 base, 로그 표준편차 sigma인 로그정규 분포</li>
+ *   <li>LONG_TAIL: 대부분 LOGNORMAL, tailRate 확률로 tail 이상의 파레토 꼬리 (최대 tail의 10배)</li>
+ * </ul>
+ */
+public enum PgLatencyDistribution {
+    NONE {
+        @Override
+        long sampleMillis(SplittableRandom random, long baseMillis, double sigma, double tailRate, long tailMillis) {
+            return 0;
+        }
+    },
+    FIXED {
+        @Override
+        long sampleMillis(SplittableRandom random, long baseMillis, double sigma, double tailRate, long tailMillis) {
+            return baseMillis;
+        }
+    },
+    LOGNORMAL {
+        @Override
+        long sampleMillis(SplittableRandom random, long baseMillis, double sigma, double tailRate, long tailMillis) {
+            return Math.round(baseMillis * Math.exp(sigma * random.nextGaussian()));
+        }
+    },
+    LONG_TAIL {
+        @Override
+        long sampleMillis(SplittableRandom random, long baseMillis, double sigma, double tailRate, long tailMillis) {
+            if (random.nextDouble() < tailRate) {
+                double pareto = tailMillis / Math.pow(1.0 - random.nextDouble(), 1.0 / PARETO_ALPHA);
+                return Math.round(Math.min(pareto, tailMillis * 10.0));
+            }
+            return LOGNORMAL.sampleMillis(random, baseMillis, sigma, tailRate, tailMillis);
+        }
+    };
+
+    private static final double PARETO_ALPHA = 1.5;
+
+    abstract long sampleMillis(SplittableRandom random, long baseMillis, double sigma, double tailRate, long tailMillis);
+}
@@ -0,0 +1,48 @@
+package com.hhplus.ecommerce.external.pg;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 모의 PG가 처리한 결제 결과 (멱등성 저장소에 보관하는 값)
+ * 응답 Map 대신 필드만 보관하고 응답 시점에 Map으로 변환
+ *
+ * @param transactionId 승인 시 거래 ID (거절이면 null)
+ * @param message       승인 메시지 또는 거절 사유
+ * @param processedAt   처리 시각 (epoch millis)
+ */
+public record PgPaymentResult(long orderId, long amount, String paymentMethod, boolean success,
+                              String transactionId, String message, long processedAt) {
+
+    public static PgPaymentResult approved(long orderId, long amount, String paymentMethod, String transactionId,
+                                           long processedAt) {
+        return new PgPaymentResult(orderId, amount, paymentMethod, true, transactionId,
+                "결제가 성공적으로 처리되었습니다", processedAt);
+    }
+
+    public static PgPaymentResult declined(long orderId, long amount, String paymentMethod, String failReason,
+                                           long processedAt) {
+        return new PgPaymentResult(orderId, amount, paymentMethod, false, null, failReason, processedAt);
+    }
+
+    public Map<String, Object> toResponse() {
+        String processedAtText = LocalDateTime.ofInstant(Instant.ofEpochMilli(processedAt), ZoneId.systemDefault()).toString();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("orderId", orderId);
+        response.put("amount", amount);
+        response.put("paymentMethod", paymentMethod);
+        response.put("success", success);
+        response.put("message", message);
+        if (success) {
+            response.put("transactionId", transactionId);
+            response.put("paidAt", processedAtText);
+        } else {
+            response.put("failedAt", processedAtText);
+        }
+        return response;
+    }
+}
@@ -1,14 +1,47 @@
 package com.hhplus.ecommerce.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class AppConfig {
 
+    /**
+     * PG 호출용 RestClient (JDK HttpClient 기반, read-timeout이 PG 호출 한 건의 응답 기한)
+     * spring.threads.virtual.enabled=true 이고 JDK 21 이상이면 요청 처리(Tomcat)와 HttpClient 작업이 모두 가상 스레드에서 실행되어,
+     * PG가 느려도 블로킹 호출이 플랫폼 스레드 풀을 점유하지 않음
+     */
     @Bean
-    public RestClient restClient() {
-        return RestClient.create();
+    public RestClient restClient(
+            Environment environment,
+            @Value("${mock.payment.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${mock.payment.read-timeout:PT3S}") Duration readTimeout) {
+        return createRestClient(Threading.VIRTUAL.isActive(environment), connectTimeout, readTimeout);
+    }
+
+    public static RestClient createRestClient(boolean virtualThreads, Duration connectTimeout, Duration readTimeout) {
+        HttpClient.Builder httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("pg-http-");
+            executor.setVirtualThreads(true);
+            httpClient.executor(executor);
+        }
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient.build());
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
     }
 }
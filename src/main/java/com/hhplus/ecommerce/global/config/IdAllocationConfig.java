@@ -0,0 +1,20 @@
+package com.hhplus.ecommerce.global.config;
+
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ID 할당 설정
+ * 주문/주문 아이템 ID를 스레드 슬롯별 블록 단위로 할당하고, 노드가 여러 대면 노드별로 겹치지 않는 ID만 할당
+ */
+@Configuration
+public class IdAllocationConfig {
+
+    public IdAllocationConfig(
+            @Value("${storage.id.block-size:64}") int blockSize,
+            @Value("${storage.id.node-id:0}") int nodeId,
+            @Value("${storage.id.node-count:1}") int nodeCount) {
+        InMemoryDataStore.configureIdAllocation(blockSize, nodeId, nodeCount);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hhplus.ecommerce.global.config;
+
+import com.hhplus.ecommerce.domain.cart.repository.CartItemRepository;
+import com.hhplus.ecommerce.domain.cart.repository.CartRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.CouponRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.UserCouponRepository;
+import com.hhplus.ecommerce.domain.order.repository.OrderItemRepository;
+import com.hhplus.ecommerce.domain.order.repository.OrderRepository;
+import com.hhplus.ecommerce.domain.payment.repository.PaymentRepository;
+import com.hhplus.ecommerce.domain.product.repository.InventoryRepository;
+import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import com.hhplus.ecommerce.global.outbox.OutboxRepository;
+import com.hhplus.ecommerce.global.storage.snapshot.SnapshotCheckpointer;
+import com.hhplus.ecommerce.global.storage.snapshot.SnapshotStore;
+import com.hhplus.ecommerce.global.storage.snapshot.StoreRecovery;
+import com.hhplus.ecommerce.global.storage.wal.RepositoryMutationApplier;
+import com.hhplus.ecommerce.global.storage.wal.WriteAheadLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * WAL 설정 (storage.wal.enabled=true 일 때만 활성화)
+ * 애플리케이션 시작 시 최신 스냅샷을 로드하고 그 이후 로그만 재생한 뒤 기록을 시작함 (StoreRecovery)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "storage.wal", name = "enabled", havingValue = "true")
+public class WriteAheadLogConfig {
+
+    @Bean
+    public SnapshotStore snapshotStore(@Value("${storage.wal.directory:./data/wal}") String directory) {
+        return new SnapshotStore(Path.of(directory));
+    }
+
+    @Bean(destroyMethod = "close")
+    public WriteAheadLog writeAheadLog(
+            @Value("${storage.wal.directory:./data/wal}") String directory,
+            @Value("${storage.wal.sync-commit:true}") boolean syncCommit,
+            @Value("${storage.wal.max-batch-size:512}") int maxBatchSize,
+            @Value("${storage.wal.queue-capacity:65536}") int queueCapacity,
+            @Value("${storage.wal.segment-size-bytes:67108864}") long segmentSize,
+            ProductRepository productRepository,
+            InventoryRepository inventoryRepository,
+            CartRepository cartRepository,
+            CartItemRepository cartItemRepository,
+            OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            PaymentRepository paymentRepository,
+            CouponRepository couponRepository,
+            UserCouponRepository userCouponRepository,
+            OutboxRepository outboxRepository,
+            SnapshotStore snapshotStore) {
+
+        RepositoryMutationApplier applier = new RepositoryMutationApplier(
+                productRepository, inventoryRepository,
+                cartRepository, cartItemRepository,
+                orderRepository, orderItemRepository,
+                paymentRepository,
+                couponRepository, userCouponRepository,
+                outboxRepository);
+
+        WriteAheadLog wal = new WriteAheadLog(Path.of(directory), syncCommit, maxBatchSize, queueCapacity, segmentSize);
+        StoreRecovery.recoverAndStart(wal, snapshotStore, applier);
+        return wal;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "storage.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SnapshotCheckpointer snapshotCheckpointer(
+            WriteAheadLog writeAheadLog,
+            SnapshotStore snapshotStore,
+            @Value("${storage.snapshot.interval:PT5M}") Duration interval) {
+
+        SnapshotCheckpointer checkpointer = new SnapshotCheckpointer(writeAheadLog, snapshotStore, interval);
+        checkpointer.start();
+        return checkpointer;
+    }
+}
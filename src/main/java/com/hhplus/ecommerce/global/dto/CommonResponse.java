@@ -7,17 +7,24 @@ public record CommonResponse<T>(
         T data,
         @Schema(hidden = true)
         @JsonInclude(JsonInclude.Include.NON_NULL)
-        PageMeta meta
+        PageMeta meta,
+        @Schema(hidden = true)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        CursorMeta cursor
 ) {
     public static <T> CommonResponse<T> success(T data) {
-        return new CommonResponse<>(data, null);
+        return new CommonResponse<>(data, null, null);
     }
 
     public static <T> CommonResponse<T> success(T data, PageMeta meta) {
-        return new CommonResponse<>(data, meta);
+        return new CommonResponse<>(data, meta, null);
+    }
+
+    public static <T> CommonResponse<T> success(T data, CursorMeta cursor) {
+        return new CommonResponse<>(data, null, cursor);
     }
 
     public static <T> CommonResponse<T> empty() {
-        return new CommonResponse<>(null, null);
+        return new CommonResponse<>(null, null, null);
     }
 }
@@ -0,0 +1,17 @@
+package com.hhplus.ecommerce.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "커서 페이징 메타데이터")
+public record CursorMeta(
+        @Schema(description = "페이지 크기")
+        int size,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+    public static CursorMeta of(int size, String nextCursor) {
+        return new CursorMeta(size, nextCursor, nextCursor != null);
+    }
+}
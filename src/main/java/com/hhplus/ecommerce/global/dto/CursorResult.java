@@ -0,0 +1,17 @@
+package com.hhplus.ecommerce.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "커서 페이징된 응답 결과")
+public record CursorResult<T>(
+        @Schema(description = "데이터 리스트")
+        List<T> content,
+        @Schema(description = "커서 페이징 메타데이터")
+        CursorMeta meta
+) {
+    public static <T> CursorResult<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorResult<>(content, CursorMeta.of(size, nextCursor));
+    }
+}
@@ -0,0 +1,49 @@
+package com.hhplus.ecommerce.global.dto;
+
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.exception.CommonErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (마지막으로 받은 항목의 정렬 키 + ID)
+ * 클라이언트에는 Base64URL 문자열로만 노출하며, scope(정렬 기준 등)가 다른 커서는 거부
+ */
+public record KeysetCursor(String scope, String sortKey, Long id) {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char NULL_KEY = '-';
+    private static final char PRESENT_KEY = '+';
+
+    public static KeysetCursor of(String scope, Object sortKey, Long id) {
+        return new KeysetCursor(scope, sortKey != null ? sortKey.toString() : null, id);
+    }
+
+    public String encode() {
+        String raw = scope + SEPARATOR + id + SEPARATOR + (sortKey == null ? NULL_KEY : PRESENT_KEY + sortKey);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor, String expectedScope) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 3);
+            if (parts.length != 3 || !parts[0].equals(expectedScope) || parts[2].isEmpty()) {
+                throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+            }
+            String sortKey = parts[2].charAt(0) == PRESENT_KEY ? parts[2].substring(1) : null;
+            return new KeysetCursor(parts[0], sortKey, Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.hhplus.ecommerce.global.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 후에도 처리하지 못한 이벤트
+ *
+ * @param key      순서 보장 키 (예: 주문 ID)
+ * @param event    원본 이벤트
+ * @param attempts 처리 시도 횟수 (큐가 가득 차 넣지 못했으면 0)
+ * @param reason   마지막 실패 사유
+ */
+public record DeadLetter(Object key, Object event, int attempts, String reason, LocalDateTime failedAt) {
+
+    public static DeadLetter of(Object key, Object event, int attempts, String reason) {
+        return new DeadLetter(key, event, attempts, reason, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,56 @@
+package com.hhplus.ecommerce.global.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 이벤트 데드레터 저장소
+ * 최대 capacity건만 보관하고 가득 차면 가장 오래된 항목부터 버림 (버린 건수는 경고 로그로 남김)
+ */
+@Slf4j
+@Component
+public class DeadLetterStore {
+
+    private final int capacity;
+    private final Deque<DeadLetter> deadLetters = new ArrayDeque<>();
+    private long dropped;
+
+    public DeadLetterStore(@Value("${event.bus.dead-letter-capacity:10000}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("dead-letter-capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(DeadLetter deadLetter) {
+        if (deadLetters.size() == capacity) {
+            deadLetters.pollFirst();
+            dropped++;
+            log.warn("[EventBus] 데드레터 저장소가 가득 차 가장 오래된 항목을 버림 - 누적 버림: {}", dropped);
+        }
+        deadLetters.addLast(deadLetter);
+    }
+
+    public synchronized List<DeadLetter> findAll() {
+        return List.copyOf(deadLetters);
+    }
+
+    public synchronized int size() {
+        return deadLetters.size();
+    }
+
+    /**
+     * 보관 중인 항목을 모두 꺼냄 (재처리용)
+     */
+    public synchronized List<DeadLetter> drain() {
+        List<DeadLetter> drained = new ArrayList<>(deadLetters);
+        deadLetters.clear();
+        return drained;
+    }
+}
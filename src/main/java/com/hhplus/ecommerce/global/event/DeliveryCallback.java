@@ -0,0 +1,18 @@
+package com.hhplus.ecommerce.global.event;
+
+/**
+ * 이벤트 처리 결과를 발행자에게 알리는 콜백
+ * 아웃박스처럼 원본을 직접 보관하는 발행자가 사용하며, 콜백을 넘긴 이벤트는 실패해도 데드레터 저장소에 넣지 않음
+ */
+public interface DeliveryCallback {
+
+    /**
+     * 리스너 전달 성공
+     */
+    void onDelivered();
+
+    /**
+     * 전달 실패 (deadLetter.attempts()가 0이면 큐가 가득 차 넣지 못한 것)
+     */
+    void onFailed(DeadLetter deadLetter);
+}
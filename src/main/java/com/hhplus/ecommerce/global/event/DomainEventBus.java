@@ -0,0 +1,247 @@
+package com.hhplus.ecommerce.global.event;
+
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 도메인 이벤트 버스
+ * 이벤트를 키(예: 주문 ID) 해시로 고른 파티션의 고정 크기 링 버퍼에 넣고 즉시 반환하며,
+ * 파티션마다 전용 스레드 하나가 순서대로 꺼내 @EventListener에 전달하므로 같은 키의 이벤트는 발행 순서대로 처리됨
+ *
+ * <ul>
+ *   <li>리스너 예외는 지수 백오프로 max-attempts까지 재시도 (재시도 중에는 같은 파티션의 다음 이벤트가 대기하여 순서 유지)</li>
+ *   <li>비즈니스 예외/상태 오류처럼 다시 해도 같은 결과인 예외는 재시도하지 않음</li>
+ *   <li>재시도를 모두 실패했거나 큐가 enqueue-timeout 동안 가득 차 있으면 데드레터 저장소에 보관</li>
+ *   <li>DeliveryCallback을 넘긴 발행자에게는 데드레터 저장소 대신 콜백으로 실패를 알림 (원본은 발행자가 보관)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DomainEventBus {
+
+    private final ApplicationEventPublisher publisher;
+    private final DeadLetterStore deadLetterStore;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration enqueueTimeout;
+
+    private final List<BlockingQueue<Envelope>> queues;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public DomainEventBus(
+            ApplicationEventPublisher publisher,
+            DeadLetterStore deadLetterStore,
+            @Value("${event.bus.partitions:4}") int partitions,
+            @Value("${event.bus.queue-capacity:1024}") int queueCapacity,
+            @Value("${event.bus.max-attempts:5}") int maxAttempts,
+            @Value("${event.bus.initial-backoff:PT0.1S}") Duration initialBackoff,
+            @Value("${event.bus.max-backoff:PT5S}") Duration maxBackoff,
+            @Value("${event.bus.enqueue-timeout:PT1S}") Duration enqueueTimeout) {
+        if (partitions < 1 || queueCapacity < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("partitions, queue-capacity, max-attempts는 1 이상이어야 합니다.");
+        }
+        this.publisher = publisher;
+        this.deadLetterStore = deadLetterStore;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.enqueueTimeout = enqueueTimeout;
+
+        this.queues = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+    }
+
+    /**
+     * 파티션별 전달 스레드 시작 (시작 전에 발행된 이벤트는 큐에 쌓였다가 시작 후 전달)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < queues.size(); i++) {
+            BlockingQueue<Envelope> queue = queues.get(i);
+            Thread worker = new Thread(() -> drainLoop(queue), "domain-event-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("[EventBus] 이벤트 버스 시작 - partitions: {}, max-attempts: {}", queues.size(), maxAttempts);
+    }
+
+    /**
+     * 이벤트 발행 (같은 key의 이벤트는 발행 순서대로 전달)
+     * 큐가 enqueue-timeout 동안 가득 차 있으면 호출 스레드에서 처리하지 않고 데드레터로 보관
+     */
+    public void publish(Object key, Object event) {
+        publish(key, event, null);
+    }
+
+    /**
+     * 이벤트 발행 후 전달에 성공하면 callback.onDelivered(), 실패하면 callback.onFailed() 호출
+     * 실패한 이벤트는 데드레터 저장소에 넣지 않으므로 발행자가 원본을 보관하다 다시 발행해야 함
+     */
+    public void publish(Object key, Object event, DeliveryCallback callback) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(event, "event");
+
+        Envelope envelope = new Envelope(key, event, callback);
+        try {
+            if (queueOf(key).offer(envelope, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            log.error("[EventBus] 이벤트 큐가 가득 참 - key: {}, event: {}", key, event.getClass().getSimpleName());
+            deadLetter(envelope, 0, "이벤트 큐가 가득 참");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deadLetter(envelope, 0, "발행 중 인터럽트");
+        }
+    }
+
+    /**
+     * 데드레터로 보관 중인 이벤트를 모두 다시 발행
+     *
+     * @return 다시 발행한 건수
+     */
+    public int redriveDeadLetters() {
+        List<DeadLetter> deadLetters = deadLetterStore.drain();
+        deadLetters.forEach(deadLetter -> publish(deadLetter.key(), deadLetter.event()));
+        return deadLetters.size();
+    }
+
+    /**
+     * 아직 전달되지 않은 이벤트 수
+     */
+    public int pendingCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    /**
+     * 전달 스레드를 멈추고 남은 이벤트는 종료 스레드에서 한 번씩만 전달 (실패 시 데드레터)
+     */
+    @PreDestroy
+    public synchronized void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+
+        List<Envelope> remaining = new ArrayList<>();
+        queues.forEach(queue -> queue.drainTo(remaining));
+        remaining.forEach(envelope -> deliver(envelope, 1));
+    }
+
+    private void drainLoop(BlockingQueue<Envelope> queue) {
+        while (running) {
+            Envelope envelope;
+            try {
+                envelope = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            deliver(envelope, maxAttempts);
+        }
+    }
+
+    private void deliver(Envelope envelope, int attemptLimit) {
+        long backoffMillis = initialBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                publisher.publishEvent(envelope.event());
+                notifyDelivered(envelope);
+                return;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e) || attempt >= attemptLimit) {
+                    log.error("[EventBus] 이벤트 처리 실패, 데드레터로 보관 - key: {}, event: {}, attempts: {}, error: {}",
+                            envelope.key(), envelope.event().getClass().getSimpleName(), attempt, e.getMessage(), e);
+                    deadLetter(envelope, attempt, e.getMessage());
+                    return;
+                }
+                log.warn("[EventBus] 이벤트 처리 실패, {}ms 후 재시도 - key: {}, event: {}, attempt: {}, error: {}",
+                        backoffMillis, envelope.key(), envelope.event().getClass().getSimpleName(), attempt, e.getMessage());
+                if (!sleep(backoffMillis)) {
+                    deadLetter(envelope, attempt, e.getMessage());
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoff.toMillis());
+            }
+        }
+    }
+
+    private void deadLetter(Envelope envelope, int attempts, String reason) {
+        DeadLetter deadLetter = DeadLetter.of(envelope.key(), envelope.event(), attempts, reason);
+        if (envelope.callback() == null) {
+            deadLetterStore.add(deadLetter);
+            return;
+        }
+        try {
+            envelope.callback().onFailed(deadLetter);
+        } catch (RuntimeException e) {
+            log.error("[EventBus] 실패 콜백 실패 - key: {}, error: {}", envelope.key(), e.getMessage(), e);
+        }
+    }
+
+    private static void notifyDelivered(Envelope envelope) {
+        if (envelope.callback() == null) {
+            return;
+        }
+        try {
+            envelope.callback().onDelivered();
+        } catch (RuntimeException e) {
+            log.error("[EventBus] 전달 완료 콜백 실패 - key: {}, error: {}", envelope.key(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다시 실행해도 같은 결과인 예외(비즈니스 규칙 위반, 잘못된 상태/인자)는 재시도하지 않음
+     */
+    private static boolean isRetryable(RuntimeException e) {
+        return !(e instanceof BusinessException
+                || e instanceof IllegalStateException
+                || e instanceof IllegalArgumentException);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private BlockingQueue<Envelope> queueOf(Object key) {
+        int hash = key.hashCode();
+        return queues.get(Math.floorMod(hash ^ (hash >>> 16), queues.size()));
+    }
+
+    private record Envelope(Object key, Object event, DeliveryCallback callback) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.hhplus.ecommerce.global.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public enum CommonErrorCode implements ErrorCode {
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 페이지 커서입니다");
+
+    private final HttpStatus status;
+    private final String code;
+    private final String message;
+}
@@ -0,0 +1,94 @@
+package com.hhplus.ecommerce.global.outbox;
+
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 아웃박스 Repository In-Memory 구현
+ */
+@Repository
+public class InMemoryOutboxRepository implements OutboxRepository {
+
+    private static final boolean UNPARKED = false;
+    private static final boolean PARKED = true;
+
+    @Override
+    public OutboxMessage save(OutboxMessage message) {
+        InMemoryDataStore.OUTBOX.put(message.getId(), message);
+        InMemoryDataStore.OUTBOX_SORTED_BY_ID.index(message);
+        InMemoryDataStore.OUTBOX_PARKED_BY_AGGREGATE_ID.index(message);
+        InMemoryDataStore.recordSave(StoreTable.OUTBOX, message);
+        return message;
+    }
+
+    @Override
+    public Optional<OutboxMessage> findById(Long id) {
+        return Optional.ofNullable(InMemoryDataStore.OUTBOX.get(id));
+    }
+
+    /**
+     * 보류되지 않은 파티션만 limit개씩 끊어 순회 (ID는 1부터 할당되므로 0 다음부터 시작)
+     */
+    @Override
+    public List<OutboxMessage> findOldestUnparked(Predicate<OutboxMessage> filter, int limit) {
+        List<OutboxMessage> messages = new ArrayList<>(Math.min(limit, 64));
+        long afterId = 0L;
+        while (messages.size() < limit) {
+            List<Long> ids = InMemoryDataStore.OUTBOX_SORTED_BY_ID.findIdsAfter(UNPARKED, false, afterId, afterId, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (Long id : ids) {
+                OutboxMessage message = InMemoryDataStore.OUTBOX.get(id);
+                if (message != null && !message.isParked() && filter.test(message)) {
+                    messages.add(message);
+                    if (messages.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        return messages;
+    }
+
+    @Override
+    public List<OutboxMessage> findParked() {
+        int count = InMemoryDataStore.OUTBOX_SORTED_BY_ID.count(PARKED);
+        return InMemoryDataStore.OUTBOX_SORTED_BY_ID.findIds(PARKED, false, 0, count).stream()
+                .map(InMemoryDataStore.OUTBOX::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public boolean hasParked(Long aggregateId) {
+        return !InMemoryDataStore.OUTBOX_PARKED_BY_AGGREGATE_ID.findIds(aggregateId).isEmpty();
+    }
+
+    @Override
+    public int count() {
+        return InMemoryDataStore.OUTBOX.size();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        InMemoryDataStore.OUTBOX_SORTED_BY_ID.remove(id);
+        InMemoryDataStore.OUTBOX_PARKED_BY_AGGREGATE_ID.remove(id);
+        if (InMemoryDataStore.OUTBOX.remove(id) != null) {
+            InMemoryDataStore.recordDelete(StoreTable.OUTBOX, id);
+        }
+    }
+
+    @Override
+    public Long generateNextId() {
+        return InMemoryDataStore.outboxIdSequence.incrementAndGet();
+    }
+}
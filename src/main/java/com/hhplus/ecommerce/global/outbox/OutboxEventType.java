@@ -0,0 +1,10 @@
+package com.hhplus.ecommerce.global.outbox;
+
+/**
+ * 아웃박스 이벤트 종류
+ * 영속화 포맷(WAL/스냅샷)에 이름으로 기록되므로 상수 이름을 변경하지 않아야 함
+ */
+public enum OutboxEventType {
+    PAYMENT_COMPLETED,
+    PAYMENT_FAILED
+}
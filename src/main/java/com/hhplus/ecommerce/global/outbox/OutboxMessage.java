@@ -0,0 +1,85 @@
+package com.hhplus.ecommerce.global.outbox;
+
+import com.hhplus.ecommerce.domain.payment.event.PaymentCompletedEvent;
+import com.hhplus.ecommerce.domain.payment.event.PaymentFailedEvent;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 메시지
+ * 상태 변경과 같은 원자적 기록으로 저장되고, OutboxRelay가 리스너 전달에 성공하면 삭제됨
+ * 재시도를 모두 실패하면 삭제하지 않고 보류(parked) 상태로 남겨 폴링 대상에서 제외
+ *
+ * <ul>
+ *   <li>aggregateId: 순서 보장 키 (주문 ID)</li>
+ *   <li>referenceId: 이벤트를 만든 엔티티 ID (결제 ID)</li>
+ *   <li>detail: 이벤트별 부가 값 (결제 완료는 거래 ID, 결제 실패는 실패 사유)</li>
+ *   <li>parkedAt/parkReason: 보류 시각과 마지막 전달 실패 사유 (보류 전에는 null)</li>
+ * </ul>
+ */
+@Getter
+@Builder
+public class OutboxMessage {
+    private Long id;
+    private OutboxEventType eventType;
+    private Long aggregateId;
+    private Long referenceId;
+    private String detail;
+    private LocalDateTime createdAt;
+    private LocalDateTime parkedAt;
+    private String parkReason;
+
+    public static OutboxMessage of(Long id, PaymentCompletedEvent event) {
+        return create(id, OutboxEventType.PAYMENT_COMPLETED, event.getOrderId(), event.getPaymentId(),
+                event.getTransactionId());
+    }
+
+    public static OutboxMessage of(Long id, PaymentFailedEvent event) {
+        return create(id, OutboxEventType.PAYMENT_FAILED, event.getOrderId(), event.getPaymentId(),
+                event.getFailReason());
+    }
+
+    /**
+     * 전달 보류 (재시도 소진)
+     */
+    public void park(String reason) {
+        this.parkedAt = LocalDateTime.now();
+        this.parkReason = reason;
+    }
+
+    /**
+     * 보류 해제 (다음 폴링에서 다시 발행)
+     */
+    public void unpark() {
+        this.parkedAt = null;
+        this.parkReason = null;
+    }
+
+    public boolean isParked() {
+        return parkedAt != null;
+    }
+
+    /**
+     * 리스너에 전달할 도메인 이벤트로 복원
+     */
+    public Object toEvent() {
+        return switch (eventType) {
+            case PAYMENT_COMPLETED -> PaymentCompletedEvent.of(aggregateId, referenceId, detail);
+            case PAYMENT_FAILED -> PaymentFailedEvent.of(aggregateId, referenceId, detail);
+        };
+    }
+
+    private static OutboxMessage create(Long id, OutboxEventType eventType, Long aggregateId, Long referenceId,
+                                        String detail) {
+        return OutboxMessage.builder()
+                .id(id)
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .referenceId(referenceId)
+                .detail(detail)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.hhplus.ecommerce.global.outbox;
+
+import com.hhplus.ecommerce.global.event.DeadLetter;
+import com.hhplus.ecommerce.global.event.DeliveryCallback;
+import com.hhplus.ecommerce.global.event.DomainEventBus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이
+ * 아웃박스에 남은 메시지를 기록 순으로 읽어 DomainEventBus에 발행하고, 리스너 전달에 성공한 메시지만 삭제
+ *
+ * <ul>
+ *   <li>전달 중인 메시지는 inFlight로 표시하여 다음 폴링에서 중복 발행하지 않음</li>
+ *   <li>버스 큐가 가득 차 넣지 못한 메시지는 그대로 두어 다음 폴링에서 다시 발행</li>
+ *   <li>재시도를 모두 실패한 메시지는 보류(parked) 상태로 남기고 폴링 대상에서 제외 (redriveParked로 재발행)</li>
+ *   <li>같은 애그리거트(주문)의 메시지는 한 번에 하나씩, 앞선 메시지가 삭제된 뒤에 발행 (보류되면 뒤 메시지도 함께 대기)</li>
+ *   <li>전달 전에 프로세스가 종료되면 메시지가 복구 후에도 남아 있으므로 재기동 시 다시 발행 (at-least-once, 리스너는 멱등이어야 함)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final DomainEventBus eventBus;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+            OutboxRepository outboxRepository,
+            DomainEventBus eventBus,
+            @Value("${outbox.relay.poll-interval:PT0.2S}") Duration pollInterval,
+            @Value("${outbox.relay.batch-size:100}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("outbox.relay.batch-size는 1 이상이어야 합니다.");
+        }
+        this.outboxRepository = outboxRepository;
+        this.eventBus = eventBus;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long millis = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::relaySafely, 0, millis, TimeUnit.MILLISECONDS);
+        log.info("[Outbox] 릴레이 시작 - poll-interval: {}, batch-size: {}, pending: {}",
+                pollInterval, batchSize, outboxRepository.count());
+    }
+
+    /**
+     * 애그리거트(주문)별로 가장 오래된 메시지만, 그 메시지가 전달 중이 아니고 같은 애그리거트에 보류 메시지가 없을 때 발행 (최대 batch-size개)
+     * 앞선 메시지가 전달 중이거나 보류되면 뒤 메시지는 기다리므로 재발행해도 같은 주문의 이벤트 순서가 뒤바뀌지 않음
+     *
+     * @return 발행한 건수
+     */
+    public int relay() {
+        Set<Long> seenAggregates = new HashSet<>();
+        List<OutboxMessage> messages = outboxRepository.findOldestUnparked(
+                message -> seenAggregates.add(message.getAggregateId())
+                        && !inFlight.contains(message.getId())
+                        && !outboxRepository.hasParked(message.getAggregateId()),
+                batchSize);
+        for (OutboxMessage message : messages) {
+            Long id = message.getId();
+            inFlight.add(id);
+            eventBus.publish(message.getAggregateId(), message.toEvent(), new RelayCallback(id));
+        }
+        return messages.size();
+    }
+
+    /**
+     * 보류 중인 메시지를 모두 해제하여 다음 폴링에서 다시 발행
+     *
+     * @return 해제한 건수
+     */
+    public int redriveParked() {
+        List<OutboxMessage> parked = outboxRepository.findParked();
+        for (OutboxMessage message : parked) {
+            message.unpark();
+            outboxRepository.save(message);
+        }
+        return parked.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void relaySafely() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("[Outbox] 릴레이 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전달에 성공하면 삭제, 큐가 가득 찼으면 다음 폴링으로 미루고, 재시도를 모두 실패하면 보류
+     */
+    private class RelayCallback implements DeliveryCallback {
+
+        private final Long id;
+
+        private RelayCallback(Long id) {
+            this.id = id;
+        }
+
+        @Override
+        public void onDelivered() {
+            try {
+                outboxRepository.deleteById(id);
+            } finally {
+                inFlight.remove(id);
+            }
+        }
+
+        @Override
+        public void onFailed(DeadLetter deadLetter) {
+            try {
+                if (deadLetter.attempts() == 0) {
+                    log.warn("[Outbox] 이벤트 버스에 넣지 못해 다음 폴링에서 재발행 - id: {}, reason: {}",
+                            id, deadLetter.reason());
+                    return;
+                }
+                outboxRepository.findById(id).ifPresent(message -> {
+                    message.park(deadLetter.reason());
+                    outboxRepository.save(message);
+                });
+                log.error("[Outbox] 전달 재시도 소진, 메시지 보류 - id: {}, attempts: {}, reason: {}",
+                        id, deadLetter.attempts(), deadLetter.reason());
+            } finally {
+                inFlight.remove(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hhplus.ecommerce.global.outbox;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 아웃박스 Repository 인터페이스
+ */
+public interface OutboxRepository {
+    /**
+     * 아웃박스 메시지 저장
+     */
+    OutboxMessage save(OutboxMessage message);
+
+    /**
+     * ID로 아웃박스 메시지 조회
+     */
+    Optional<OutboxMessage> findById(Long id);
+
+    /**
+     * 보류되지 않은 메시지 중 기록 순(ID 순)으로 filter를 통과하는 메시지를 최대 limit개 조회 (보류 메시지는 순회하지 않음)
+     */
+    List<OutboxMessage> findOldestUnparked(Predicate<OutboxMessage> filter, int limit);
+
+    /**
+     * 보류 중인 메시지를 기록 순으로 조회
+     */
+    List<OutboxMessage> findParked();
+
+    /**
+     * 애그리거트(주문)에 보류 중인 메시지가 있는지
+     */
+    boolean hasParked(Long aggregateId);
+
+    /**
+     * 남아 있는 메시지 수 (보류 메시지 포함)
+     */
+    int count();
+
+    /**
+     * 아웃박스 메시지 삭제 (전달 완료)
+     */
+    void deleteById(Long id);
+
+    /**
+     * 다음 ID 생성
+     */
+    Long generateNextId();
+}
@@ -0,0 +1,154 @@
+package com.hhplus.ecommerce.global.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 슬라이딩 윈도우 서킷 브레이커
+ * 최근 windowSize건 중 실패율이 failureRateThreshold(%) 이상이면 OPEN으로 전환하여 openDuration 동안 호출을 즉시 거절하고,
+ * 이후 HALF_OPEN에서 halfOpenCalls건을 시험 호출하여 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * <ul>
+ *   <li>최근 호출이 minimumCalls건 미만이면 실패율을 판단하지 않음</li>
+ *   <li>OPEN 상태의 거절은 락 없이 volatile 읽기만으로 처리 (장애 중에도 거절 비용이 수 μs 이내)</li>
+ * </ul>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoTime;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openUntilNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls, LongSupplier nanoTime) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || halfOpenCalls < 1
+                || failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("잘못된 서킷 브레이커 설정: " + name);
+        }
+        this.name = name;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 호출 허가 (거절되면 호출하지 말 것, 허가받은 호출은 onSuccess/onFailure/releasePermission 중 하나로 끝낼 것)
+     */
+    public boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoTime.getAsLong() - openUntilNanos < 0) {
+            return false;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (nanoTime.getAsLong() - openUntilNanos < 0) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenPermits++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 호출하지 않고 허가 반납 (다른 이유로 호출을 포기한 경우, 결과로 기록하지 않음)
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("[CircuitBreaker] {} 상태 전환 - {} -> {}", name, state, next);
+        if (next == State.OPEN) {
+            openUntilNanos = nanoTime.getAsLong() + openDurationNanos;
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        state = next;
+    }
+}
@@ -0,0 +1,115 @@
+package com.hhplus.ecommerce.global.storage;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 블록 단위 ID 할당기
+ * 공유 시퀀스에서 blockSize개씩 예약한 블록을 스레드별 슬롯에 두고 슬롯 안에서만 ID를 꺼내 씀 (시퀀스 경합은 블록당 1회)
+ * 슬롯 수는 스레드 수와 무관하게 고정(스레드 객체의 identity hash로 선택)하므로 가상 스레드가 많아도 메모리는 늘지 않음
+ *
+ * <ul>
+ *   <li>시퀀스는 예약한 ID의 최댓값을 유지하므로 스냅샷/WAL 복구(최댓값 병합) 후에도 이미 쓴 ID를 다시 내주지 않음</li>
+ *   <li>노드가 여러 대면 ID % nodeCount == nodeId 인 값만 예약하여 노드 간 ID가 겹치지 않음</li>
+ *   <li>블록 단위 예약이므로 ID 순서는 생성 순서와 일치하지 않음 (최신순 정렬은 생성 시각 기준으로 할 것)</li>
+ * </ul>
+ */
+public class IdBlockAllocator {
+
+    private static final int MAX_SLOTS = 64;
+
+    private final AtomicLong sequence;
+    private volatile Generation generation;
+
+    public IdBlockAllocator(AtomicLong sequence) {
+        this(sequence, 1, 0, 1);
+    }
+
+    public IdBlockAllocator(AtomicLong sequence, int blockSize, int nodeId, int nodeCount) {
+        this.sequence = sequence;
+        this.generation = new Generation(Layout.of(blockSize, nodeId, nodeCount));
+    }
+
+    /**
+     * 블록 크기/노드 설정 변경 (기존 블록의 남은 ID는 버림)
+     */
+    public void configure(int blockSize, int nodeId, int nodeCount) {
+        generation = new Generation(Layout.of(blockSize, nodeId, nodeCount));
+    }
+
+    /**
+     * 보유 중인 블록을 모두 버림 (시퀀스 복구 후 호출하여 복구 전에 예약한 블록을 쓰지 않도록 함)
+     */
+    public void reset() {
+        generation = new Generation(generation.layout());
+    }
+
+    public long nextId() {
+        Generation current = generation;
+        Block block = current.slotOf(System.identityHashCode(Thread.currentThread()));
+        synchronized (block) {
+            if (block.next > block.last) {
+                reserve(current.layout(), block);
+            }
+            long id = block.next;
+            block.next += current.layout().nodeCount();
+            return id;
+        }
+    }
+
+    private void reserve(Layout layout, Block block) {
+        long stride = layout.nodeCount();
+        long span = (layout.blockSize() - 1) * stride;
+        long[] first = new long[1];
+        sequence.getAndUpdate(reserved -> {
+            // reserved 다음 값 중 이 노드에 속하는 첫 ID부터 blockSize개 (간격 nodeCount)
+            long candidate = reserved + 1;
+            long offset = Math.floorMod(layout.nodeId() - candidate, stride);
+            first[0] = candidate + offset;
+            return first[0] + span;
+        });
+        block.next = first[0];
+        block.last = first[0] + span;
+    }
+
+    private record Layout(long blockSize, int nodeId, int nodeCount) {
+
+        private static Layout of(int blockSize, int nodeId, int nodeCount) {
+            if (blockSize < 1 || nodeCount < 1 || nodeId < 0 || nodeId >= nodeCount) {
+                throw new IllegalArgumentException(
+                        "잘못된 ID 할당 설정: blockSize=" + blockSize + ", nodeId=" + nodeId + ", nodeCount=" + nodeCount);
+            }
+            return new Layout(blockSize, nodeId, nodeCount);
+        }
+    }
+
+    private static final class Generation {
+
+        private final Layout layout;
+        private final Block[] slots;
+        private final int mask;
+
+        private Generation(Layout layout) {
+            this.layout = layout;
+            int processors = Runtime.getRuntime().availableProcessors();
+            int size = Math.min(MAX_SLOTS, Integer.highestOneBit(processors * 2 - 1) << 1);
+            this.slots = new Block[size];
+            for (int i = 0; i < size; i++) {
+                slots[i] = new Block();
+            }
+            this.mask = size - 1;
+        }
+
+        private Layout layout() {
+            return layout;
+        }
+
+        private Block slotOf(int threadHash) {
+            return slots[(threadHash ^ (threadHash >>> 16)) & mask];
+        }
+    }
+
+    private static final class Block {
+        private long next = 1;
+        private long last = 0;
+    }
+}
@@ -8,18 +8,35 @@ import com.hhplus.ecommerce.domain.coupon.model.DiscountType;
 import com.hhplus.ecommerce.domain.coupon.model.UserCoupon;
 import com.hhplus.ecommerce.domain.order.model.Order;
 import com.hhplus.ecommerce.domain.order.model.OrderItem;
+import com.hhplus.ecommerce.domain.order.model.OrderStatus;
 import com.hhplus.ecommerce.domain.payment.model.Payment;
+import com.hhplus.ecommerce.domain.payment.model.PaymentStatus;
 import com.hhplus.ecommerce.domain.product.model.Inventory;
 import com.hhplus.ecommerce.domain.product.model.product.Product;
 import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductPriceBucket;
 import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
+import com.hhplus.ecommerce.global.storage.index.CompositeKey;
+import com.hhplus.ecommerce.global.storage.index.FacetIndex;
+import com.hhplus.ecommerce.global.storage.index.NonUniqueIndex;
+import com.hhplus.ecommerce.global.storage.index.SecondaryIndex;
+import com.hhplus.ecommerce.global.storage.index.SortedIndex;
+import com.hhplus.ecommerce.global.storage.index.TextIndex;
+import com.hhplus.ecommerce.global.storage.index.UniqueIndex;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * In-Memory 데이터 저장소
@@ -38,17 +55,134 @@ InMemoryDataStore {
     public static final AtomicLong paymentIdSequence = new AtomicLong(1);
     public static final AtomicLong couponIdSequence = new AtomicLong(3);
     public static final AtomicLong userCouponIdSequence = new AtomicLong(1);
+    public static final AtomicLong outboxIdSequence = new AtomicLong(0);
+
+    // 주문/주문 아이템 ID 할당기 (시퀀스에서 블록 단위로 예약, 기본 블록 크기 1 = 시퀀스 직접 증가와 동일)
+    public static final IdBlockAllocator ORDER_IDS = new IdBlockAllocator(orderIdSequence);
+    public static final IdBlockAllocator ORDER_ITEM_IDS = new IdBlockAllocator(orderItemIdSequence);
+    private static final List<IdBlockAllocator> ID_ALLOCATORS = List.of(ORDER_IDS, ORDER_ITEM_IDS);
 
     // 데이터 저장소
     public static final Map<Long, Product> PRODUCTS = new ConcurrentHashMap<>();
     public static final Map<Long, Inventory> INVENTORY = new ConcurrentHashMap<>();
     public static final Map<Long, Cart> CARTS = new ConcurrentHashMap<>();
-    public static final Map<Long, List<CartItem>> CART_ITEMS = new ConcurrentHashMap<>();
+    // 장바구니 ID → (항목 ID → 항목), 항목 ID → 장바구니 ID는 CART_ITEMS_BY_CART_ID로 역참조
+    public static final Map<Long, Map<Long, CartItem>> CART_ITEMS = new ConcurrentHashMap<>();
     public static final Map<Long, Order> ORDERS = new ConcurrentHashMap<>();
     public static final Map<Long, List<OrderItem>> ORDER_ITEMS = new ConcurrentHashMap<>();
     public static final Map<Long, Payment> PAYMENTS = new ConcurrentHashMap<>();
     public static final Map<Long, Coupon> COUPONS = new ConcurrentHashMap<>();
     public static final Map<Long, UserCoupon> USER_COUPONS = new ConcurrentHashMap<>();
+    // 아웃박스 (ID 순 = 기록 순으로 릴레이가 앞에서부터 꺼냄)
+    public static final ConcurrentNavigableMap<Long, OutboxMessage> OUTBOX = new ConcurrentSkipListMap<>();
+
+    // 보조 인덱스 (Repository의 save/deleteById에서 함께 갱신)
+    public static final NonUniqueIndex<ProductCategory, Product> PRODUCTS_BY_CATEGORY =
+            new NonUniqueIndex<>(Product::getId, Product::getCategory);
+    public static final NonUniqueIndex<ProductStatus, Product> PRODUCTS_BY_STATUS =
+            new NonUniqueIndex<>(Product::getId, Product::getStatus);
+    public static final NonUniqueIndex<CompositeKey, Product> PRODUCTS_BY_CATEGORY_AND_STATUS =
+            new NonUniqueIndex<>(Product::getId, p -> CompositeKey.of(p.getCategory(), p.getStatus()));
+    // 상품 목록 정렬 인덱스 (파티션: CompositeKey(카테고리 | null, 상태 | null), null은 조건 없음)
+    public static final SortedIndex<Long, Product> PRODUCTS_SORTED_BY_ID =
+            new SortedIndex<>(Product::getId, Product::getId, InMemoryDataStore::productPartitions);
+    public static final SortedIndex<Long, Product> PRODUCTS_SORTED_BY_PRICE =
+            new SortedIndex<>(Product::getId, Product::getPrice, InMemoryDataStore::productPartitions);
+    public static final SortedIndex<String, Product> PRODUCTS_SORTED_BY_NAME =
+            new SortedIndex<>(Product::getId, Product::getName, InMemoryDataStore::productPartitions);
+    public static final SortedIndex<LocalDateTime, Product> PRODUCTS_SORTED_BY_CREATED_AT =
+            new SortedIndex<>(Product::getId, Product::getCreatedAt, InMemoryDataStore::productPartitions);
+    public static final SortedIndex<Integer, Product> PRODUCTS_SORTED_BY_VIEWS =
+            new SortedIndex<>(Product::getId, p -> p.getViewCount() == null ? 0 : p.getViewCount(),
+                    InMemoryDataStore::productPartitions);
+    public static final SortedIndex<Integer, Product> PRODUCTS_SORTED_BY_SALES =
+            new SortedIndex<>(Product::getId, p -> p.getSalesCount() == null ? 0 : p.getSalesCount(),
+                    InMemoryDataStore::productPartitions);
+    public static final SortedIndex<Integer, Product> PRODUCTS_SORTED_BY_POPULARITY =
+            new SortedIndex<>(Product::getId, Product::getPopularityScore, InMemoryDataStore::productPartitions);
+    public static final List<SortedIndex<?, Product>> PRODUCT_SORTED_INDEXES = List.of(
+            PRODUCTS_SORTED_BY_ID, PRODUCTS_SORTED_BY_PRICE, PRODUCTS_SORTED_BY_NAME, PRODUCTS_SORTED_BY_CREATED_AT,
+            PRODUCTS_SORTED_BY_VIEWS, PRODUCTS_SORTED_BY_SALES, PRODUCTS_SORTED_BY_POPULARITY
+    );
+    // 상품 키워드 검색 인덱스 (상품명 + 설명 + 브랜드)
+    public static final TextIndex<Product> PRODUCTS_BY_TEXT =
+            new TextIndex<>(Product::getId, InMemoryDataStore::productSearchText);
+    // 상품 패싯 집계 (범위: 상품 목록 조회와 같은 CompositeKey(카테고리 | null, 상태 | null))
+    public static final FacetIndex<ProductCategory, Product> PRODUCT_FACETS_BY_CATEGORY =
+            new FacetIndex<>(Product::getId, InMemoryDataStore::productPartitions, Product::getCategory);
+    public static final FacetIndex<ProductStatus, Product> PRODUCT_FACETS_BY_STATUS =
+            new FacetIndex<>(Product::getId, InMemoryDataStore::productPartitions, Product::getStatus);
+    public static final FacetIndex<String, Product> PRODUCT_FACETS_BY_BRAND =
+            new FacetIndex<>(Product::getId, InMemoryDataStore::productPartitions, Product::getBrand);
+    public static final FacetIndex<ProductPriceBucket, Product> PRODUCT_FACETS_BY_PRICE_BUCKET =
+            new FacetIndex<>(Product::getId, InMemoryDataStore::productPartitions, p -> ProductPriceBucket.of(p.getPrice()));
+    public static final List<FacetIndex<?, Product>> PRODUCT_FACET_INDEXES = List.of(
+            PRODUCT_FACETS_BY_CATEGORY, PRODUCT_FACETS_BY_STATUS, PRODUCT_FACETS_BY_BRAND, PRODUCT_FACETS_BY_PRICE_BUCKET
+    );
+    public static final UniqueIndex<Long, Inventory> INVENTORY_BY_PRODUCT_ID =
+            new UniqueIndex<>(Inventory::getId, Inventory::getProductId);
+    public static final UniqueIndex<Long, Cart> CARTS_BY_USER_ID =
+            new UniqueIndex<>(Cart::getId, Cart::getUserId);
+    public static final NonUniqueIndex<Long, CartItem> CART_ITEMS_BY_CART_ID =
+            new NonUniqueIndex<>(CartItem::getId, CartItem::getCartId);
+    public static final UniqueIndex<String, Order> ORDERS_BY_ORDER_NUMBER =
+            new UniqueIndex<>(Order::getId, Order::getOrderNumber);
+    public static final NonUniqueIndex<Long, Order> ORDERS_BY_USER_ID =
+            new NonUniqueIndex<>(Order::getId, Order::getUserId);
+    public static final NonUniqueIndex<OrderStatus, Order> ORDERS_BY_STATUS =
+            new NonUniqueIndex<>(Order::getId, Order::getStatus);
+    // 사용자별 주문 목록 정렬 인덱스 (ID는 블록 단위로 할당되어 생성 순서와 다르므로 생성 시각 역순 = 최신순)
+    public static final SortedIndex<LocalDateTime, Order> ORDERS_SORTED_BY_USER_AND_CREATED_AT =
+            new SortedIndex<>(Order::getId, Order::getCreatedAt, o -> List.of(o.getUserId()));
+    public static final NonUniqueIndex<Long, OrderItem> ORDER_ITEMS_BY_ORDER_ID =
+            new NonUniqueIndex<>(OrderItem::getId, OrderItem::getOrderId);
+    public static final NonUniqueIndex<Long, OrderItem> ORDER_ITEMS_BY_PRODUCT_ID =
+            new NonUniqueIndex<>(OrderItem::getId, OrderItem::getProductId);
+    public static final NonUniqueIndex<Long, Payment> PAYMENTS_BY_ORDER_ID =
+            new NonUniqueIndex<>(Payment::getId, Payment::getOrderId);
+    public static final UniqueIndex<String, Payment> PAYMENTS_BY_CLIENT_REQUEST_ID =
+            new UniqueIndex<>(Payment::getId, Payment::getClientRequestId);
+    public static final UniqueIndex<String, Payment> PAYMENTS_BY_TRANSACTION_ID =
+            new UniqueIndex<>(Payment::getId, Payment::getTransactionId);
+    public static final NonUniqueIndex<PaymentStatus, Payment> PAYMENTS_BY_STATUS =
+            new NonUniqueIndex<>(Payment::getId, Payment::getStatus);
+    // 아웃박스 기록 순 인덱스 (보류 여부로 파티션을 나눠 폴링은 보류 메시지를 순회하지 않음)
+    public static final SortedIndex<Long, OutboxMessage> OUTBOX_SORTED_BY_ID =
+            new SortedIndex<>(OutboxMessage::getId, OutboxMessage::getId, m -> List.of(m.isParked()));
+    // 보류 메시지만 애그리거트(주문) ID로 색인 (같은 주문의 뒤 메시지 발행 보류 판단)
+    public static final NonUniqueIndex<Long, OutboxMessage> OUTBOX_PARKED_BY_AGGREGATE_ID =
+            new NonUniqueIndex<>(OutboxMessage::getId, m -> m.isParked() ? m.getAggregateId() : null);
+    public static final UniqueIndex<String, Coupon> COUPONS_BY_CODE =
+            new UniqueIndex<>(Coupon::getId, Coupon::getCode);
+    public static final NonUniqueIndex<CouponStatus, Coupon> COUPONS_BY_STATUS =
+            new NonUniqueIndex<>(Coupon::getId, Coupon::getStatus);
+    public static final UniqueIndex<CompositeKey, UserCoupon> USER_COUPONS_BY_COUPON_AND_USER =
+            new UniqueIndex<>(UserCoupon::getId, uc -> CompositeKey.of(uc.getCouponId(), uc.getUserId()));
+    public static final NonUniqueIndex<Long, UserCoupon> USER_COUPONS_BY_USER_ID =
+            new NonUniqueIndex<>(UserCoupon::getId, UserCoupon::getUserId);
+    public static final UniqueIndex<Long, UserCoupon> USER_COUPONS_BY_ORDER_ID =
+            new UniqueIndex<>(UserCoupon::getId, UserCoupon::getOrderId);
+
+    // 변경 리스너 (WAL 활성화 시 교체)
+    private static volatile StoreMutationListener mutationListener = StoreMutationListener.NO_OP;
+
+    // atomically 블록 안에서 모은 저장 (블록 밖이면 null)
+    private static final ThreadLocal<List<StoreWrite>> ATOMIC_WRITES = new ThreadLocal<>();
+
+    private static final List<SecondaryIndex<?>> INDEXES = List.of(
+            PRODUCTS_BY_CATEGORY, PRODUCTS_BY_STATUS, PRODUCTS_BY_CATEGORY_AND_STATUS,
+            PRODUCTS_SORTED_BY_ID, PRODUCTS_SORTED_BY_PRICE, PRODUCTS_SORTED_BY_NAME, PRODUCTS_SORTED_BY_CREATED_AT,
+            PRODUCTS_SORTED_BY_VIEWS, PRODUCTS_SORTED_BY_SALES, PRODUCTS_SORTED_BY_POPULARITY, PRODUCTS_BY_TEXT,
+            PRODUCT_FACETS_BY_CATEGORY, PRODUCT_FACETS_BY_STATUS, PRODUCT_FACETS_BY_BRAND, PRODUCT_FACETS_BY_PRICE_BUCKET,
+            INVENTORY_BY_PRODUCT_ID,
+            CARTS_BY_USER_ID, CART_ITEMS_BY_CART_ID,
+            ORDERS_BY_ORDER_NUMBER, ORDERS_BY_USER_ID, ORDERS_BY_STATUS, ORDERS_SORTED_BY_USER_AND_CREATED_AT,
+            ORDER_ITEMS_BY_ORDER_ID, ORDER_ITEMS_BY_PRODUCT_ID,
+            PAYMENTS_BY_ORDER_ID, PAYMENTS_BY_CLIENT_REQUEST_ID, PAYMENTS_BY_TRANSACTION_ID, PAYMENTS_BY_STATUS,
+            COUPONS_BY_CODE, COUPONS_BY_STATUS,
+            USER_COUPONS_BY_COUPON_AND_USER, USER_COUPONS_BY_USER_ID, USER_COUPONS_BY_ORDER_ID,
+            OUTBOX_SORTED_BY_ID, OUTBOX_PARKED_BY_AGGREGATE_ID
+    );
 
     // 초기 데이터 로드
     static {
@@ -181,15 +315,107 @@ InMemoryDataStore {
                 .createdAt(now)
                 .updatedAt(now)
                 .build());
+
+        indexInitialData();
+    }
+
+    /**
+     * 초기 데이터는 Repository를 거치지 않으므로 직접 색인
+     */
+    private static void indexInitialData() {
+        PRODUCTS.values().forEach(product -> {
+            PRODUCTS_BY_CATEGORY.index(product);
+            PRODUCTS_BY_STATUS.index(product);
+            PRODUCTS_BY_CATEGORY_AND_STATUS.index(product);
+            PRODUCT_SORTED_INDEXES.forEach(index -> index.index(product));
+            PRODUCTS_BY_TEXT.index(product);
+            PRODUCT_FACET_INDEXES.forEach(index -> index.index(product));
+        });
+        INVENTORY.values().forEach(INVENTORY_BY_PRODUCT_ID::index);
+        COUPONS.values().forEach(coupon -> {
+            COUPONS_BY_CODE.index(coupon);
+            COUPONS_BY_STATUS.index(coupon);
+        });
+    }
+
+    /**
+     * 상품이 속하는 목록 조회 파티션 / 패싯 집계 범위 (전체, 카테고리, 상태, 카테고리 + 상태)
+     */
+    private static Collection<CompositeKey> productPartitions(Product product) {
+        return List.of(
+                CompositeKey.of(null, null),
+                CompositeKey.of(product.getCategory(), null),
+                CompositeKey.of(null, product.getStatus()),
+                CompositeKey.of(product.getCategory(), product.getStatus())
+        );
+    }
+
+    /**
+     * 상품 검색 대상 본문 (상품명, 설명, 브랜드)
+     */
+    private static String productSearchText(Product product) {
+        return Stream.of(product.getName(), product.getDescription(), product.getBrand())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+    }
+
+    public static void setMutationListener(StoreMutationListener listener) {
+        mutationListener = listener != null ? listener : StoreMutationListener.NO_OP;
+    }
+
+    /**
+     * 저장 기록 (Repository save에서 호출, atomically 블록 안이면 블록이 끝날 때 한 번에 기록)
+     */
+    public static void recordSave(StoreTable table, Object entity) {
+        List<StoreWrite> atomicWrites = ATOMIC_WRITES.get();
+        if (atomicWrites != null) {
+            atomicWrites.add(new StoreWrite(table, entity));
+            return;
+        }
+        mutationListener.onSave(table, entity);
+    }
+
+    /**
+     * 블록 안의 Repository 저장을 하나의 변경으로 기록 (WAL에는 전부 복구되거나 전부 버려지는 한 레코드로 남음)
+     * 저장만 묶으며, 블록 안에서 예외가 나면 기록하지 않고 그대로 던짐. 중첩 호출은 바깥 블록에 합쳐짐
+     */
+    public static void atomically(Runnable writes) {
+        if (ATOMIC_WRITES.get() != null) {
+            writes.run();
+            return;
+        }
+
+        List<StoreWrite> atomicWrites = new ArrayList<>();
+        ATOMIC_WRITES.set(atomicWrites);
+        try {
+            writes.run();
+        } finally {
+            ATOMIC_WRITES.remove();
+        }
+        if (!atomicWrites.isEmpty()) {
+            mutationListener.onSaveAll(List.copyOf(atomicWrites));
+        }
+    }
+
+    /**
+     * 삭제 기록 (Repository deleteById에서 호출)
+     */
+    public static void recordDelete(StoreTable table, Long id) {
+        mutationListener.onDelete(table, id);
+    }
+
+    /**
+     * ID 할당 설정 (블록 크기, 노드 번호/노드 수) - 기존 블록은 버림
+     */
+    public static void configureIdAllocation(int blockSize, int nodeId, int nodeCount) {
+        ID_ALLOCATORS.forEach(allocator -> allocator.configure(blockSize, nodeId, nodeCount));
     }
 
     /**
-     * 주문 번호 생성
+     * 할당기가 보유한 ID 블록 폐기 (스냅샷/WAL로 시퀀스를 복구한 뒤 호출)
      */
-    public static String generateOrderNumber() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        String dateStr = LocalDateTime.now().format(formatter);
-        return String.format("ORD-%s-%05d", dateStr, orderIdSequence.get());
+    public static void resetIdBlocks() {
+        ID_ALLOCATORS.forEach(IdBlockAllocator::reset);
     }
 
     /**
@@ -205,5 +431,7 @@ InMemoryDataStore {
         PAYMENTS.clear();
         COUPONS.clear();
         USER_COUPONS.clear();
+        OUTBOX.clear();
+        INDEXES.forEach(SecondaryIndex::clear);
     }
 }
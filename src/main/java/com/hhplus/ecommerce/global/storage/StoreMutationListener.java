@@ -0,0 +1,32 @@
+package com.hhplus.ecommerce.global.storage;
+
+import java.util.List;
+
+/**
+ * InMemoryDataStore 변경 리스너
+ * Repository의 save/deleteById가 반영될 때마다 호출됨 (WAL 기록 등)
+ */
+public interface StoreMutationListener {
+
+    StoreMutationListener NO_OP = new StoreMutationListener() {
+        @Override
+        public void onSave(StoreTable table, Object entity) {
+        }
+
+        @Override
+        public void onDelete(StoreTable table, Long id) {
+        }
+    };
+
+    void onSave(StoreTable table, Object entity);
+
+    void onDelete(StoreTable table, Long id);
+
+    /**
+     * 여러 저장을 한 번에 반영 (InMemoryDataStore.atomically로 묶은 저장)
+     * 기본 구현은 한 건씩 onSave를 호출하며, WAL은 하나의 레코드로 기록하여 전부 복구되거나 전부 버려지게 함
+     */
+    default void onSaveAll(List<StoreWrite> writes) {
+        writes.forEach(write -> onSave(write.table(), write.entity()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.hhplus.ecommerce.global.storage;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * InMemoryDataStore 테이블 식별자
+ * 영속화 포맷(WAL)에서 사용하는 코드는 변경하지 않아야 함
+ */
+public enum StoreTable {
+    PRODUCTS(1),
+    INVENTORY(2),
+    CARTS(3),
+    CART_ITEMS(4),
+    ORDERS(5),
+    ORDER_ITEMS(6),
+    PAYMENTS(7),
+    COUPONS(8),
+    USER_COUPONS(9),
+    OUTBOX(10);
+
+    private final int code;
+
+    StoreTable(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * 테이블의 ID 시퀀스
+     */
+    public AtomicLong sequence() {
+        return switch (this) {
+            case PRODUCTS -> InMemoryDataStore.productIdSequence;
+            case INVENTORY -> InMemoryDataStore.inventoryIdSequence;
+            case CARTS -> InMemoryDataStore.cartIdSequence;
+            case CART_ITEMS -> InMemoryDataStore.cartItemIdSequence;
+            case ORDERS -> InMemoryDataStore.orderIdSequence;
+            case ORDER_ITEMS -> InMemoryDataStore.orderItemIdSequence;
+            case PAYMENTS -> InMemoryDataStore.paymentIdSequence;
+            case COUPONS -> InMemoryDataStore.couponIdSequence;
+            case USER_COUPONS -> InMemoryDataStore.userCouponIdSequence;
+            case OUTBOX -> InMemoryDataStore.outboxIdSequence;
+        };
+    }
+
+    /**
+     * 테이블의 현재 엔티티 (약한 일관성 - 순회 중 변경이 일부 반영될 수 있음)
+     */
+    public Stream<?> entities() {
+        return switch (this) {
+            case PRODUCTS -> InMemoryDataStore.PRODUCTS.values().stream();
+            case INVENTORY -> InMemoryDataStore.INVENTORY.values().stream();
+            case CARTS -> InMemoryDataStore.CARTS.values().stream();
+            case CART_ITEMS -> InMemoryDataStore.CART_ITEMS.values().stream().flatMap(items -> items.values().stream());
+            case ORDERS -> InMemoryDataStore.ORDERS.values().stream();
+            case ORDER_ITEMS -> InMemoryDataStore.ORDER_ITEMS.values().stream().flatMap(List::stream);
+            case PAYMENTS -> InMemoryDataStore.PAYMENTS.values().stream();
+            case COUPONS -> InMemoryDataStore.COUPONS.values().stream();
+            case USER_COUPONS -> InMemoryDataStore.USER_COUPONS.values().stream();
+            case OUTBOX -> InMemoryDataStore.OUTBOX.values().stream();
+        };
+    }
+
+    public static StoreTable fromCode(int code) {
+        for (StoreTable table : values()) {
+            if (table.code == code) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 테이블 코드: " + code);
+    }
+}
@@ -0,0 +1,7 @@
+package com.hhplus.ecommerce.global.storage;
+
+/**
+ * 원자적으로 함께 기록할 저장 한 건 (테이블 + 엔티티)
+ */
+public record StoreWrite(StoreTable table, Object entity) {
+}
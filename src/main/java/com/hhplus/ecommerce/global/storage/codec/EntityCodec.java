@@ -0,0 +1,475 @@
+package com.hhplus.ecommerce.global.storage.codec;
+
+import com.hhplus.ecommerce.domain.cart.model.Cart;
+import com.hhplus.ecommerce.domain.cart.model.CartItem;
+import com.hhplus.ecommerce.domain.coupon.model.Coupon;
+import com.hhplus.ecommerce.domain.coupon.model.CouponStatus;
+import com.hhplus.ecommerce.domain.coupon.model.DiscountType;
+import com.hhplus.ecommerce.domain.coupon.model.UserCoupon;
+import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderItem;
+import com.hhplus.ecommerce.domain.order.model.OrderStatus;
+import com.hhplus.ecommerce.domain.payment.model.Payment;
+import com.hhplus.ecommerce.domain.payment.model.PaymentMethod;
+import com.hhplus.ecommerce.domain.payment.model.PaymentStatus;
+import com.hhplus.ecommerce.domain.product.model.Inventory;
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
+import com.hhplus.ecommerce.global.outbox.OutboxEventType;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티 바이너리 인코더/디코더 (WAL, 스냅샷 공용)
+ * 필드 순서가 곧 포맷이므로 필드 추가 시 마지막에 추가해야 함
+ */
+public final class EntityCodec {
+
+    private EntityCodec() {
+    }
+
+    public static void encode(StoreTable table, Object entity, DataOutput out) throws IOException {
+        switch (table) {
+            case PRODUCTS -> writeProduct((Product) entity, out);
+            case INVENTORY -> writeInventory((Inventory) entity, out);
+            case CARTS -> writeCart((Cart) entity, out);
+            case CART_ITEMS -> writeCartItem((CartItem) entity, out);
+            case ORDERS -> writeOrder((Order) entity, out);
+            case ORDER_ITEMS -> writeOrderItem((OrderItem) entity, out);
+            case PAYMENTS -> writePayment((Payment) entity, out);
+            case COUPONS -> writeCoupon((Coupon) entity, out);
+            case USER_COUPONS -> writeUserCoupon((UserCoupon) entity, out);
+            case OUTBOX -> writeOutboxMessage((OutboxMessage) entity, out);
+        }
+    }
+
+    public static Object decode(StoreTable table, DataInput in) throws IOException {
+        return switch (table) {
+            case PRODUCTS -> readProduct(in);
+            case INVENTORY -> readInventory(in);
+            case CARTS -> readCart(in);
+            case CART_ITEMS -> readCartItem(in);
+            case ORDERS -> readOrder(in);
+            case ORDER_ITEMS -> readOrderItem(in);
+            case PAYMENTS -> readPayment(in);
+            case COUPONS -> readCoupon(in);
+            case USER_COUPONS -> readUserCoupon(in);
+            case OUTBOX -> readOutboxMessage(in);
+        };
+    }
+
+    /**
+     * 엔티티 ID 추출
+     */
+    public static Long idOf(StoreTable table, Object entity) {
+        return switch (table) {
+            case PRODUCTS -> ((Product) entity).getId();
+            case INVENTORY -> ((Inventory) entity).getId();
+            case CARTS -> ((Cart) entity).getId();
+            case CART_ITEMS -> ((CartItem) entity).getId();
+            case ORDERS -> ((Order) entity).getId();
+            case ORDER_ITEMS -> ((OrderItem) entity).getId();
+            case PAYMENTS -> ((Payment) entity).getId();
+            case COUPONS -> ((Coupon) entity).getId();
+            case USER_COUPONS -> ((UserCoupon) entity).getId();
+            case OUTBOX -> ((OutboxMessage) entity).getId();
+        };
+    }
+
+    // ========== Product ==========
+
+    private static void writeProduct(Product p, DataOutput out) throws IOException {
+        writeLong(out, p.getId());
+        writeString(out, p.getName());
+        writeString(out, p.getDescription());
+        writeLong(out, p.getPrice());
+        writeEnum(out, p.getCategory());
+        writeString(out, p.getBrand());
+        writeString(out, p.getImageUrl());
+        writeEnum(out, p.getStatus());
+        writeInt(out, p.getViewCount());
+        writeInt(out, p.getSalesCount());
+        writeDateTime(out, p.getCreatedAt());
+        writeDateTime(out, p.getUpdatedAt());
+    }
+
+    private static Product readProduct(DataInput in) throws IOException {
+        return Product.builder()
+                .id(readLong(in))
+                .name(readString(in))
+                .description(readString(in))
+                .price(readLong(in))
+                .category(readEnum(in, ProductCategory.class))
+                .brand(readString(in))
+                .imageUrl(readString(in))
+                .status(readEnum(in, ProductStatus.class))
+                .viewCount(readInt(in))
+                .salesCount(readInt(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    // ========== Inventory ==========
+
+    private static void writeInventory(Inventory i, DataOutput out) throws IOException {
+        writeLong(out, i.getId());
+        writeLong(out, i.getProductId());
+        Inventory.StockLevel level = i.getStockLevel();
+        writeInt(out, level.stock());
+        writeInt(out, level.reservedStock());
+        writeInt(out, i.getLowStockThreshold());
+        writeDateTime(out, i.getCreatedAt());
+        writeDateTime(out, i.getUpdatedAt());
+    }
+
+    private static Inventory readInventory(DataInput in) throws IOException {
+        return Inventory.builder()
+                .id(readLong(in))
+                .productId(readLong(in))
+                .stock(readInt(in))
+                .reservedStock(readInt(in))
+                .lowStockThreshold(readInt(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    // ========== Cart ==========
+
+    private static void writeCart(Cart c, DataOutput out) throws IOException {
+        writeLong(out, c.getId());
+        writeLong(out, c.getUserId());
+        writeDateTime(out, c.getCreatedAt());
+        writeDateTime(out, c.getUpdatedAt());
+    }
+
+    private static Cart readCart(DataInput in) throws IOException {
+        return Cart.builder()
+                .id(readLong(in))
+                .userId(readLong(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    private static void writeCartItem(CartItem c, DataOutput out) throws IOException {
+        writeLong(out, c.getId());
+        writeLong(out, c.getCartId());
+        writeLong(out, c.getProductId());
+        writeString(out, c.getProductName());
+        writeLong(out, c.getProductPrice());
+        writeInt(out, c.getQuantity());
+        writeDateTime(out, c.getCreatedAt());
+        writeDateTime(out, c.getUpdatedAt());
+    }
+
+    private static CartItem readCartItem(DataInput in) throws IOException {
+        return CartItem.builder()
+                .id(readLong(in))
+                .cartId(readLong(in))
+                .productId(readLong(in))
+                .productName(readString(in))
+                .productPrice(readLong(in))
+                .quantity(readInt(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    // ========== Order ==========
+
+    private static void writeOrder(Order o, DataOutput out) throws IOException {
+        writeLong(out, o.getId());
+        writeLong(out, o.getUserId());
+        writeString(out, o.getOrderNumber());
+        writeEnum(out, o.getStatus());
+        writeLong(out, o.getItemsTotal());
+        writeLong(out, o.getDiscountAmount());
+        writeLong(out, o.getFinalAmount());
+        writeLong(out, o.getUserCouponId());
+        writeString(out, o.getDeliveryAddress());
+        writeString(out, o.getDeliveryMemo());
+        writeDateTime(out, o.getExpiresAt());
+        writeDateTime(out, o.getPaidAt());
+        writeDateTime(out, o.getCancelledAt());
+        writeString(out, o.getCancelReason());
+        writeDateTime(out, o.getCreatedAt());
+        writeDateTime(out, o.getUpdatedAt());
+
+        List<OrderItem> items = o.getItems() != null ? o.getItems() : List.of();
+        out.writeInt(items.size());
+        for (OrderItem item : items) {
+            writeOrderItem(item, out);
+        }
+    }
+
+    private static Order readOrder(DataInput in) throws IOException {
+        Order.OrderBuilder builder = Order.builder()
+                .id(readLong(in))
+                .userId(readLong(in))
+                .orderNumber(readString(in))
+                .status(readEnum(in, OrderStatus.class))
+                .itemsTotal(readLong(in))
+                .discountAmount(readLong(in))
+                .finalAmount(readLong(in))
+                .userCouponId(readLong(in))
+                .deliveryAddress(readString(in))
+                .deliveryMemo(readString(in))
+                .expiresAt(readDateTime(in))
+                .paidAt(readDateTime(in))
+                .cancelledAt(readDateTime(in))
+                .cancelReason(readString(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in));
+
+        int itemCount = in.readInt();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(readOrderItem(in));
+        }
+        return builder.items(items).build();
+    }
+
+    private static void writeOrderItem(OrderItem i, DataOutput out) throws IOException {
+        writeLong(out, i.getId());
+        writeLong(out, i.getOrderId());
+        writeLong(out, i.getProductId());
+        writeString(out, i.getProductName());
+        writeInt(out, i.getQuantity());
+        writeLong(out, i.getUnitPrice());
+        writeLong(out, i.getSubtotal());
+        writeDateTime(out, i.getCreatedAt());
+        writeDateTime(out, i.getUpdatedAt());
+    }
+
+    private static OrderItem readOrderItem(DataInput in) throws IOException {
+        return OrderItem.builder()
+                .id(readLong(in))
+                .orderId(readLong(in))
+                .productId(readLong(in))
+                .productName(readString(in))
+                .quantity(readInt(in))
+                .unitPrice(readLong(in))
+                .subtotal(readLong(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    // ========== Payment ==========
+
+    private static void writePayment(Payment p, DataOutput out) throws IOException {
+        writeLong(out, p.getId());
+        writeLong(out, p.getOrderId());
+        writeLong(out, p.getAmount());
+        writeEnum(out, p.getPaymentMethod());
+        writeEnum(out, p.getStatus());
+        writeString(out, p.getClientRequestId());
+        writeString(out, p.getTransactionId());
+        writeString(out, p.getFailReason());
+        writeDateTime(out, p.getPaidAt());
+        writeDateTime(out, p.getFailedAt());
+        writeDateTime(out, p.getCreatedAt());
+        writeDateTime(out, p.getUpdatedAt());
+    }
+
+    private static Payment readPayment(DataInput in) throws IOException {
+        return Payment.builder()
+                .id(readLong(in))
+                .orderId(readLong(in))
+                .amount(readLong(in))
+                .paymentMethod(readEnum(in, PaymentMethod.class))
+                .status(readEnum(in, PaymentStatus.class))
+                .clientRequestId(readString(in))
+                .transactionId(readString(in))
+                .failReason(readString(in))
+                .paidAt(readDateTime(in))
+                .failedAt(readDateTime(in))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    // ========== Coupon ==========
+
+    private static void writeCoupon(Coupon c, DataOutput out) throws IOException {
+        writeLong(out, c.getId());
+        writeString(out, c.getCode());
+        writeString(out, c.getName());
+        writeString(out, c.getDescription());
+        writeEnum(out, c.getDiscountType());
+        writeInt(out, c.getDiscountValue());
+        writeLong(out, c.getMinOrderAmount());
+        writeLong(out, c.getMaxDiscountAmount());
+        writeInt(out, c.getTotalQuantity());
+        writeInt(out, c.getRemainingQuantity());
+        writeDateTime(out, c.getStartsAt());
+        writeDateTime(out, c.getEndsAt());
+        writeEnum(out, c.getStatus());
+        writeDateTime(out, c.getCreatedAt());
+        writeDateTime(out, c.getUpdatedAt());
+    }
+
+    private static Coupon readCoupon(DataInput in) throws IOException {
+        return Coupon.builder()
+                .id(readLong(in))
+                .code(readString(in))
+                .name(readString(in))
+                .description(readString(in))
+                .discountType(readEnum(in, DiscountType.class))
+                .discountValue(readInt(in))
+                .minOrderAmount(readLong(in))
+                .maxDiscountAmount(readLong(in))
+                .totalQuantity(readInt(in))
+                .remainingQuantity(readInt(in))
+                .startsAt(readDateTime(in))
+                .endsAt(readDateTime(in))
+                .status(readEnum(in, CouponStatus.class))
+                .createdAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    private static void writeUserCoupon(UserCoupon u, DataOutput out) throws IOException {
+        writeLong(out, u.getId());
+        writeLong(out, u.getCouponId());
+        writeLong(out, u.getUserId());
+        writeLong(out, u.getOrderId());
+        writeBoolean(out, u.getIsUsed());
+        writeDateTime(out, u.getIssuedAt());
+        writeDateTime(out, u.getUsedAt());
+        writeDateTime(out, u.getExpiresAt());
+        writeDateTime(out, u.getUpdatedAt());
+    }
+
+    private static UserCoupon readUserCoupon(DataInput in) throws IOException {
+        return UserCoupon.builder()
+                .id(readLong(in))
+                .couponId(readLong(in))
+                .userId(readLong(in))
+                .orderId(readLong(in))
+                .isUsed(readBoolean(in))
+                .issuedAt(readDateTime(in))
+                .usedAt(readDateTime(in))
+                .expiresAt(readDateTime(in))
+                .updatedAt(readDateTime(in))
+                .build();
+    }
+
+    // ========== Outbox ==========
+
+    private static void writeOutboxMessage(OutboxMessage m, DataOutput out) throws IOException {
+        writeLong(out, m.getId());
+        writeEnum(out, m.getEventType());
+        writeLong(out, m.getAggregateId());
+        writeLong(out, m.getReferenceId());
+        writeString(out, m.getDetail());
+        writeDateTime(out, m.getCreatedAt());
+        writeDateTime(out, m.getParkedAt());
+        writeString(out, m.getParkReason());
+    }
+
+    private static OutboxMessage readOutboxMessage(DataInput in) throws IOException {
+        return OutboxMessage.builder()
+                .id(readLong(in))
+                .eventType(readEnum(in, OutboxEventType.class))
+                .aggregateId(readLong(in))
+                .referenceId(readLong(in))
+                .detail(readString(in))
+                .createdAt(readDateTime(in))
+                .parkedAt(readDateTime(in))
+                .parkReason(readString(in))
+                .build();
+    }
+
+    // ========== Nullable Primitives ==========
+
+    private static void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeInt(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInt(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeBoolean(DataOutput out, Boolean value) throws IOException {
+        out.writeByte(value == null ? -1 : (value ? 1 : 0));
+    }
+
+    private static Boolean readBoolean(DataInput in) throws IOException {
+        byte value = in.readByte();
+        return value < 0 ? null : value == 1;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // enum은 ordinal 대신 이름으로 기록 (상수 순서 변경에 안전)
+    private static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        writeString(out, value != null ? value.name() : null);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInput in, Class<E> type) throws IOException {
+        String name = readString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
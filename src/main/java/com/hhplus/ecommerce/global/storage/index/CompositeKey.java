@@ -0,0 +1,11 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+/**
+ * 복합 조건 인덱스용 키 (예: 쿠폰 ID + 사용자 ID)
+ */
+public record CompositeKey(Object first, Object second) {
+
+    public static CompositeKey of(Object first, Object second) {
+        return new CompositeKey(first, second);
+    }
+}
@@ -0,0 +1,95 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 패싯 집계 보조 인덱스 (범위 키 → 값별 엔티티 수)
+ * ID 목록 없이 건수만 유지하고, 저장 시점에 이전 값의 건수를 빼고 새 값의 건수를 더해 조회 시 스캔 없이 집계
+ * 한 엔티티를 여러 범위(예: 전체, 카테고리, 상태, 카테고리+상태)에 동시에 집계하며, null 값은 집계하지 않음
+ */
+public class FacetIndex<K, T> implements SecondaryIndex<T> {
+
+    private final Function<T, Long> idExtractor;
+    private final Function<T, Collection<?>> scopeExtractor;
+    private final Function<T, K> valueExtractor;
+
+    private final Map<Object, Map<K, AtomicInteger>> countsByScope = new ConcurrentHashMap<>();
+    private final Map<Long, Counted<K>> countedById = new ConcurrentHashMap<>();
+
+    public FacetIndex(Function<T, Long> idExtractor, Function<T, Collection<?>> scopeExtractor,
+                      Function<T, K> valueExtractor) {
+        this.idExtractor = idExtractor;
+        this.scopeExtractor = scopeExtractor;
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void index(T entity) {
+        Long id = idExtractor.apply(entity);
+        K value = valueExtractor.apply(entity);
+        Counted<K> next = value != null ? new Counted<>(value, List.copyOf(scopeExtractor.apply(entity))) : null;
+
+        // 같은 ID에 대한 갱신은 countedById 버킷 락으로 직렬화 (값/범위가 그대로면 건수를 건드리지 않음)
+        countedById.compute(id, (entityId, previous) -> {
+            if (next != null && next.equals(previous)) {
+                return previous;
+            }
+            if (previous != null) {
+                add(previous, -1);
+            }
+            if (next != null) {
+                add(next, 1);
+            }
+            return next;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        countedById.computeIfPresent(id, (entityId, previous) -> {
+            add(previous, -1);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        countedById.clear();
+        countsByScope.clear();
+    }
+
+    /**
+     * 범위 내 값별 엔티티 수 (건수가 0인 값은 제외한 스냅샷)
+     */
+    public Map<K, Integer> counts(Object scope) {
+        Map<K, AtomicInteger> counts = countsByScope.get(scope);
+        if (counts == null) {
+            return Map.of();
+        }
+
+        Map<K, Integer> snapshot = new HashMap<>();
+        counts.forEach((value, count) -> {
+            int current = count.get();
+            if (current > 0) {
+                snapshot.put(value, current);
+            }
+        });
+        return snapshot;
+    }
+
+    private void add(Counted<K> counted, int delta) {
+        counted.scopes().forEach(scope -> countsByScope
+                .computeIfAbsent(scope, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(counted.value(), v -> new AtomicInteger())
+                .addAndGet(delta));
+    }
+
+    private record Counted<K>(K value, List<?> scopes) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 비유니크 보조 인덱스 (키 → 엔티티 ID 집합)
+ * null 키는 색인하지 않음
+ */
+public class NonUniqueIndex<K, T> implements SecondaryIndex<T> {
+
+    private final Function<T, Long> idExtractor;
+    private final Function<T, K> keyExtractor;
+
+    private final Map<K, Set<Long>> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Long, K> keyById = new ConcurrentHashMap<>();
+
+    public NonUniqueIndex(Function<T, Long> idExtractor, Function<T, K> keyExtractor) {
+        this.idExtractor = idExtractor;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public void index(T entity) {
+        Long id = idExtractor.apply(entity);
+        K newKey = keyExtractor.apply(entity);
+
+        // 같은 ID에 대한 갱신은 keyById 버킷 락으로 직렬화 (keyById → idsByKey 순서로만 락 획득)
+        keyById.compute(id, (entityId, oldKey) -> {
+            if (oldKey != null && !oldKey.equals(newKey)) {
+                removeFromBucket(oldKey, entityId);
+            }
+            if (newKey == null) {
+                return null;
+            }
+            idsByKey.compute(newKey, (key, ids) -> {
+                Set<Long> bucket = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                bucket.add(entityId);
+                return bucket;
+            });
+            return newKey;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        keyById.computeIfPresent(id, (entityId, oldKey) -> {
+            removeFromBucket(oldKey, entityId);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        keyById.clear();
+        idsByKey.clear();
+    }
+
+    /**
+     * 키에 해당하는 ID 집합 조회 (읽기 전용 뷰)
+     */
+    public Set<Long> findIds(K key) {
+        if (key == null) {
+            return Set.of();
+        }
+        Set<Long> ids = idsByKey.get(key);
+        return ids != null ? Collections.unmodifiableSet(ids) : Set.of();
+    }
+
+    /**
+     * ID가 현재 색인된 키 조회 (그룹 저장소에서 ID → 그룹 키 역참조용)
+     */
+    public Optional<K> findKey(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(keyById.get(id));
+    }
+
+    private void removeFromBucket(K key, Long id) {
+        idsByKey.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
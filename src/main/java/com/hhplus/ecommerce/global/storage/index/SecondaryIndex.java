@@ -0,0 +1,23 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+/**
+ * In-Memory 저장소 보조 인덱스
+ * 저장소의 save/deleteById 시점에 함께 갱신하여 PK 외 조건 조회를 전체 스캔 없이 처리
+ */
+public interface SecondaryIndex<T> {
+
+    /**
+     * 엔티티 색인 (키가 변경된 경우 이전 키에서 제거 후 새 키로 이동)
+     */
+    void index(T entity);
+
+    /**
+     * ID로 색인 제거
+     */
+    void remove(Long id);
+
+    /**
+     * 전체 색인 초기화
+     */
+    void clear();
+}
@@ -0,0 +1,225 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 정렬 보조 인덱스 (파티션 키 → 정렬 키 순서의 엔티티 ID)
+ * 한 엔티티를 여러 파티션(예: 전체, 카테고리, 상태, 카테고리+상태)에 동시에 색인하고
+ * 저장 시점에 정렬 위치를 갱신하여 조회 시 정렬 없이 필요한 구간만 순회
+ * 정렬 키가 같으면 ID 순서, null 정렬 키는 가장 앞에 위치
+ */
+public class SortedIndex<K extends Comparable<? super K>, T> implements SecondaryIndex<T> {
+
+    private final Function<T, Long> idExtractor;
+    private final Function<T, K> keyExtractor;
+    private final Function<T, Collection<?>> partitionExtractor;
+
+    private final Map<Object, Partition<K>> partitions = new ConcurrentHashMap<>();
+    private final Map<Long, Indexed<K>> indexedById = new ConcurrentHashMap<>();
+
+    public SortedIndex(Function<T, Long> idExtractor, Function<T, K> keyExtractor,
+                       Function<T, Collection<?>> partitionExtractor) {
+        this.idExtractor = idExtractor;
+        this.keyExtractor = keyExtractor;
+        this.partitionExtractor = partitionExtractor;
+    }
+
+    @Override
+    public void index(T entity) {
+        Long id = idExtractor.apply(entity);
+        // 엔티티는 가변 객체이므로 색인 시점의 정렬 키를 보관해 두었다가 제거에 사용
+        Indexed<K> next = new Indexed<>(new Entry<>(keyExtractor.apply(entity), id),
+                List.copyOf(partitionExtractor.apply(entity)));
+
+        // 같은 ID에 대한 갱신은 indexedById 버킷 락으로 직렬화
+        indexedById.compute(id, (entityId, previous) -> {
+            if (next.equals(previous)) {
+                return previous;
+            }
+            if (previous != null) {
+                removeFromPartitions(previous);
+            }
+            next.partitions().forEach(key -> partitions
+                    .computeIfAbsent(key, k -> new Partition<>(new ConcurrentSkipListSet<>(SortedIndex::compare)))
+                    .add(next.entry()));
+            return next;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        indexedById.computeIfPresent(id, (entityId, previous) -> {
+            removeFromPartitions(previous);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        indexedById.clear();
+        partitions.clear();
+    }
+
+    /**
+     * 파티션 내 정렬 순서로 offset부터 limit개의 ID 조회 (offset + limit개만 순회)
+     */
+    public List<Long> findIds(Object partition, boolean descending, int offset, int limit) {
+        Partition<K> target = partitions.get(partition);
+        if (target == null || limit <= 0) {
+            return List.of();
+        }
+
+        Iterator<Entry<K>> iterator = descending
+                ? target.entries().descendingIterator()
+                : target.entries().iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+
+        List<Long> ids = new ArrayList<>(limit);
+        while (ids.size() < limit && iterator.hasNext()) {
+            ids.add(iterator.next().id());
+        }
+        return ids;
+    }
+
+    /**
+     * 파티션 내 정렬 순서로 (afterKey, afterId) 바로 다음부터 limit개의 ID 조회 (키셋 페이지네이션)
+     * 기준 위치를 정렬 키로 찾으므로 앞쪽에 항목이 추가/삭제되어도 다음 구간이 밀리거나 중복되지 않음
+     */
+    public List<Long> findIdsAfter(Object partition, boolean descending, K afterKey, Long afterId, int limit) {
+        Partition<K> target = partitions.get(partition);
+        if (target == null || limit <= 0) {
+            return List.of();
+        }
+
+        Entry<K> from = new Entry<>(afterKey, afterId);
+        NavigableSet<Entry<K>> rest = descending
+                ? target.entries().headSet(from, false).descendingSet()
+                : target.entries().tailSet(from, false);
+
+        List<Long> ids = new ArrayList<>(limit);
+        Iterator<Entry<K>> iterator = rest.iterator();
+        while (ids.size() < limit && iterator.hasNext()) {
+            ids.add(iterator.next().id());
+        }
+        return ids;
+    }
+
+    /**
+     * 파티션 내 정렬 키가 [fromKey, toKey] 구간인 항목 중 offset부터 limit개의 ID 조회 (null 경계는 열린 구간)
+     */
+    public List<Long> findIdsBetween(Object partition, boolean descending, K fromKey, K toKey, int offset, int limit) {
+        Partition<K> target = partitions.get(partition);
+        if (target == null || limit <= 0) {
+            return List.of();
+        }
+
+        NavigableSet<Entry<K>> range = range(target, fromKey, toKey);
+        Iterator<Entry<K>> iterator = descending ? range.descendingIterator() : range.iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+
+        List<Long> ids = new ArrayList<>(limit);
+        while (ids.size() < limit && iterator.hasNext()) {
+            ids.add(iterator.next().id());
+        }
+        return ids;
+    }
+
+    /**
+     * 파티션 내 정렬 키가 [fromKey, toKey] 구간인 항목 수 (구간 전체가 열려 있으면 O(1), 아니면 구간 크기만큼 순회)
+     */
+    public int countBetween(Object partition, K fromKey, K toKey) {
+        Partition<K> target = partitions.get(partition);
+        if (target == null) {
+            return 0;
+        }
+        if (fromKey == null && toKey == null) {
+            return target.size().get();
+        }
+        return range(target, fromKey, toKey).size();
+    }
+
+    /**
+     * 파티션에 색인된 엔티티 수
+     */
+    public int count(Object partition) {
+        Partition<K> target = partitions.get(partition);
+        return target != null ? target.size().get() : 0;
+    }
+
+    private NavigableSet<Entry<K>> range(Partition<K> partition, K fromKey, K toKey) {
+        // ID 경계를 양 끝값으로 두어 같은 정렬 키의 항목을 모두 포함
+        NavigableSet<Entry<K>> range = partition.entries();
+        if (fromKey != null) {
+            range = range.tailSet(new Entry<>(fromKey, Long.MIN_VALUE), true);
+        }
+        if (toKey != null) {
+            range = range.headSet(new Entry<>(toKey, Long.MAX_VALUE), true);
+        }
+        return range;
+    }
+
+    private void removeFromPartitions(Indexed<K> indexed) {
+        indexed.partitions().forEach(key -> {
+            Partition<K> partition = partitions.get(key);
+            if (partition != null) {
+                partition.remove(indexed.entry());
+            }
+        });
+    }
+
+    private static <K extends Comparable<? super K>> int compare(Entry<K> left, Entry<K> right) {
+        int compared = compareKeys(left.key(), right.key());
+        return compared != 0 ? compared : left.id().compareTo(right.id());
+    }
+
+    private static <K extends Comparable<? super K>> int compareKeys(K left, K right) {
+        if (left == right) {
+            return 0;
+        }
+        if (left == null) {
+            return -1;
+        }
+        if (right == null) {
+            return 1;
+        }
+        return left.compareTo(right);
+    }
+
+    private record Entry<K>(K key, Long id) {
+    }
+
+    private record Indexed<K>(Entry<K> entry, List<?> partitions) {
+    }
+
+    private record Partition<K>(NavigableSet<Entry<K>> entries, AtomicInteger size) {
+
+        private Partition(NavigableSet<Entry<K>> entries) {
+            this(entries, new AtomicInteger());
+        }
+
+        private void add(Entry<K> entry) {
+            if (entries.add(entry)) {
+                size.incrementAndGet();
+            }
+        }
+
+        private void remove(Entry<K> entry) {
+            if (entries.remove(entry)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+/**
+ * 전문 검색 보조 인덱스 (역색인, 토큰 → 엔티티 ID별 출현 횟수)
+ * 문자/숫자 단위로 나눈 단어를 2-gram으로 색인하여 띄어쓰기/조사와 무관하게 한글 부분 일치를 찾고
+ * 각 글자도 1-gram으로 함께 색인하여 한 글자 질의(예: "폰" → "스마트폰")도 부분 일치로 찾음
+ * 질의의 모든 토큰을 포함하는 엔티티만 BM25 점수 내림차순으로 반환 (동점이면 ID 순)
+ * 후보는 가장 드문 토큰의 색인 목록에서 시작하므로 조회 비용은 전체 건수가 아닌 그 목록 크기에 비례
+ */
+public class TextIndex<T> implements SecondaryIndex<T> {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<Scored> RANK_ORDER = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparingLong(Scored::id);
+
+    private final Function<T, Long> idExtractor;
+    private final Function<T, String> textExtractor;
+
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+
+    public TextIndex(Function<T, Long> idExtractor, Function<T, String> textExtractor) {
+        this.idExtractor = idExtractor;
+        this.textExtractor = textExtractor;
+    }
+
+    @Override
+    public void index(T entity) {
+        Long id = idExtractor.apply(entity);
+        Document next = Document.of(tokenize(textExtractor.apply(entity), true));
+
+        // 같은 ID에 대한 갱신은 documents 버킷 락으로 직렬화 (본문이 그대로면 색인 목록을 건드리지 않음)
+        documents.compute(id, (entityId, previous) -> {
+            if (next.equals(previous)) {
+                return previous;
+            }
+            if (previous != null) {
+                unpost(entityId, previous);
+            }
+            post(entityId, next);
+            return next;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        documents.computeIfPresent(id, (entityId, previous) -> {
+            unpost(entityId, previous);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        documents.clear();
+        postings.clear();
+        totalLength.set(0);
+    }
+
+    /**
+     * 질의의 모든 토큰을 포함하고 filter를 통과하는 엔티티를 관련도 순으로 offset부터 limit개 조회
+     * 정렬은 offset + limit 크기의 힙으로만 유지하고, 전체 일치 건수를 함께 반환
+     */
+    public Hits search(String query, LongPredicate filter, int offset, int limit) {
+        List<Map<Long, Integer>> termPostings = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Map<Long, Integer> ids = postings.get(term);
+            if (ids == null) {
+                return Hits.EMPTY;
+            }
+            termPostings.add(ids);
+        }
+        if (termPostings.isEmpty()) {
+            return Hits.EMPTY;
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = Math.max(1, documents.size());
+        double averageLength = Math.max(1.0, (double) totalLength.get() / documentCount);
+        double[] idf = new double[termPostings.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int df = termPostings.get(i).size();
+            idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        int capacity = Math.max(0, offset) + Math.max(0, limit);
+        PriorityQueue<Scored> top = new PriorityQueue<>(Math.max(1, capacity), RANK_ORDER.reversed());
+        int total = 0;
+        int[] frequencies = new int[idf.length];
+        for (Map.Entry<Long, Integer> candidate : termPostings.get(0).entrySet()) {
+            // 드문 토큰부터 포함 여부를 확인해 대부분의 후보를 필터/점수 계산 전에 제외
+            Long id = candidate.getKey();
+            frequencies[0] = candidate.getValue();
+            boolean matchesAll = true;
+            for (int i = 1; i < idf.length && matchesAll; i++) {
+                Integer tf = termPostings.get(i).get(id);
+                matchesAll = tf != null;
+                frequencies[i] = matchesAll ? tf : 0;
+            }
+            Document document = matchesAll ? documents.get(id) : null;
+            if (document == null || !filter.test(id)) {
+                continue;
+            }
+
+            double score = 0;
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            for (int i = 0; i < idf.length; i++) {
+                score += idf[i] * frequencies[i] * (K1 + 1) / (frequencies[i] + norm);
+            }
+
+            total++;
+            if (capacity > 0) {
+                top.offer(new Scored(id, score));
+                if (top.size() > capacity) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>(top);
+        ranked.sort(RANK_ORDER);
+        List<Long> ids = ranked.stream()
+                .skip(Math.max(0, offset))
+                .map(Scored::id)
+                .toList();
+        return new Hits(ids, total);
+    }
+
+    /**
+     * 검색어 토큰화 (소문자 변환 후 문자/숫자 연속 구간별 2-gram, 한 글자 단어는 1-gram, 중복 제거 없음)
+     */
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * withUnigrams면 두 글자 이상 단어의 각 글자도 1-gram으로 추가 (색인용)
+     */
+    static List<String> tokenize(String text, boolean withUnigrams) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addGrams(normalized, start, i, withUnigrams, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addGrams(String text, int start, int end, boolean withUnigrams, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+        if (withUnigrams) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+    }
+
+    private void post(Long id, Document document) {
+        document.termFrequencies().forEach((term, tf) -> postings.compute(term, (t, ids) -> {
+            Map<Long, Integer> target = ids != null ? ids : new ConcurrentHashMap<>();
+            target.put(id, tf);
+            return target;
+        }));
+        totalLength.addAndGet(document.length());
+    }
+
+    private void unpost(Long id, Document document) {
+        document.termFrequencies().keySet().forEach(term -> postings.computeIfPresent(term, (t, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        }));
+        totalLength.addAndGet(-document.length());
+    }
+
+    /**
+     * 검색 결과 (요청 구간의 ID + 전체 일치 건수)
+     */
+    public record Hits(List<Long> ids, int totalHits) {
+        private static final Hits EMPTY = new Hits(List.of(), 0);
+    }
+
+    private record Document(Map<String, Integer> termFrequencies, int length) {
+
+        private static Document of(List<String> tokens) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            tokens.forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+            return new Document(Collections.unmodifiableMap(termFrequencies), tokens.size());
+        }
+    }
+
+    private record Scored(Long id, double score) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 유니크 보조 인덱스 (키 → 엔티티 ID)
+ * null 키는 색인하지 않음
+ */
+public class UniqueIndex<K, T> implements SecondaryIndex<T> {
+
+    private final Function<T, Long> idExtractor;
+    private final Function<T, K> keyExtractor;
+
+    private final Map<K, Long> idByKey = new ConcurrentHashMap<>();
+    private final Map<Long, K> keyById = new ConcurrentHashMap<>();
+
+    public UniqueIndex(Function<T, Long> idExtractor, Function<T, K> keyExtractor) {
+        this.idExtractor = idExtractor;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public void index(T entity) {
+        Long id = idExtractor.apply(entity);
+        K newKey = keyExtractor.apply(entity);
+
+        // 같은 ID에 대한 갱신은 keyById 버킷 락으로 직렬화
+        keyById.compute(id, (entityId, oldKey) -> {
+            if (oldKey != null && !oldKey.equals(newKey)) {
+                idByKey.remove(oldKey, entityId);
+            }
+            if (newKey == null) {
+                return null;
+            }
+            idByKey.put(newKey, entityId);
+            return newKey;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        keyById.computeIfPresent(id, (entityId, oldKey) -> {
+            idByKey.remove(oldKey, entityId);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        keyById.clear();
+        idByKey.clear();
+    }
+
+    /**
+     * 키가 비어 있을 때만 id로 색인 (저장 전 키 선점, 원자적)
+     *
+     * @return 이미 키를 가진 ID (선점에 성공하면 empty)
+     */
+    public Optional<Long> putIfAbsent(K key, Long id) {
+        Long existing = idByKey.putIfAbsent(key, id);
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+        keyById.put(id, key);
+        return Optional.empty();
+    }
+
+    public Optional<Long> findId(K key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(idByKey.get(key));
+    }
+}
@@ -0,0 +1,81 @@
+package com.hhplus.ecommerce.global.storage.snapshot;
+
+import com.hhplus.ecommerce.global.storage.wal.WriteAheadLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적 스냅샷 + WAL 정리
+ * 1. WAL 세그먼트 전환 (이후 변경은 새 세그먼트에 기록)
+ * 2. 저장소 스냅샷 기록 (백그라운드, 쓰기 중단 없음)
+ * 3. 스냅샷에 포함된 이전 세그먼트/스냅샷 삭제
+ */
+@Slf4j
+public class SnapshotCheckpointer implements AutoCloseable {
+
+    private final WriteAheadLog writeAheadLog;
+    private final SnapshotStore snapshotStore;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler;
+
+    public SnapshotCheckpointer(WriteAheadLog writeAheadLog, SnapshotStore snapshotStore, Duration interval) {
+        this.writeAheadLog = writeAheadLog;
+        this.snapshotStore = snapshotStore;
+        this.interval = interval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "store-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkpointSafely, millis, millis, TimeUnit.MILLISECONDS);
+        log.info("[Snapshot] 주기적 스냅샷 시작 - interval: {}", interval);
+    }
+
+    /**
+     * 스냅샷을 기록하고 이전 WAL 세그먼트를 정리
+     *
+     * @return 스냅샷 기준 WAL 세그먼트 번호
+     */
+    public synchronized long checkpoint() {
+        long startedAt = System.currentTimeMillis();
+        long walSegment = writeAheadLog.rollSegment();
+        long count = snapshotStore.write(walSegment);
+
+        writeAheadLog.deleteSegmentsBefore(walSegment);
+        snapshotStore.deleteSnapshotsBefore(walSegment);
+
+        log.info("[Snapshot] 스냅샷 완료 - walSegment: {}, entities: {}, elapsed: {}ms",
+                walSegment, count, System.currentTimeMillis() - startedAt);
+        return walSegment;
+    }
+
+    /**
+     * 주기 작업 중지 후 마지막 스냅샷 기록 (다음 기동 시 재생할 로그 최소화)
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkpointSafely();
+    }
+
+    private void checkpointSafely() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.error("[Snapshot] 스냅샷 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.hhplus.ecommerce.global.storage.snapshot;
+
+import com.hhplus.ecommerce.global.storage.StoreMutationListener;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+import com.hhplus.ecommerce.global.storage.codec.EntityCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * InMemoryDataStore 스냅샷 파일 저장/로드
+ * - 파일 포맷: [magic][version][walSegment][(table, entity)...][END][시퀀스...][crc32]
+ * - walSegment: 스냅샷 시작 시 전환된 WAL 세그먼트 번호, 복구 시 이 번호 이상의 세그먼트만 재생
+ * - 쓰기는 임시 파일에 기록 후 fsync → rename 으로 원자적으로 교체
+ */
+@Slf4j
+public class SnapshotStore {
+
+    private static final int MAGIC = 0x494D4453;
+    private static final int VERSION = 1;
+    private static final int END_OF_ENTITIES = 0;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d+)\\.bin");
+
+    private final Path directory;
+
+    public SnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 현재 저장소 상태를 스냅샷으로 기록 (쓰기 중단 없이 순회하는 fuzzy 스냅샷)
+     * 순회 중 반영된 변경은 walSegment 이후 세그먼트에도 기록되어 있으므로 복구 시 재생으로 보정됨
+     *
+     * @return 기록한 엔티티 수
+     */
+    public long write(long walSegment) {
+        Path target = snapshotPath(walSegment);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long count = 0;
+
+        try {
+            Files.createDirectories(directory);
+            CRC32 crc = new CRC32();
+            try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new CheckedOutputStream(file, crc), BUFFER_SIZE));
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(walSegment);
+
+                for (StoreTable table : StoreTable.values()) {
+                    Iterator<?> entities = table.entities().iterator();
+                    while (entities.hasNext()) {
+                        out.writeByte(table.getCode());
+                        EntityCodec.encode(table, entities.next(), out);
+                        count++;
+                    }
+                }
+                out.writeByte(END_OF_ENTITIES);
+
+                // 시퀀스는 엔티티 순회 이후 값을 기록 (순회 중 발급된 ID 포함)
+                StoreTable[] tables = StoreTable.values();
+                out.writeInt(tables.length);
+                for (StoreTable table : tables) {
+                    out.writeByte(table.getCode());
+                    out.writeLong(table.sequence().get());
+                }
+                out.flush();
+
+                new DataOutputStream(file).writeLong(crc.getValue());
+                file.getChannel().force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("스냅샷을 기록할 수 없습니다: " + target, e);
+        }
+        return count;
+    }
+
+    /**
+     * 가장 최근 스냅샷을 target에 반영
+     *
+     * @return 스냅샷의 walSegment (스냅샷이 없으면 empty)
+     */
+    public OptionalLong load(StoreMutationListener target) {
+        List<Path> snapshots = listSnapshots();
+        if (snapshots.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        Path latest = snapshots.get(snapshots.size() - 1);
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(latest), BUFFER_SIZE)) {
+            CRC32 crc = new CRC32();
+            DataInputStream in = new DataInputStream(new CheckedInputStream(file, crc));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("스냅샷 포맷이 올바르지 않습니다: " + latest);
+            }
+            long walSegment = in.readLong();
+
+            int code;
+            while ((code = in.readUnsignedByte()) != END_OF_ENTITIES) {
+                StoreTable table = StoreTable.fromCode(code);
+                target.onSave(table, EntityCodec.decode(table, in));
+                count++;
+            }
+
+            int sequenceCount = in.readInt();
+            for (int i = 0; i < sequenceCount; i++) {
+                StoreTable table = StoreTable.fromCode(in.readUnsignedByte());
+                long value = in.readLong();
+                table.sequence().accumulateAndGet(value, Math::max);
+            }
+
+            long expected = new DataInputStream(file).readLong();
+            if (expected != crc.getValue()) {
+                throw new IllegalStateException("스냅샷 체크섬이 일치하지 않습니다: " + latest);
+            }
+
+            log.info("[Snapshot] 로드 완료 - file: {}, entities: {}, elapsed: {}ms",
+                    latest.getFileName(), count, System.currentTimeMillis() - startedAt);
+            return OptionalLong.of(walSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 읽을 수 없습니다: " + latest, e);
+        }
+    }
+
+    /**
+     * 기록된 스냅샷이 있는지
+     */
+    public boolean hasSnapshot() {
+        return !listSnapshots().isEmpty();
+    }
+
+    /**
+     * walSegment 이전의 스냅샷 삭제
+     */
+    public void deleteSnapshotsBefore(long walSegment) {
+        for (Path path : listSnapshots()) {
+            if (snapshotNumberOf(path) < walSegment) {
+                deleteQuietly(path);
+            }
+        }
+    }
+
+    private List<Path> listSnapshots() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> SNAPSHOT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted((a, b) -> Long.compare(snapshotNumberOf(a), snapshotNumberOf(b)))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 디렉토리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private Path snapshotPath(long walSegment) {
+        return directory.resolve(String.format("snapshot-%016d.bin", walSegment));
+    }
+
+    private static long snapshotNumberOf(Path path) {
+        Matcher matcher = SNAPSHOT_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("스냅샷 파일이 아닙니다: " + path);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[Snapshot] 파일 삭제 실패 - file: {}, error: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.hhplus.ecommerce.global.storage.snapshot;
+
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreMutationListener;
+import com.hhplus.ecommerce.global.storage.wal.WriteAheadLog;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 저장소 복구 후 WAL 기록 시작
+ * - 이전 실행의 스냅샷/WAL이 있으면 InMemoryDataStore의 내장 초기 데이터를 비우고 기록된 상태만 복구
+ *   (초기 데이터를 남겨 두면 삭제 레코드가 담긴 세그먼트가 체크포인트로 정리된 뒤 삭제한 초기 데이터가 되살아남)
+ * - 처음 기동이면 초기 데이터를 첫 스냅샷으로 기록해 이후 재기동도 기록된 상태에서 시작
+ */
+@Slf4j
+public final class StoreRecovery {
+
+    private StoreRecovery() {
+    }
+
+    public static void recoverAndStart(WriteAheadLog writeAheadLog, SnapshotStore snapshotStore,
+                                       StoreMutationListener applier) {
+        if (!snapshotStore.hasSnapshot() && !writeAheadLog.hasRecords()) {
+            writeAheadLog.start();
+            long walSegment = writeAheadLog.rollSegment();
+            long count = snapshotStore.write(walSegment);
+            log.info("[Snapshot] 초기 데이터 스냅샷 기록 - walSegment: {}, entities: {}", walSegment, count);
+            return;
+        }
+
+        InMemoryDataStore.clear();
+        long fromSegment = snapshotStore.load(applier).orElse(0L);
+        writeAheadLog.recover(applier, fromSegment);
+        writeAheadLog.start();
+    }
+}
@@ -0,0 +1,76 @@
+package com.hhplus.ecommerce.global.storage.wal;
+
+import com.hhplus.ecommerce.domain.cart.model.Cart;
+import com.hhplus.ecommerce.domain.cart.model.CartItem;
+import com.hhplus.ecommerce.domain.cart.repository.CartItemRepository;
+import com.hhplus.ecommerce.domain.cart.repository.CartRepository;
+import com.hhplus.ecommerce.domain.coupon.model.Coupon;
+import com.hhplus.ecommerce.domain.coupon.model.UserCoupon;
+import com.hhplus.ecommerce.domain.coupon.repository.CouponRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.UserCouponRepository;
+import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderItem;
+import com.hhplus.ecommerce.domain.order.repository.OrderItemRepository;
+import com.hhplus.ecommerce.domain.order.repository.OrderRepository;
+import com.hhplus.ecommerce.domain.payment.model.Payment;
+import com.hhplus.ecommerce.domain.payment.repository.PaymentRepository;
+import com.hhplus.ecommerce.domain.product.model.Inventory;
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import com.hhplus.ecommerce.domain.product.repository.InventoryRepository;
+import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
+import com.hhplus.ecommerce.global.outbox.OutboxRepository;
+import com.hhplus.ecommerce.global.storage.StoreMutationListener;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 복구 시 WAL 레코드를 Repository에 반영
+ * Repository를 거치므로 보조 인덱스도 함께 재구성됨
+ */
+@RequiredArgsConstructor
+public class RepositoryMutationApplier implements StoreMutationListener {
+
+    private final ProductRepository productRepository;
+    private final InventoryRepository inventoryRepository;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PaymentRepository paymentRepository;
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final OutboxRepository outboxRepository;
+
+    @Override
+    public void onSave(StoreTable table, Object entity) {
+        switch (table) {
+            case PRODUCTS -> productRepository.save((Product) entity);
+            case INVENTORY -> inventoryRepository.save((Inventory) entity);
+            case CARTS -> cartRepository.save((Cart) entity);
+            case CART_ITEMS -> cartItemRepository.save((CartItem) entity);
+            case ORDERS -> orderRepository.save((Order) entity);
+            case ORDER_ITEMS -> orderItemRepository.save((OrderItem) entity);
+            case PAYMENTS -> paymentRepository.save((Payment) entity);
+            case COUPONS -> couponRepository.save((Coupon) entity);
+            case USER_COUPONS -> userCouponRepository.save((UserCoupon) entity);
+            case OUTBOX -> outboxRepository.save((OutboxMessage) entity);
+        }
+    }
+
+    @Override
+    public void onDelete(StoreTable table, Long id) {
+        switch (table) {
+            case PRODUCTS -> productRepository.deleteById(id);
+            case INVENTORY -> inventoryRepository.deleteById(id);
+            case CARTS -> cartRepository.deleteById(id);
+            case CART_ITEMS -> cartItemRepository.deleteById(id);
+            case ORDERS -> orderRepository.deleteById(id);
+            case ORDER_ITEMS -> orderItemRepository.deleteById(id);
+            case PAYMENTS -> paymentRepository.deleteById(id);
+            case COUPONS -> couponRepository.deleteById(id);
+            case USER_COUPONS -> userCouponRepository.deleteById(id);
+            case OUTBOX -> outboxRepository.deleteById(id);
+        }
+    }
+}
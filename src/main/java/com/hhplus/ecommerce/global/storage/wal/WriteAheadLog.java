@@ -0,0 +1,589 @@
+package com.hhplus.ecommerce.global.storage.wal;
+
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreMutationListener;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+import com.hhplus.ecommerce.global.storage.StoreWrite;
+import com.hhplus.ecommerce.global.storage.codec.EntityCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * InMemoryDataStore 변경 사항을 기록하는 Write-Ahead Log
+ * - 레코드 포맷: [length:int][crc32:int][type:byte][table:byte][entity | id]
+ *   묶음 저장은 [length:int][crc32:int][type:byte][count:int]([table:byte][entity])* 한 레코드로 기록 (전부 복구되거나 전부 버려짐)
+ * - 전용 writer 스레드가 큐에 쌓인 레코드를 묶어 한 번에 기록하고 fsync (group commit)
+ * - syncCommit=true이면 호출 스레드는 자신의 레코드가 fsync될 때까지 대기
+ * - 레코드는 엔티티의 현재 상태를 인코딩하므로, 같은 엔티티의 인코딩과 큐 삽입은 엔티티별 스트라이프 락 안에서 함께 수행
+ *   (나중에 읽은 상태가 항상 나중에 기록되어 재생 결과가 최신 상태와 일치)
+ * - 기록 실패 시 마지막으로 성공한 위치까지 세그먼트를 잘라내어 이후 레코드가 손상 구간 뒤에 붙지 않도록 함
+ * - 세그먼트 파일(wal-{번호}.log)이 segmentSize를 넘으면 다음 세그먼트로 전환
+ * - 스냅샷 시작 시 rollSegment()로 세그먼트를 나누고, 완료 후 이전 세그먼트를 삭제
+ */
+@Slf4j
+public class WriteAheadLog implements StoreMutationListener, AutoCloseable {
+
+    private static final byte TYPE_SAVE = 1;
+    private static final byte TYPE_DELETE = 2;
+    private static final byte TYPE_SAVE_ALL = 3;
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final int ORDER_STRIPES = 64;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("wal-(\\d+)\\.log");
+
+    private final Path directory;
+    private final boolean syncCommit;
+    private final int maxBatchSize;
+    private final long segmentSize;
+    private final BlockingQueue<PendingAppend> queue;
+
+    // writer 스레드와 rollSegment() 간 세그먼트 전환 동기화
+    private final Object segmentLock = new Object();
+    // 같은 엔티티의 레코드 인코딩 → 큐 삽입 순서 보장
+    private final ReentrantLock[] orderStripes = new ReentrantLock[ORDER_STRIPES];
+
+    private volatile boolean running;
+    private Thread writer;
+    private FileChannel channel;
+    private long segmentNumber;
+    private long segmentBytes;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    public WriteAheadLog(Path directory, boolean syncCommit, int maxBatchSize, int queueCapacity, long segmentSize) {
+        this.directory = directory;
+        this.syncCommit = syncCommit;
+        this.maxBatchSize = maxBatchSize;
+        this.segmentSize = segmentSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < ORDER_STRIPES; i++) {
+            orderStripes[i] = new ReentrantLock();
+        }
+    }
+
+    public long recover(StoreMutationListener target) {
+        return recover(target, 0L);
+    }
+
+    /**
+     * fromSegment 이상의 세그먼트를 순서대로 재생 (스냅샷 이후 꼬리만 재생)
+     * 마지막 세그먼트의 잘린 꼬리(기록 도중 종료)는 잘라내고, 그 외 손상은 예외로 처리
+     * 재생 후 각 테이블의 ID 시퀀스를 기록된 최대 ID 이상으로 맞춤
+     *
+     * @return 재생한 레코드 수
+     */
+    public long recover(StoreMutationListener target, long fromSegment) {
+        if (running) {
+            throw new IllegalStateException("WAL 기록 중에는 복구할 수 없습니다.");
+        }
+        Map<StoreTable, Long> maxIds = new EnumMap<>(StoreTable.class);
+        List<Path> segments = listSegments().stream()
+                .filter(path -> segmentNumberOf(path) >= fromSegment)
+                .toList();
+        segmentNumber = Math.max(segmentNumber, fromSegment - 1);
+        long replayed = 0;
+
+        for (int i = 0; i < segments.size(); i++) {
+            boolean last = i == segments.size() - 1;
+            replayed += replaySegment(segments.get(i), last, target, maxIds);
+        }
+
+        maxIds.forEach((table, maxId) -> table.sequence().accumulateAndGet(maxId, Math::max));
+        InMemoryDataStore.resetIdBlocks();
+        log.info("[WAL] 복구 완료 - segments: {}, records: {}", segments.size(), replayed);
+        return replayed;
+    }
+
+    /**
+     * 새 세그먼트를 열고 writer 스레드 시작, InMemoryDataStore 변경 리스너로 등록
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            segmentNumber = Math.max(segmentNumber, listSegments().stream()
+                    .mapToLong(WriteAheadLog::segmentNumberOf)
+                    .max()
+                    .orElse(0L));
+            openNextSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 세그먼트를 열 수 없습니다: " + directory, e);
+        }
+
+        running = true;
+        writer = new Thread(this::writeLoop, "wal-writer");
+        writer.setDaemon(true);
+        writer.start();
+        InMemoryDataStore.setMutationListener(this);
+        log.info("[WAL] 기록 시작 - directory: {}, segment: {}, syncCommit: {}", directory, segmentNumber, syncCommit);
+    }
+
+    @Override
+    public void onSave(StoreTable table, Object entity) {
+        int[] stripes = {stripeOf(table, EntityCodec.idOf(table, entity))};
+        append(stripes, () -> encode(TYPE_SAVE, table, out -> EntityCodec.encode(table, entity, out)));
+    }
+
+    @Override
+    public void onDelete(StoreTable table, Long id) {
+        int[] stripes = {stripeOf(table, id)};
+        append(stripes, () -> encode(TYPE_DELETE, table, out -> out.writeLong(id)));
+    }
+
+    @Override
+    public void onSaveAll(List<StoreWrite> writes) {
+        int[] stripes = writes.stream()
+                .mapToInt(write -> stripeOf(write.table(), EntityCodec.idOf(write.table(), write.entity())))
+                .distinct()
+                .sorted()
+                .toArray();
+        append(stripes, () -> encodeAll(writes));
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트로 전환
+     * 반환 시점 이후 기록되는 레코드는 모두 반환된 번호 이상의 세그먼트에 들어감
+     *
+     * @return 새 세그먼트 번호
+     */
+    public long rollSegment() {
+        synchronized (segmentLock) {
+            if (!running) {
+                throw new IllegalStateException("WAL이 실행 중이 아닙니다.");
+            }
+            try {
+                closeChannel();
+                openNextSegment();
+            } catch (IOException e) {
+                throw new UncheckedIOException("WAL 세그먼트를 전환할 수 없습니다.", e);
+            }
+            return segmentNumber;
+        }
+    }
+
+    /**
+     * 이전 실행이 남긴 레코드가 있는지 (비어 있는 세그먼트 파일만 있으면 false)
+     */
+    public boolean hasRecords() {
+        for (Path path : listSegments()) {
+            try {
+                if (Files.size(path) > 0) {
+                    return true;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("WAL 세그먼트를 읽을 수 없습니다: " + path, e);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 스냅샷에 반영된 이전 세그먼트 삭제
+     */
+    public void deleteSegmentsBefore(long segment) {
+        for (Path path : listSegments()) {
+            if (segmentNumberOf(path) >= segment) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("[WAL] 세그먼트 삭제 실패 - segment: {}, error: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 남은 레코드를 모두 기록한 뒤 종료
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        InMemoryDataStore.setMutationListener(StoreMutationListener.NO_OP);
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (segmentLock) {
+            closeChannel();
+        }
+        log.info("[WAL] 기록 종료 - segment: {}", segmentNumber);
+    }
+
+    // ========== Append ==========
+
+    /**
+     * stripes(오름차순, 교착 방지)를 모두 잡은 상태에서 인코딩과 큐 삽입을 수행하고, fsync 대기는 락 밖에서 함
+     */
+    private void append(int[] stripes, Supplier<byte[]> encoder) {
+        if (!running) {
+            throw new IllegalStateException("WAL이 실행 중이 아닙니다.");
+        }
+        PendingAppend pending;
+        int locked = 0;
+        try {
+            for (int stripe : stripes) {
+                orderStripes[stripe].lock();
+                locked++;
+            }
+            pending = enqueue(encoder.get());
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                orderStripes[stripes[i]].unlock();
+            }
+        }
+
+        if (syncCommit) {
+            try {
+                pending.committed().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException cause) {
+                    throw new UncheckedIOException("WAL 기록에 실패했습니다.", cause);
+                }
+                throw new IllegalStateException("WAL 기록에 실패했습니다.", e.getCause());
+            }
+        }
+    }
+
+    private PendingAppend enqueue(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        PendingAppend pending = new PendingAppend(payload, (int) crc.getValue(), new CompletableFuture<>());
+
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WAL 기록 대기 중 인터럽트되었습니다.", e);
+        }
+        return pending;
+    }
+
+    private static int stripeOf(StoreTable table, Long id) {
+        int hash = 31 * table.ordinal() + Objects.hashCode(id);
+        return Math.floorMod(hash ^ (hash >>> 16), ORDER_STRIPES);
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            PendingAppend first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingAppend> batch) {
+        synchronized (segmentLock) {
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(List<PendingAppend> batch) {
+        try {
+            int size = 0;
+            for (PendingAppend pending : batch) {
+                size += HEADER_SIZE + pending.payload().length;
+            }
+            if (buffer.capacity() < size) {
+                buffer = ByteBuffer.allocateDirect(Integer.highestOneBit(size) << 1);
+            }
+
+            buffer.clear();
+            for (PendingAppend pending : batch) {
+                buffer.putInt(pending.payload().length);
+                buffer.putInt(pending.crc());
+                buffer.put(pending.payload());
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            segmentBytes += size;
+
+            batch.forEach(pending -> pending.committed().complete(null));
+
+            if (segmentBytes >= segmentSize) {
+                closeChannel();
+                openNextSegment();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("[WAL] 기록 실패 - batchSize: {}, error: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(pending -> pending.committed().completeExceptionally(e));
+            discardTornWrite();
+        }
+    }
+
+    /**
+     * 실패한 배치가 남긴 바이트를 마지막으로 성공한 위치(segmentBytes)까지 잘라냄
+     * 잘라낼 수 없으면(채널 없음/실패) 세그먼트 파일을 경로로 잘라낸 뒤 새 세그먼트로 넘어감
+     */
+    private void discardTornWrite() {
+        if (channel != null) {
+            try {
+                channel.truncate(segmentBytes);
+                channel.position(segmentBytes);
+                channel.force(false);
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("[WAL] 실패한 기록 정리 실패, 새 세그먼트로 전환 - segment: {}, error: {}", segmentNumber, e.getMessage());
+            }
+            closeChannel();
+            Path segment = segmentPath(segmentNumber);
+            try {
+                truncate(segment, segmentBytes);
+            } catch (UncheckedIOException e) {
+                log.error("[WAL] 손상된 세그먼트를 잘라낼 수 없음 (복구 시 확인 필요) - segment: {}", segment, e);
+            }
+        }
+        try {
+            openNextSegment();
+        } catch (IOException | RuntimeException e) {
+            channel = null;
+            log.error("[WAL] 새 세그먼트를 열 수 없음, 다음 기록 시 재시도 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentNumber++;
+        channel = FileChannel.open(segmentPath(segmentNumber), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentBytes = 0;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("[WAL] 세그먼트 닫기 실패 - segment: {}, error: {}", segmentNumber, e.getMessage());
+        }
+        channel = null;
+    }
+
+    // ========== Encode / Replay ==========
+
+    private static byte[] encode(byte type, StoreTable table, RecordBody body) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(type);
+            out.writeByte(table.getCode());
+            body.write(out);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 레코드 인코딩에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] encodeAll(List<StoreWrite> writes) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 * writes.size());
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(TYPE_SAVE_ALL);
+            out.writeInt(writes.size());
+            for (StoreWrite write : writes) {
+                out.writeByte(write.table().getCode());
+                EntityCodec.encode(write.table(), write.entity(), out);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 레코드 인코딩에 실패했습니다.", e);
+        }
+    }
+
+    private long replaySegment(Path segment, boolean last, StoreMutationListener target, Map<StoreTable, Long> maxIds) {
+        long replayed = 0;
+        long validPosition = 0;
+        String corruption = null;
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segment))) {
+            DataInputStream data = new DataInputStream(in);
+            byte[] header = new byte[HEADER_SIZE];
+            while (true) {
+                int read = in.readNBytes(header, 0, HEADER_SIZE);
+                if (read == 0) {
+                    break;
+                }
+                if (read < HEADER_SIZE) {
+                    corruption = "헤더 잘림";
+                    break;
+                }
+                ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+                int length = headerBuffer.getInt();
+                int crc = headerBuffer.getInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE) {
+                    corruption = "잘못된 길이 " + length;
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                try {
+                    data.readFully(payload);
+                } catch (EOFException e) {
+                    corruption = "본문 잘림";
+                    break;
+                }
+                CRC32 actual = new CRC32();
+                actual.update(payload);
+                if ((int) actual.getValue() != crc) {
+                    corruption = "CRC 불일치";
+                    break;
+                }
+
+                applyRecord(payload, target, maxIds);
+                validPosition += HEADER_SIZE + length;
+                replayed++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 세그먼트를 읽을 수 없습니다: " + segment, e);
+        }
+
+        if (corruption != null) {
+            if (!last) {
+                throw new IllegalStateException("WAL 세그먼트가 손상되었습니다: " + segment + " (" + corruption + ")");
+            }
+            log.warn("[WAL] 마지막 세그먼트 꼬리 손상 - segment: {}, reason: {}, truncateAt: {}", segment, corruption, validPosition);
+            truncate(segment, validPosition);
+        }
+        return replayed;
+    }
+
+    private static void applyRecord(byte[] payload, StoreMutationListener target, Map<StoreTable, Long> maxIds) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        if (type == TYPE_SAVE_ALL) {
+            // 모두 디코딩한 뒤에 반영하여 일부만 반영되는 일이 없도록 함
+            int count = in.readInt();
+            List<StoreWrite> writes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                StoreTable table = StoreTable.fromCode(in.readByte());
+                writes.add(new StoreWrite(table, EntityCodec.decode(table, in)));
+            }
+            for (StoreWrite write : writes) {
+                target.onSave(write.table(), write.entity());
+                Long id = EntityCodec.idOf(write.table(), write.entity());
+                if (id != null) {
+                    maxIds.merge(write.table(), id, Math::max);
+                }
+            }
+            return;
+        }
+        StoreTable table = StoreTable.fromCode(in.readByte());
+
+        Long id;
+        if (type == TYPE_SAVE) {
+            Object entity = EntityCodec.decode(table, in);
+            id = EntityCodec.idOf(table, entity);
+            target.onSave(table, entity);
+        } else if (type == TYPE_DELETE) {
+            id = in.readLong();
+            target.onDelete(table, id);
+        } else {
+            throw new IOException("알 수 없는 WAL 레코드 타입: " + type);
+        }
+
+        if (id != null) {
+            maxIds.merge(table, id, Math::max);
+        }
+    }
+
+    private static void truncate(Path segment, long size) {
+        try (FileChannel file = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            file.truncate(size);
+            file.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 세그먼트를 정리할 수 없습니다: " + segment, e);
+        }
+    }
+
+    // ========== Segment Files ==========
+
+    private List<Path> listSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted((a, b) -> Long.compare(segmentNumberOf(a), segmentNumberOf(b)))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 디렉토리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("wal-%016d.log", number));
+    }
+
+    private static long segmentNumberOf(Path path) {
+        Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("WAL 세그먼트 파일이 아닙니다: " + path);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    @FunctionalInterface
+    private interface RecordBody {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private record PendingAppend(byte[] payload, int crc, CompletableFuture<Void> committed) {
+    }
+}
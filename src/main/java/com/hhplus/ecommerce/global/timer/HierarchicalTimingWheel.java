@@ -0,0 +1,148 @@
+package com.hhplus.ecommerce.global.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠 (키 단위 등록/취소, O(1))
+ * 하위 휠 범위(tick * wheelSize)를 넘는 만료 시각은 상위 휠에 두었다가 시간이 다가오면 하위 휠로 내려보냄
+ * 만료 처리는 호출자가 advanceTo로 시계를 진행시키며 반환된 키로 수행 (만료 시각 이후, 최대 1틱 지연)
+ *
+ * @param <K> 타이머 키 (같은 키로 다시 등록하면 기존 타이머를 대체)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final int wheelSize;
+    private final Level<K> root;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize > 1 이어야 합니다.");
+        }
+        this.wheelSize = wheelSize;
+        this.root = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * 타이머 등록
+     *
+     * @return 이미 만료 시각이 지났으면 false (등록하지 않음, 호출자가 즉시 처리)
+     */
+    public synchronized boolean schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // 만료 시각을 다음 틱 경계로 올림 (만료 시각 이전에 반환되지 않도록)
+        long tickMillis = root.tickMillis;
+        long roundedDeadline = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis) * tickMillis;
+        Entry<K> entry = new Entry<>(key, roundedDeadline);
+        if (!add(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    /**
+     * 타이머 취소
+     *
+     * @return 등록된 타이머가 있었으면 true
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(entry);
+        return true;
+    }
+
+    /**
+     * 시계를 nowMillis까지 틱 단위로 진행하고 만료된 키 반환
+     */
+    public synchronized List<K> advanceTo(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        while (root.currentTime + root.tickMillis <= nowMillis) {
+            advanceLevels(root.currentTime + root.tickMillis, expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void advanceLevels(long time, List<K> expired) {
+        for (Level<K> level = root; level != null; level = level.overflow) {
+            if (time < level.currentTime + level.tickMillis) {
+                break;
+            }
+            level.currentTime = time - (time % level.tickMillis);
+            Set<Entry<K>> bucket = level.bucketAt(level.currentTime);
+            List<Entry<K>> flushed = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<K> entry : flushed) {
+                // 상위 휠에서 내려온 항목은 하위 휠에 재배치, 현재 틱에 도달한 항목은 만료
+                if (!add(entry)) {
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                }
+            }
+        }
+    }
+
+    private boolean add(Entry<K> entry) {
+        Level<K> level = root;
+        while (true) {
+            if (entry.deadlineMillis < level.currentTime + level.tickMillis) {
+                return false;
+            }
+            if (entry.deadlineMillis < level.currentTime + level.intervalMillis) {
+                Set<Entry<K>> bucket = level.bucketAt(entry.deadlineMillis);
+                bucket.add(entry);
+                entry.bucket = bucket;
+                return true;
+            }
+            if (level.overflow == null) {
+                level.overflow = new Level<>(level.intervalMillis, wheelSize, level.currentTime);
+            }
+            level = level.overflow;
+        }
+    }
+
+    private static final class Level<K> {
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final List<Set<Entry<K>>> buckets;
+        private long currentTime;
+        private Level<K> overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+        }
+
+        private Set<Entry<K>> bucketAt(long time) {
+            return buckets.get((int) ((time / tickMillis) % buckets.size()));
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineMillis;
+        private Set<Entry<K>> bucket;
+
+        private Entry(K key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
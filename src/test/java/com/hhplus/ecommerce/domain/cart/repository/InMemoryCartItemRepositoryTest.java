@@ -0,0 +1,82 @@
+package com.hhplus.ecommerce.domain.cart.repository;
+
+import com.hhplus.ecommerce.domain.cart.model.CartItem;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("장바구니 항목 저장소 테스트")
+class InMemoryCartItemRepositoryTest {
+
+    private InMemoryCartItemRepository cartItemRepository;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryDataStore.clear();
+        cartItemRepository = new InMemoryCartItemRepository();
+    }
+
+    @Test
+    @DisplayName("수량 변경 저장 - 항목이 제자리에서 교체되고 담은 순서가 유지된다")
+    void save_UpdatesInPlace() {
+        // given
+        cartItemRepository.save(item(1L, 10L, 100L, 1));
+        cartItemRepository.save(item(2L, 10L, 200L, 1));
+        CartItem first = cartItemRepository.findById(1L).orElseThrow();
+
+        // when
+        first.updateQuantity(5);
+        cartItemRepository.save(first);
+
+        // then
+        assertThat(cartItemRepository.findByCartId(10L))
+                .extracting(CartItem::getId, CartItem::getQuantity)
+                .containsExactly(tuple(1L, 5), tuple(2L, 1));
+        assertThat(cartItemRepository.findByCartIdAndProductId(10L, 200L)).map(CartItem::getId).contains(2L);
+    }
+
+    @Test
+    @DisplayName("항목 삭제 - 다른 장바구니에 영향이 없고, 마지막 항목이 빠지면 장바구니 맵도 제거된다")
+    void deleteById_RemovesOnlyThatItem() {
+        // given
+        cartItemRepository.save(item(1L, 10L, 100L, 1));
+        cartItemRepository.save(item(2L, 20L, 100L, 1));
+
+        // when
+        cartItemRepository.deleteById(1L);
+
+        // then
+        assertThat(cartItemRepository.findById(1L)).isEmpty();
+        assertThat(cartItemRepository.findByCartId(10L)).isEmpty();
+        assertThat(InMemoryDataStore.CART_ITEMS).doesNotContainKey(10L);
+        assertThat(cartItemRepository.findById(2L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 지정한 장바구니의 항목만 한 번에 삭제하고 다른 장바구니의 ID는 무시한다")
+    void deleteByCartIdAndIdIn_RemovesSelectedItems() {
+        // given
+        cartItemRepository.save(item(1L, 10L, 100L, 1));
+        cartItemRepository.save(item(2L, 10L, 200L, 1));
+        cartItemRepository.save(item(3L, 10L, 300L, 1));
+        cartItemRepository.save(item(4L, 20L, 100L, 1));
+
+        // when
+        cartItemRepository.deleteByCartIdAndIdIn(10L, List.of(1L, 3L, 4L));
+
+        // then
+        assertThat(cartItemRepository.findByCartId(10L)).extracting(CartItem::getId).containsExactly(2L);
+        assertThat(cartItemRepository.findById(1L)).isEmpty();
+        assertThat(cartItemRepository.findById(4L)).isPresent();
+    }
+
+    private CartItem item(Long id, Long cartId, Long productId, int quantity) {
+        return CartItem.create(id, cartId, productId, "상품-" + productId, 10000L, quantity);
+    }
+}
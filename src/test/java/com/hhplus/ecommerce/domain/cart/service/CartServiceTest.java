@@ -431,6 +431,35 @@ class CartServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("removeCartItems 메서드는")
+    class RemoveCartItemsTest {
+
+        @Test
+        @DisplayName("주문한 항목들을 장바구니에서 한 번에 삭제한다")
+        void shouldDeleteItemsInOneCall() {
+            // Given
+            List<Long> cartItemIds = List.of(1L, 2L, 3L);
+
+            // When
+            cartService.removeCartItems(cartId, cartItemIds);
+
+            // Then
+            verify(cartItemRepository, times(1)).deleteByCartIdAndIdIn(cartId, cartItemIds);
+            verify(cartItemRepository, never()).deleteById(anyLong());
+        }
+
+        @Test
+        @DisplayName("삭제할 항목이 없으면 저장소를 호출하지 않는다")
+        void shouldDoNothingWhenNoItems() {
+            // When
+            cartService.removeCartItems(cartId, List.of());
+
+            // Then
+            verify(cartItemRepository, never()).deleteByCartIdAndIdIn(anyLong(), any());
+        }
+    }
+
     @Nested
     @DisplayName("getCart 메서드는")
     class GetCartTest {
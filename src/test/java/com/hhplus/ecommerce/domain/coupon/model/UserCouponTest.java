@@ -92,6 +92,21 @@ class UserCouponTest {
         assertThat(userCoupon.getUpdatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("쿠폰 사용 확정 되돌리기 - 주문 예약은 유지하고 사용 전 상태로 돌아간다")
+    void revertConfirmation_Success() {
+        UserCoupon userCoupon = createUserCoupon(false, LocalDateTime.now().plusDays(30));
+        Long orderId = 500L;
+        userCoupon.reserve(orderId);
+        userCoupon.confirmReservation();
+
+        userCoupon.revertConfirmation();
+
+        assertThat(userCoupon.getIsUsed()).isFalse();
+        assertThat(userCoupon.getOrderId()).isEqualTo(orderId);
+        assertThat(userCoupon.getUsedAt()).isNull();
+    }
+
     @Test
     @DisplayName("쿠폰 예약 실패 - 이미 사용된 쿠폰")
     void reserve_Fail_AlreadyUsed() {
@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -35,7 +37,7 @@ class CouponConcurrencyIntegrationTest {
         InMemoryDataStore.clear();
         couponRepository = new InMemoryCouponRepository();
         userCouponRepository = new InMemoryUserCouponRepository();
-        couponService = new CouponService(couponRepository, userCouponRepository);
+        couponService = new CouponService(couponRepository, userCouponRepository, event -> { });
     }
 
     @Test
@@ -80,6 +82,57 @@ class CouponConcurrencyIntegrationTest {
         assertThat(coupon.getRemainingQuantity()).isZero();
     }
 
+    @Test
+    @DisplayName("대량 선착순 발급 - 10만 건 동시 요청(사용자당 5회)에도 정확히 수량만큼, 사용자당 1장만 발급")
+    void issueCoupon_Concurrency_HundredThousandRequests() throws InterruptedException {
+        // Given
+        int totalQuantity = 10_000;
+        int userCount = 20_000;
+        int attemptsPerUser = 5;
+        int requestCount = userCount * attemptsPerUser;
+        Long couponId = createTestCoupon("MASSDROP", totalQuantity);
+
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+
+        Set<Long> winners = ConcurrentHashMap.newKeySet();
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger outOfStockCount = new AtomicInteger(0);
+        AtomicInteger duplicateCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            long userId = (i % userCount) + 1L;
+            executor.submit(() -> {
+                try {
+                    couponService.issueCoupon(userId, couponId);
+                    successCount.incrementAndGet();
+                    winners.add(userId);
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == CouponErrorCode.COUPON_OUT_OF_STOCK) {
+                        outOfStockCount.incrementAndGet();
+                    } else if (e.getErrorCode() == CouponErrorCode.COUPON_ALREADY_ISSUED) {
+                        duplicateCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(totalQuantity);
+        assertThat(winners).hasSize(totalQuantity);
+        assertThat(successCount.get() + outOfStockCount.get() + duplicateCount.get()).isEqualTo(requestCount);
+        assertThat(userCouponRepository.findAll()).hasSize(totalQuantity);
+
+        Coupon coupon = couponRepository.findById(couponId).orElseThrow();
+        assertThat(coupon.getRemainingQuantity()).isZero();
+    }
+
     @Test
     @DisplayName("중복 발급 방지 - 같은 사용자가 동시에 여러 번 시도해도 1번만 발급")
     void issueCoupon_Concurrency_PreventDuplicate() throws InterruptedException {
@@ -0,0 +1,250 @@
+package com.hhplus.ecommerce.domain.coupon.service;
+
+import com.hhplus.ecommerce.domain.coupon.dto.UserCouponResponse;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueCancelledEvent;
+import com.hhplus.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.hhplus.ecommerce.domain.coupon.model.Coupon;
+import com.hhplus.ecommerce.domain.coupon.model.CouponStatus;
+import com.hhplus.ecommerce.domain.coupon.model.DiscountType;
+import com.hhplus.ecommerce.domain.coupon.repository.CouponRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.InMemoryCouponRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.InMemoryUserCouponRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.UserCouponRepository;
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("선착순 쿠폰 입장 제어 테스트")
+class CouponIssueAdmissionTest {
+
+    private CouponRepository couponRepository;
+    private UserCouponRepository userCouponRepository;
+    private CouponIssueAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryDataStore.clear();
+        couponRepository = new InMemoryCouponRepository();
+        userCouponRepository = new InMemoryUserCouponRepository();
+        CouponService couponService = new CouponService(couponRepository, userCouponRepository,
+                event -> admission.handleIssueCancelled((CouponIssueCancelledEvent) event));
+        admission = new CouponIssueAdmission(couponService, 64, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        admission.close();
+    }
+
+    @Test
+    @DisplayName("수량보다 많은 동시 요청 - 수량만큼만 발급되고 나머지는 COUPON_SOLD_OUT")
+    void issue_Concurrency_RejectsAfterQuota() throws InterruptedException {
+        // given
+        int totalQuantity = 50;
+        int requestCount = 1_000;
+        Long couponId = createTestCoupon("ADMISSION", totalQuantity);
+
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger soldOutCount = new AtomicInteger(0);
+
+        // when
+        for (long userId = 1; userId <= requestCount; userId++) {
+            long finalUserId = userId;
+            executor.submit(() -> {
+                try {
+                    admission.issue(finalUserId, couponId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == CouponErrorCode.COUPON_SOLD_OUT) {
+                        soldOutCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(totalQuantity);
+        assertThat(soldOutCount.get()).isEqualTo(requestCount - totalQuantity);
+        assertThat(userCouponRepository.findAll()).hasSize(totalQuantity);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getRemainingQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("당첨 요청의 발급이 실패하면 자리를 반환해 다음 요청이 발급받음")
+    void issue_FailedWinner_ReturnsSlot() {
+        // given
+        Long couponId = createTestCoupon("RETURNSLOT", 2);
+        admission.issue(1L, couponId);
+
+        // when & then
+        assertThatThrownBy(() -> admission.issue(1L, couponId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_ALREADY_ISSUED);
+
+        assertThat(admission.issue(2L, couponId).userId()).isEqualTo(2L);
+        assertThatThrownBy(() -> admission.issue(3L, couponId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("마감 후 발급된 쿠폰의 사용이 취소되면 자리가 다시 생겨 다음 요청이 발급받음")
+    void issue_AfterCancelUse_ReopensSlot() {
+        // given
+        Long couponId = createTestCoupon("REOPEN", 1);
+        Long userCouponId = admission.issue(1L, couponId).userCouponId();
+        assertThatThrownBy(() -> admission.issue(2L, couponId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_SOLD_OUT);
+
+        CouponService couponService = new CouponService(couponRepository, userCouponRepository,
+                event -> admission.handleIssueCancelled((CouponIssueCancelledEvent) event));
+        couponService.reserveCoupon(userCouponId, 999L);
+        couponService.confirmCouponReservation(userCouponId);
+
+        // when
+        couponService.cancelCouponUse(userCouponId);
+
+        // then
+        assertThat(admission.issue(2L, couponId).userId()).isEqualTo(2L);
+        assertThatThrownBy(() -> admission.issue(3L, couponId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나도 이미 발급을 시작한 요청은 취소하지 않고 발급 결과를 반환")
+    void issue_TimeoutAfterProcessingStarted_ReturnsResult() {
+        // given - 발급 한 건이 대기 시간(50ms)보다 오래 걸림
+        Long couponId = createTestCoupon("SLOWISSUE", 1);
+        CouponIssueAdmission slowAdmission = new CouponIssueAdmission(slowCouponService(), 16, Duration.ofMillis(50));
+        try {
+            // when
+            UserCouponResponse response = slowAdmission.issue(1L, couponId);
+
+            // then
+            assertThat(response.userId()).isEqualTo(1L);
+            assertThat(userCouponRepository.findAll()).hasSize(1);
+        } finally {
+            slowAdmission.close();
+        }
+    }
+
+    @Test
+    @DisplayName("워커가 꺼내기 전에 대기 시간이 지난 요청은 취소되어 발급되지 않고 자리를 반환")
+    void issue_TimeoutWhileQueued_CancelledAndSlotReturned() throws Exception {
+        // given - 앞선 요청의 발급이 끝나기 전에 뒤 요청의 대기 시간(50ms)이 지남
+        Long couponId = createTestCoupon("QUEUEDCANCEL", 2);
+        CouponIssueAdmission slowAdmission = new CouponIssueAdmission(slowCouponService(), 16, Duration.ofMillis(50));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<UserCouponResponse> first = executor.submit(() -> slowAdmission.issue(1L, couponId));
+            Thread.sleep(20);
+
+            // when & then
+            assertThatThrownBy(() -> slowAdmission.issue(2L, couponId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_ISSUE_UNAVAILABLE);
+            assertThat(first.get().userId()).isEqualTo(1L);
+            assertThat(userCouponRepository.findByCouponIdAndUserId(couponId, 2L)).isEmpty();
+            assertThat(slowAdmission.issue(3L, couponId).userId()).isEqualTo(3L);
+        } finally {
+            executor.shutdown();
+            slowAdmission.close();
+        }
+    }
+
+    @Test
+    @DisplayName("마감 이후 요청은 쿠폰/발급 저장소를 조회하지 않음")
+    void issue_AfterSoldOut_DoesNotTouchService() {
+        // given
+        CouponService couponService = mock(CouponService.class);
+        Coupon coupon = Coupon.create(1L, "MOCK", "목 쿠폰", "설명", DiscountType.FIXED_AMOUNT, 1000,
+                0L, null, 1, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        when(couponService.findCouponById(1L)).thenReturn(coupon);
+
+        CouponIssueAdmission mockedAdmission = new CouponIssueAdmission(couponService, 16, Duration.ofSeconds(10));
+        try {
+            mockedAdmission.issue(1L, 1L);
+
+            // when
+            for (long userId = 2; userId <= 100; userId++) {
+                long finalUserId = userId;
+                assertThatThrownBy(() -> mockedAdmission.issue(finalUserId, 1L))
+                        .isInstanceOf(BusinessException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_SOLD_OUT);
+            }
+
+            // then
+            verify(couponService, times(1)).findCouponById(1L);
+            verify(couponService, times(1)).issueCoupon(any(), any());
+        } finally {
+            mockedAdmission.close();
+        }
+    }
+
+    private CouponService slowCouponService() {
+        return new CouponService(couponRepository, userCouponRepository, event -> { }) {
+            @Override
+            public UserCouponResponse issueCoupon(Long userId, Long couponId) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.issueCoupon(userId, couponId);
+            }
+        };
+    }
+
+    private Long createTestCoupon(String code, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        Long couponId = couponRepository.generateNextId();
+
+        Coupon coupon = Coupon.builder()
+                .id(couponId)
+                .code(code)
+                .name("입장 제어 테스트 쿠폰")
+                .description("테스트용 쿠폰입니다")
+                .discountType(DiscountType.PERCENTAGE)
+                .discountValue(10)
+                .minOrderAmount(10000L)
+                .maxDiscountAmount(5000L)
+                .totalQuantity(quantity)
+                .remainingQuantity(quantity)
+                .startsAt(now.minusDays(1))
+                .endsAt(now.plusDays(30))
+                .status(CouponStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        return couponRepository.save(coupon).getId();
+    }
+}
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.domain.coupon.service;
 
 import com.hhplus.ecommerce.domain.coupon.dto.CouponResponse;
 import com.hhplus.ecommerce.domain.coupon.dto.UserCouponResponse;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueCancelledEvent;
 import com.hhplus.ecommerce.domain.coupon.exception.CouponErrorCode;
 import com.hhplus.ecommerce.domain.coupon.model.Coupon;
 import com.hhplus.ecommerce.domain.coupon.model.CouponStatus;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,6 +40,9 @@ class CouponServiceTest {
     @Mock
     private UserCouponRepository userCouponRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -201,6 +206,7 @@ class CouponServiceTest {
 
         verify(userCouponRepository, times(1)).save(any(UserCoupon.class));
         verify(couponRepository, times(1)).save(any(Coupon.class));
+        verify(eventPublisher, times(1)).publishEvent(any(CouponIssueCancelledEvent.class));
     }
 
     @Test
@@ -0,0 +1,73 @@
+package com.hhplus.ecommerce.domain.order.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("주문 번호 인코더 테스트")
+class OrderNumberEncoderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("주문 ID를 최소 5자리로 0을 채워 날짜 뒤에 붙인다")
+    void encode_PadsOrderId() {
+        // given
+        OrderNumberEncoder encoder = new OrderNumberEncoder(clockAt("2025-03-07T10:15:30+09:00"));
+
+        // when & then
+        assertThat(encoder.encode(42L)).isEqualTo("ORD-20250307-00042");
+        assertThat(encoder.encode(1234567L)).isEqualTo("ORD-20250307-1234567");
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 새 날짜 접두사를 사용한다")
+    void encode_DateChanges_UsesNewPrefix() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-31T14:59:59Z"));
+        OrderNumberEncoder encoder = new OrderNumberEncoder(clock);
+        String before = encoder.encode(1L);
+
+        // when
+        clock.instant = Instant.parse("2025-12-31T15:00:00Z");
+        String after = encoder.encode(2L);
+
+        // then
+        assertThat(before).isEqualTo("ORD-20251231-00001");
+        assertThat(after).isEqualTo("ORD-20260101-00002");
+    }
+
+    private Clock clockAt(String dateTime) {
+        return Clock.fixed(OffsetDateTime.parse(dateTime).toInstant(), ZONE);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -7,6 +7,11 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -362,4 +367,81 @@ class OrderTest {
             assertThat(result).isEqualTo(6);
         }
     }
+
+    @Nested
+    @DisplayName("상태 전환 메서드는")
+    class StatusTransitionTest {
+
+        @Test
+        @DisplayName("만료로 취소된 주문은 결제 완료로 전환하지 않는다")
+        void shouldNotMarkCancelledOrderAsPaid() {
+            // given
+            Order order = pendingOrder();
+            order.cancelIfPending("결제 기한 만료");
+
+            // when
+            boolean paid = order.markAsPaidIfPending();
+
+            // then
+            assertThat(paid).isFalse();
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(order.getPaidAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("결제 완료된 주문은 만료로 취소하지 않지만, 사용자 취소는 이전 상태 PAID를 반환한다")
+        void shouldCancelPaidOrderOnlyByUserCancel() {
+            // given
+            Order order = pendingOrder();
+            order.markAsPaidIfPending();
+
+            // when
+            boolean expired = order.cancelIfPending("결제 기한 만료");
+            OrderStatus previous = order.cancelIfCancellable("고객 요청");
+
+            // then
+            assertThat(expired).isFalse();
+            assertThat(previous).isEqualTo(OrderStatus.PAID);
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(order.cancelIfCancellable("고객 요청")).isNull();
+        }
+
+        @Test
+        @DisplayName("결제 완료와 만료 취소가 동시에 일어나면 한쪽만 성공한다")
+        void shouldAllowOnlyOneConcurrentTransition() throws Exception {
+            for (int i = 0; i < 200; i++) {
+                // given
+                Order order = pendingOrder();
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                ExecutorService executor = Executors.newFixedThreadPool(2);
+
+                // when
+                Future<Boolean> paid = executor.submit(() -> {
+                    barrier.await();
+                    return order.markAsPaidIfPending();
+                });
+                Future<Boolean> expired = executor.submit(() -> {
+                    barrier.await();
+                    return order.cancelIfPending("결제 기한 만료");
+                });
+
+                // then
+                assertThat(paid.get(5, TimeUnit.SECONDS) ^ expired.get(5, TimeUnit.SECONDS)).isTrue();
+                executor.shutdown();
+            }
+        }
+
+        private Order pendingOrder() {
+            return Order.builder()
+                    .id(1L)
+                    .userId(1L)
+                    .orderNumber("ORD-20250101-00001")
+                    .status(OrderStatus.PENDING)
+                    .itemsTotal(10000L)
+                    .discountAmount(0L)
+                    .finalAmount(10000L)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        }
+    }
 }
@@ -9,24 +9,33 @@ import com.hhplus.ecommerce.domain.coupon.model.UserCoupon;
 import com.hhplus.ecommerce.domain.coupon.service.CouponService;
 import com.hhplus.ecommerce.domain.order.dto.CancelOrderResponse;
 import com.hhplus.ecommerce.domain.order.dto.OrderResponse;
+import com.hhplus.ecommerce.domain.order.dto.OrderSummaryResponse;
 import com.hhplus.ecommerce.domain.order.exception.OrderErrorCode;
+import com.hhplus.ecommerce.domain.order.expiry.OrderExpiryScheduler;
 import com.hhplus.ecommerce.domain.order.model.Order;
 import com.hhplus.ecommerce.domain.order.model.OrderItem;
 import com.hhplus.ecommerce.domain.order.model.OrderStatus;
 import com.hhplus.ecommerce.domain.order.repository.OrderItemRepository;
 import com.hhplus.ecommerce.domain.order.repository.OrderRepository;
+import com.hhplus.ecommerce.domain.payment.event.PaymentCompletedEvent;
+import com.hhplus.ecommerce.domain.payment.event.PaymentRefundRequestedEvent;
+import com.hhplus.ecommerce.domain.payment.service.PaymentStatusQuery;
 import com.hhplus.ecommerce.domain.product.model.product.Product;
 import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
 import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
 import com.hhplus.ecommerce.domain.product.service.ProductService;
+import com.hhplus.ecommerce.global.dto.CursorResult;
 import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.exception.CommonErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -56,6 +65,15 @@ class OrderServiceTest {
     @Mock
     private CouponService couponService;
 
+    @Mock
+    private OrderExpiryScheduler orderExpiryScheduler;
+
+    @Mock
+    private PaymentStatusQuery paymentStatusQuery;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -119,7 +137,7 @@ class OrderServiceTest {
         when(cartService.getCartItemsByIds(userId, cartItemIds)).thenReturn(List.of(testCartItem));
         when(productService.getProductsAsMap(any())).thenReturn(Map.of(1L, testProduct));
         when(orderRepository.generateNextId()).thenReturn(1L);
-        when(orderRepository.generateOrderNumber()).thenReturn("ORD-001");
+        when(orderRepository.generateOrderNumber(1L)).thenReturn("ORD-001");
         when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
         when(orderItemRepository.generateNextId()).thenReturn(1L);
         when(orderItemRepository.save(any(OrderItem.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -132,8 +150,9 @@ class OrderServiceTest {
         assertThat(result.userId()).isEqualTo(userId);
         assertThat(result.pricing().discountAmount()).isEqualTo(0L);
         assertThat(result.coupon()).isNull();
-        verify(productService).reserveStock(1L, 2);
-        verify(cartService).removeCartItems(cartItemIds);
+        verify(productService).reserveStocks(Map.of(1L, 2));
+        verify(cartService).removeCartItems(1L, cartItemIds);
+        verify(orderExpiryScheduler).register(any(Order.class));
         verify(couponService, never()).useCoupon(any(), any());
     }
 
@@ -150,7 +169,7 @@ class OrderServiceTest {
         when(couponService.findUserCouponById(userCouponId)).thenReturn(testUserCoupon);
         when(couponService.findCouponById(1L)).thenReturn(testCoupon);
         when(orderRepository.generateNextId()).thenReturn(1L);
-        when(orderRepository.generateOrderNumber()).thenReturn("ORD-001");
+        when(orderRepository.generateOrderNumber(1L)).thenReturn("ORD-001");
         when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
         when(orderItemRepository.generateNextId()).thenReturn(1L);
         when(orderItemRepository.save(any(OrderItem.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -166,8 +185,8 @@ class OrderServiceTest {
         assertThat(result.pricing().finalAmount()).isEqualTo(18000L); // 20000 - 2000
         assertThat(result.coupon()).isNotNull();
         assertThat(result.coupon().name()).isEqualTo("신규 회원 쿠폰");
-        verify(productService).reserveStock(1L, 2);
-        verify(cartService).removeCartItems(cartItemIds);
+        verify(productService).reserveStocks(Map.of(1L, 2));
+        verify(cartService).removeCartItems(1L, cartItemIds);
         verify(couponService, never()).useCoupon(any(), any());
     }
 
@@ -199,11 +218,105 @@ class OrderServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.INVALID_COUPON_OWNER);
 
-        // 재고는 예약되었으나 주문 생성 전 실패했으므로 재고는 예약된 상태
-        verify(productService).reserveStock(1L, 2);
+        // 쿠폰 검증 실패 시 재고는 예약되지 않음
+        verify(productService, never()).reserveStocks(any());
         verify(couponService, never()).useCoupon(any(), any());
     }
 
+    @Test
+    @DisplayName("주문 생성 실패 - 쿠폰 예약 실패 시 예약한 재고를 해제")
+    void createOrder_CouponReservationFails_ReleasesStocks() {
+        // given
+        Long userId = 1L;
+        Long userCouponId = 1L;
+        List<Long> cartItemIds = List.of(1L);
+
+        when(cartService.getCartItemsByIds(userId, cartItemIds)).thenReturn(List.of(testCartItem));
+        when(productService.getProductsAsMap(any())).thenReturn(Map.of(1L, testProduct));
+        when(couponService.findUserCouponById(userCouponId)).thenReturn(testUserCoupon);
+        when(couponService.findCouponById(1L)).thenReturn(testCoupon);
+        when(orderRepository.generateNextId()).thenReturn(1L);
+        when(orderRepository.generateOrderNumber(1L)).thenReturn("ORD-001");
+        when(orderItemRepository.generateNextId()).thenReturn(1L);
+        doThrow(new BusinessException(OrderErrorCode.COUPON_NOT_USABLE))
+                .when(couponService).reserveCoupon(userCouponId, 1L);
+
+        // when & then
+        assertThatThrownBy(() ->
+                orderService.createOrder(userId, cartItemIds, userCouponId, "서울", null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.COUPON_NOT_USABLE);
+
+        verify(productService).reserveStocks(Map.of(1L, 2));
+        verify(productService).releaseStockReservations(Map.of(1L, 2));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 주문 항목 저장 실패 시 저장한 주문을 지우고 재고/쿠폰 예약을 해제")
+    void createOrder_OrderItemSaveFails_RollsBackReservations() {
+        // given
+        Long userId = 1L;
+        Long userCouponId = 1L;
+        List<Long> cartItemIds = List.of(1L);
+
+        when(cartService.getCartItemsByIds(userId, cartItemIds)).thenReturn(List.of(testCartItem));
+        when(productService.getProductsAsMap(any())).thenReturn(Map.of(1L, testProduct));
+        when(couponService.findUserCouponById(userCouponId)).thenReturn(testUserCoupon);
+        when(couponService.findCouponById(1L)).thenReturn(testCoupon);
+        when(orderRepository.generateNextId()).thenReturn(1L);
+        when(orderRepository.generateOrderNumber(1L)).thenReturn("ORD-001");
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(orderItemRepository.generateNextId()).thenReturn(1L);
+        when(orderItemRepository.save(any(OrderItem.class))).thenThrow(new IllegalStateException("저장 실패"));
+
+        // when & then
+        assertThatThrownBy(() ->
+                orderService.createOrder(userId, cartItemIds, userCouponId, "서울", null))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(orderRepository).deleteById(1L);
+        verify(couponService).releaseCouponReservation(userCouponId);
+        verify(productService).releaseStockReservations(Map.of(1L, 2));
+        verify(orderExpiryScheduler, never()).register(any());
+        verify(cartService, never()).removeCartItems(any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 장바구니 정리 실패 시 주문을 취소하고 재고/쿠폰 예약을 해제")
+    void createOrder_CartRemovalFails_CancelsOrder() {
+        // given
+        Long userId = 1L;
+        Long userCouponId = 1L;
+        List<Long> cartItemIds = List.of(1L);
+        OrderItem savedItem = OrderItem.create(1L, 1L, "테스트 상품", 2, 10000L).withOrderId(1L);
+
+        when(cartService.getCartItemsByIds(userId, cartItemIds)).thenReturn(List.of(testCartItem));
+        when(productService.getProductsAsMap(any())).thenReturn(Map.of(1L, testProduct));
+        when(couponService.findUserCouponById(userCouponId)).thenReturn(testUserCoupon);
+        when(couponService.findCouponById(1L)).thenReturn(testCoupon);
+        when(orderRepository.generateNextId()).thenReturn(1L);
+        when(orderRepository.generateOrderNumber(1L)).thenReturn("ORD-001");
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(orderItemRepository.generateNextId()).thenReturn(1L);
+        when(orderItemRepository.save(any(OrderItem.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(orderItemRepository.findByOrderId(1L)).thenReturn(List.of(savedItem));
+        doThrow(new IllegalStateException("장바구니 정리 실패"))
+                .when(cartService).removeCartItems(1L, cartItemIds);
+
+        // when & then
+        assertThatThrownBy(() ->
+                orderService.createOrder(userId, cartItemIds, userCouponId, "서울", null))
+                .isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository, times(2)).save(orderCaptor.capture());
+        assertThat(orderCaptor.getValue().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(orderExpiryScheduler).cancel(1L);
+        verify(productService).releaseStockReservation(1L, 2);
+        verify(couponService).releaseCouponReservation(userCouponId);
+    }
+
     @Test
     @DisplayName("주문 생성 실패 - 이미 사용된 쿠폰")
     void createOrder_AlreadyUsedCoupon_ThrowsException() {
@@ -324,4 +437,265 @@ class OrderServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.INVALID_ORDER_REQUEST);
     }
+
+    @Test
+    @DisplayName("주문 만료 - 결제 기한이 지난 PENDING 주문은 취소되고 쿠폰 예약이 해제됨")
+    void expireOrder_ExpiredPendingOrder_Cancels() {
+        // given
+        Long orderId = 1L;
+        Long userCouponId = 1L;
+
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(1L)
+                .orderNumber("ORD-001")
+                .status(OrderStatus.PENDING)
+                .itemsTotal(20000L)
+                .discountAmount(2000L)
+                .finalAmount(18000L)
+                .userCouponId(userCouponId)
+                .deliveryAddress("서울")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .createdAt(LocalDateTime.now().minusMinutes(11))
+                .updatedAt(LocalDateTime.now().minusMinutes(11))
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(
+                OrderItem.create(1L, 1L, "테스트 상품", 2, 10000L).withOrderId(orderId)));
+
+        // when
+        boolean expired = orderService.expireOrder(orderId);
+
+        // then
+        assertThat(expired).isTrue();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(productService).releaseStockReservation(1L, 2);
+        verify(couponService).releaseCouponReservation(userCouponId);
+        verify(orderExpiryScheduler).cancel(orderId);
+    }
+
+    @Test
+    @DisplayName("주문 만료 - 이미 결제된 주문은 취소하지 않음")
+    void expireOrder_PaidOrder_Skips() {
+        // given
+        Long orderId = 1L;
+
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(1L)
+                .orderNumber("ORD-001")
+                .status(OrderStatus.PAID)
+                .itemsTotal(20000L)
+                .discountAmount(0L)
+                .finalAmount(20000L)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .paidAt(LocalDateTime.now().minusMinutes(2))
+                .createdAt(LocalDateTime.now().minusMinutes(11))
+                .updatedAt(LocalDateTime.now().minusMinutes(2))
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // when
+        boolean expired = orderService.expireOrder(orderId);
+
+        // then
+        assertThat(expired).isFalse();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(orderRepository, never()).save(any());
+        verify(productService, never()).releaseStockReservation(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제 완료 처리 - 같은 결제 완료 이벤트가 다시 전달되어도 재고/쿠폰 확정은 한 번만 수행")
+    void completePayment_AlreadyPaid_Skips() {
+        // given
+        Long orderId = 1L;
+
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(1L)
+                .orderNumber("ORD-001")
+                .status(OrderStatus.PAID)
+                .itemsTotal(20000L)
+                .discountAmount(2000L)
+                .finalAmount(18000L)
+                .userCouponId(1L)
+                .paidAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // when
+        orderService.completePayment(orderId);
+
+        // then
+        verify(orderRepository, never()).save(any());
+        verify(orderItemRepository, never()).findByOrderId(any());
+        verify(couponService, never()).confirmCouponReservation(any());
+    }
+
+    @Test
+    @DisplayName("주문 만료 - PG 호출 중인 결제가 있으면 취소하지 않고 만료를 보류함")
+    void expireOrder_PaymentInProgress_Postpones() {
+        // given
+        Long orderId = 1L;
+        Order order = expiredPendingOrder(orderId);
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(paymentStatusQuery.isPaymentInProgress(orderId)).thenReturn(true);
+
+        // when
+        boolean expired = orderService.expireOrder(orderId);
+
+        // then
+        assertThat(expired).isFalse();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(orderExpiryScheduler).postpone(orderId);
+        verify(orderRepository, never()).save(any());
+        verify(productService, never()).releaseStockReservation(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제 완료 이벤트 - 이미 만료로 취소된 주문이면 결제 완료로 바꾸지 않고 환불을 요청함")
+    void handlePaymentCompleted_CancelledOrder_RequestsRefund() {
+        // given
+        Long orderId = 1L;
+        Order order = expiredPendingOrder(orderId);
+        order.cancelIfPending("결제 기한 만료");
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        // when
+        orderService.handlePaymentCompleted(PaymentCompletedEvent.of(orderId, 10L, "TX-10"));
+
+        // then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        ArgumentCaptor<PaymentRefundRequestedEvent> captor = ArgumentCaptor.forClass(PaymentRefundRequestedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getOrderId()).isEqualTo(orderId);
+        assertThat(captor.getValue().getPaymentId()).isEqualTo(10L);
+        verify(orderRepository, never()).save(any());
+        verify(productService, never()).confirmStockReservation(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제 완료 이벤트 - 재고 확정이 실패하면 결제 대기로 되돌리고 재전달된 이벤트가 모든 확정을 마침")
+    void handlePaymentCompleted_ConfirmFailsOnce_RedeliveryCompletes() {
+        // given
+        Long orderId = 1L;
+        Long userCouponId = 1L;
+        Order order = Order.builder()
+                .id(orderId)
+                .userId(1L)
+                .orderNumber("ORD-001")
+                .status(OrderStatus.PENDING)
+                .itemsTotal(30000L)
+                .discountAmount(0L)
+                .finalAmount(30000L)
+                .userCouponId(userCouponId)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        List<OrderItem> items = List.of(
+                OrderItem.create(1L, 1L, "상품1", 2, 10000L).withOrderId(orderId),
+                OrderItem.create(2L, 2L, "상품2", 1, 10000L).withOrderId(orderId));
+        PaymentCompletedEvent event = PaymentCompletedEvent.of(orderId, 10L, "TX-10");
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderItemRepository.findByOrderId(orderId)).thenReturn(items);
+        doThrow(new IllegalStateException("재고 확정 실패"))
+                .doNothing()
+                .when(productService).confirmStockReservation(2L, 1);
+
+        // when - 첫 전달은 두 번째 상품 확정에서 실패
+        assertThatThrownBy(() -> orderService.handlePaymentCompleted(event))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then - 먼저 확정한 재고는 되돌리고 주문은 결제 대기로 남음
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(order.getPaidAt()).isNull();
+        verify(productService).revertStockConfirmation(1L, 2);
+        verify(couponService, never()).confirmCouponReservation(any());
+        verify(orderRepository, never()).save(any());
+
+        // when - 재전달
+        orderService.handlePaymentCompleted(event);
+
+        // then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(productService, times(2)).confirmStockReservation(1L, 2);
+        verify(productService, times(2)).confirmStockReservation(2L, 1);
+        verify(couponService).confirmCouponReservation(userCouponId);
+        verify(orderRepository).save(order);
+        verify(orderExpiryScheduler).cancel(orderId);
+        verify(productService).incrementSalesCount(1L, 2);
+        verify(productService).incrementSalesCount(2L, 1);
+    }
+
+    private Order expiredPendingOrder(Long orderId) {
+        return Order.builder()
+                .id(orderId)
+                .userId(1L)
+                .orderNumber("ORD-001")
+                .status(OrderStatus.PENDING)
+                .itemsTotal(20000L)
+                .discountAmount(0L)
+                .finalAmount(20000L)
+                .deliveryAddress("서울")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .createdAt(LocalDateTime.now().minusMinutes(11))
+                .updatedAt(LocalDateTime.now().minusMinutes(11))
+                .build();
+    }
+
+    @Test
+    @DisplayName("주문 목록 커서 조회 - 다음 페이지는 마지막 주문의 (생성 시각, ID) 이후부터 조회")
+    void getUserOrdersByCursor_FollowsNextCursor() {
+        // given
+        Long userId = 1L;
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(orderRepository.findPageByUserId(userId, 0, 3))
+                .thenReturn(List.of(summaryOrder(5L, base.plusMinutes(3)), summaryOrder(4L, base.plusMinutes(2)),
+                        summaryOrder(3L, base.plusMinutes(1))));
+        when(orderRepository.findPageByUserIdAfter(userId, base.plusMinutes(2), 4L, 3))
+                .thenReturn(List.of(summaryOrder(3L, base.plusMinutes(1)), summaryOrder(1L, base)));
+
+        // when
+        CursorResult<OrderSummaryResponse> first = orderService.getUserOrdersByCursor(userId, null, 2);
+        CursorResult<OrderSummaryResponse> second = orderService.getUserOrdersByCursor(userId, first.meta().nextCursor(), 2);
+
+        // then
+        assertThat(first.content()).extracting(OrderSummaryResponse::orderId).containsExactly(5L, 4L);
+        assertThat(first.meta().hasNext()).isTrue();
+        assertThat(second.content()).extracting(OrderSummaryResponse::orderId).containsExactly(3L, 1L);
+        assertThat(second.meta().hasNext()).isFalse();
+        assertThat(second.meta().nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("주문 목록 커서 조회 실패 - 잘못된 커서")
+    void getUserOrdersByCursor_InvalidCursor_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> orderService.getUserOrdersByCursor(1L, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_CURSOR);
+        verify(orderRepository, never()).findPageByUserIdAfter(any(), any(), any(), anyInt());
+    }
+
+    private Order summaryOrder(Long id, LocalDateTime createdAt) {
+        return Order.builder()
+                .id(id)
+                .userId(1L)
+                .orderNumber("ORD-00" + id)
+                .status(OrderStatus.PENDING)
+                .finalAmount(10000L)
+                .createdAt(createdAt)
+                .build();
+    }
 }
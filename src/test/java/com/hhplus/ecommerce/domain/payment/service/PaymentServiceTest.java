@@ -13,12 +13,15 @@ import com.hhplus.ecommerce.domain.payment.dto.PaymentResponse;
 import com.hhplus.ecommerce.domain.payment.event.PaymentCompletedEvent;
 import com.hhplus.ecommerce.domain.payment.event.PaymentFailedEvent;
 import com.hhplus.ecommerce.domain.payment.exception.PaymentErrorCode;
+import com.hhplus.ecommerce.domain.payment.gateway.PaymentGatewayClient;
 import com.hhplus.ecommerce.domain.payment.model.Payment;
 import com.hhplus.ecommerce.domain.payment.model.PaymentMethod;
 import com.hhplus.ecommerce.domain.payment.model.PaymentStatus;
 import com.hhplus.ecommerce.domain.payment.repository.PaymentRepository;
 import com.hhplus.ecommerce.global.exception.BusinessException;
 import com.hhplus.ecommerce.global.exception.DomainExceptionMapper;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
+import com.hhplus.ecommerce.global.outbox.OutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,11 +30,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClient.RequestBodySpec;
-import org.springframework.web.client.RestClient.RequestBodyUriSpec;
-import org.springframework.web.client.RestClient.ResponseSpec;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -48,8 +46,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("PaymentService 단위 테스트")
 class PaymentServiceTest {
 
-    @Mock(lenient = true)
-    private RestClient restClient;
+    @Mock
+    private PaymentGatewayClient paymentGatewayClient;
 
     @Mock
     private PaymentRepository paymentRepository;
@@ -61,20 +59,11 @@ class PaymentServiceTest {
     private CouponService couponService;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private OutboxRepository outboxRepository;
 
     @Mock(lenient = true)
     private DomainExceptionMapper exceptionMapper;
 
-    @Mock(lenient = true)
-    private RequestBodyUriSpec requestBodyUriSpec;
-
-    @Mock(lenient = true)
-    private RequestBodySpec requestBodySpec;
-
-    @Mock(lenient = true)
-    private ResponseSpec responseSpec;
-
     @InjectMocks
     private PaymentService paymentService;
 
@@ -87,11 +76,6 @@ class PaymentServiceTest {
 
     @BeforeEach
     void setUp() {
-        given(restClient.post()).willReturn(requestBodyUriSpec);
-        given(requestBodyUriSpec.uri(nullable(String.class))).willReturn(requestBodySpec);
-        given(requestBodySpec.body(anyMap())).willReturn(requestBodySpec);
-        given(requestBodySpec.retrieve()).willReturn(responseSpec);
-
         given(exceptionMapper.mapToPaymentException(any(BusinessException.class), anyString()))
                 .willAnswer(invocation -> {
                     BusinessException e = invocation.getArgument(0);
@@ -171,9 +155,9 @@ class PaymentServiceTest {
         given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
         given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
         given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
-        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.empty());
         given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.empty());
-        given(responseSpec.body(eq(Map.class))).willReturn(createSuccessPgResponse());
+        given(paymentGatewayClient.requestPayment(eq(ORDER_ID), anyLong(), any(PaymentMethod.class))).willReturn(createSuccessPgResponse());
 
         // When
         PaymentResponse response = paymentService.processPayment(
@@ -189,10 +173,11 @@ class PaymentServiceTest {
         assertThat(response.transactionId()).isEqualTo(TRANSACTION_ID);
         assertThat(response.failReason()).isNull();
 
-        // 이벤트 발행 검증
-        ArgumentCaptor<PaymentCompletedEvent> eventCaptor = ArgumentCaptor.forClass(PaymentCompletedEvent.class);
-        verify(eventPublisher).publishEvent(eventCaptor.capture());
-        PaymentCompletedEvent event = eventCaptor.getValue();
+        // 아웃박스 이벤트 기록 검증
+        ArgumentCaptor<OutboxMessage> outboxCaptor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(paymentRepository).saveWithOutbox(any(Payment.class), outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getAggregateId()).isEqualTo(ORDER_ID);
+        PaymentCompletedEvent event = (PaymentCompletedEvent) outboxCaptor.getValue().toEvent();
         assertThat(event.getOrderId()).isEqualTo(ORDER_ID);
         assertThat(event.getPaymentId()).isEqualTo(PAYMENT_ID);
         assertThat(event.getTransactionId()).isEqualTo(TRANSACTION_ID);
@@ -209,8 +194,8 @@ class PaymentServiceTest {
         given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
         given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
         given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
-        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(responseSpec.body(eq(Map.class))).willReturn(createFailedPgResponse(failReason));
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.empty());
+        given(paymentGatewayClient.requestPayment(eq(ORDER_ID), anyLong(), any(PaymentMethod.class))).willReturn(createFailedPgResponse(failReason));
 
         // When
         PaymentResponse response = paymentService.processPayment(
@@ -223,10 +208,11 @@ class PaymentServiceTest {
         assertThat(response.failReason()).isEqualTo(failReason);
         assertThat(response.transactionId()).isNull();
 
-        // 이벤트 발행 검증
-        ArgumentCaptor<PaymentFailedEvent> eventCaptor = ArgumentCaptor.forClass(PaymentFailedEvent.class);
-        verify(eventPublisher).publishEvent(eventCaptor.capture());
-        PaymentFailedEvent event = eventCaptor.getValue();
+        // 아웃박스 이벤트 기록 검증
+        ArgumentCaptor<OutboxMessage> outboxCaptor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(paymentRepository).saveWithOutbox(any(Payment.class), outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getAggregateId()).isEqualTo(ORDER_ID);
+        PaymentFailedEvent event = (PaymentFailedEvent) outboxCaptor.getValue().toEvent();
         assertThat(event.getOrderId()).isEqualTo(ORDER_ID);
         assertThat(event.getPaymentId()).isEqualTo(PAYMENT_ID);
         assertThat(event.getFailReason()).isEqualTo("결제 실패: " + failReason);
@@ -250,8 +236,8 @@ class PaymentServiceTest {
         assertThat(response.status()).isEqualTo(PaymentStatus.SUCCESS.name());
         assertThat(response.transactionId()).isEqualTo(TRANSACTION_ID);
 
-        verify(paymentRepository, never()).save(any());
-        verify(restClient, never()).post();
+        verify(paymentRepository, never()).saveIfClientRequestIdAbsent(any());
+        verify(paymentGatewayClient, never()).requestPayment(any(), any(), any());
     }
 
     @Test
@@ -275,8 +261,8 @@ class PaymentServiceTest {
         assertThat(response.paymentId()).isEqualTo(PAYMENT_ID);
         assertThat(response.status()).isEqualTo(PaymentStatus.SUCCESS.name());
 
-        verify(paymentRepository, never()).save(any());
-        verify(restClient, never()).post();
+        verify(paymentRepository, never()).saveIfClientRequestIdAbsent(any());
+        verify(paymentGatewayClient, never()).requestPayment(any(), any(), any());
     }
 
     @Test
@@ -290,9 +276,10 @@ class PaymentServiceTest {
         given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
         given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
         given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.empty());
         given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
         given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.of(existingPaymentByTxId));
-        given(responseSpec.body(eq(Map.class))).willReturn(createSuccessPgResponse());
+        given(paymentGatewayClient.requestPayment(eq(ORDER_ID), anyLong(), any(PaymentMethod.class))).willReturn(createSuccessPgResponse());
 
         // When
         PaymentResponse response = paymentService.processPayment(
@@ -305,8 +292,102 @@ class PaymentServiceTest {
         assertThat(response.status()).isEqualTo(PaymentStatus.FAILED.name());
         assertThat(response.failReason()).contains("이미 동일한 transactionId");
 
-        // 이벤트가 발행되지 않아야 함
-        verify(eventPublisher, never()).publishEvent(any(PaymentCompletedEvent.class));
+        // 아웃박스에 이벤트가 기록되지 않아야 함
+        verify(paymentRepository, never()).saveWithOutbox(any(), any());
+    }
+
+    @Test
+    @DisplayName("멱등성 - 동일 clientRequestId 동시 요청 중 선점에 실패하면 PG 호출 없이 선점한 결제 응답 반환")
+    void processPayment_ConcurrentDuplicate_ReturnsClaimedPayment() {
+        // Given
+        Order testOrder = createTestOrder();
+        Payment claimedPayment = Payment.createPending(999L, ORDER_ID, AMOUNT, PaymentMethod.CARD, CLIENT_REQUEST_ID);
+
+        given(orderService.requireOrderOwnedByUser(USER_ID, ORDER_ID)).willReturn(testOrder);
+        given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
+        given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
+        given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.of(999L));
+        given(paymentRepository.findById(999L)).willReturn(Optional.of(claimedPayment));
+
+        // When
+        PaymentResponse response = paymentService.processPayment(
+                USER_ID, ORDER_ID, PaymentMethod.CARD, CLIENT_REQUEST_ID
+        );
+
+        // Then
+        assertThat(response.paymentId()).isEqualTo(999L);
+        assertThat(response.status()).isEqualTo(PaymentStatus.PENDING.name());
+
+        verify(paymentGatewayClient, never()).requestPayment(any(), any(), any());
+        verify(paymentRepository, never()).saveWithOutbox(any(), any());
+    }
+
+    @Test
+    @DisplayName("멱등성 - 선점한 요청이 아직 결제를 저장하기 전이면 PAYMENT_IN_PROGRESS 예외 발생")
+    void processPayment_ConcurrentDuplicate_InProgress() {
+        // Given
+        Order testOrder = createTestOrder();
+
+        given(orderService.requireOrderOwnedByUser(USER_ID, ORDER_ID)).willReturn(testOrder);
+        given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
+        given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
+        given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.of(999L));
+        given(paymentRepository.findById(999L)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.processPayment(
+                USER_ID, ORDER_ID, PaymentMethod.CARD, CLIENT_REQUEST_ID
+        ))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_IN_PROGRESS);
+
+        verify(paymentGatewayClient, never()).requestPayment(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 대기 저장 직전에 주문이 만료되면 PG를 호출하지 않고 결제를 FAILED로 기록")
+    void processPayment_OrderExpiredWhileStarting_SkipsPg() {
+        // Given
+        Order testOrder = createTestOrder();
+
+        given(orderService.requireOrderOwnedByUser(USER_ID, ORDER_ID)).willReturn(testOrder);
+        given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
+        given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
+        given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willAnswer(invocation -> {
+            testOrder.cancelIfPending("결제 기한 만료");
+            return Optional.empty();
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.processPayment(
+                USER_ID, ORDER_ID, PaymentMethod.CARD, CLIENT_REQUEST_ID
+        ))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.INVALID_ORDER_STATUS);
+
+        ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
+        verify(paymentRepository).save(paymentCaptor.capture());
+        assertThat(paymentCaptor.getValue().getStatus()).isEqualTo(PaymentStatus.FAILED);
+        verify(paymentGatewayClient, never()).requestPayment(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 환불 - 성공한 결제는 CANCELLED로 바뀌고, 같은 요청이 다시 와도 한 번만 처리")
+    void refundPayment_SuccessfulPayment_Cancels() {
+        // Given
+        Payment successPayment = createSuccessPayment();
+        given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(successPayment));
+
+        // When
+        paymentService.refundPayment(PAYMENT_ID, "취소된 주문의 결제 완료");
+        paymentService.refundPayment(PAYMENT_ID, "취소된 주문의 결제 완료");
+
+        // Then
+        assertThat(successPayment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        verify(paymentRepository, times(1)).save(successPayment);
     }
 
     // ========== 예외 시나리오 테스트 ==========
@@ -326,8 +407,8 @@ class PaymentServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_NOT_FOUND);
 
-        verify(paymentRepository, never()).save(any());
-        verify(restClient, never()).post();
+        verify(paymentRepository, never()).saveIfClientRequestIdAbsent(any());
+        verify(paymentGatewayClient, never()).requestPayment(any(), any(), any());
     }
 
     @Test
@@ -345,7 +426,7 @@ class PaymentServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_NOT_ALLOWED);
 
-        verify(paymentRepository, never()).save(any());
+        verify(paymentRepository, never()).saveIfClientRequestIdAbsent(any());
     }
 
     @Test
@@ -363,7 +444,7 @@ class PaymentServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.INVALID_ORDER_STATUS);
 
-        verify(paymentRepository, never()).save(any());
+        verify(paymentRepository, never()).saveIfClientRequestIdAbsent(any());
     }
 
     @Test
@@ -375,8 +456,8 @@ class PaymentServiceTest {
         given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
         given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
         given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
-        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(responseSpec.body(eq(Map.class))).willThrow(new RuntimeException("PG 연동 오류"));
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.empty());
+        given(paymentGatewayClient.requestPayment(eq(ORDER_ID), anyLong(), any(PaymentMethod.class))).willThrow(new RuntimeException("PG 연동 오류"));
 
         // When & Then
         assertThatThrownBy(() -> paymentService.processPayment(
@@ -385,14 +466,41 @@ class PaymentServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_FAILED);
 
-        // 이벤트 발행 검증
-        ArgumentCaptor<PaymentFailedEvent> eventCaptor = ArgumentCaptor.forClass(PaymentFailedEvent.class);
-        verify(eventPublisher).publishEvent(eventCaptor.capture());
-        PaymentFailedEvent event = eventCaptor.getValue();
+        // 아웃박스 이벤트 기록 검증
+        ArgumentCaptor<OutboxMessage> outboxCaptor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(paymentRepository).saveWithOutbox(any(Payment.class), outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getAggregateId()).isEqualTo(ORDER_ID);
+        PaymentFailedEvent event = (PaymentFailedEvent) outboxCaptor.getValue().toEvent();
         assertThat(event.getOrderId()).isEqualTo(ORDER_ID);
         assertThat(event.getFailReason()).isEqualTo("결제 처리 중 오류 발생");
     }
 
+    @Test
+    @DisplayName("PG 호출 거절(서킷 열림/동시 호출 한도 초과) - 즉시 결제 실패 처리 후 PG_UNAVAILABLE 반환")
+    void processPayment_PgUnavailable_FailsFast() {
+        // Given
+        Order testOrder = createTestOrder();
+        given(orderService.requireOrderOwnedByUser(USER_ID, ORDER_ID)).willReturn(testOrder);
+        given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
+        given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
+        given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.empty());
+        given(paymentGatewayClient.requestPayment(eq(ORDER_ID), anyLong(), any(PaymentMethod.class)))
+                .willThrow(new BusinessException(PaymentErrorCode.PG_UNAVAILABLE));
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.processPayment(
+                USER_ID, ORDER_ID, PaymentMethod.CARD, CLIENT_REQUEST_ID
+        ))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PG_UNAVAILABLE);
+
+        ArgumentCaptor<OutboxMessage> outboxCaptor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(paymentRepository).saveWithOutbox(any(Payment.class), outboxCaptor.capture());
+        PaymentFailedEvent event = (PaymentFailedEvent) outboxCaptor.getValue().toEvent();
+        assertThat(event.getFailReason()).isEqualTo("결제 처리 중 오류 발생");
+    }
+
     // ========== 결제 조회 테스트 ==========
 
     @Test
@@ -515,9 +623,9 @@ class PaymentServiceTest {
         given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
         given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
         given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
-        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.empty());
         given(paymentRepository.findByTransactionId(TRANSACTION_ID)).willReturn(Optional.empty());
-        given(responseSpec.body(eq(Map.class))).willReturn(createSuccessPgResponse());
+        given(paymentGatewayClient.requestPayment(eq(ORDER_ID), anyLong(), any(PaymentMethod.class))).willReturn(createSuccessPgResponse());
 
         // When
         PaymentResponse response = paymentService.processPayment(
@@ -532,10 +640,11 @@ class PaymentServiceTest {
         assertThat(response.couponInfo().couponName()).isEqualTo(couponName);
         assertThat(response.couponInfo().discountAmount()).isEqualTo(discountAmount);
 
-        // 이벤트 발행 검증
-        ArgumentCaptor<PaymentCompletedEvent> eventCaptor = ArgumentCaptor.forClass(PaymentCompletedEvent.class);
-        verify(eventPublisher).publishEvent(eventCaptor.capture());
-        PaymentCompletedEvent event = eventCaptor.getValue();
+        // 아웃박스 이벤트 기록 검증
+        ArgumentCaptor<OutboxMessage> outboxCaptor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(paymentRepository).saveWithOutbox(any(Payment.class), outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getAggregateId()).isEqualTo(ORDER_ID);
+        PaymentCompletedEvent event = (PaymentCompletedEvent) outboxCaptor.getValue().toEvent();
         assertThat(event.getOrderId()).isEqualTo(ORDER_ID);
     }
 
@@ -564,8 +673,8 @@ class PaymentServiceTest {
         given(paymentRepository.findByClientRequestId(CLIENT_REQUEST_ID)).willReturn(Optional.empty());
         given(paymentRepository.findByOrderId(ORDER_ID)).willReturn(Optional.empty());
         given(paymentRepository.generateNextId()).willReturn(PAYMENT_ID);
-        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(responseSpec.body(eq(Map.class))).willReturn(createFailedPgResponse(failReason));
+        given(paymentRepository.saveIfClientRequestIdAbsent(any(Payment.class))).willReturn(Optional.empty());
+        given(paymentGatewayClient.requestPayment(eq(ORDER_ID), anyLong(), any(PaymentMethod.class))).willReturn(createFailedPgResponse(failReason));
 
         // When
         PaymentResponse response = paymentService.processPayment(
@@ -577,10 +686,11 @@ class PaymentServiceTest {
         assertThat(response.status()).isEqualTo(PaymentStatus.FAILED.name());
         assertThat(response.failReason()).isEqualTo(failReason);
 
-        // 이벤트 발행 검증 - 주문 취소 시 쿠폰도 자동 복구됨
-        ArgumentCaptor<PaymentFailedEvent> eventCaptor = ArgumentCaptor.forClass(PaymentFailedEvent.class);
-        verify(eventPublisher).publishEvent(eventCaptor.capture());
-        PaymentFailedEvent event = eventCaptor.getValue();
+        // 아웃박스 이벤트 기록 검증 - 주문 취소 시 쿠폰도 자동 복구됨
+        ArgumentCaptor<OutboxMessage> outboxCaptor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(paymentRepository).saveWithOutbox(any(Payment.class), outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getAggregateId()).isEqualTo(ORDER_ID);
+        PaymentFailedEvent event = (PaymentFailedEvent) outboxCaptor.getValue().toEvent();
         assertThat(event.getOrderId()).isEqualTo(ORDER_ID);
         assertThat(event.getFailReason()).isEqualTo("결제 실패: " + failReason);
     }
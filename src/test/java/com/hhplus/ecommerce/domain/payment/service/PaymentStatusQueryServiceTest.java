@@ -0,0 +1,80 @@
+package com.hhplus.ecommerce.domain.payment.service;
+
+import com.hhplus.ecommerce.domain.payment.model.Payment;
+import com.hhplus.ecommerce.domain.payment.model.PaymentMethod;
+import com.hhplus.ecommerce.domain.payment.model.PaymentStatus;
+import com.hhplus.ecommerce.domain.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentStatusQueryService 단위 테스트")
+class PaymentStatusQueryServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @InjectMocks
+    private PaymentStatusQueryService paymentStatusQueryService;
+
+    @Test
+    @DisplayName("PG 호출 중인 결제 대기 결제가 있으면 결제 진행 중")
+    void isPaymentInProgress_RecentPending_True() {
+        // given
+        when(paymentRepository.findByOrderId(1L))
+                .thenReturn(Optional.of(Payment.createPending(10L, 1L, 20000L, PaymentMethod.CARD, "req-1")));
+
+        // when & then
+        assertThat(paymentStatusQueryService.isPaymentInProgress(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("오래된 결제 대기 결제는 중단된 것으로 보고 결제 진행 중이 아님")
+    void isPaymentInProgress_StalePending_False() {
+        // given
+        Payment stalePayment = Payment.builder()
+                .id(10L)
+                .orderId(1L)
+                .amount(20000L)
+                .paymentMethod(PaymentMethod.CARD)
+                .status(PaymentStatus.PENDING)
+                .createdAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+        when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.of(stalePayment));
+
+        // when & then
+        assertThat(paymentStatusQueryService.isPaymentInProgress(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공한 결제는 결제 완료 이벤트 전달 전까지 결제 진행 중")
+    void isPaymentInProgress_Success_True() {
+        // given
+        Payment payment = Payment.createPending(10L, 1L, 20000L, PaymentMethod.CARD, "req-1");
+        payment.markAsSuccess("tx-1");
+        when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.of(payment));
+
+        // when & then
+        assertThat(paymentStatusQueryService.isPaymentInProgress(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("결제가 없으면 결제 진행 중이 아님")
+    void isPaymentInProgress_NoPayment_False() {
+        // given
+        when(paymentRepository.findByOrderId(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(paymentStatusQueryService.isPaymentInProgress(1L)).isFalse();
+    }
+}
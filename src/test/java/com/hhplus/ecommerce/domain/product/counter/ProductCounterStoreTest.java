@@ -0,0 +1,129 @@
+package com.hhplus.ecommerce.domain.product.counter;
+
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
+import com.hhplus.ecommerce.domain.product.popularity.ProductPopularityTracker;
+import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("상품 조회수/판매량 카운터 테스트")
+class ProductCounterStoreTest {
+
+    private ProductRepository productRepository;
+    private ProductPopularityTracker popularityTracker;
+    private ProductCounterStore counterStore;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        popularityTracker = mock(ProductPopularityTracker.class);
+        counterStore = new ProductCounterStore(productRepository, popularityTracker, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterStore.close();
+    }
+
+    @Test
+    @DisplayName("동시 조회 - 증가분이 유실 없이 한 번에 반영된다")
+    void concurrentViews_FlushedWithoutLoss() throws InterruptedException {
+        // given
+        Product product = product(1L, 5, 0);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        int threadCount = 8;
+        int viewsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        counterStore.incrementView(1L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        counterStore.flush();
+
+        // then
+        assertThat(product.getViewCount()).isEqualTo(5 + threadCount * viewsPerThread);
+        verify(productRepository).save(product);
+        verify(popularityTracker).recordViews(product, (long) threadCount * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("판매량 반영 - 반영한 증가분은 다음 반영에 다시 포함되지 않는다")
+    void sales_FlushedOnce() {
+        // given
+        Product product = product(1L, 0, 10);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        counterStore.incrementSales(1L, 3);
+        counterStore.incrementView(1L);
+
+        // when
+        counterStore.flush();
+        counterStore.flush();
+
+        // then
+        assertThat(product.getSalesCount()).isEqualTo(13);
+        assertThat(product.getViewCount()).isEqualTo(1);
+        verify(productRepository).save(product);
+        verify(popularityTracker).recordSales(product, 3L);
+        verify(popularityTracker).recordViews(product, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품의 증가분은 버리고 인기 순위에서도 제거한다")
+    void flush_SkipsMissingProduct() {
+        // given
+        when(productRepository.findById(99L)).thenReturn(Optional.empty());
+        counterStore.incrementView(99L);
+
+        // when
+        counterStore.flush();
+
+        // then
+        verify(productRepository, never()).save(any());
+        verify(popularityTracker, never()).recordViews(any(), anyLong());
+        verify(popularityTracker).remove(99L);
+    }
+
+    private Product product(Long id, int viewCount, int salesCount) {
+        return Product.builder()
+                .id(id)
+                .name("상품-" + id)
+                .price(10000L)
+                .category(ProductCategory.ELECTRONICS)
+                .status(ProductStatus.AVAILABLE)
+                .viewCount(viewCount)
+                .salesCount(salesCount)
+                .build();
+    }
+}
@@ -7,6 +7,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,6 +50,43 @@ class InventoryTest {
         assertThat(availableStock).isEqualTo(70);
     }
 
+    @Test
+    @DisplayName("재고 수준 조회 - 동시에 예약 확정이 일어나도 stock과 reservedStock 짝이 어긋나지 않는다")
+    void getStockLevel_ConsistentUnderConcurrentConfirm() throws InterruptedException {
+        // given - 확정은 stock과 reservedStock을 같은 양만큼 줄이므로 차이가 항상 50000
+        inventory = Inventory.builder()
+                .stock(100_000)
+                .reservedStock(50_000)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < 10_000; j++) {
+                        inventory.confirmReservation(1);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        AtomicInteger torn = new AtomicInteger();
+        while (done.getCount() > 0) {
+            Inventory.StockLevel level = inventory.getStockLevel();
+            if (level.stock() - level.reservedStock() != 50_000) {
+                torn.incrementAndGet();
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(torn.get()).isZero();
+        assertThat(inventory.getStockLevel()).isEqualTo(new Inventory.StockLevel(60_000, 10_000));
+    }
+
     @Test
     @DisplayName("재고 예약 성공")
     void reserve_Success() {
@@ -143,6 +184,21 @@ class InventoryTest {
         assertThat(inventory.getAvailableStock()).isEqualTo(80);
     }
 
+    @Test
+    @DisplayName("예약 확정 되돌리기 - 확정 전 재고와 예약 수량으로 복구")
+    void revertConfirmation_RestoresReservation() {
+        // given
+        inventory.reserve(20);
+        inventory.confirmReservation(20);
+
+        // when
+        inventory.revertConfirmation(20);
+
+        // then
+        assertThat(inventory.getStock()).isEqualTo(100);
+        assertThat(inventory.getReservedStock()).isEqualTo(20);
+    }
+
     @Test
     @DisplayName("예약 확정 실패 - 예약된 재고보다 많이 확정 시도")
     void confirmReservation_ExceedsReserved_ThrowsException() {
@@ -318,4 +374,44 @@ class InventoryTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
     }
+
+    @Test
+    @DisplayName("멀티스레드 동시 예약 - 가용 재고만큼만 예약되고 초과 판매가 발생하지 않는다")
+    void reserve_MultiThreaded_NoOversell() throws InterruptedException {
+        // given
+        inventory = Inventory.builder()
+                .stock(1000)
+                .reservedStock(0)
+                .build();
+        int attemptCount = 5000;
+        int threadCount = 32;
+
+        CountDownLatch latch = new CountDownLatch(attemptCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < attemptCount; i++) {
+            executor.submit(() -> {
+                try {
+                    inventory.reserve(1);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(1000);
+        assertThat(failCount.get()).isEqualTo(attemptCount - 1000);
+        assertThat(inventory.getReservedStock()).isEqualTo(1000);
+        assertThat(inventory.getAvailableStock()).isZero();
+    }
 }
@@ -0,0 +1,158 @@
+package com.hhplus.ecommerce.domain.product.popularity;
+
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
+import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("상품 인기 순위 추적기 테스트")
+class ProductPopularityTrackerTest {
+
+    private ProductRepository productRepository;
+    private ProductPopularityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        tracker = new ProductPopularityTracker(productRepository, 2, Duration.ofHours(3), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.close();
+    }
+
+    @Test
+    @DisplayName("누적 순위 - 저장된 점수로 초기화 후 증가분을 반영해 상위 K개만 유지")
+    void allTime_SeedsAndKeepsTopK() {
+        // given
+        Product first = product(1L, ProductCategory.ELECTRONICS, 100, 0);
+        Product second = product(2L, ProductCategory.ELECTRONICS, 50, 0);
+        Product third = product(3L, ProductCategory.FOOD, 10, 0);
+        when(productRepository.findAll()).thenReturn(List.of(first, second, third));
+        tracker.reload();
+
+        // when
+        tracker.recordSales(third, 10);  // 10 + 100
+
+        // then
+        assertThat(tracker.findTopIds(null, PopularityType.ALL_TIME, 0, 10)).containsExactly(3L, 1L);
+        assertThat(tracker.findTopIds(ProductCategory.ELECTRONICS, PopularityType.ALL_TIME, 0, 10)).containsExactly(1L, 2L);
+        assertThat(tracker.findTopIds(ProductCategory.FOOD, PopularityType.ALL_TIME, 0, 10)).containsExactly(3L);
+        assertThat(tracker.rankedCount(null, PopularityType.ALL_TIME)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근 순위 - 구간이 지나면 오래된 증가분이 빠지고 순위가 다시 계산된다")
+    void trending_DropsExpiredBuckets() {
+        // given
+        Product old = product(1L, ProductCategory.ELECTRONICS, 0, 0);
+        Product fresh = product(2L, ProductCategory.ELECTRONICS, 0, 0);
+        tracker.recordSales(old, 1);         // 10점, 첫 구간
+        tracker.rotate();
+        tracker.recordViews(fresh, 2);       // 2점, 두 번째 구간
+
+        // when
+        List<Long> beforeExpiry = tracker.findTopIds(null, PopularityType.TRENDING, 0, 10);
+        tracker.rotate();
+        tracker.rotate();                    // 첫 구간 만료
+
+        // then
+        assertThat(beforeExpiry).containsExactly(1L, 2L);
+        assertThat(tracker.findTopIds(null, PopularityType.TRENDING, 0, 10)).containsExactly(2L);
+        assertThat(tracker.findTopIds(null, PopularityType.ALL_TIME, 0, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("동점이면 ID 역순 (상품 정렬 인덱스의 인기순과 같은 순서)")
+    void ranking_BreaksTiesByIdDescending() {
+        // given
+        tracker.recordViews(product(1L, ProductCategory.FOOD, 0, 0), 1);
+        tracker.recordViews(product(2L, ProductCategory.FOOD, 0, 0), 1);
+        tracker.recordViews(product(3L, ProductCategory.FOOD, 0, 0), 1);
+
+        // when
+        List<Long> ids = tracker.findTopIds(ProductCategory.FOOD, PopularityType.ALL_TIME, 0, 10);
+
+        // then
+        assertThat(ids).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("카테고리가 바뀐 상품은 이전 카테고리 순위에서 빠지고 새 카테고리 순위에 오른다")
+    void ranking_CategoryChanged_MovesBetweenCategories() {
+        // given
+        tracker.recordViews(product(1L, ProductCategory.FOOD, 0, 0), 5);
+        tracker.recordViews(product(2L, ProductCategory.FOOD, 0, 0), 1);
+
+        // when
+        tracker.recordViews(product(1L, ProductCategory.FASHION, 5, 0), 1);
+
+        // then
+        for (PopularityType type : PopularityType.values()) {
+            assertThat(tracker.findTopIds(ProductCategory.FOOD, type, 0, 10)).containsExactly(2L);
+            assertThat(tracker.findTopIds(ProductCategory.FASHION, type, 0, 10)).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 모든 순위에서 빠지고 다음 순위 상품이 자리를 채운다")
+    void remove_DeletedProduct_DroppedFromRankings() {
+        // given (top-k 2)
+        Product first = product(1L, ProductCategory.FOOD, 30, 0);
+        Product second = product(2L, ProductCategory.FOOD, 20, 0);
+        Product third = product(3L, ProductCategory.FOOD, 10, 0);
+        when(productRepository.findAll()).thenReturn(List.of(first, second, third));
+        tracker.reload();
+        tracker.recordViews(first, 1);
+
+        // when
+        tracker.remove(1L);
+
+        // then
+        assertThat(tracker.findTopIds(null, PopularityType.ALL_TIME, 0, 10)).containsExactly(2L, 3L);
+        assertThat(tracker.findTopIds(ProductCategory.FOOD, PopularityType.ALL_TIME, 0, 10)).containsExactly(2L, 3L);
+        assertThat(tracker.findTopIds(null, PopularityType.TRENDING, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 저장소에서 삭제된 상품을 순위에서 제거한다")
+    void reload_DropsDeletedProducts() {
+        // given
+        Product first = product(1L, ProductCategory.FOOD, 30, 0);
+        Product second = product(2L, ProductCategory.FOOD, 20, 0);
+        when(productRepository.findAll()).thenReturn(List.of(first, second));
+        tracker.reload();
+
+        // when
+        when(productRepository.findAll()).thenReturn(List.of(second));
+        tracker.reload();
+
+        // then
+        assertThat(tracker.findTopIds(null, PopularityType.ALL_TIME, 0, 10)).containsExactly(2L);
+        assertThat(tracker.findTopIds(ProductCategory.FOOD, PopularityType.ALL_TIME, 0, 10)).containsExactly(2L);
+    }
+
+    private Product product(Long id, ProductCategory category, int viewCount, int salesCount) {
+        return Product.builder()
+                .id(id)
+                .name("상품-" + id)
+                .price(10000L)
+                .category(category)
+                .status(ProductStatus.AVAILABLE)
+                .viewCount(viewCount)
+                .salesCount(salesCount)
+                .build();
+    }
+}
@@ -1,16 +1,27 @@
 package com.hhplus.ecommerce.domain.product.service;
 
+import com.hhplus.ecommerce.domain.product.counter.ProductCounterStore;
+import com.hhplus.ecommerce.domain.product.dto.ProductFacetResponse;
 import com.hhplus.ecommerce.domain.product.dto.ProductResponse;
 import com.hhplus.ecommerce.domain.product.exception.ProductErrorCode;
 import com.hhplus.ecommerce.domain.product.model.Inventory;
 import com.hhplus.ecommerce.domain.product.model.product.Product;
 import com.hhplus.ecommerce.domain.product.model.product.ProductCategory;
+import com.hhplus.ecommerce.domain.product.model.product.ProductFacets;
+import com.hhplus.ecommerce.domain.product.model.product.ProductPriceBucket;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchCondition;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSearchResult;
+import com.hhplus.ecommerce.domain.product.model.product.ProductSort;
 import com.hhplus.ecommerce.domain.product.model.product.ProductStatus;
+import com.hhplus.ecommerce.domain.product.popularity.PopularityType;
+import com.hhplus.ecommerce.domain.product.popularity.ProductPopularityTracker;
 import com.hhplus.ecommerce.domain.product.repository.InventoryRepository;
 import com.hhplus.ecommerce.domain.product.repository.ProductRepository;
+import com.hhplus.ecommerce.global.dto.CursorResult;
 import com.hhplus.ecommerce.global.dto.PageMeta;
 import com.hhplus.ecommerce.global.dto.PagedResult;
 import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.exception.CommonErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,10 +32,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +54,12 @@ class ProductServiceTest {
     @Mock
     private InventoryRepository inventoryRepository;
 
+    @Mock
+    private ProductPopularityTracker popularityTracker;
+
+    @Mock
+    private ProductCounterStore counterStore;
+
     @InjectMocks
     private ProductService productService;
 
@@ -116,14 +138,17 @@ class ProductServiceTest {
         assertThat(response.stock()).isEqualTo(100);
         verify(productRepository).findById(1L);
         verify(inventoryRepository).findByProductId(1L);
+        verify(counterStore).incrementView(1L);
     }
 
     @Test
     @DisplayName("상품 목록 조회 성공 (카테고리/상태 필터링)")
     void getProducts_Filtered_Success() {
         // given
-        when(productRepository.findAll()).thenReturn(List.of(testProduct));
-        when(inventoryRepository.findAll()).thenReturn(List.of(testInventory));
+        when(productRepository.count(ProductCategory.ELECTRONICS, ProductStatus.AVAILABLE)).thenReturn(1);
+        when(productRepository.findPage(ProductCategory.ELECTRONICS, ProductStatus.AVAILABLE, ProductSort.ID_ASC, 0, 10))
+                .thenReturn(List.of(testProduct));
+        when(inventoryRepository.findByProductId(1L)).thenReturn(Optional.of(testInventory));
 
         // when
         PagedResult<ProductResponse> result = productService.getProducts(
@@ -134,8 +159,145 @@ class ProductServiceTest {
         assertThat(result.content()).hasSize(1);
         assertThat(result.content().get(0).name()).isEqualTo("테스트 상품");
         assertThat(result.meta()).isInstanceOf(PageMeta.class);
-        verify(productRepository).findAll();
-        verify(inventoryRepository).findAll();
+        verify(productRepository, never()).findAll();
+        verify(inventoryRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("상품 검색 성공 - 검색 결과 구간과 전체 일치 건수로 페이지 구성")
+    void searchProducts_Success() {
+        // given
+        ProductSearchCondition condition = new ProductSearchCondition("테스트", ProductCategory.ELECTRONICS, null, 5000L, 20000L);
+        when(productRepository.search(condition, ProductSort.ID_ASC, 10, 10))
+                .thenReturn(new ProductSearchResult(List.of(testProduct), 11));
+        when(inventoryRepository.findByProductId(1L)).thenReturn(Optional.of(testInventory));
+
+        // when
+        PagedResult<ProductResponse> result = productService.searchProducts(condition, null, 1, 10);
+
+        // then
+        assertThat(result.content()).extracting(ProductResponse::name).containsExactly("테스트 상품");
+        assertThat(result.meta().totalElements()).isEqualTo(11);
+        assertThat(result.meta().totalPages()).isEqualTo(2);
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("상품 검색 실패 - 최소 가격이 최대 가격보다 큼")
+    void searchProducts_InvalidPriceRange_ThrowsException() {
+        // given
+        ProductSearchCondition condition = new ProductSearchCondition(null, null, null, 20000L, 10000L);
+
+        // when & then
+        assertThatThrownBy(() -> productService.searchProducts(condition, null, 0, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INVALID_PRICE_RANGE);
+        verify(productRepository, never()).search(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("상품 패싯 조회 - 집계된 건수를 그대로 사용하고 브랜드는 상품 수 내림차순")
+    void getProductFacets_Success() {
+        // given
+        when(productRepository.countFacets(ProductCategory.ELECTRONICS, null)).thenReturn(new ProductFacets(
+                Map.of(ProductCategory.ELECTRONICS, 3, ProductCategory.FOOD, 1),
+                Map.of(ProductStatus.AVAILABLE, 3),
+                Map.of("삼성", 1, "Apple", 2),
+                Map.of(ProductPriceBucket.OVER_1M, 2, ProductPriceBucket.FROM_500K_TO_1M, 1)
+        ));
+
+        // when
+        ProductFacetResponse response = productService.getProductFacets(ProductCategory.ELECTRONICS, null);
+
+        // then
+        assertThat(response.categories())
+                .extracting(ProductFacetResponse.FacetCount::value, ProductFacetResponse.FacetCount::count)
+                .contains(tuple("ELECTRONICS", 3), tuple("FOOD", 1), tuple("FASHION", 0));
+        assertThat(response.brands())
+                .extracting(ProductFacetResponse.FacetCount::value)
+                .containsExactly("Apple", "삼성");
+        assertThat(response.priceRanges())
+                .hasSize(ProductPriceBucket.values().length)
+                .filteredOn(range -> range.range().equals("OVER_1M"))
+                .singleElement()
+                .satisfies(range -> {
+                    assertThat(range.minPrice()).isEqualTo(1_000_000L);
+                    assertThat(range.maxPrice()).isNull();
+                    assertThat(range.count()).isEqualTo(2);
+                });
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 요청한 페이지 구간만 정렬 인덱스에서 조회")
+    void getProducts_ReadsOnlyRequestedPage() {
+        // given
+        when(productRepository.count(null, null)).thenReturn(45);
+        when(productRepository.findPage(null, null, ProductSort.PRICE_DESC, 40, 20)).thenReturn(List.of(testProduct));
+        when(inventoryRepository.findByProductId(1L)).thenReturn(Optional.of(testInventory));
+
+        // when
+        PagedResult<ProductResponse> result = productService.getProducts(null, null, "price,desc", 2, 20);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.meta()).isEqualTo(new PageMeta(2, 20, 45, 3));
+        verify(productRepository).findPage(null, null, ProductSort.PRICE_DESC, 40, 20);
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 - 다음 페이지는 마지막 상품의 정렬 키 이후부터 조회")
+    void getProductsByCursor_FollowsNextCursor() {
+        // given
+        Product cheaper = Product.builder()
+                .id(2L)
+                .name("저렴한 상품")
+                .price(5000L)
+                .category(ProductCategory.ELECTRONICS)
+                .status(ProductStatus.AVAILABLE)
+                .build();
+        Product pricier = Product.builder()
+                .id(3L)
+                .name("비싼 상품")
+                .price(20000L)
+                .category(ProductCategory.ELECTRONICS)
+                .status(ProductStatus.AVAILABLE)
+                .build();
+
+        when(productRepository.findPage(null, null, ProductSort.PRICE_ASC, 0, 2)).thenReturn(List.of(cheaper, testProduct));
+        when(productRepository.findPageAfter(null, null, ProductSort.PRICE_ASC, 5000L, 2L, 2)).thenReturn(List.of(testProduct, pricier));
+        when(inventoryRepository.findByProductId(any())).thenReturn(Optional.of(testInventory));
+
+        // when
+        CursorResult<ProductResponse> first = productService.getProductsByCursor(null, null, "price,asc", "", 1);
+        CursorResult<ProductResponse> second = productService.getProductsByCursor(null, null, "price,asc", first.meta().nextCursor(), 1);
+
+        // then
+        assertThat(first.content()).extracting(ProductResponse::name).containsExactly("저렴한 상품");
+        assertThat(first.meta().hasNext()).isTrue();
+        assertThat(second.content()).extracting(ProductResponse::name).containsExactly("테스트 상품");
+        verify(productRepository, never()).count(any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 실패 - 다른 정렬 기준의 커서")
+    void getProductsByCursor_CursorOfOtherSort_ThrowsException() {
+        // given
+        Product cheaper = Product.builder()
+                .id(2L)
+                .name("저렴한 상품")
+                .price(5000L)
+                .category(ProductCategory.ELECTRONICS)
+                .status(ProductStatus.AVAILABLE)
+                .build();
+        when(productRepository.findPage(null, null, ProductSort.PRICE_ASC, 0, 2)).thenReturn(List.of(cheaper, testProduct));
+        when(inventoryRepository.findByProductId(any())).thenReturn(Optional.of(testInventory));
+        String priceCursor = productService.getProductsByCursor(null, null, "price,asc", "", 1).meta().nextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> productService.getProductsByCursor(null, null, "name,asc", priceCursor, 1))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_CURSOR);
     }
 
     @Test
@@ -191,8 +353,56 @@ class ProductServiceTest {
     }
 
     @Test
-    @DisplayName("상품 상세 조회 시 조회수 증가")
-    void getProductDetail_IncrementsViewCount() {
+    @DisplayName("재고 일괄 예약 성공 - 모든 상품 예약 후 저장")
+    void reserveStocks_Success() {
+        // given
+        Inventory secondInventory = Inventory.builder()
+                .id(2L)
+                .productId(2L)
+                .stock(10)
+                .reservedStock(0)
+                .lowStockThreshold(1)
+                .build();
+
+        when(inventoryRepository.findAllByProductIds(any())).thenReturn(List.of(secondInventory, testInventory));
+
+        // when
+        productService.reserveStocks(Map.of(1L, 3, 2L, 5));
+
+        // then
+        assertThat(testInventory.getReservedStock()).isEqualTo(3);
+        assertThat(secondInventory.getReservedStock()).isEqualTo(5);
+        verify(inventoryRepository).save(testInventory);
+        verify(inventoryRepository).save(secondInventory);
+    }
+
+    @Test
+    @DisplayName("재고 일괄 예약 실패 - 한 상품이라도 재고가 부족하면 앞서 예약한 수량을 해제")
+    void reserveStocks_InsufficientStock_RollsBack() {
+        // given
+        Inventory secondInventory = Inventory.builder()
+                .id(2L)
+                .productId(2L)
+                .stock(1)
+                .reservedStock(0)
+                .lowStockThreshold(1)
+                .build();
+
+        when(inventoryRepository.findAllByProductIds(any())).thenReturn(List.of(testInventory, secondInventory));
+
+        // when & then
+        assertThatThrownBy(() -> productService.reserveStocks(Map.of(1L, 3, 2L, 5)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
+
+        assertThat(testInventory.getReservedStock()).isZero();
+        assertThat(secondInventory.getReservedStock()).isZero();
+        verify(inventoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 시 조회수는 카운터에만 더하고 상품은 저장하지 않음")
+    void getProductDetail_IncrementsViewCounter() {
         // given
         Product productWithoutViews = Product.builder()
                 .id(1L)
@@ -214,12 +424,13 @@ class ProductServiceTest {
         productService.getProductDetail(1L);
 
         // then
-        assertThat(productWithoutViews.getViewCount()).isEqualTo(6);
-        verify(productRepository).save(productWithoutViews);
+        assertThat(productWithoutViews.getViewCount()).isEqualTo(5);
+        verify(counterStore).incrementView(1L);
+        verify(productRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("판매량 증가 성공")
+    @DisplayName("판매량 증가 성공 - 카운터에 더하고 상품은 주기적으로 반영")
     void incrementSalesCount_Success() {
         // given
         Product productWithSales = Product.builder()
@@ -241,8 +452,9 @@ class ProductServiceTest {
         productService.incrementSalesCount(1L, 3);
 
         // then
-        assertThat(productWithSales.getSalesCount()).isEqualTo(13);
-        verify(productRepository).save(productWithSales);
+        assertThat(productWithSales.getSalesCount()).isEqualTo(10);
+        verify(counterStore).incrementSales(1L, 3);
+        verify(productRepository, never()).save(any());
     }
 
     @Test
@@ -282,12 +494,11 @@ class ProductServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(productRepository.findAll()).thenReturn(List.of(product1, product2, product3));
-        when(inventoryRepository.findAll()).thenReturn(List.of(
-                testInventory,
-                Inventory.builder().id(2L).productId(2L).stock(100).reservedStock(0).lowStockThreshold(10).createdAt(LocalDateTime.now()).build(),
-                Inventory.builder().id(3L).productId(3L).stock(100).reservedStock(0).lowStockThreshold(10).createdAt(LocalDateTime.now()).build()
-        ));
+        // 정렬 인덱스 순서: 점수 내림차순, 동점이면 ID 역순 (product2 600 → product1 600 → product3 100)
+        when(productRepository.count(null, null)).thenReturn(3);
+        when(productRepository.findPage(null, null, ProductSort.POPULAR_DESC, 0, 10))
+                .thenReturn(List.of(product2, product1, product3));
+        when(inventoryRepository.findByProductId(any())).thenReturn(Optional.of(testInventory));
 
         // when
         PagedResult<ProductResponse> result = productService.getPopularProducts(0, 10, "popular");
@@ -295,6 +506,43 @@ class ProductServiceTest {
         // then
         assertThat(result.content()).hasSize(3);
         assertThat(result.content().get(2).name()).isEqualTo("낮은 인기 상품");
+        verify(productRepository).findPage(null, null, ProductSort.POPULAR_DESC, 0, 10);
+    }
+
+    @Test
+    @DisplayName("인기 상품 조회 - 상위 K개 이내 페이지는 인기 순위 추적기에서 조회")
+    void getPopularProducts_WithinTopK_ReadsFromTracker() {
+        // given
+        when(popularityTracker.rankedCount(ProductCategory.ELECTRONICS, PopularityType.ALL_TIME)).thenReturn(100);
+        when(popularityTracker.findTopIds(ProductCategory.ELECTRONICS, PopularityType.ALL_TIME, 10, 10)).thenReturn(List.of(1L));
+        when(productRepository.count(ProductCategory.ELECTRONICS, null)).thenReturn(500);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(inventoryRepository.findByProductId(1L)).thenReturn(Optional.of(testInventory));
+
+        // when
+        PagedResult<ProductResponse> result = productService.getPopularProducts(ProductCategory.ELECTRONICS, 1, 10, "popular");
+
+        // then
+        assertThat(result.content()).extracting(ProductResponse::name).containsExactly("테스트 상품");
+        assertThat(result.meta().totalElements()).isEqualTo(500);
+        verify(productRepository, never()).findPage(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("인기 상품 조회 - 최근 점수 기준은 인기 순위 추적기의 최근 순위로 조회")
+    void getPopularProducts_Trending_ReadsTrendingRanking() {
+        // given
+        when(popularityTracker.rankedCount(null, PopularityType.TRENDING)).thenReturn(1);
+        when(popularityTracker.findTopIds(null, PopularityType.TRENDING, 0, 10)).thenReturn(List.of(1L));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(inventoryRepository.findByProductId(1L)).thenReturn(Optional.of(testInventory));
+
+        // when
+        PagedResult<ProductResponse> result = productService.getPopularProducts(0, 10, "trending");
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.meta().totalElements()).isEqualTo(1);
     }
 
     @Test
@@ -323,11 +571,9 @@ class ProductServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(productRepository.findAll()).thenReturn(List.of(product2, product1));
-        when(inventoryRepository.findAll()).thenReturn(List.of(
-                testInventory,
-                Inventory.builder().id(2L).productId(2L).stock(100).reservedStock(0).lowStockThreshold(10).createdAt(LocalDateTime.now()).build()
-        ));
+        when(productRepository.count(null, null)).thenReturn(2);
+        when(productRepository.findPage(null, null, ProductSort.VIEWS_DESC, 0, 10)).thenReturn(List.of(product1, product2));
+        when(inventoryRepository.findByProductId(any())).thenReturn(Optional.empty());
 
         // when
         PagedResult<ProductResponse> result = productService.getPopularProducts(0, 10, "views");
@@ -364,11 +610,9 @@ class ProductServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(productRepository.findAll()).thenReturn(List.of(product2, product1));
-        when(inventoryRepository.findAll()).thenReturn(List.of(
-                testInventory,
-                Inventory.builder().id(2L).productId(2L).stock(100).reservedStock(0).lowStockThreshold(10).createdAt(LocalDateTime.now()).build()
-        ));
+        when(productRepository.count(null, null)).thenReturn(2);
+        when(productRepository.findPage(null, null, ProductSort.SALES_DESC, 0, 10)).thenReturn(List.of(product1, product2));
+        when(inventoryRepository.findByProductId(any())).thenReturn(Optional.empty());
 
         // when
         PagedResult<ProductResponse> result = productService.getPopularProducts(0, 10, "sales");
@@ -0,0 +1,110 @@
+package com.hhplus.ecommerce.external.pg;
+
+import com.hhplus.ecommerce.external.pg.PaymentGatewaySimulator.Decision;
+import com.hhplus.ecommerce.external.pg.PaymentGatewaySimulator.Fault;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("모의 PG 프로파일 테스트")
+class PaymentGatewaySimulatorTest {
+
+    // 60초 주기 중 처음 10초가 브라운아웃 (기본 시각은 브라운아웃 밖)
+    private final AtomicLong now = new AtomicLong(30_000L);
+
+    @Test
+    @DisplayName("시드가 같으면 같은 요청은 호출 순서와 무관하게 같은 결과를 낸다")
+    void decide_SameSeed_Deterministic() {
+        // given
+        PaymentGatewaySimulator first = simulator(42L, PgLatencyDistribution.LOGNORMAL, 0.1, 0.1, 0.1, 0);
+        PaymentGatewaySimulator second = simulator(42L, PgLatencyDistribution.LOGNORMAL, 0.1, 0.1, 0.1, 0);
+
+        // when
+        Decision later = LongStream.rangeClosed(1, 100).mapToObj(id -> first.decide(id, 1000L)).toList().get(49);
+        Decision direct = second.decide(50L, 1000L);
+
+        // then
+        assertThat(direct.fault()).isEqualTo(later.fault());
+        assertThat(direct.latencyMillis()).isEqualTo(later.latencyMillis());
+        assertThat(direct.approved()).isEqualTo(later.approved());
+    }
+
+    @Test
+    @DisplayName("장애 비율대로 타임아웃/연결 끊김/서버 오류가 섞여 나온다")
+    void decide_FaultRates_Applied() {
+        // given
+        PaymentGatewaySimulator simulator = simulator(7L, PgLatencyDistribution.NONE, 0.1, 0.2, 0.3, 0);
+
+        // when
+        long[] counts = new long[Fault.values().length];
+        for (long orderId = 1; orderId <= 10_000; orderId++) {
+            counts[simulator.decide(orderId, 1000L).fault().ordinal()]++;
+        }
+
+        // then
+        assertThat(counts[Fault.TIMEOUT.ordinal()]).isBetween(800L, 1200L);
+        assertThat(counts[Fault.CONNECTION_RESET.ordinal()]).isBetween(1700L, 2300L);
+        assertThat(counts[Fault.SERVER_ERROR.ordinal()]).isBetween(2600L, 3400L);
+    }
+
+    @Test
+    @DisplayName("타임아웃은 설정한 타임아웃 시간만큼 응답하지 않는다")
+    void decide_Timeout_UsesTimeoutDelay() {
+        // given
+        PaymentGatewaySimulator simulator = simulator(1L, PgLatencyDistribution.FIXED, 1.0, 0, 0, 0);
+
+        // when
+        Decision decision = simulator.decide(1L, 1000L);
+
+        // then
+        assertThat(decision.fault()).isEqualTo(Fault.TIMEOUT);
+        assertThat(decision.latencyMillis()).isEqualTo(30_000L);
+    }
+
+    @Test
+    @DisplayName("브라운아웃 구간에서는 지연이 늘고 서버 오류 비율이 올라간다")
+    void decide_Brownout_DegradesResponses() {
+        // given
+        PaymentGatewaySimulator simulator = simulator(3L, PgLatencyDistribution.FIXED, 0, 0, 0, 1.0);
+
+        // when
+        now.set(65_000L);
+        Decision inBrownout = simulator.decide(1L, 1000L);
+        now.set(75_000L);
+        Decision normal = simulator.decide(1L, 1000L);
+
+        // then
+        assertThat(inBrownout.fault()).isEqualTo(Fault.SERVER_ERROR);
+        assertThat(inBrownout.latencyMillis()).isEqualTo(1000L);
+        assertThat(normal.fault()).isEqualTo(Fault.NONE);
+        assertThat(normal.latencyMillis()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("긴 꼬리 분포는 꼬리 지연이 나오되 꼬리 기준의 10배를 넘지 않는다")
+    void decide_LongTail_Bounded() {
+        // given
+        PaymentGatewaySimulator simulator = simulator(11L, PgLatencyDistribution.LONG_TAIL, 0, 0, 0, 0);
+
+        // when
+        long max = LongStream.rangeClosed(1, 10_000)
+                .map(orderId -> simulator.decide(orderId, 1000L).latencyMillis())
+                .max().orElseThrow();
+
+        // then
+        assertThat(max).isGreaterThanOrEqualTo(5_000L).isLessThanOrEqualTo(50_000L);
+    }
+
+    private PaymentGatewaySimulator simulator(Long seed, PgLatencyDistribution distribution,
+                                              double timeoutRate, double resetRate, double errorRate,
+                                              double brownoutErrorRate) {
+        return new PaymentGatewaySimulator(seed, 0.8, distribution, Duration.ofMillis(200), 0.5, 0.01,
+                Duration.ofSeconds(5), timeoutRate, Duration.ofSeconds(30), resetRate, errorRate,
+                Duration.ofSeconds(60), Duration.ofSeconds(10), 5, brownoutErrorRate, now::get);
+    }
+}
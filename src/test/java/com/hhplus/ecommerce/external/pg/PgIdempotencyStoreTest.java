@@ -0,0 +1,98 @@
+package com.hhplus.ecommerce.external.pg;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("모의 PG 멱등성 저장소 테스트")
+class PgIdempotencyStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    @Test
+    @DisplayName("같은 주문 ID와 금액의 결과는 먼저 저장된 결과를 돌려준다")
+    void putIfAbsent_SameRequest_ReturnsFirstResult() {
+        // given
+        PgIdempotencyStore store = new PgIdempotencyStore(10, Duration.ofMinutes(1), now::get);
+        PgPaymentResult first = PgPaymentResult.approved(1L, 1000L, "CARD", "TXN-1", now.get());
+
+        // when
+        store.putIfAbsent(first);
+        PgPaymentResult second = store.putIfAbsent(PgPaymentResult.declined(1L, 1000L, "CARD", "잔액 부족", now.get()));
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(store.find(1L, 1000L)).contains(first);
+        assertThat(store.find(1L, 2000L)).isEmpty();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 결과는 조회되지 않고 다음 저장 때 제거된다")
+    void find_Expired_Evicted() {
+        // given
+        PgIdempotencyStore store = new PgIdempotencyStore(10, Duration.ofSeconds(10), now::get);
+        store.putIfAbsent(PgPaymentResult.approved(1L, 1000L, "CARD", "TXN-1", now.get()));
+
+        // when
+        now.addAndGet(Duration.ofSeconds(10).toMillis());
+        store.putIfAbsent(PgPaymentResult.approved(2L, 1000L, "CARD", "TXN-2", now.get()));
+
+        // then
+        assertThat(store.find(1L, 1000L)).isEmpty();
+        assertThat(store.find(2L, 1000L)).isPresent();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 결과가 있는 요청은 새 결과로 교체된다")
+    void putIfAbsent_ExpiredSameRequest_Replaced() {
+        // given
+        PgIdempotencyStore store = new PgIdempotencyStore(10, Duration.ofSeconds(10), now::get);
+        store.putIfAbsent(PgPaymentResult.declined(1L, 1000L, "CARD", "잔액 부족", now.get()));
+        now.addAndGet(Duration.ofSeconds(11).toMillis());
+
+        // when
+        PgPaymentResult replaced = store.putIfAbsent(PgPaymentResult.approved(1L, 1000L, "CARD", "TXN-1", now.get()));
+
+        // then
+        assertThat(replaced.success()).isTrue();
+        assertThat(store.find(1L, 1000L)).contains(replaced);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("capacity를 넘으면 가장 먼저 저장된 결과부터 제거한다")
+    void putIfAbsent_OverCapacity_EvictsOldest() {
+        // given
+        PgIdempotencyStore store = new PgIdempotencyStore(3, Duration.ofMinutes(1), now::get);
+
+        // when
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            store.putIfAbsent(PgPaymentResult.approved(orderId, 1000L, "CARD", "TXN-" + orderId, now.get()));
+        }
+
+        // then
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.find(1L, 1000L)).isEmpty();
+        assertThat(store.find(2L, 1000L)).isEmpty();
+        assertThat(store.find(5L, 1000L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("응답 변환 - 승인은 거래 ID와 결제 시각, 거절은 실패 시각을 포함한다")
+    void toResponse_ContainsOutcomeFields() {
+        // when
+        var approved = PgPaymentResult.approved(1L, 1000L, "CARD", "TXN-1", now.get()).toResponse();
+        var declined = PgPaymentResult.declined(1L, 1000L, "CARD", "잔액 부족", now.get()).toResponse();
+
+        // then
+        assertThat(approved).containsEntry("success", true).containsEntry("transactionId", "TXN-1").containsKey("paidAt");
+        assertThat(declined).containsEntry("success", false).containsEntry("message", "잔액 부족").containsKey("failedAt")
+                .doesNotContainKey("transactionId");
+    }
+}
@@ -0,0 +1,202 @@
+package com.hhplus.ecommerce.global.event;
+
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.exception.CommonErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("도메인 이벤트 버스 테스트")
+class DomainEventBusTest {
+
+    private DomainEventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.close();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키의 이벤트는 발행 순서대로 전달된다")
+    void publish_SameKey_DeliveredInOrder() throws InterruptedException {
+        // given
+        Map<Long, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(300);
+        eventBus = newBus(event -> {
+            TestEvent testEvent = (TestEvent) event;
+            received.computeIfAbsent(testEvent.key(), k -> new CopyOnWriteArrayList<>()).add(testEvent.sequence());
+            latch.countDown();
+        }, new DeadLetterStore(10), 3);
+        eventBus.start();
+
+        // when
+        for (int sequence = 0; sequence < 100; sequence++) {
+            for (long key = 1; key <= 3; key++) {
+                eventBus.publish(key, new TestEvent(key, sequence));
+            }
+        }
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        received.values().forEach(sequences -> assertThat(sequences).isSorted().hasSize(100));
+    }
+
+    @Test
+    @DisplayName("일시적 실패는 재시도하여 처리한다")
+    void publish_TransientFailure_Retried() throws InterruptedException {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        DeadLetterStore deadLetterStore = new DeadLetterStore(10);
+        eventBus = newBus(event -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new RuntimeException("일시적 오류");
+            }
+            delivered.countDown();
+        }, deadLetterStore, 3);
+        eventBus.start();
+
+        // when
+        eventBus.publish(1L, new TestEvent(1L, 0));
+
+        // then
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(deadLetterStore.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 실패하면 데드레터로 보관하고 다음 이벤트는 계속 처리한다")
+    void publish_RetriesExhausted_MovedToDeadLetter() throws InterruptedException {
+        // given
+        DeadLetterStore deadLetterStore = new DeadLetterStore(10);
+        CountDownLatch nextDelivered = new CountDownLatch(1);
+        eventBus = newBus(event -> {
+            if (((TestEvent) event).sequence() == 0) {
+                throw new RuntimeException("계속 실패");
+            }
+            nextDelivered.countDown();
+        }, deadLetterStore, 3);
+        eventBus.start();
+
+        // when
+        eventBus.publish(1L, new TestEvent(1L, 0));
+        eventBus.publish(1L, new TestEvent(1L, 1));
+
+        // then
+        assertThat(nextDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(deadLetterStore.findAll()).singleElement()
+                .satisfies(deadLetter -> {
+                    assertThat(deadLetter.key()).isEqualTo(1L);
+                    assertThat(deadLetter.attempts()).isEqualTo(3);
+                    assertThat(deadLetter.reason()).isEqualTo("계속 실패");
+                });
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 재시도하지 않고 바로 데드레터로 보관한다")
+    void publish_BusinessException_NotRetried() throws InterruptedException {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        DeadLetterStore deadLetterStore = new DeadLetterStore(10);
+        CountDownLatch failed = new CountDownLatch(1);
+        eventBus = newBus(event -> {
+            attempts.incrementAndGet();
+            failed.countDown();
+            throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+        }, deadLetterStore, 5);
+        eventBus.start();
+
+        // when
+        eventBus.publish(1L, new TestEvent(1L, 0));
+
+        // then
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        eventBus.close();
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(deadLetterStore.findAll()).extracting(DeadLetter::attempts).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드를 막지 않고 데드레터로 보관하며, 재발행하면 다시 전달된다")
+    void publish_QueueFull_MovedToDeadLetterAndRedriven() {
+        // given (시작 전이라 전달되지 않고 큐에만 쌓임)
+        List<Object> received = new CopyOnWriteArrayList<>();
+        DeadLetterStore deadLetterStore = new DeadLetterStore(10);
+        eventBus = new DomainEventBus(received::add, deadLetterStore, 1, 2, 1,
+                Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofMillis(10));
+
+        // when
+        eventBus.publish(1L, new TestEvent(1L, 0));
+        eventBus.publish(1L, new TestEvent(1L, 1));
+        eventBus.publish(1L, new TestEvent(1L, 2));
+
+        // then
+        assertThat(eventBus.pendingCount()).isEqualTo(2);
+        assertThat(deadLetterStore.findAll()).extracting(DeadLetter::attempts).containsExactly(0);
+
+        eventBus.close();
+        assertThat(received).containsExactly(new TestEvent(1L, 0), new TestEvent(1L, 1));
+        assertThat(eventBus.redriveDeadLetters()).isEqualTo(1);
+        assertThat(eventBus.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("콜백을 넘긴 이벤트는 성공/실패를 콜백으로 알리고 데드레터 저장소에 넣지 않는다")
+    void publish_WithCallback_NotifiesInsteadOfDeadLetter() throws InterruptedException {
+        // given
+        DeadLetterStore deadLetterStore = new DeadLetterStore(10);
+        List<String> outcomes = new CopyOnWriteArrayList<>();
+        CountDownLatch handled = new CountDownLatch(2);
+        eventBus = newBus(event -> {
+            if (((TestEvent) event).sequence() == 1) {
+                throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+            }
+        }, deadLetterStore, 3);
+        eventBus.start();
+        DeliveryCallback callback = new DeliveryCallback() {
+            @Override
+            public void onDelivered() {
+                outcomes.add("delivered");
+                handled.countDown();
+            }
+
+            @Override
+            public void onFailed(DeadLetter deadLetter) {
+                outcomes.add("failed:" + deadLetter.attempts());
+                handled.countDown();
+            }
+        };
+
+        // when
+        eventBus.publish(1L, new TestEvent(1L, 0), callback);
+        eventBus.publish(1L, new TestEvent(1L, 1), callback);
+
+        // then
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(outcomes).containsExactly("delivered", "failed:1");
+        assertThat(deadLetterStore.findAll()).isEmpty();
+    }
+
+    private DomainEventBus newBus(ApplicationEventPublisher publisher, DeadLetterStore deadLetterStore, int maxAttempts) {
+        return new DomainEventBus(publisher, deadLetterStore, 2, 1024, maxAttempts,
+                Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
+    private record TestEvent(Long key, int sequence) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.hhplus.ecommerce.global.outbox;
+
+import com.hhplus.ecommerce.domain.payment.event.PaymentCompletedEvent;
+import com.hhplus.ecommerce.domain.payment.event.PaymentFailedEvent;
+import com.hhplus.ecommerce.global.event.DeadLetterStore;
+import com.hhplus.ecommerce.global.event.DomainEventBus;
+import com.hhplus.ecommerce.global.exception.BusinessException;
+import com.hhplus.ecommerce.global.exception.CommonErrorCode;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("아웃박스 릴레이 테스트")
+class OutboxRelayTest {
+
+    private final InMemoryOutboxRepository outboxRepository = new InMemoryOutboxRepository();
+    private final List<Object> delivered = new CopyOnWriteArrayList<>();
+    private DomainEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryDataStore.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.close();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 주문의 메시지를 기록 순으로 하나씩 전달하고 전달이 끝나면 삭제한다")
+    void relay_DeliversAndDeletes() throws InterruptedException {
+        // given
+        eventBus = newBus(delivered::add, new DeadLetterStore(10));
+        eventBus.start();
+        outboxRepository.save(OutboxMessage.of(1L, PaymentCompletedEvent.of(100L, 10L, "TX-1")));
+        outboxRepository.save(OutboxMessage.of(2L, PaymentFailedEvent.of(100L, 11L, "결제 실패")));
+        OutboxRelay relay = new OutboxRelay(outboxRepository, eventBus, Duration.ofMillis(10), 100);
+
+        // when
+        int published = relay.relay();
+
+        // then - 앞선 메시지가 삭제된 뒤에야 다음 메시지를 발행
+        assertThat(published).isEqualTo(1);
+        awaitDelivered(1);
+        awaitCount(1);
+        assertThat(relay.relay()).isEqualTo(1);
+        awaitEmpty();
+        assertThat(delivered).hasSize(2);
+        assertThat(delivered.get(0)).isInstanceOf(PaymentCompletedEvent.class);
+        assertThat(((PaymentFailedEvent) delivered.get(1)).getFailReason()).isEqualTo("결제 실패");
+    }
+
+    @Test
+    @DisplayName("전달 중인 메시지는 다음 폴링에서 다시 발행하지 않는다")
+    void relay_InFlightMessage_NotRepublished() throws InterruptedException {
+        // given - 버스 시작 전이라 발행한 이벤트가 큐에 머무름
+        eventBus = newBus(delivered::add, new DeadLetterStore(10));
+        outboxRepository.save(OutboxMessage.of(1L, PaymentCompletedEvent.of(100L, 10L, "TX-1")));
+        OutboxRelay relay = new OutboxRelay(outboxRepository, eventBus, Duration.ofMillis(10), 100);
+        relay.relay();
+
+        // when
+        int republished = relay.relay();
+
+        // then
+        assertThat(republished).isZero();
+        assertThat(outboxRepository.count()).isEqualTo(1);
+
+        eventBus.start();
+        awaitEmpty();
+        assertThat(delivered).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("리스너가 끝내 실패한 메시지는 삭제하지 않고 보류 상태로 남겨 다시 폴링하지 않는다")
+    void relay_FailedMessage_Parked() throws InterruptedException {
+        // given
+        DeadLetterStore deadLetterStore = new DeadLetterStore(10);
+        AtomicBoolean failing = new AtomicBoolean(true);
+        eventBus = newBus(event -> {
+            if (failing.get()) {
+                throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+            }
+            delivered.add(event);
+        }, deadLetterStore);
+        eventBus.start();
+        outboxRepository.save(OutboxMessage.of(1L, PaymentCompletedEvent.of(100L, 10L, "TX-1")));
+        OutboxRelay relay = new OutboxRelay(outboxRepository, eventBus, Duration.ofMillis(10), 100);
+
+        // when
+        relay.relay();
+
+        // then
+        awaitParked(1L);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+        assertThat(outboxRepository.findById(1L).orElseThrow().getParkReason()).isNotNull();
+        assertThat(deadLetterStore.findAll()).isEmpty();
+        assertThat(relay.relay()).isZero();
+
+        // 원인을 해결한 뒤 보류를 해제하면 다시 전달되고 삭제됨
+        failing.set(false);
+        assertThat(relay.redriveParked()).isEqualTo(1);
+        assertThat(relay.relay()).isEqualTo(1);
+        awaitEmpty();
+        assertThat(delivered).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("버스 큐가 가득 차 넣지 못한 메시지는 보류하지 않고 다음 폴링에서 다시 발행한다")
+    void relay_QueueFull_RetriedOnNextPoll() throws InterruptedException {
+        // given - 버스 시작 전이고 큐 용량이 1이라 두 번째 주문의 메시지는 넣지 못함
+        DeadLetterStore deadLetterStore = new DeadLetterStore(10);
+        eventBus = new DomainEventBus(delivered::add, deadLetterStore, 1, 1, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10));
+        outboxRepository.save(OutboxMessage.of(1L, PaymentCompletedEvent.of(100L, 10L, "TX-1")));
+        outboxRepository.save(OutboxMessage.of(2L, PaymentCompletedEvent.of(200L, 11L, "TX-2")));
+        OutboxRelay relay = new OutboxRelay(outboxRepository, eventBus, Duration.ofMillis(10), 100);
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(outboxRepository.count()).isEqualTo(2);
+        assertThat(outboxRepository.findById(2L).orElseThrow().isParked()).isFalse();
+        assertThat(deadLetterStore.findAll()).isEmpty();
+
+        eventBus.start();
+        awaitDelivered(1);
+        assertThat(relay.relay()).isEqualTo(1);
+        awaitEmpty();
+        assertThat(delivered).extracting(event -> ((PaymentCompletedEvent) event).getPaymentId())
+                .containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("보류된 메시지 뒤의 같은 주문 메시지는 발행하지 않고, 재발행 시 기록 순서대로 전달한다")
+    void relay_ParkedPredecessor_BlocksSameAggregate() throws InterruptedException {
+        // given - 주문 100의 첫 메시지만 리스너가 실패
+        AtomicBoolean failing = new AtomicBoolean(true);
+        eventBus = newBus(event -> {
+            if (failing.get() && event instanceof PaymentCompletedEvent completed && completed.getPaymentId() == 10L) {
+                throw new BusinessException(CommonErrorCode.INVALID_CURSOR);
+            }
+            delivered.add(event);
+        }, new DeadLetterStore(10));
+        eventBus.start();
+        outboxRepository.save(OutboxMessage.of(1L, PaymentCompletedEvent.of(100L, 10L, "TX-1")));
+        outboxRepository.save(OutboxMessage.of(2L, PaymentFailedEvent.of(100L, 11L, "결제 실패")));
+        outboxRepository.save(OutboxMessage.of(3L, PaymentCompletedEvent.of(200L, 12L, "TX-3")));
+        OutboxRelay relay = new OutboxRelay(outboxRepository, eventBus, Duration.ofMillis(10), 100);
+
+        // when
+        int published = relay.relay();
+
+        // then - 주문마다 가장 오래된 메시지만 발행, 주문 100의 두 번째 메시지는 보류된 첫 메시지 뒤에서 대기
+        assertThat(published).isEqualTo(2);
+        awaitParked(1L);
+        awaitCount(2);
+        assertThat(relay.relay()).isZero();
+        assertThat(outboxRepository.findById(2L)).isPresent();
+
+        // 보류를 해제하면 주문 100의 메시지가 기록 순서대로 전달됨
+        failing.set(false);
+        assertThat(relay.redriveParked()).isEqualTo(1);
+        assertThat(relay.relay()).isEqualTo(1);
+        awaitCount(1);
+        assertThat(relay.relay()).isEqualTo(1);
+        awaitEmpty();
+        assertThat(delivered).filteredOn(event -> !(event instanceof PaymentCompletedEvent completed
+                        && completed.getOrderId() == 200L))
+                .extracting(Object::getClass)
+                .containsExactly(PaymentCompletedEvent.class, PaymentFailedEvent.class);
+    }
+
+    private void awaitParked(Long id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!outboxRepository.findById(id).orElseThrow().isParked() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(outboxRepository.findById(id).orElseThrow().isParked()).isTrue();
+    }
+
+    private void awaitDelivered(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (delivered.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(delivered).hasSize(count);
+    }
+
+    private void awaitCount(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (outboxRepository.count() > count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(outboxRepository.count()).isEqualTo(count);
+    }
+
+    private void awaitEmpty() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (outboxRepository.count() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    private DomainEventBus newBus(ApplicationEventPublisher publisher, DeadLetterStore deadLetterStore) {
+        return new DomainEventBus(publisher, deadLetterStore, 2, 16, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(100));
+    }
+}
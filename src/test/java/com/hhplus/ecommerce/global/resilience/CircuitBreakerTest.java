@@ -0,0 +1,118 @@
+package com.hhplus.ecommerce.global.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("서킷 브레이커 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 10건 중 최소 4건 이상, 실패율 50% 이상이면 열림 / 1초 후 2건 시험 호출
+        circuitBreaker = new CircuitBreaker("test", 10, 4, 50, Duration.ofSeconds(1), 2, now::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패가 많아도 닫힌 상태를 유지한다")
+    void belowMinimumCalls_StaysClosed() {
+        // when
+        call(false);
+        call(false);
+        call(false);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 열리고, 열린 동안은 호출을 거절한다")
+    void failureRateExceeded_OpensAndRejects() {
+        // when
+        call(true);
+        call(true);
+        call(false);
+        call(false);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 오래된 실패는 실패율에 포함하지 않는다")
+    void oldFailures_SlideOutOfWindow() {
+        // given
+        call(false);
+        call(false);
+        call(false);
+        call(true);
+        for (int i = 0; i < 10; i++) {
+            call(true);
+            call(false);
+            call(false);
+        }
+
+        // then - 최근 10건의 실패율은 항상 50% 미만
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출을 허가하고, 시험 호출이 모두 성공하면 닫힌다")
+    void halfOpen_AllTrialsSucceed_Closes() {
+        // given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // when
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpen_TrialFails_Reopens() {
+        // given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failure) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        if (failure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.hhplus.ecommerce.global.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("블록 단위 ID 할당기 테스트")
+class IdBlockAllocatorTest {
+
+    @Test
+    @DisplayName("동시 할당 - 스레드별 블록에서 꺼낸 ID가 겹치지 않고 시퀀스는 예약한 최댓값 이상이다")
+    void concurrentAllocation_IdsAreUnique() throws InterruptedException {
+        // given
+        AtomicLong sequence = new AtomicLong(0);
+        IdBlockAllocator allocator = new IdBlockAllocator(sequence, 16, 0, 1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        int threadCount = 8;
+        int idsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(allocator.nextId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+        assertThat(ids.stream().mapToLong(Long::longValue).max().orElseThrow()).isLessThanOrEqualTo(sequence.get());
+    }
+
+    @Test
+    @DisplayName("다중 노드 - 노드별로 ID % nodeCount == nodeId 인 값만 할당되어 서로 겹치지 않는다")
+    void multipleNodes_AllocateDisjointIds() {
+        // given (노드마다 각자의 시퀀스를 가짐)
+        IdBlockAllocator node0 = new IdBlockAllocator(new AtomicLong(0), 4, 0, 3);
+        IdBlockAllocator node2 = new IdBlockAllocator(new AtomicLong(0), 4, 2, 3);
+
+        // when
+        List<Long> node0Ids = List.of(node0.nextId(), node0.nextId(), node0.nextId(), node0.nextId(), node0.nextId());
+        List<Long> node2Ids = List.of(node2.nextId(), node2.nextId(), node2.nextId(), node2.nextId(), node2.nextId());
+
+        // then
+        assertThat(node0Ids).containsExactly(3L, 6L, 9L, 12L, 15L);
+        assertThat(node2Ids).containsExactly(2L, 5L, 8L, 11L, 14L);
+    }
+
+    @Test
+    @DisplayName("시퀀스 복구 후 블록을 폐기하면 복구된 값 이후의 ID부터 할당한다")
+    void reset_AfterSequenceRecovery_SkipsRecoveredIds() {
+        // given
+        AtomicLong sequence = new AtomicLong(0);
+        IdBlockAllocator allocator = new IdBlockAllocator(sequence, 10, 0, 1);
+        assertThat(allocator.nextId()).isEqualTo(1L);
+
+        // when (WAL 복구로 시퀀스가 500까지 올라감)
+        sequence.accumulateAndGet(500L, Math::max);
+        allocator.reset();
+
+        // then
+        assertThat(allocator.nextId()).isEqualTo(501L);
+    }
+
+    @Test
+    @DisplayName("잘못된 노드 설정은 거부한다")
+    void configure_InvalidNode_ThrowsException() {
+        IdBlockAllocator allocator = new IdBlockAllocator(new AtomicLong(0));
+
+        assertThatThrownBy(() -> allocator.configure(16, 3, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
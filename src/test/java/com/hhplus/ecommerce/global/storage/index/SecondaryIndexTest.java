@@ -0,0 +1,306 @@
+package com.hhplus.ecommerce.global.storage.index;
+
+import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderStatus;
+import com.hhplus.ecommerce.domain.product.model.product.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("보조 인덱스 테스트")
+class SecondaryIndexTest {
+
+    @Test
+    @DisplayName("유니크 인덱스 - 키가 변경되면 이전 키의 매핑이 제거된다")
+    void uniqueIndex_MovesKeyOnUpdate() {
+        // given
+        UniqueIndex<String, Order> index = new UniqueIndex<>(Order::getId, Order::getOrderNumber);
+        index.index(order(1L, "ORD-1", OrderStatus.PENDING));
+
+        // when
+        index.index(order(1L, "ORD-2", OrderStatus.PENDING));
+
+        // then
+        assertThat(index.findId("ORD-1")).isEmpty();
+        assertThat(index.findId("ORD-2")).contains(1L);
+    }
+
+    @Test
+    @DisplayName("유니크 인덱스 - null 키는 색인하지 않고, 삭제 시 매핑이 제거된다")
+    void uniqueIndex_IgnoresNullKeyAndRemoves() {
+        // given
+        UniqueIndex<String, Order> index = new UniqueIndex<>(Order::getId, Order::getOrderNumber);
+        index.index(order(1L, null, OrderStatus.PENDING));
+        index.index(order(2L, "ORD-2", OrderStatus.PENDING));
+
+        // when
+        index.remove(2L);
+
+        // then
+        assertThat(index.findId(null)).isEmpty();
+        assertThat(index.findId("ORD-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유니크 인덱스 - 같은 키를 동시에 선점하면 한 ID만 성공하고 나머지는 선점한 ID를 받는다")
+    void uniqueIndex_PutIfAbsentClaimsOnce() throws Exception {
+        // given
+        UniqueIndex<String, Order> index = new UniqueIndex<>(Order::getId, Order::getOrderNumber);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<Long>>> results = new ArrayList<>();
+
+        // when
+        for (long id = 1; id <= threads; id++) {
+            long candidate = id;
+            results.add(executor.submit(() -> {
+                start.await();
+                return index.putIfAbsent("REQ-1", candidate);
+            }));
+        }
+        start.countDown();
+        List<Optional<Long>> claims = new ArrayList<>();
+        for (Future<Optional<Long>> result : results) {
+            claims.add(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        Long winner = index.findId("REQ-1").orElseThrow();
+        assertThat(claims).filteredOn(Optional::isEmpty).hasSize(1);
+        assertThat(claims).filteredOn(Optional::isPresent).allMatch(claim -> claim.get().equals(winner));
+    }
+
+    @Test
+    @DisplayName("비유니크 인덱스 - 상태 변경 시 버킷 간 이동")
+    void nonUniqueIndex_MovesBetweenBuckets() {
+        // given
+        NonUniqueIndex<OrderStatus, Order> index = new NonUniqueIndex<>(Order::getId, Order::getStatus);
+        index.index(order(1L, "ORD-1", OrderStatus.PENDING));
+        index.index(order(2L, "ORD-2", OrderStatus.PENDING));
+
+        // when
+        index.index(order(1L, "ORD-1", OrderStatus.PAID));
+
+        // then
+        assertThat(index.findIds(OrderStatus.PENDING)).containsExactly(2L);
+        assertThat(index.findIds(OrderStatus.PAID)).containsExactly(1L);
+        assertThat(index.findKey(1L)).contains(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("비유니크 인덱스 - 삭제 후 빈 버킷은 조회되지 않는다")
+    void nonUniqueIndex_RemoveLastEntry() {
+        // given
+        NonUniqueIndex<OrderStatus, Order> index = new NonUniqueIndex<>(Order::getId, Order::getStatus);
+        index.index(order(1L, "ORD-1", OrderStatus.PENDING));
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.findIds(OrderStatus.PENDING)).isEmpty();
+        assertThat(index.findKey(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정렬 인덱스 - 정렬 키/파티션 변경 시 위치가 이동한다")
+    void sortedIndex_MovesOnUpdate() {
+        // given
+        SortedIndex<String, Order> index = sortedByOrderNumber();
+        index.index(order(1L, "ORD-3", OrderStatus.PENDING));
+        index.index(order(2L, "ORD-1", OrderStatus.PENDING));
+        index.index(order(3L, "ORD-2", OrderStatus.PENDING));
+
+        // when
+        index.index(order(2L, "ORD-4", OrderStatus.PAID));
+        index.remove(3L);
+
+        // then
+        assertThat(index.findIds("ALL", false, 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.findIds(OrderStatus.PENDING, false, 0, 10)).containsExactly(1L);
+        assertThat(index.findIds(OrderStatus.PAID, false, 0, 10)).containsExactly(2L);
+        assertThat(index.count("ALL")).isEqualTo(2);
+        assertThat(index.count(OrderStatus.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정렬 인덱스 - offset/limit 구간만 정렬 순서로 조회한다")
+    void sortedIndex_FindsPageInOrder() {
+        // given
+        SortedIndex<String, Order> index = sortedByOrderNumber();
+        for (long id = 1; id <= 5; id++) {
+            index.index(order(id, "ORD-" + (6 - id), OrderStatus.PENDING));
+        }
+
+        // when & then
+        assertThat(index.findIds("ALL", false, 1, 2)).containsExactly(4L, 3L);
+        assertThat(index.findIds("ALL", true, 3, 10)).containsExactly(4L, 5L);
+        assertThat(index.findIds("ALL", false, 5, 10)).isEmpty();
+        assertThat(index.findIds(OrderStatus.PAID, false, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정렬 인덱스 - 커서 이후 조회는 앞쪽에 추가/삭제가 있어도 이어서 조회된다")
+    void sortedIndex_FindsAfterCursorStably() {
+        // given
+        SortedIndex<String, Order> index = sortedByOrderNumber();
+        for (long id = 1; id <= 4; id++) {
+            index.index(order(id, "ORD-" + id, OrderStatus.PENDING));
+        }
+        List<Long> firstPage = index.findIds("ALL", false, 0, 2);
+
+        // when
+        index.remove(1L);
+        index.index(order(5L, "ORD-0", OrderStatus.PENDING));
+
+        // then
+        assertThat(firstPage).containsExactly(1L, 2L);
+        assertThat(index.findIdsAfter("ALL", false, "ORD-2", 2L, 10)).containsExactly(3L, 4L);
+        assertThat(index.findIdsAfter("ALL", true, "ORD-3", 3L, 10)).containsExactly(2L, 5L);
+    }
+
+    @Test
+    @DisplayName("정렬 인덱스 - 정렬 키 구간 조회는 경계값을 포함한다")
+    void sortedIndex_FindsBetweenKeysInclusive() {
+        // given
+        SortedIndex<String, Order> index = sortedByOrderNumber();
+        for (long id = 1; id <= 5; id++) {
+            index.index(order(id, "ORD-" + id, OrderStatus.PENDING));
+        }
+
+        // when & then
+        assertThat(index.findIdsBetween("ALL", false, "ORD-2", "ORD-4", 0, 10)).containsExactly(2L, 3L, 4L);
+        assertThat(index.findIdsBetween("ALL", true, "ORD-2", null, 1, 2)).containsExactly(4L, 3L);
+        assertThat(index.countBetween("ALL", null, "ORD-3")).isEqualTo(3);
+        assertThat(index.countBetween("ALL", null, null)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("검색 인덱스 - 띄어쓰기와 무관하게 한글 부분 일치를 찾고 모든 토큰을 포함해야 한다")
+    void textIndex_MatchesAllGrams() {
+        // given
+        TextIndex<Product> index = textIndex();
+        index.index(product(1L, "무선 마우스", "블루투스 연결"));
+        index.index(product(2L, "유선마우스", "USB 연결"));
+        index.index(product(3L, "무선 키보드", "블루투스 연결"));
+
+        // when & then
+        assertThat(index.search("마우스", id -> true, 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("무선 마우스", id -> true, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("usb", id -> true, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("모니터", id -> true, 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 인덱스 - 한 글자 검색어는 단어 안의 글자와도 일치한다")
+    void textIndex_SingleCharacterQuery_MatchesInsideWords() {
+        // given
+        TextIndex<Product> index = textIndex();
+        index.index(product(1L, "스마트폰", "최신 모델"));
+        index.index(product(2L, "폰 케이스", null));
+        index.index(product(3L, "태블릿", "10인치"));
+
+        // when & then
+        assertThat(index.search("폰", id -> true, 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("스마트폰", id -> true, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("폰 최신", id -> true, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("0", id -> true, 0, 10).ids()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("검색 인덱스 - 자주 나오고 짧은 문서가 앞에 오며, 필터와 페이지 구간을 적용한다")
+    void textIndex_RanksByBm25() {
+        // given
+        TextIndex<Product> index = textIndex();
+        index.index(product(1L, "노트북 가방", "노트북을 넣을 수 있는 가방, 다양한 수납 공간과 어깨끈 포함"));
+        index.index(product(2L, "노트북", "고성능 노트북, 업무용 노트북"));
+        index.index(product(3L, "노트북 거치대", "알루미늄"));
+
+        // when
+        TextIndex.Hits all = index.search("노트북", id -> true, 0, 10);
+        TextIndex.Hits filtered = index.search("노트북", id -> id != 2L, 1, 1);
+
+        // then
+        assertThat(all.ids().get(0)).isEqualTo(2L);
+        assertThat(all.totalHits()).isEqualTo(3);
+        assertThat(filtered.ids()).hasSize(1).doesNotContain(2L);
+        assertThat(filtered.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검색 인덱스 - 본문 변경/삭제 시 이전 토큰이 제거된다")
+    void textIndex_UpdatesIncrementally() {
+        // given
+        TextIndex<Product> index = textIndex();
+        index.index(product(1L, "키보드", null));
+        index.index(product(2L, "키보드", null));
+
+        // when
+        index.index(product(1L, "모니터", null));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("키보드", id -> true, 0, 10).ids()).isEmpty();
+        assertThat(index.search("모니터", id -> true, 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("패싯 인덱스 - 값/범위 변경 시 이전 값의 건수가 빠지고 삭제 시 0건은 조회되지 않는다")
+    void facetIndex_MovesCountsOnChange() {
+        // given
+        FacetIndex<OrderStatus, Order> index =
+                new FacetIndex<>(Order::getId, o -> List.of("ALL", o.getUserId()), Order::getStatus);
+        index.index(order(1L, "ORD-1", OrderStatus.PENDING));
+        index.index(order(2L, "ORD-2", OrderStatus.PENDING));
+        index.index(order(3L, "ORD-3", OrderStatus.PAID));
+
+        // when
+        index.index(order(1L, "ORD-1", OrderStatus.PAID));
+        index.index(order(1L, "ORD-1", OrderStatus.PAID));
+        index.remove(2L);
+
+        // then
+        assertThat(index.counts("ALL")).containsExactly(Map.entry(OrderStatus.PAID, 2));
+        assertThat(index.counts(1L)).containsExactly(Map.entry(OrderStatus.PAID, 2));
+        assertThat(index.counts(2L)).isEmpty();
+    }
+
+    private TextIndex<Product> textIndex() {
+        return new TextIndex<>(Product::getId, p -> p.getName() + " " + (p.getDescription() == null ? "" : p.getDescription()));
+    }
+
+    private Product product(Long id, String name, String description) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .build();
+    }
+
+    private SortedIndex<String, Order> sortedByOrderNumber() {
+        return new SortedIndex<>(Order::getId, Order::getOrderNumber, o -> List.of("ALL", o.getStatus()));
+    }
+
+    private Order order(Long id, String orderNumber, OrderStatus status) {
+        return Order.builder()
+                .id(id)
+                .userId(1L)
+                .orderNumber(orderNumber)
+                .status(status)
+                .items(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.hhplus.ecommerce.global.storage.snapshot;
+
+import com.hhplus.ecommerce.domain.cart.repository.InMemoryCartItemRepository;
+import com.hhplus.ecommerce.domain.cart.repository.InMemoryCartRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.InMemoryCouponRepository;
+import com.hhplus.ecommerce.domain.coupon.repository.InMemoryUserCouponRepository;
+import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderStatus;
+import com.hhplus.ecommerce.domain.order.repository.InMemoryOrderItemRepository;
+import com.hhplus.ecommerce.domain.order.repository.InMemoryOrderRepository;
+import com.hhplus.ecommerce.domain.payment.repository.InMemoryPaymentRepository;
+import com.hhplus.ecommerce.domain.product.repository.InMemoryInventoryRepository;
+import com.hhplus.ecommerce.domain.product.repository.InMemoryProductRepository;
+import com.hhplus.ecommerce.global.outbox.InMemoryOutboxRepository;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.wal.RepositoryMutationApplier;
+import com.hhplus.ecommerce.global.storage.wal.WriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("스냅샷 체크포인트 테스트")
+class SnapshotCheckpointerTest {
+
+    @TempDir
+    Path directory;
+
+    private InMemoryOrderRepository orderRepository;
+    private RepositoryMutationApplier applier;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryDataStore.clear();
+        orderRepository = new InMemoryOrderRepository();
+        applier = new RepositoryMutationApplier(
+                new InMemoryProductRepository(), new InMemoryInventoryRepository(),
+                new InMemoryCartRepository(), new InMemoryCartItemRepository(),
+                orderRepository, new InMemoryOrderItemRepository(),
+                new InMemoryPaymentRepository(),
+                new InMemoryCouponRepository(), new InMemoryUserCouponRepository(),
+                new InMemoryOutboxRepository());
+    }
+
+    @AfterEach
+    void tearDown() {
+        InMemoryDataStore.clear();
+    }
+
+    @Test
+    @DisplayName("스냅샷 + 이후 WAL 꼬리만으로 상태가 복구되고 이전 세그먼트는 삭제된다")
+    void recover_FromSnapshotAndWalTail() throws IOException {
+        // given
+        WriteAheadLog wal = newWal();
+        wal.start();
+        orderRepository.save(order(1L, OrderStatus.PENDING));
+        orderRepository.save(order(2L, OrderStatus.PENDING));
+
+        SnapshotStore snapshotStore = new SnapshotStore(directory);
+        long walSegment = new SnapshotCheckpointer(wal, snapshotStore, Duration.ofMinutes(5)).checkpoint();
+
+        orderRepository.save(order(1L, OrderStatus.PAID));
+        orderRepository.deleteById(2L);
+        wal.close();
+
+        // when
+        InMemoryDataStore.clear();
+        long fromSegment = snapshotStore.load(applier).orElseThrow();
+        long replayed = newWal().recover(applier, fromSegment);
+
+        // then
+        assertThat(fromSegment).isEqualTo(walSegment);
+        assertThat(replayed).isEqualTo(2);
+        assertThat(segmentNumbers()).allMatch(number -> number >= walSegment);
+        assertThat(orderRepository.findById(1L)).map(Order::getStatus).contains(OrderStatus.PAID);
+        assertThat(orderRepository.findById(2L)).isEmpty();
+        assertThat(orderRepository.findByOrderNumber("ORD-1")).isPresent();
+        assertThat(orderRepository.findByStatus(OrderStatus.PENDING)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초기 데이터를 삭제하고 체크포인트한 뒤 재기동해도 삭제한 초기 데이터가 되살아나지 않는다")
+    void recoverAndStart_DeletedSeedStaysDeletedAfterCheckpoint() {
+        // given - 첫 기동: 저장소를 거치지 않고 들어간 초기 데이터 (InMemoryDataStore 정적 초기화와 같은 방식)
+        seed();
+        WriteAheadLog wal = newWal();
+        SnapshotStore snapshotStore = new SnapshotStore(directory);
+        StoreRecovery.recoverAndStart(wal, snapshotStore, applier);
+
+        orderRepository.deleteById(1L);
+        new SnapshotCheckpointer(wal, snapshotStore, Duration.ofMinutes(5)).checkpoint();
+        wal.close();
+
+        // when - 재기동: 정적 초기화로 초기 데이터가 다시 들어간 상태에서 복구
+        InMemoryDataStore.clear();
+        seed();
+        WriteAheadLog restarted = newWal();
+        StoreRecovery.recoverAndStart(restarted, snapshotStore, applier);
+        restarted.close();
+
+        // then
+        assertThat(orderRepository.findById(1L)).isEmpty();
+        assertThat(orderRepository.findById(2L)).isPresent();
+        assertThat(orderRepository.findByOrderNumber("ORD-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 로드 결과가 비어 있다")
+    void load_EmptyWhenNoSnapshot() {
+        // when & then
+        assertThat(new SnapshotStore(directory).load(applier)).isEmpty();
+    }
+
+    private void seed() {
+        for (Order order : List.of(order(1L, OrderStatus.PENDING), order(2L, OrderStatus.PENDING))) {
+            InMemoryDataStore.ORDERS.put(order.getId(), order);
+            InMemoryDataStore.ORDERS_BY_ORDER_NUMBER.index(order);
+        }
+    }
+
+    private WriteAheadLog newWal() {
+        return new WriteAheadLog(directory, true, 16, 128, 1024 * 1024);
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("wal-"))
+                    .map(name -> Long.parseLong(name.substring(4, name.length() - 4)))
+                    .toList();
+        }
+    }
+
+    private Order order(Long id, OrderStatus status) {
+        return Order.builder()
+                .id(id)
+                .userId(1L)
+                .orderNumber("ORD-" + id)
+                .status(status)
+                .itemsTotal(1000L)
+                .discountAmount(0L)
+                .finalAmount(1000L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,250 @@
+package com.hhplus.ecommerce.global.storage.wal;
+
+import com.hhplus.ecommerce.domain.order.model.Order;
+import com.hhplus.ecommerce.domain.order.model.OrderItem;
+import com.hhplus.ecommerce.domain.order.model.OrderStatus;
+import com.hhplus.ecommerce.domain.payment.event.PaymentCompletedEvent;
+import com.hhplus.ecommerce.domain.payment.model.Payment;
+import com.hhplus.ecommerce.domain.payment.model.PaymentMethod;
+import com.hhplus.ecommerce.domain.payment.repository.InMemoryPaymentRepository;
+import com.hhplus.ecommerce.domain.product.model.Inventory;
+import com.hhplus.ecommerce.global.outbox.OutboxEventType;
+import com.hhplus.ecommerce.global.outbox.OutboxMessage;
+import com.hhplus.ecommerce.global.storage.InMemoryDataStore;
+import com.hhplus.ecommerce.global.storage.StoreMutationListener;
+import com.hhplus.ecommerce.global.storage.StoreTable;
+import com.hhplus.ecommerce.global.storage.codec.EntityCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WAL 테스트")
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 저장/삭제 레코드를 순서대로 재생하고 ID 시퀀스를 복원한다")
+    void recover_ReplaysRecordsInOrder() {
+        // given
+        InMemoryDataStore.clear();
+        WriteAheadLog wal = newWal();
+        wal.start();
+        wal.onSave(StoreTable.ORDERS, order(1000L));
+        wal.onDelete(StoreTable.CART_ITEMS, 2000L);
+        wal.close();
+
+        // when
+        RecordingListener listener = new RecordingListener();
+        long replayed = newWal().recover(listener);
+
+        // then
+        assertThat(replayed).isEqualTo(2);
+        assertThat(listener.events).containsExactly("SAVE ORDERS 1000", "DELETE CART_ITEMS 2000");
+        Order restored = (Order) listener.saved.get(0);
+        assertThat(restored.getOrderNumber()).isEqualTo("ORD-1000");
+        assertThat(restored.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(restored.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000));
+        assertThat(restored.getItems()).hasSize(1);
+        assertThat(restored.getItems().get(0).getProductName()).isEqualTo("상품");
+        assertThat(InMemoryDataStore.orderIdSequence.get()).isEqualTo(1000L);
+        assertThat(InMemoryDataStore.cartItemIdSequence.get()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("결제와 아웃박스 메시지를 함께 저장하면 한 레코드로 기록되고 함께 복구된다")
+    void recover_ReplaysAtomicWritesTogether() {
+        // given
+        InMemoryDataStore.clear();
+        WriteAheadLog wal = newWal();
+        wal.start();
+        InMemoryDataStore.setMutationListener(wal);
+        try {
+            Payment payment = Payment.createPending(7L, 1000L, 1000L, PaymentMethod.CARD, "req-7");
+            payment.markAsSuccess("TX-7");
+            new InMemoryPaymentRepository().saveWithOutbox(payment,
+                    OutboxMessage.of(3L, PaymentCompletedEvent.of(1000L, 7L, "TX-7")));
+        } finally {
+            InMemoryDataStore.setMutationListener(null);
+            wal.close();
+        }
+
+        // when
+        RecordingListener listener = new RecordingListener();
+        long replayed = newWal().recover(listener);
+
+        // then
+        assertThat(replayed).isEqualTo(1);
+        assertThat(listener.events).containsExactly("SAVE PAYMENTS 7", "SAVE OUTBOX 3");
+        OutboxMessage message = (OutboxMessage) listener.saved.get(1);
+        assertThat(message.getEventType()).isEqualTo(OutboxEventType.PAYMENT_COMPLETED);
+        assertThat(message.getAggregateId()).isEqualTo(1000L);
+        assertThat(((PaymentCompletedEvent) message.toEvent()).getTransactionId()).isEqualTo("TX-7");
+        assertThat(InMemoryDataStore.outboxIdSequence.get()).isGreaterThanOrEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("마지막 세그먼트의 잘린 레코드는 무시하고 잘라낸다")
+    void recover_TruncatesTornTail() throws IOException {
+        // given
+        WriteAheadLog wal = newWal();
+        wal.start();
+        wal.onDelete(StoreTable.PAYMENTS, 1L);
+        wal.close();
+
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 20, 1, 2}, StandardOpenOption.APPEND);
+
+        // when
+        RecordingListener listener = new RecordingListener();
+        newWal().recover(listener);
+
+        // then
+        assertThat(listener.events).containsExactly("DELETE PAYMENTS 1");
+        assertThat(Files.size(segment)).isEqualTo(validSize);
+    }
+
+    @Test
+    @DisplayName("같은 엔티티를 동시에 저장해도 마지막으로 재생되는 레코드가 최신 상태다")
+    void recover_ConcurrentSavesOfSameEntityReplayLatestState() throws Exception {
+        // given
+        InMemoryDataStore.clear();
+        WriteAheadLog wal = new WriteAheadLog(directory, false, 16, 1024, 64 * 1024 * 1024);
+        wal.start();
+        Inventory inventory = Inventory.builder()
+                .id(1L)
+                .productId(1L)
+                .stock(100_000)
+                .reservedStock(0)
+                .lowStockThreshold(0)
+                .build();
+        int threads = 8;
+        int reservationsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < reservationsPerThread; j++) {
+                    inventory.reserve(1);
+                    wal.onSave(StoreTable.INVENTORY, inventory);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        wal.close();
+
+        // when
+        RecordingListener listener = new RecordingListener();
+        newWal().recover(listener);
+
+        // then
+        Inventory last = (Inventory) listener.saved.get(listener.saved.size() - 1);
+        assertThat(listener.saved).hasSize(threads * reservationsPerThread);
+        assertThat(last.getReservedStock()).isEqualTo(threads * reservationsPerThread);
+    }
+
+    @Test
+    @DisplayName("세그먼트를 열지 못해도 writer가 멈추지 않고, 실패한 호출은 예외를 받고 이후 기록은 정상 복구된다")
+    void append_RecoversAfterSegmentFailure() throws IOException {
+        // given
+        WriteAheadLog wal = newWal();
+        wal.start();
+        deleteDirectory();
+        assertThatThrownBy(wal::rollSegment).isInstanceOf(UncheckedIOException.class);
+        Files.createDirectories(directory);
+
+        // when
+        assertThatThrownBy(() -> wal.onDelete(StoreTable.PAYMENTS, 1L)).isInstanceOf(IllegalStateException.class);
+        wal.onDelete(StoreTable.PAYMENTS, 2L);
+        wal.close();
+
+        // then
+        RecordingListener listener = new RecordingListener();
+        newWal().recover(listener);
+        assertThat(listener.events).containsExactly("DELETE PAYMENTS 2");
+    }
+
+    private void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private WriteAheadLog newWal() {
+        return new WriteAheadLog(directory, true, 16, 128, 1024 * 1024);
+    }
+
+    private Order order(Long id) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000);
+        OrderItem item = OrderItem.builder()
+                .id(1L)
+                .orderId(id)
+                .productId(1L)
+                .productName("상품")
+                .quantity(1)
+                .unitPrice(1000L)
+                .subtotal(1000L)
+                .createdAt(createdAt)
+                .build();
+        return Order.builder()
+                .id(id)
+                .userId(1L)
+                .orderNumber("ORD-" + id)
+                .status(OrderStatus.PENDING)
+                .itemsTotal(1000L)
+                .discountAmount(0L)
+                .finalAmount(1000L)
+                .createdAt(createdAt)
+                .items(new ArrayList<>(List.of(item)))
+                .build();
+    }
+
+    private static class RecordingListener implements StoreMutationListener {
+        private final List<String> events = new ArrayList<>();
+        private final List<Object> saved = new ArrayList<>();
+
+        @Override
+        public void onSave(StoreTable table, Object entity) {
+            saved.add(entity);
+            events.add("SAVE " + table + " " + EntityCodec.idOf(table, entity));
+        }
+
+        @Override
+        public void onDelete(StoreTable table, Long id) {
+            events.add("DELETE " + table + " " + id);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.hhplus.ecommerce.global.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("계층형 타이밍 휠 테스트")
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final int WHEEL_SIZE = 8;
+
+    @Test
+    @DisplayName("만료 시각 이전에는 반환하지 않고, 만료 시각 이후 첫 틱에 반환")
+    void advanceTo_ReturnsKeyAtDeadline() {
+        // given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0L);
+        wheel.schedule(1L, 3_500L);
+
+        // when & then
+        assertThat(wheel.advanceTo(3_999L)).isEmpty();
+        assertThat(wheel.advanceTo(4_000L)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("하위 휠 범위를 넘는 타이머는 상위 휠을 거쳐 정확한 틱에 만료")
+    void advanceTo_CascadesFromOverflowWheels() {
+        // given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0L);
+        wheel.schedule(1L, 10_000L);   // 2단계 휠
+        wheel.schedule(2L, 100_000L);  // 3단계 휠
+
+        // when
+        List<Long> before = new ArrayList<>(wheel.advanceTo(9_999L));
+        List<Long> first = wheel.advanceTo(10_000L);
+        List<Long> middle = wheel.advanceTo(99_999L);
+        List<Long> second = wheel.advanceTo(100_000L);
+
+        // then
+        assertThat(before).isEmpty();
+        assertThat(first).containsExactly(1L);
+        assertThat(middle).isEmpty();
+        assertThat(second).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("취소한 타이머와 재등록 전 타이머는 만료되지 않음")
+    void cancelAndReschedule() {
+        // given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0L);
+        wheel.schedule(1L, 5_000L);
+        wheel.schedule(2L, 5_000L);
+        wheel.schedule(2L, 20_000L);
+
+        // when
+        boolean cancelled = wheel.cancel(1L);
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel(1L)).isFalse();
+        assertThat(wheel.advanceTo(19_999L)).isEmpty();
+        assertThat(wheel.advanceTo(20_000L)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각은 등록하지 않음")
+    void schedule_PastDeadline_ReturnsFalse() {
+        // given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 10_000L);
+
+        // when
+        boolean scheduled = wheel.schedule(1L, 9_000L);
+
+        // then
+        assertThat(scheduled).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}